@@ -0,0 +1,192 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Model describing a single class processed by {@link FragmentsAnnotationProcessor} along with all
+ * values of the Fragments library annotations resolved for that class. Initial values of all members
+ * match those used by the library's annotation handlers when there is no annotation presented.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class AnnotatedClass {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Kind for classes derived from <b>BaseFragment</b>.
+	 */
+	static final int KIND_FRAGMENT = 1;
+
+	/**
+	 * Kind for classes derived from <b>ActionBarFragment</b>.
+	 */
+	static final int KIND_ACTION_BAR_FRAGMENT = 2;
+
+	/**
+	 * Kind for classes derived from <b>WebFragment</b>.
+	 */
+	static final int KIND_WEB_FRAGMENT = 3;
+
+	/**
+	 * Kind for classes derived from <b>BaseFragmentFactory</b>.
+	 */
+	static final int KIND_FRAGMENT_FACTORY = 4;
+
+	/**
+	 * Constant used by the library's annotation handlers to identify no resource.
+	 */
+	static final int NO_RES = 0;
+
+	/**
+	 * Constant used by the library's annotation handlers to identify <b>unchanged</b> ActionBar option.
+	 */
+	static final int UNCHANGED = -1;
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Binary name of the class as returned by {@code Class.getName()}.
+	 */
+	final String binaryName;
+
+	/**
+	 * Canonical name of the class used to reference it from the generated source code.
+	 */
+	final String typeName;
+
+	/**
+	 * Kind of the class determining which handler should be generated for it.
+	 */
+	final int kind;
+
+	// @ContentView ================================================================================
+
+	int contentViewResource = NO_RES;
+	boolean attachContentViewToContainer;
+	int contentViewBackgroundResId = NO_RES;
+	boolean inflateContentViewAsync;
+	boolean createContentViewLazily;
+
+	// @ActionBarOptions ===========================================================================
+
+	int homeAsUp = UNCHANGED;
+	int homeAsUpVectorIndicator = UNCHANGED;
+	int homeAsUpIndicator = UNCHANGED;
+	int icon = UNCHANGED;
+	int title = UNCHANGED;
+
+	// @MenuOptions ================================================================================
+
+	boolean hasOptionsMenu;
+	boolean clearOptionsMenu;
+	int optionsMenuResource = NO_RES;
+	int optionsMenuFlags = -1;
+
+	// @ActionModeOptions ==========================================================================
+
+	int actionModeMenuResource = NO_RES;
+
+	// @WebContent =================================================================================
+
+	int webContentResId = NO_RES;
+	String webContent;
+
+	// @FactoryFragments + @FactoryFragment ========================================================
+
+	/**
+	 * List of fragment items resolved for a factory class in the order in which they should be
+	 * put into the items array.
+	 */
+	final List<FactoryItem> factoryItems = new ArrayList<>();
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of AnnotatedClass with the specified <var>binaryName</var>, <var>typeName</var>
+	 * and <var>kind</var>.
+	 *
+	 * @param binaryName Binary name of the class.
+	 * @param typeName   Canonical name of the class.
+	 * @param kind       Kind of the class.
+	 */
+	AnnotatedClass(final String binaryName, final String typeName, final int kind) {
+		this.binaryName = binaryName;
+		this.typeName = typeName;
+		this.kind = kind;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Model describing a single fragment item of a factory class.
+	 */
+	static final class FactoryItem {
+
+		/**
+		 * Id of the fragment.
+		 */
+		final int id;
+
+		/**
+		 * Canonical name of the fragment class.
+		 */
+		final String typeName;
+
+		/**
+		 * Name of the fragment used as suffix of its tag, that is, either tagged name of the fragment
+		 * or its id.
+		 */
+		final String tagName;
+
+		/**
+		 * Boolean flag indicating whether the fragment class may be instantiated directly via its
+		 * public empty constructor.
+		 */
+		final boolean instantiable;
+
+		/**
+		 * Creates a new instance of FactoryItem with the specified parameters.
+		 *
+		 * @param id           Id of the fragment.
+		 * @param typeName     Canonical name of the fragment class.
+		 * @param tagName      Name of the fragment used as suffix of its tag.
+		 * @param instantiable {@code True} if the fragment class may be instantiated directly,
+		 *                     {@code false} otherwise.
+		 */
+		FactoryItem(final int id, final String typeName, final String tagName, final boolean instantiable) {
+			this.id = id;
+			this.typeName = typeName;
+			this.tagName = tagName;
+			this.instantiable = instantiable;
+		}
+	}
+}
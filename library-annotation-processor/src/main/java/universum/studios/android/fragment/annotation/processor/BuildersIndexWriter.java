@@ -0,0 +1,151 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+
+/**
+ * Writer which generates source code of a content view builders index for layouts compiled by
+ * {@link LayoutCompiler}.
+ * <p>
+ * The generated index maps resource ids of the compiled layouts to builders which construct theirs
+ * view hierarchies directly. Resource ids are referenced via fields of R classes, so the index may
+ * be generated also for library modules where the resource ids are not compile time constants.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class BuildersIndexWriter {
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Package of the index.
+	 */
+	private final String packageName;
+
+	/**
+	 * Simple name of the index.
+	 */
+	private final String indexName;
+
+	/**
+	 * Builder for source code of the index.
+	 */
+	private final StringBuilder source = new StringBuilder(4096);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of BuildersIndexWriter for index with the specified name.
+	 *
+	 * @param packageName Package of the index.
+	 * @param indexName   Simple name of the index.
+	 */
+	BuildersIndexWriter(final String packageName, final String indexName) {
+		this.packageName = packageName;
+		this.indexName = indexName;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Generates source code of the index for the given <var>layouts</var> and writes it via the
+	 * given <var>filer</var>.
+	 *
+	 * @param filer               Filer used to create the source file.
+	 * @param layouts             Statements building view hierarchies of the compiled layouts mapped
+	 *                            to references of the layouts.
+	 * @param originatingElements Elements for which are the layouts compiled.
+	 * @throws IOException If writing of the source file fails.
+	 */
+	void write(final Filer filer, final Map<String, String> layouts, final Element... originatingElements) throws IOException {
+		final String source = generate(layouts);
+		try (Writer writer = filer.createSourceFile(packageName + "." + indexName, originatingElements).openWriter()) {
+			writer.write(source);
+		}
+	}
+
+	/**
+	 * Generates source code of the index for the given <var>layouts</var>.
+	 *
+	 * @param layouts Statements building view hierarchies of the compiled layouts mapped to references
+	 *                of the layouts.
+	 * @return Source code of the index.
+	 */
+	String generate(final Map<String, String> layouts) {
+		source.setLength(0);
+		source.append("// Generated by ").append(FragmentsAnnotationProcessor.class.getSimpleName()).append(". Do not modify!\n");
+		source.append("package ").append(packageName).append(";\n\n");
+		source.append("import android.content.Context;\n");
+		source.append("import android.content.res.Resources;\n");
+		source.append("import android.util.DisplayMetrics;\n");
+		source.append("import android.util.SparseArray;\n");
+		source.append("import android.util.TypedValue;\n");
+		source.append("import android.view.View;\n");
+		source.append("import android.view.ViewGroup;\n\n");
+		source.append("/**\n");
+		source.append(" * Content view builders index generated by the Fragments annotation processor.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(indexName).append(" implements ContentViewBuildersIndex {\n\n");
+		source.append("\tprivate final SparseArray<ContentViewBuilder> builders = new SparseArray<>(").append(layouts.size()).append(");\n\n");
+		source.append("\tpublic ").append(indexName).append("() {\n");
+		int builderIndex = 0;
+		for (final String layout : layouts.keySet()) {
+			source.append("\t\tbuilders.put(").append(layout).append(", new Builder").append(builderIndex++).append("());\n");
+		}
+		source.append("\t}\n\n");
+		source.append("\t@Override public ContentViewBuilder getBuilder(final int layoutResource) {\n");
+		source.append("\t\treturn builders.get(layoutResource);\n");
+		source.append("\t}\n\n");
+		// Same as TypedValue.complexToDimensionPixelSize(int, DisplayMetrics).
+		source.append("\tstatic int dimension(final DisplayMetrics metrics, final int unit, final float value) {\n");
+		source.append("\t\tfinal float result = TypedValue.applyDimension(unit, value, metrics);\n");
+		source.append("\t\tfinal int size = (int) (result >= 0 ? result + 0.5f : result - 0.5f);\n");
+		source.append("\t\treturn size != 0 || value == 0 ? size : (value > 0 ? 1 : -1);\n");
+		source.append("\t}\n");
+		builderIndex = 0;
+		for (final Map.Entry<String, String> layout : layouts.entrySet()) {
+			source.append("\n");
+			source.append("\t/**\n");
+			source.append("\t * Builder for {@code ").append(layout.getKey()).append("} layout.\n");
+			source.append("\t */\n");
+			source.append("\tprivate static final class Builder").append(builderIndex++).append(" implements ContentViewBuilder {\n\n");
+			source.append("\t\t@Override public View build(final Context context) {\n");
+			source.append("\t\t\tfinal Resources resources = context.getResources();\n");
+			source.append("\t\t\tfinal DisplayMetrics metrics = resources.getDisplayMetrics();\n");
+			source.append(layout.getValue());
+			source.append("\t\t}\n");
+			source.append("\t}\n");
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+
+/**
+ * Writer which generates source code of a view click dispatchers index for fragment classes with
+ * methods annotated with <b>@OnViewClick</b> resolved by {@link FragmentsAnnotationProcessor}.
+ * <p>
+ * The generated index dispatches on identity of the fragment class, resolved via map filled with
+ * class literals, and creates dispatcher which invokes the annotated methods directly via switch on
+ * id of the clicked view, so no reflection is involved. Class literals are renamed along with the
+ * classes by code shrinkers, so the dispatch works also in obfuscated builds.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class DispatchersIndexWriter {
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Package of the index.
+	 */
+	private final String packageName;
+
+	/**
+	 * Simple name of the index.
+	 */
+	private final String indexName;
+
+	/**
+	 * Builder for source code of the index.
+	 */
+	private final StringBuilder source = new StringBuilder(4096);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of DispatchersIndexWriter for index with the specified name.
+	 *
+	 * @param packageName Package of the index.
+	 * @param indexName   Simple name of the index.
+	 */
+	DispatchersIndexWriter(final String packageName, final String indexName) {
+		this.packageName = packageName;
+		this.indexName = indexName;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Generates source code of the index for the given <var>classes</var> and writes it via the
+	 * given <var>filer</var>.
+	 *
+	 * @param filer               Filer used to create the source file.
+	 * @param classes             Classes for which to generate dispatchers.
+	 * @param originatingElements Elements from which are the classes resolved.
+	 * @throws IOException If writing of the source file fails.
+	 */
+	void write(final Filer filer, final Collection<DispatchedClass> classes, final Element... originatingElements) throws IOException {
+		final String source = generate(classes);
+		try (Writer writer = filer.createSourceFile(packageName + "." + indexName, originatingElements).openWriter()) {
+			writer.write(source);
+		}
+	}
+
+	/**
+	 * Generates source code of the index for the given <var>classes</var>.
+	 *
+	 * @param classes Classes for which to generate dispatchers.
+	 * @return Source code of the index.
+	 */
+	String generate(final Collection<DispatchedClass> classes) {
+		source.setLength(0);
+		source.append("// Generated by ").append(FragmentsAnnotationProcessor.class.getSimpleName()).append(". Do not modify!\n");
+		source.append("package ").append(packageName).append(";\n\n");
+		source.append("import android.view.View;\n\n");
+		source.append("import java.util.IdentityHashMap;\n");
+		source.append("import java.util.Map;\n\n");
+		source.append("/**\n");
+		source.append(" * View click dispatchers index generated by the Fragments annotation processor.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(indexName).append(" implements ViewClickDispatchersIndex {\n\n");
+		source.append("\tprivate static final Map<Class<?>, Integer> CLASS_INDEXES = new IdentityHashMap<>(").append(classes.size()).append(");\n\n");
+		source.append("\tstatic {\n");
+		int dispatcherIndex = 0;
+		for (final DispatchedClass dispatchedClass : classes) {
+			source.append("\t\tCLASS_INDEXES.put(").append(dispatchedClass.typeName).append(".class, ").append(dispatcherIndex++).append(");\n");
+		}
+		source.append("\t}\n\n");
+		source.append("\t@Override public ViewClickDispatcher getDispatcher(final Class<?> fragmentClass) {\n");
+		source.append("\t\tfinal Integer classIndex = CLASS_INDEXES.get(fragmentClass);\n");
+		source.append("\t\tif (classIndex == null) {\n");
+		source.append("\t\t\treturn null;\n");
+		source.append("\t\t}\n");
+		source.append("\t\tswitch (classIndex) {\n");
+		dispatcherIndex = 0;
+		for (final DispatchedClass dispatchedClass : classes) {
+			source.append("\t\t\tcase ").append(dispatcherIndex).append(": // ").append(dispatchedClass.typeName).append("\n");
+			source.append("\t\t\t\treturn new Dispatcher").append(dispatcherIndex++).append("();\n");
+		}
+		source.append("\t\t\tdefault:\n");
+		source.append("\t\t\t\treturn null;\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n");
+		dispatcherIndex = 0;
+		for (final DispatchedClass dispatchedClass : classes) {
+			appendDispatcher("Dispatcher" + dispatcherIndex++, dispatchedClass);
+		}
+		source.append("}\n");
+		return source.toString();
+	}
+
+	/**
+	 * Appends class of dispatcher which invokes the annotated methods of the given <var>dispatchedClass</var>
+	 * via switch on id of the clicked view.
+	 */
+	private void appendDispatcher(final String dispatcherName, final DispatchedClass dispatchedClass) {
+		source.append("\n");
+		source.append("\tprivate static final class ").append(dispatcherName).append(" implements ViewClickDispatcher {\n\n");
+		source.append("\t\t@Override public boolean dispatchViewClick(final Object fragment, final View view) {\n");
+		source.append("\t\t\tfinal ").append(dispatchedClass.typeName).append(" target = (").append(dispatchedClass.typeName).append(") fragment;\n");
+		source.append("\t\t\tswitch (view.getId()) {\n");
+		for (final Binding binding : dispatchedClass.bindings) {
+			source.append("\t\t\t\tcase ").append(binding.viewId).append(":\n");
+			final String invocation = "target." + binding.methodName + (binding.withView ? "(view)" : "()");
+			if (binding.returnsBoolean) {
+				source.append("\t\t\t\t\treturn ").append(invocation).append(";\n");
+			} else {
+				source.append("\t\t\t\t\t").append(invocation).append(";\n");
+				source.append("\t\t\t\t\treturn true;\n");
+			}
+		}
+		source.append("\t\t\t\tdefault:\n");
+		source.append("\t\t\t\t\treturn false;\n");
+		source.append("\t\t\t}\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n");
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Model describing a single fragment class with methods annotated with <b>@OnViewClick</b>.
+	 */
+	static final class DispatchedClass {
+
+		/**
+		 * Canonical name of the class.
+		 */
+		final String typeName;
+
+		/**
+		 * Bindings of the annotated methods, each for a single view id.
+		 */
+		final List<Binding> bindings = new ArrayList<>();
+
+		/**
+		 * Creates a new instance of DispatchedClass with the specified <var>typeName</var>.
+		 *
+		 * @param typeName Canonical name of the class.
+		 */
+		DispatchedClass(final String typeName) {
+			this.typeName = typeName;
+		}
+	}
+
+	/**
+	 * Model describing binding of a single view id to a method annotated with <b>@OnViewClick</b>.
+	 */
+	static final class Binding {
+
+		/**
+		 * Id of the view.
+		 */
+		final int viewId;
+
+		/**
+		 * Simple name of the annotated method.
+		 */
+		final String methodName;
+
+		/**
+		 * Boolean flag indicating whether the method takes the clicked view as parameter.
+		 */
+		final boolean withView;
+
+		/**
+		 * Boolean flag indicating whether the method returns whether the click has been handled.
+		 */
+		final boolean returnsBoolean;
+
+		/**
+		 * Creates a new instance of Binding with the specified parameters.
+		 *
+		 * @param viewId         Id of the view.
+		 * @param methodName     Simple name of the annotated method.
+		 * @param withView       {@code True} if the method takes the view as parameter, {@code false} otherwise.
+		 * @param returnsBoolean {@code True} if the method returns boolean, {@code false} otherwise.
+		 */
+		Binding(final int viewId, final String methodName, final boolean withView, final boolean returnsBoolean) {
+			this.viewId = viewId;
+			this.methodName = methodName;
+			this.withView = withView;
+			this.returnsBoolean = returnsBoolean;
+		}
+	}
+}
@@ -0,0 +1,1093 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.util.TreePath;
+import com.sun.source.util.Trees;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor which resolves annotations of the Fragments library at compile time and
+ * generates an index that creates annotation handlers for the processed classes without use of
+ * reflection.
+ * <p>
+ * The processor handles all concrete classes derived from <b>BaseFragment</b>, <b>ActionBarFragment</b>,
+ * <b>WebFragment</b> and <b>BaseFragmentFactory</b> that are compiled in the current compilation.
+ * Values of all annotations that would be otherwise resolved via reflection by the corresponding
+ * annotation handler at runtime are resolved by this processor and passed directly to the generated
+ * handler. Classes which cannot be fully resolved at compile time (for example a factory with
+ * fragment id which is not a compile time constant) are skipped and their handlers are instantiated
+ * via reflection as usual.
+ * <p>
+ * The index is by default generated as <b>universum.studios.android.fragment.annotation.handler.GeneratedAnnotationHandlersIndex</b>
+ * which is picked up by the library automatically. Simple name of the index may be changed via
+ * {@link #OPTION_INDEX_NAME} option, in such case the index needs to be registered via
+ * <b>AnnotationHandlers.registerIndex(AnnotationHandlersIndex)</b>.
+ * <p>
+ * When resource directories of the compiled module are specified via {@link #OPTION_RES_DIRS} option,
+ * the processor also precompiles layouts referenced via <b>@ContentView</b> into builders which
+ * construct the view hierarchies directly. The builders are generated into
+ * <b>universum.studios.android.fragment.GeneratedContentViewBuildersIndex</b> (simple name of which
+ * may be changed via {@link #OPTION_BUILDERS_INDEX_NAME} option). Layouts which are not supported
+ * by {@link LayoutCompiler} or have configuration specific variants are inflated as usual.
+ * <p>
+ * For fragment classes with methods annotated with <b>@OnViewClick</b> the processor generates
+ * dispatchers which invoke the annotated methods directly via switch on id of the clicked view. The
+ * dispatchers are generated into <b>universum.studios.android.fragment.GeneratedViewClickDispatchersIndex</b>
+ * (simple name of which may be changed via {@link #OPTION_DISPATCHERS_INDEX_NAME} option, in such
+ * case the index needs to be registered via <b>ViewClickDispatchers.registerIndex(ViewClickDispatchersIndex)</b>).
+ * Only public methods of public classes may be invoked by the generated dispatchers, clicks of other
+ * classes are dispatched via reflection.
+ * <p>
+ * All processed fragment classes, including fragments specified for factories, which are public and
+ * have public empty constructor are also included in <b>universum.studios.android.fragment.GeneratedFragmentInstantiatorsIndex</b>
+ * (simple name of which may be changed via {@link #OPTION_INSTANTIATORS_INDEX_NAME} option) which
+ * creates them via direct constructor calls.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class FragmentsAnnotationProcessor extends AbstractProcessor {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Processor option specifying simple name of the generated handlers index.
+	 */
+	public static final String OPTION_INDEX_NAME = "fragments.annotationHandlersIndex";
+
+	/**
+	 * Default simple name of the generated handlers index.
+	 */
+	static final String DEFAULT_INDEX_NAME = "GeneratedAnnotationHandlersIndex";
+
+	/**
+	 * Processor option specifying resource directories of the compiled module, separated by
+	 * {@link File#pathSeparator}, in which are searched layouts to be precompiled. If not specified,
+	 * no layouts are precompiled.
+	 */
+	public static final String OPTION_RES_DIRS = "fragments.resDirs";
+
+	/**
+	 * Processor option specifying simple name of the generated content view builders index.
+	 */
+	public static final String OPTION_BUILDERS_INDEX_NAME = "fragments.contentViewBuildersIndex";
+
+	/**
+	 * Default simple name of the generated content view builders index.
+	 */
+	static final String DEFAULT_BUILDERS_INDEX_NAME = "GeneratedContentViewBuildersIndex";
+
+	/**
+	 * Processor option specifying simple name of the generated view click dispatchers index.
+	 */
+	public static final String OPTION_DISPATCHERS_INDEX_NAME = "fragments.viewClickDispatchersIndex";
+
+	/**
+	 * Default simple name of the generated view click dispatchers index.
+	 */
+	static final String DEFAULT_DISPATCHERS_INDEX_NAME = "GeneratedViewClickDispatchersIndex";
+
+	/**
+	 * Processor option specifying simple name of the generated fragment instantiators index.
+	 */
+	public static final String OPTION_INSTANTIATORS_INDEX_NAME = "fragments.fragmentInstantiatorsIndex";
+
+	/**
+	 * Default simple name of the generated fragment instantiators index.
+	 */
+	static final String DEFAULT_INSTANTIATORS_INDEX_NAME = "GeneratedFragmentInstantiatorsIndex";
+
+	/**
+	 * Package in which are the content view builders, view click dispatchers and fragment instantiators
+	 * indexes generated.
+	 */
+	static final String FRAGMENT_PACKAGE = "universum.studios.android.fragment";
+
+	/**
+	 * Name of the directory with default layouts.
+	 */
+	private static final String LAYOUT_DIR = "layout";
+
+	/**
+	 * Package in which is the handlers index generated. This package is the same as the package of
+	 * annotation handlers of the library so the index can access them.
+	 */
+	static final String HANDLERS_PACKAGE = "universum.studios.android.fragment.annotation.handler";
+
+	/**
+	 * Names of the library classes for which are annotation handlers generated.
+	 */
+	static final String BASE_FRAGMENT = "universum.studios.android.fragment.BaseFragment";
+	static final String ACTION_BAR_FRAGMENT = "universum.studios.android.fragment.ActionBarFragment";
+	static final String WEB_FRAGMENT = "universum.studios.android.fragment.WebFragment";
+	static final String BASE_FRAGMENT_FACTORY = "universum.studios.android.fragment.manage.BaseFragmentFactory";
+	static final String FRAGMENT = "androidx.fragment.app.Fragment";
+
+	/**
+	 * Names of the library annotations that are resolved by this processor.
+	 */
+	static final String CONTENT_VIEW = "universum.studios.android.fragment.annotation.ContentView";
+	static final String ACTION_BAR_OPTIONS = "universum.studios.android.fragment.annotation.ActionBarOptions";
+	static final String MENU_OPTIONS = "universum.studios.android.fragment.annotation.MenuOptions";
+	static final String ACTION_MODE_OPTIONS = "universum.studios.android.fragment.annotation.ActionModeOptions";
+	static final String WEB_CONTENT = "universum.studios.android.fragment.annotation.WebContent";
+	static final String FACTORY_FRAGMENTS = "universum.studios.android.fragment.annotation.FactoryFragments";
+	static final String FACTORY_FRAGMENT = "universum.studios.android.fragment.annotation.FactoryFragment";
+	static final String ON_VIEW_CLICK = "universum.studios.android.fragment.annotation.OnViewClick";
+
+	/**
+	 * Name of the view class which may be passed to methods annotated with <b>@OnViewClick</b>.
+	 */
+	static final String VIEW = "android.view.View";
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Utilities for operating on elements.
+	 */
+	private Elements elements;
+
+	/**
+	 * Utilities for operating on types.
+	 */
+	private Types types;
+
+	/**
+	 * Messager used to report notes and errors.
+	 */
+	private Messager messager;
+
+	/**
+	 * Classes resolved in the current compilation mapped to theirs binary names.
+	 */
+	private final Map<String, AnnotatedClass> classes = new LinkedHashMap<>();
+
+	/**
+	 * Elements of the resolved classes used as originating elements of the generated index.
+	 */
+	private final List<Element> originatingElements = new ArrayList<>();
+
+	/**
+	 * Boolean flag indicating whether the index has been already written.
+	 */
+	private boolean indexWritten;
+
+	/**
+	 * Utilities for operating on source trees. Is {@code null} if layouts should not be precompiled.
+	 */
+	private Trees trees;
+
+	/**
+	 * Resource directories in which are searched layouts to be precompiled.
+	 */
+	private List<File> resDirs = Collections.emptyList();
+
+	/**
+	 * Statements building view hierarchies of the precompiled layouts mapped to references of the layouts.
+	 */
+	private final Map<String, String> layouts = new LinkedHashMap<>();
+
+	/**
+	 * References of all layouts for which there has been already made an attempt to precompile them.
+	 */
+	private final Set<String> processedLayouts = new HashSet<>();
+
+	/**
+	 * Elements of classes of the precompiled layouts used as originating elements of the generated
+	 * builders index.
+	 */
+	private final List<Element> layoutOriginatingElements = new ArrayList<>();
+
+	/**
+	 * Boolean flag indicating whether the builders index has been already written.
+	 */
+	private boolean buildersIndexWritten;
+
+	/**
+	 * Fragment classes with methods annotated with <b>@OnViewClick</b> mapped to theirs binary names.
+	 */
+	private final Map<String, DispatchersIndexWriter.DispatchedClass> dispatchedClasses = new LinkedHashMap<>();
+
+	/**
+	 * Elements of the dispatched classes used as originating elements of the generated dispatchers index.
+	 */
+	private final List<Element> dispatchedOriginatingElements = new ArrayList<>();
+
+	/**
+	 * Boolean flag indicating whether the dispatchers index has been already written.
+	 */
+	private boolean dispatchersIndexWritten;
+
+	/**
+	 * Canonical names of fragment classes which may be instantiated directly mapped to theirs binary names.
+	 */
+	private final Map<String, String> instantiableFragments = new LinkedHashMap<>();
+
+	/**
+	 * Elements of the instantiable fragment classes used as originating elements of the generated
+	 * instantiators index.
+	 */
+	private final List<Element> instantiableOriginatingElements = new ArrayList<>();
+
+	/**
+	 * Boolean flag indicating whether the instantiators index has been already written.
+	 */
+	private boolean instantiatorsIndexWritten;
+
+	/**
+	 * Methods annotated with <b>@OnViewClick</b> with invalid signature which have been already reported.
+	 */
+	private final Set<Element> invalidViewClickMethods = new HashSet<>();
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 */
+	@Override public synchronized void init(final ProcessingEnvironment environment) {
+		super.init(environment);
+		this.elements = environment.getElementUtils();
+		this.types = environment.getTypeUtils();
+		this.messager = environment.getMessager();
+		final String resDirsOption = environment.getOptions().get(OPTION_RES_DIRS);
+		if (resDirsOption != null && !resDirsOption.isEmpty()) {
+			try {
+				this.trees = Trees.instance(environment);
+				this.resDirs = new ArrayList<>();
+				for (final String resDir : resDirsOption.split(File.pathSeparator)) {
+					if (!resDir.trim().isEmpty()) {
+						resDirs.add(new File(resDir.trim()));
+					}
+				}
+			} catch (IllegalArgumentException | ClassCastException | LinkageError e) {
+				// Source trees are available only when running within javac.
+				messager.printMessage(Diagnostic.Kind.WARNING, "Layouts cannot be precompiled as source trees are not available. " + e);
+			}
+		}
+	}
+
+	/**
+	 */
+	@Override public Set<String> getSupportedAnnotationTypes() {
+		// Also classes without any annotation need to be processed as they may inherit annotations
+		// from theirs super classes.
+		return Collections.singleton("*");
+	}
+
+	/**
+	 */
+	@Override public Set<String> getSupportedOptions() {
+		return new HashSet<>(Arrays.asList(OPTION_INDEX_NAME, OPTION_RES_DIRS, OPTION_BUILDERS_INDEX_NAME, OPTION_DISPATCHERS_INDEX_NAME, OPTION_INSTANTIATORS_INDEX_NAME));
+	}
+
+	/**
+	 */
+	@Override public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	/**
+	 */
+	@Override public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+		final LibraryTypes libraryTypes = resolveLibraryTypes();
+		if (libraryTypes == null) {
+			// The library is not on the classpath of the current compilation.
+			return false;
+		}
+		for (final Element element : roundEnvironment.getRootElements()) {
+			collectClasses(element, libraryTypes);
+		}
+		if (!indexWritten && !classes.isEmpty()) {
+			writeIndex();
+			this.indexWritten = true;
+		}
+		if (!buildersIndexWritten && !layouts.isEmpty()) {
+			writeBuildersIndex();
+			this.buildersIndexWritten = true;
+		}
+		if (!dispatchersIndexWritten && !dispatchedClasses.isEmpty()) {
+			writeDispatchersIndex();
+			this.dispatchersIndexWritten = true;
+		}
+		if (!instantiatorsIndexWritten && !instantiableFragments.isEmpty()) {
+			writeInstantiatorsIndex();
+			this.instantiatorsIndexWritten = true;
+		}
+		return false;
+	}
+
+	/**
+	 * Resolves types of the library classes for which may be handlers generated.
+	 *
+	 * @return Resolved types or {@code null} if none of the library classes is available.
+	 */
+	private LibraryTypes resolveLibraryTypes() {
+		final LibraryTypes libraryTypes = new LibraryTypes();
+		libraryTypes.baseFragment = resolveType(BASE_FRAGMENT);
+		libraryTypes.actionBarFragment = resolveType(ACTION_BAR_FRAGMENT);
+		libraryTypes.webFragment = resolveType(WEB_FRAGMENT);
+		libraryTypes.baseFragmentFactory = resolveType(BASE_FRAGMENT_FACTORY);
+		return libraryTypes.baseFragment == null && libraryTypes.baseFragmentFactory == null ? null : libraryTypes;
+	}
+
+	/**
+	 * Resolves erased type of a class with the specified <var>name</var>.
+	 *
+	 * @param name Fully qualified name of the desired class.
+	 * @return Resolved type or {@code null} if there is no such class available.
+	 */
+	private TypeMirror resolveType(final String name) {
+		final TypeElement element = elements.getTypeElement(name);
+		return element == null ? null : types.erasure(element.asType());
+	}
+
+	/**
+	 * Collects the given <var>element</var> and all its nested classes if they are classes for which
+	 * should be handlers generated.
+	 *
+	 * @param element      The element to collect.
+	 * @param libraryTypes Types of the library classes.
+	 */
+	private void collectClasses(final Element element, final LibraryTypes libraryTypes) {
+		if (element.getKind() != ElementKind.CLASS) {
+			return;
+		}
+		final TypeElement typeElement = (TypeElement) element;
+		if (!typeElement.getModifiers().contains(Modifier.ABSTRACT)) {
+			final int kind = resolveKind(typeElement, libraryTypes);
+			if (kind != 0 && kind != AnnotatedClass.KIND_FRAGMENT_FACTORY && trees != null) {
+				collectLayout(typeElement);
+			}
+			if (kind != 0) {
+				final String binaryName = elements.getBinaryName(typeElement).toString();
+				if (kind != AnnotatedClass.KIND_FRAGMENT_FACTORY && !dispatchedClasses.containsKey(binaryName)) {
+					collectViewClicks(typeElement, binaryName);
+				}
+				if (kind != AnnotatedClass.KIND_FRAGMENT_FACTORY) {
+					collectInstantiableFragment(typeElement);
+				}
+				if (!classes.containsKey(binaryName)) {
+					final AnnotatedClass annotatedClass = resolveClass(typeElement, binaryName, kind);
+					if (annotatedClass != null) {
+						if (indexWritten) {
+							messager.printMessage(
+									Diagnostic.Kind.NOTE,
+									"Class " + binaryName + " has been generated after the annotation handlers index has been written. " +
+											"Its annotation handler will be instantiated via reflection.",
+									typeElement
+							);
+						} else {
+							classes.put(binaryName, annotatedClass);
+							originatingElements.add(typeElement);
+						}
+					}
+				}
+			}
+		}
+		for (final Element enclosedElement : typeElement.getEnclosedElements()) {
+			collectClasses(enclosedElement, libraryTypes);
+		}
+	}
+
+	/**
+	 * Resolves kind of the given <var>typeElement</var>.
+	 *
+	 * @param typeElement  The class of which kind to resolve.
+	 * @param libraryTypes Types of the library classes.
+	 * @return One of kinds defined by {@link AnnotatedClass} or {@code 0} if the class is not
+	 * derived from any of the library classes for which are handlers generated.
+	 */
+	private int resolveKind(final TypeElement typeElement, final LibraryTypes libraryTypes) {
+		final TypeMirror type = types.erasure(typeElement.asType());
+		if (isSubtype(type, libraryTypes.webFragment)) {
+			return AnnotatedClass.KIND_WEB_FRAGMENT;
+		} else if (isSubtype(type, libraryTypes.actionBarFragment)) {
+			return AnnotatedClass.KIND_ACTION_BAR_FRAGMENT;
+		} else if (isSubtype(type, libraryTypes.baseFragment)) {
+			return AnnotatedClass.KIND_FRAGMENT;
+		} else if (isSubtype(type, libraryTypes.baseFragmentFactory)) {
+			return AnnotatedClass.KIND_FRAGMENT_FACTORY;
+		}
+		return 0;
+	}
+
+	/**
+	 * Checks whether the given <var>type</var> is a subtype of the specified <var>superType</var>.
+	 *
+	 * @param type      The type to check.
+	 * @param superType The desired super type. May be {@code null} if such type is not available.
+	 * @return {@code True} if the type is subtype of the super type, {@code false} otherwise.
+	 */
+	private boolean isSubtype(final TypeMirror type, final TypeMirror superType) {
+		return superType != null && types.isSubtype(type, superType);
+	}
+
+	/**
+	 * Resolves values of all annotations relevant for the given <var>typeElement</var> of the
+	 * specified <var>kind</var>.
+	 *
+	 * @param typeElement The class to resolve.
+	 * @param binaryName  Binary name of the class.
+	 * @param kind        Kind of the class.
+	 * @return Resolved class or {@code null} if the class cannot be fully resolved at compile time.
+	 */
+	private AnnotatedClass resolveClass(final TypeElement typeElement, final String binaryName, final int kind) {
+		final AnnotatedClass annotatedClass = new AnnotatedClass(binaryName, typeElement.getQualifiedName().toString(), kind);
+		try {
+			if (!isPubliclyAccessible(typeElement)) {
+				throw new UnresolvableException("Class is not public.");
+			}
+			switch (kind) {
+				case AnnotatedClass.KIND_WEB_FRAGMENT:
+					resolveWebContent(typeElement, annotatedClass);
+					// Web fragment is also an action bar fragment.
+					resolveActionBarOptions(typeElement, annotatedClass);
+					resolveContentView(typeElement, annotatedClass);
+					break;
+				case AnnotatedClass.KIND_ACTION_BAR_FRAGMENT:
+					resolveActionBarOptions(typeElement, annotatedClass);
+					// Action bar fragment is also a base fragment.
+					resolveContentView(typeElement, annotatedClass);
+					break;
+				case AnnotatedClass.KIND_FRAGMENT:
+					resolveContentView(typeElement, annotatedClass);
+					break;
+				case AnnotatedClass.KIND_FRAGMENT_FACTORY:
+					resolveFactoryItems(typeElement, annotatedClass);
+					break;
+				default:
+					return null;
+			}
+		} catch (UnresolvableException e) {
+			messager.printMessage(
+					Diagnostic.Kind.NOTE,
+					"Annotation handler for " + binaryName + " will be instantiated via reflection. " + e.getMessage(),
+					typeElement
+			);
+			return null;
+		}
+		return annotatedClass;
+	}
+
+	/**
+	 * Resolves values of <b>@ContentView</b> annotation.
+	 */
+	private void resolveContentView(final TypeElement typeElement, final AnnotatedClass annotatedClass) {
+		final AnnotationMirror contentView = findAnnotation(typeElement, CONTENT_VIEW);
+		if (contentView != null) {
+			annotatedClass.contentViewResource = intValue(contentView, "value");
+			annotatedClass.attachContentViewToContainer = booleanValue(contentView, "attachToContainer");
+			annotatedClass.contentViewBackgroundResId = intValue(contentView, "background");
+			annotatedClass.inflateContentViewAsync = booleanValue(contentView, "async");
+			annotatedClass.createContentViewLazily = booleanValue(contentView, "lazy");
+		}
+	}
+
+	/**
+	 * Precompiles layout referenced via <b>@ContentView</b> of the given fragment <var>typeElement</var>,
+	 * if it has not been processed yet. Layouts which cannot be precompiled are reported via note.
+	 */
+	private void collectLayout(final TypeElement typeElement) {
+		TypeElement declaringClass = typeElement;
+		AnnotationMirror contentView = null;
+		while (declaringClass != null && (contentView = findDeclaredAnnotation(declaringClass, CONTENT_VIEW)) == null) {
+			declaringClass = superclassOf(declaringClass);
+		}
+		if (contentView == null || Boolean.TRUE.equals(value(contentView, "attachToContainer"))) {
+			// Content views attached to container are always inflated by the library.
+			return;
+		}
+		final VariableElement layoutField = resolveLayoutField(declaringClass, contentView);
+		if (layoutField == null) {
+			return;
+		}
+		final TypeElement resourcesClass = (TypeElement) layoutField.getEnclosingElement().getEnclosingElement();
+		final String layoutName = layoutField.getSimpleName().toString();
+		final String layout = resourcesClass.getQualifiedName() + "." + LAYOUT_DIR + "." + layoutName;
+		if (!processedLayouts.add(layout)) {
+			return;
+		}
+		if (buildersIndexWritten) {
+			messager.printMessage(Diagnostic.Kind.NOTE, "Layout " + layout + " has been requested after the content view builders index has been written. It will be inflated.", typeElement);
+			return;
+		}
+		try {
+			layouts.put(layout, new LayoutCompiler(resourcesClass.getQualifiedName().toString()).compile(findLayoutFile(layoutName)));
+			layoutOriginatingElements.add(typeElement);
+		} catch (LayoutCompiler.UnsupportedLayoutException | IOException e) {
+			messager.printMessage(Diagnostic.Kind.NOTE, "Layout " + layout + " will be inflated. " + e.getMessage(), typeElement);
+		}
+	}
+
+	/**
+	 * Resolves field of R class referenced as value of the given <b>@ContentView</b> annotation
+	 * declared for the specified <var>declaringClass</var>.
+	 *
+	 * @return The layout field or {@code null} if the annotation is not available in source or its
+	 * value is not a reference to a layout field.
+	 */
+	private VariableElement resolveLayoutField(final TypeElement declaringClass, final AnnotationMirror contentView) {
+		final TreePath annotationPath = trees.getPath(declaringClass, contentView);
+		if (annotationPath == null || !(annotationPath.getLeaf() instanceof AnnotationTree)) {
+			// Annotation declared for a class that is not compiled in the current compilation.
+			return null;
+		}
+		for (final ExpressionTree argument : ((AnnotationTree) annotationPath.getLeaf()).getArguments()) {
+			ExpressionTree expression = argument;
+			if (argument instanceof AssignmentTree) {
+				final AssignmentTree assignment = (AssignmentTree) argument;
+				if (!assignment.getVariable().toString().equals("value")) {
+					continue;
+				}
+				expression = assignment.getExpression();
+			}
+			final Element element = trees.getElement(new TreePath(annotationPath, expression));
+			if (element != null && element.getKind() == ElementKind.FIELD &&
+					element.getEnclosingElement().getSimpleName().contentEquals(LAYOUT_DIR) &&
+					element.getEnclosingElement().getEnclosingElement().getSimpleName().contentEquals("R")) {
+				return (VariableElement) element;
+			}
+			return null;
+		}
+		return null;
+	}
+
+	/**
+	 * Finds file of the layout with the specified <var>layoutName</var> within the resource directories.
+	 * If the layout is found in multiple directories, the last one wins, the same as for merging of
+	 * resources.
+	 *
+	 * @throws LayoutCompiler.UnsupportedLayoutException If there is no such layout file or the layout
+	 *                                                   has configuration specific variants.
+	 */
+	private File findLayoutFile(final String layoutName) {
+		final String fileName = layoutName + ".xml";
+		File layoutFile = null;
+		for (final File resDir : resDirs) {
+			final File[] directories = resDir.listFiles();
+			if (directories == null) {
+				continue;
+			}
+			for (final File directory : directories) {
+				final File file = new File(directory, fileName);
+				if (!file.isFile()) {
+					continue;
+				}
+				if (directory.getName().equals(LAYOUT_DIR)) {
+					layoutFile = file;
+				} else if (directory.getName().startsWith(LAYOUT_DIR + "-")) {
+					throw new LayoutCompiler.UnsupportedLayoutException("Layout has configuration specific variant in " + directory.getName() + ".");
+				}
+			}
+		}
+		if (layoutFile == null) {
+			throw new LayoutCompiler.UnsupportedLayoutException("Layout file has not been found in resource directories.");
+		}
+		return layoutFile;
+	}
+
+	/**
+	 * Collects bindings of all methods annotated with <b>@OnViewClick</b> within hierarchy of the
+	 * given fragment <var>typeElement</var>. Classes of which methods cannot be invoked directly are
+	 * reported via note and theirs clicks are dispatched via reflection.
+	 */
+	private void collectViewClicks(final TypeElement typeElement, final String binaryName) {
+		final DispatchersIndexWriter.DispatchedClass dispatchedClass = new DispatchersIndexWriter.DispatchedClass(
+				typeElement.getQualifiedName().toString()
+		);
+		try {
+			final TypeElement maxSuperClass = elements.getTypeElement(BASE_FRAGMENT);
+			final Set<Integer> viewIds = new HashSet<>();
+			TypeElement currentClass = typeElement;
+			while (currentClass != null && !currentClass.equals(maxSuperClass)) {
+				for (final Element element : currentClass.getEnclosedElements()) {
+					final AnnotationMirror onViewClick = element.getKind() == ElementKind.METHOD ? findDeclaredAnnotation(element, ON_VIEW_CLICK) : null;
+					if (onViewClick != null) {
+						collectViewClickBindings(dispatchedClass, (ExecutableElement) element, onViewClick, viewIds);
+					}
+				}
+				currentClass = superclassOf(currentClass);
+			}
+			if (!dispatchedClass.bindings.isEmpty() && !isPubliclyAccessible(typeElement)) {
+				throw new UnresolvableException("Fragment class is not public.");
+			}
+		} catch (UnresolvableException e) {
+			messager.printMessage(Diagnostic.Kind.NOTE, "Clicks of " + binaryName + " will be dispatched via reflection. " + e.getMessage(), typeElement);
+			return;
+		}
+		if (dispatchedClass.bindings.isEmpty()) {
+			return;
+		}
+		if (dispatchersIndexWritten) {
+			messager.printMessage(
+					Diagnostic.Kind.NOTE,
+					"Class " + binaryName + " has been generated after the view click dispatchers index has been written. " +
+							"Its clicks will be dispatched via reflection.",
+					typeElement
+			);
+			return;
+		}
+		dispatchedClasses.put(binaryName, dispatchedClass);
+		dispatchedOriginatingElements.add(typeElement);
+	}
+
+	/**
+	 * Collects bindings for all view ids specified via the given <b>@OnViewClick</b> annotation of
+	 * the specified <var>method</var>. View ids already bound by a method of more derived class are
+	 * skipped.
+	 */
+	private void collectViewClickBindings(
+			final DispatchersIndexWriter.DispatchedClass dispatchedClass,
+			final ExecutableElement method,
+			final AnnotationMirror onViewClick,
+			final Set<Integer> viewIds
+	) {
+		final List<? extends VariableElement> parameters = method.getParameters();
+		final TypeMirror viewType = resolveType(VIEW);
+		if (parameters.size() > 1 || (parameters.size() == 1 && viewType != null && !types.isAssignable(viewType, parameters.get(0).asType()))) {
+			if (invalidViewClickMethods.add(method)) {
+				messager.printMessage(Diagnostic.Kind.ERROR, "Method annotated with @OnViewClick must have either no parameter or a single View parameter.", method);
+			}
+			return;
+		}
+		if (!method.getModifiers().contains(Modifier.PUBLIC)) {
+			throw new UnresolvableException("Method " + method.getSimpleName() + " is not public.");
+		}
+		for (final AnnotationValue idValue : listValue(onViewClick, "value")) {
+			final int viewId = toInt(idValue.getValue(), "value");
+			if (viewIds.add(viewId)) {
+				dispatchedClass.bindings.add(new DispatchersIndexWriter.Binding(
+						viewId,
+						method.getSimpleName().toString(),
+						parameters.size() == 1,
+						method.getReturnType().getKind() == TypeKind.BOOLEAN
+				));
+			}
+		}
+	}
+
+	/**
+	 * Resolves values of <b>@ActionBarOptions</b>, <b>@MenuOptions</b> and <b>@ActionModeOptions</b>
+	 * annotations.
+	 */
+	private void resolveActionBarOptions(final TypeElement typeElement, final AnnotatedClass annotatedClass) {
+		final AnnotationMirror actionBarOptions = findAnnotation(typeElement, ACTION_BAR_OPTIONS);
+		if (actionBarOptions != null) {
+			annotatedClass.homeAsUp = intValue(actionBarOptions, "homeAsUp");
+			annotatedClass.homeAsUpVectorIndicator = intValue(actionBarOptions, "homeAsUpVectorIndicator");
+			annotatedClass.homeAsUpIndicator = intValue(actionBarOptions, "homeAsUpIndicator");
+			annotatedClass.icon = intValue(actionBarOptions, "icon");
+			annotatedClass.title = intValue(actionBarOptions, "title");
+		}
+		final AnnotationMirror menuOptions = findAnnotation(typeElement, MENU_OPTIONS);
+		if (menuOptions != null) {
+			annotatedClass.hasOptionsMenu = true;
+			annotatedClass.clearOptionsMenu = booleanValue(menuOptions, "clear");
+			annotatedClass.optionsMenuFlags = intValue(menuOptions, "flags");
+			annotatedClass.optionsMenuResource = intValue(menuOptions, "value");
+		}
+		final AnnotationMirror actionModeOptions = findAnnotation(typeElement, ACTION_MODE_OPTIONS);
+		if (actionModeOptions != null) {
+			annotatedClass.actionModeMenuResource = intValue(actionModeOptions, "menu");
+		}
+	}
+
+	/**
+	 * Resolves values of <b>@WebContent</b> annotation.
+	 */
+	private void resolveWebContent(final TypeElement typeElement, final AnnotatedClass annotatedClass) {
+		final AnnotationMirror webContent = findAnnotation(typeElement, WEB_CONTENT);
+		if (webContent != null) {
+			annotatedClass.webContentResId = intValue(webContent, "valueRes");
+			annotatedClass.webContent = stringValue(webContent, "value");
+		}
+	}
+
+	/**
+	 * Resolves fragment items from <b>@FactoryFragments</b> and <b>@FactoryFragment</b> annotations
+	 * in the same order as the library's factory handler does.
+	 */
+	private void resolveFactoryItems(final TypeElement typeElement, final AnnotatedClass annotatedClass) {
+		final AnnotationMirror factoryFragments = findAnnotation(typeElement, FACTORY_FRAGMENTS);
+		if (factoryFragments != null) {
+			for (final AnnotationValue idValue : listValue(factoryFragments, "value")) {
+				final int id = toInt(idValue.getValue(), "value");
+				annotatedClass.factoryItems.add(new AnnotatedClass.FactoryItem(
+						id,
+						FRAGMENT,
+						Integer.toString(id),
+						false
+				));
+			}
+		}
+		final TypeElement maxSuperClass = elements.getTypeElement(BASE_FRAGMENT_FACTORY);
+		TypeElement currentClass = typeElement;
+		while (currentClass != null && !currentClass.equals(maxSuperClass)) {
+			for (final Element element : currentClass.getEnclosedElements()) {
+				if (element.getKind() != ElementKind.FIELD || element.asType().getKind() != TypeKind.INT) {
+					continue;
+				}
+				final AnnotationMirror factoryFragment = findDeclaredAnnotation(element, FACTORY_FRAGMENT);
+				if (factoryFragment != null) {
+					annotatedClass.factoryItems.add(resolveFactoryItem((VariableElement) element, factoryFragment));
+				}
+			}
+			currentClass = superclassOf(currentClass);
+		}
+	}
+
+	/**
+	 * Resolves a single fragment item from the given <b>@FactoryFragment</b> annotated <var>field</var>.
+	 */
+	private AnnotatedClass.FactoryItem resolveFactoryItem(final VariableElement field, final AnnotationMirror factoryFragment) {
+		final Object constantValue = field.getConstantValue();
+		if (!field.getModifiers().contains(Modifier.STATIC) || !(constantValue instanceof Integer)) {
+			throw new UnresolvableException("Id of @FactoryFragment " + field.getSimpleName() + " is not a compile time constant.");
+		}
+		final int id = (Integer) constantValue;
+		final Object typeValue = value(factoryFragment, "value");
+		if (!(typeValue instanceof DeclaredType)) {
+			throw new UnresolvableException("Type of @FactoryFragment " + field.getSimpleName() + " cannot be resolved.");
+		}
+		final TypeElement fragmentElement = (TypeElement) ((DeclaredType) typeValue).asElement();
+		if (!isPubliclyAccessible(fragmentElement)) {
+			throw new UnresolvableException("Fragment class " + fragmentElement.getQualifiedName() + " is not public.");
+		}
+		collectInstantiableFragment(fragmentElement);
+		final String taggedName = stringValue(factoryFragment, "taggedName");
+		return new AnnotatedClass.FactoryItem(
+				id,
+				fragmentElement.getQualifiedName().toString(),
+				taggedName.isEmpty() ? Integer.toString(id) : taggedName,
+				isInstantiable(fragmentElement)
+		);
+	}
+
+	/**
+	 * Collects the given fragment <var>typeElement</var> to be included in the instantiators index
+	 * if it may be instantiated directly and it has not been collected yet.
+	 */
+	private void collectInstantiableFragment(final TypeElement typeElement) {
+		if (instantiatorsIndexWritten || !isPubliclyAccessible(typeElement) || !isInstantiable(typeElement)) {
+			return;
+		}
+		final String binaryName = elements.getBinaryName(typeElement).toString();
+		if (!instantiableFragments.containsKey(binaryName)) {
+			instantiableFragments.put(binaryName, typeElement.getQualifiedName().toString());
+			instantiableOriginatingElements.add(typeElement);
+		}
+	}
+
+	/**
+	 * Checks whether the given <var>element</var> along with all its enclosing classes is public.
+	 */
+	private static boolean isPubliclyAccessible(final TypeElement element) {
+		Element current = element;
+		while (current != null && (current.getKind().isClass() || current.getKind().isInterface())) {
+			if (!current.getModifiers().contains(Modifier.PUBLIC)) {
+				return false;
+			}
+			current = current.getEnclosingElement();
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether the given fragment <var>element</var> may be instantiated directly via
+	 * {@code new}, that is, whether it is a concrete top level or static nested class with public
+	 * empty constructor. Fragments that do not meet these requirements are left for instantiation
+	 * via reflection so the library reports the instantiation failure in the same way as before.
+	 */
+	private static boolean isInstantiable(final TypeElement element) {
+		final Set<Modifier> modifiers = element.getModifiers();
+		if (modifiers.contains(Modifier.ABSTRACT) || (element.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC))) {
+			return false;
+		}
+		if (element.getQualifiedName().contentEquals(FRAGMENT)) {
+			return false;
+		}
+		for (final Element enclosedElement : element.getEnclosedElements()) {
+			if (enclosedElement.getKind() == ElementKind.CONSTRUCTOR &&
+					((ExecutableElement) enclosedElement).getParameters().isEmpty() &&
+					enclosedElement.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds annotation with the specified <var>annotationName</var> for the given <var>typeElement</var>
+	 * in the same way as {@code Class.getAnnotation(Class)} does, that is, annotations marked as
+	 * {@link java.lang.annotation.Inherited @Inherited} are searched also in super classes.
+	 *
+	 * @param typeElement    The class for which to find the annotation.
+	 * @param annotationName Fully qualified name of the desired annotation.
+	 * @return Found annotation or {@code null} if there is no such annotation presented.
+	 */
+	private AnnotationMirror findAnnotation(final TypeElement typeElement, final String annotationName) {
+		final TypeElement annotationElement = elements.getTypeElement(annotationName);
+		if (annotationElement == null) {
+			return null;
+		}
+		final boolean inherited = findDeclaredAnnotation(annotationElement, "java.lang.annotation.Inherited") != null;
+		TypeElement currentClass = typeElement;
+		while (currentClass != null) {
+			final AnnotationMirror annotation = findDeclaredAnnotation(currentClass, annotationName);
+			if (annotation != null || !inherited) {
+				return annotation;
+			}
+			currentClass = superclassOf(currentClass);
+		}
+		return null;
+	}
+
+	/**
+	 * Finds annotation with the specified <var>annotationName</var> declared directly for the given
+	 * <var>element</var>.
+	 */
+	private static AnnotationMirror findDeclaredAnnotation(final Element element, final String annotationName) {
+		for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			final TypeElement annotationElement = (TypeElement) annotation.getAnnotationType().asElement();
+			if (annotationElement.getQualifiedName().contentEquals(annotationName)) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the super class element of the given <var>typeElement</var>.
+	 */
+	private static TypeElement superclassOf(final TypeElement typeElement) {
+		final TypeMirror superclass = typeElement.getSuperclass();
+		return superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+	}
+
+	/**
+	 * Returns value of an attribute with the specified <var>name</var> from the given <var>annotation</var>
+	 * including the default value.
+	 */
+	private Object value(final AnnotationMirror annotation, final String name) {
+		final Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(annotation);
+		for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(name)) {
+				return entry.getValue().getValue();
+			}
+		}
+		throw new UnresolvableException("Attribute " + name + " of " + annotation.getAnnotationType() + " cannot be resolved.");
+	}
+
+	private int intValue(final AnnotationMirror annotation, final String name) {
+		return toInt(value(annotation, name), name);
+	}
+
+	private boolean booleanValue(final AnnotationMirror annotation, final String name) {
+		final Object value = value(annotation, name);
+		if (value instanceof Boolean) {
+			return (Boolean) value;
+		}
+		throw new UnresolvableException("Value of attribute " + name + " is not a compile time constant.");
+	}
+
+	private String stringValue(final AnnotationMirror annotation, final String name) {
+		final Object value = value(annotation, name);
+		if (value instanceof String) {
+			return (String) value;
+		}
+		throw new UnresolvableException("Value of attribute " + name + " is not a compile time constant.");
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<? extends AnnotationValue> listValue(final AnnotationMirror annotation, final String name) {
+		final Object value = value(annotation, name);
+		if (value instanceof List) {
+			return (List<? extends AnnotationValue>) value;
+		}
+		throw new UnresolvableException("Value of attribute " + name + " is not a compile time constant.");
+	}
+
+	private static int toInt(final Object value, final String name) {
+		if (value instanceof Integer) {
+			return (Integer) value;
+		}
+		// Happens for example when the value references a resource from R class which is not
+		// available yet.
+		throw new UnresolvableException("Value of attribute " + name + " is not a compile time constant.");
+	}
+
+	/**
+	 * Writes source file of the handlers index for all collected classes.
+	 */
+	private void writeIndex() {
+		final String indexName = resolveIndexName();
+		try {
+			new HandlersIndexWriter(HANDLERS_PACKAGE, indexName).write(
+					processingEnv.getFiler(),
+					classes.values(),
+					originatingElements.toArray(new Element[0])
+			);
+		} catch (IOException e) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write annotation handlers index " + indexName + ". " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes source file of the content view builders index for all precompiled layouts.
+	 */
+	private void writeBuildersIndex() {
+		final String indexName = resolveIndexName(OPTION_BUILDERS_INDEX_NAME, DEFAULT_BUILDERS_INDEX_NAME);
+		try {
+			new BuildersIndexWriter(FRAGMENT_PACKAGE, indexName).write(
+					processingEnv.getFiler(),
+					layouts,
+					layoutOriginatingElements.toArray(new Element[0])
+			);
+		} catch (IOException e) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write content view builders index " + indexName + ". " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes source file of the view click dispatchers index for all dispatched classes.
+	 */
+	private void writeDispatchersIndex() {
+		final String indexName = resolveIndexName(OPTION_DISPATCHERS_INDEX_NAME, DEFAULT_DISPATCHERS_INDEX_NAME);
+		try {
+			new DispatchersIndexWriter(FRAGMENT_PACKAGE, indexName).write(
+					processingEnv.getFiler(),
+					dispatchedClasses.values(),
+					dispatchedOriginatingElements.toArray(new Element[0])
+			);
+		} catch (IOException e) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write view click dispatchers index " + indexName + ". " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes source file of the fragment instantiators index for all instantiable fragments.
+	 */
+	private void writeInstantiatorsIndex() {
+		final String indexName = resolveIndexName(OPTION_INSTANTIATORS_INDEX_NAME, DEFAULT_INSTANTIATORS_INDEX_NAME);
+		try {
+			new InstantiatorsIndexWriter(FRAGMENT_PACKAGE, indexName).write(
+					processingEnv.getFiler(),
+					instantiableFragments.values(),
+					instantiableOriginatingElements.toArray(new Element[0])
+			);
+		} catch (IOException e) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Failed to write fragment instantiators index " + indexName + ". " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Resolves simple name of the index to be generated.
+	 *
+	 * @return Name specified via {@link #OPTION_INDEX_NAME} or {@link #DEFAULT_INDEX_NAME}.
+	 */
+	private String resolveIndexName() {
+		return resolveIndexName(OPTION_INDEX_NAME, DEFAULT_INDEX_NAME);
+	}
+
+	/**
+	 * Resolves simple name of an index specified via the given <var>option</var>.
+	 *
+	 * @param option      The option specifying the name.
+	 * @param defaultName Name to be used if the option is not specified.
+	 * @return Name specified via the option or the default name.
+	 */
+	private String resolveIndexName(final String option, final String defaultName) {
+		final String indexName = processingEnv.getOptions().get(option);
+		if (indexName == null || indexName.isEmpty()) {
+			return defaultName;
+		}
+		if (!SourceVersion.isIdentifier(indexName)) {
+			messager.printMessage(Diagnostic.Kind.ERROR, "Option " + option + " must be a simple class name, found: " + indexName);
+			return defaultName;
+		}
+		return indexName;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Holder for types of the library classes for which may be handlers generated.
+	 */
+	private static final class LibraryTypes {
+
+		TypeMirror baseFragment;
+		TypeMirror actionBarFragment;
+		TypeMirror webFragment;
+		TypeMirror baseFragmentFactory;
+	}
+
+	/**
+	 * Exception thrown whenever a value of an annotation cannot be resolved at compile time.
+	 */
+	private static final class UnresolvableException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		UnresolvableException(final String message) {
+			super(message);
+		}
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+
+/**
+ * Writer which generates source code of an annotation handlers index for a collection of classes
+ * resolved by {@link FragmentsAnnotationProcessor}.
+ * <p>
+ * The generated index dispatches on identity of the annotated class, resolved via map filled with
+ * class literals, and creates the handler via its constructor taking already resolved annotation
+ * values, so no reflection is involved. Class literals are renamed along with the classes by code
+ * shrinkers, so the dispatch works also in obfuscated builds. Fragment items of factory handlers
+ * are created with tags derived from the runtime name of the factory class and with instantiator
+ * that creates fragments via switch on theirs ids.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class HandlersIndexWriter {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Names of the handler classes as referenced from within the handlers package.
+	 */
+	private static final String FRAGMENT_HANDLER = "BaseAnnotationHandlers.FragmentHandler";
+	private static final String ACTION_BAR_FRAGMENT_HANDLER = "ActionBarAnnotationHandlers.ActionBarFragmentHandler";
+	private static final String WEB_FRAGMENT_HANDLER = "WebAnnotationHandlers.WebFragmentHandler";
+	private static final String FRAGMENT_FACTORY_HANDLER = "BaseManagementAnnotationHandlers.FragmentFactoryHandler";
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Package of the index.
+	 */
+	private final String packageName;
+
+	/**
+	 * Simple name of the index.
+	 */
+	private final String indexName;
+
+	/**
+	 * Builder for source code of the index.
+	 */
+	private final StringBuilder source = new StringBuilder(4096);
+
+	/**
+	 * Builder for source code of factory methods of the index that are appended at the end.
+	 */
+	private final StringBuilder factoryMethods = new StringBuilder();
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of HandlersIndexWriter for index with the specified name.
+	 *
+	 * @param packageName Package of the index.
+	 * @param indexName   Simple name of the index.
+	 */
+	HandlersIndexWriter(final String packageName, final String indexName) {
+		this.packageName = packageName;
+		this.indexName = indexName;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Generates source code of the index for the given <var>classes</var> and writes it via the
+	 * given <var>filer</var>.
+	 *
+	 * @param filer               Filer used to create the source file.
+	 * @param classes             Classes for which to generate handlers.
+	 * @param originatingElements Elements from which are the classes resolved.
+	 * @throws IOException If writing of the source file fails.
+	 */
+	void write(final Filer filer, final Collection<AnnotatedClass> classes, final Element... originatingElements) throws IOException {
+		final String source = generate(classes);
+		try (Writer writer = filer.createSourceFile(packageName + "." + indexName, originatingElements).openWriter()) {
+			writer.write(source);
+		}
+	}
+
+	/**
+	 * Generates source code of the index for the given <var>classes</var>.
+	 *
+	 * @param classes Classes for which to generate handlers.
+	 * @return Source code of the index.
+	 */
+	String generate(final Collection<AnnotatedClass> classes) {
+		source.setLength(0);
+		factoryMethods.setLength(0);
+		boolean hasFactories = false;
+		for (final AnnotatedClass annotatedClass : classes) {
+			hasFactories |= annotatedClass.kind == AnnotatedClass.KIND_FRAGMENT_FACTORY;
+		}
+		source.append("// Generated by ").append(FragmentsAnnotationProcessor.class.getSimpleName()).append(". Do not modify!\n");
+		source.append("package ").append(packageName).append(";\n\n");
+		if (hasFactories) {
+			source.append("import android.util.SparseArray;\n\n");
+		}
+		source.append("import java.util.IdentityHashMap;\n");
+		source.append("import java.util.Map;\n\n");
+		if (hasFactories) {
+			source.append("import androidx.fragment.app.Fragment;\n");
+			source.append("import universum.studios.android.fragment.manage.FragmentItem;\n\n");
+		}
+		source.append("/**\n");
+		source.append(" * Annotation handlers index generated by the Fragments annotation processor.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(indexName).append(" implements AnnotationHandlersIndex {\n\n");
+		source.append("\tprivate static final Map<Class<?>, Integer> CLASS_INDEXES = new IdentityHashMap<>(").append(classes.size()).append(");\n\n");
+		source.append("\tstatic {\n");
+		int classIndex = 0;
+		for (final AnnotatedClass annotatedClass : classes) {
+			source.append("\t\tCLASS_INDEXES.put(").append(annotatedClass.typeName).append(".class, ").append(classIndex++).append(");\n");
+		}
+		source.append("\t}\n\n");
+		source.append("\t@Override public AnnotationHandler createHandler(final Class<? extends AnnotationHandler> classOfHandler, final Class<?> annotatedClass) {\n");
+		source.append("\t\tfinal Integer classIndex = CLASS_INDEXES.get(annotatedClass);\n");
+		source.append("\t\tif (classIndex == null) {\n");
+		source.append("\t\t\treturn null;\n");
+		source.append("\t\t}\n");
+		source.append("\t\tswitch (classIndex) {\n");
+		classIndex = 0;
+		int factoryIndex = 0;
+		for (final AnnotatedClass annotatedClass : classes) {
+			source.append("\t\t\tcase ").append(classIndex++).append(": // ").append(annotatedClass.typeName).append("\n");
+			switch (annotatedClass.kind) {
+				case AnnotatedClass.KIND_FRAGMENT:
+					appendHandlerCase(FRAGMENT_HANDLER, fragmentHandlerArguments(annotatedClass));
+					break;
+				case AnnotatedClass.KIND_ACTION_BAR_FRAGMENT:
+					appendHandlerCase(ACTION_BAR_FRAGMENT_HANDLER, actionBarFragmentHandlerArguments(annotatedClass));
+					break;
+				case AnnotatedClass.KIND_WEB_FRAGMENT:
+					appendHandlerCase(WEB_FRAGMENT_HANDLER, webFragmentHandlerArguments(annotatedClass));
+					break;
+				case AnnotatedClass.KIND_FRAGMENT_FACTORY:
+					final String methodName = "createFactoryHandler" + factoryIndex;
+					source.append("\t\t\t\treturn classOfHandler == ").append(FRAGMENT_FACTORY_HANDLER).append(".class ? ");
+					source.append(methodName).append("(annotatedClass) : null;\n");
+					appendFactoryMethod(methodName, factoryIndex++, annotatedClass);
+					break;
+				default:
+					source.append("\t\t\t\treturn null;\n");
+					break;
+			}
+		}
+		source.append("\t\t\tdefault:\n");
+		source.append("\t\t\t\treturn null;\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n");
+		source.append(factoryMethods);
+		source.append("}\n");
+		return source.toString();
+	}
+
+	/**
+	 * Appends return statement creating handler of the specified <var>handlerName</var> with the
+	 * given constructor <var>arguments</var>.
+	 */
+	private void appendHandlerCase(final String handlerName, final String arguments) {
+		source.append("\t\t\t\treturn classOfHandler == ").append(handlerName).append(".class ?\n");
+		source.append("\t\t\t\t\t\tnew ").append(handlerName).append("(annotatedClass, ").append(arguments).append(") :\n");
+		source.append("\t\t\t\t\t\tnull;\n");
+	}
+
+	/**
+	 * Appends method creating factory handler with all fragment items of the given <var>annotatedClass</var>.
+	 * <p>
+	 * All items of the factory share a single generated instantiator which creates fragments for
+	 * theirs ids via direct constructor calls. Items with fragment class which cannot be instantiated
+	 * directly are not included in the instantiator, so they are instantiated via reflection.
+	 */
+	private void appendFactoryMethod(final String methodName, final int factoryIndex, final AnnotatedClass annotatedClass) {
+		// The last item specified for a particular id wins, the same as for the items array.
+		final Map<Integer, AnnotatedClass.FactoryItem> instantiableItems = new LinkedHashMap<>();
+		for (final AnnotatedClass.FactoryItem item : annotatedClass.factoryItems) {
+			if (item.instantiable) {
+				instantiableItems.put(item.id, item);
+			} else {
+				instantiableItems.remove(item.id);
+			}
+		}
+		final String instantiatorName = instantiableItems.isEmpty() ? null : "FactoryInstantiator" + factoryIndex;
+		factoryMethods.append("\n");
+		factoryMethods.append("\tprivate static AnnotationHandler ").append(methodName).append("(final Class<?> annotatedClass) {\n");
+		if (instantiatorName != null) {
+			factoryMethods.append("\t\tfinal FragmentItem.Instantiator instantiator = new ").append(instantiatorName).append("();\n");
+		}
+		// Tags are created from the runtime name of the factory class, the same as BaseFragmentFactory.createFragmentTag(Class, String) does.
+		factoryMethods.append("\t\tfinal String tagPrefix = annotatedClass.getName() + \".TAG.\";\n");
+		factoryMethods.append("\t\tfinal SparseArray<FragmentItem> items = new SparseArray<>(").append(annotatedClass.factoryItems.size()).append(");\n");
+		for (final AnnotatedClass.FactoryItem item : annotatedClass.factoryItems) {
+			factoryMethods.append("\t\titems.put(").append(item.id).append(", new FragmentItem(");
+			factoryMethods.append(item.id).append(", ");
+			factoryMethods.append(item.typeName).append(".class, ");
+			factoryMethods.append("tagPrefix + ").append(stringLiteral(item.tagName));
+			if (instantiatorName != null && instantiableItems.get(item.id) == item) {
+				factoryMethods.append(", instantiator");
+			}
+			factoryMethods.append("));\n");
+		}
+		factoryMethods.append("\t\treturn new ").append(FRAGMENT_FACTORY_HANDLER).append("(annotatedClass, items);\n");
+		factoryMethods.append("\t}\n");
+		if (instantiatorName != null) {
+			appendFactoryInstantiator(instantiatorName, instantiableItems.values());
+		}
+	}
+
+	/**
+	 * Appends class of instantiator creating fragments for the given <var>items</var> via switch
+	 * on theirs ids.
+	 */
+	private void appendFactoryInstantiator(final String instantiatorName, final Collection<AnnotatedClass.FactoryItem> items) {
+		factoryMethods.append("\n");
+		factoryMethods.append("\tprivate static final class ").append(instantiatorName).append(" implements FragmentItem.Instantiator {\n\n");
+		factoryMethods.append("\t\t@Override public Fragment instantiate(final int fragmentId) {\n");
+		factoryMethods.append("\t\t\tswitch (fragmentId) {\n");
+		for (final AnnotatedClass.FactoryItem item : items) {
+			factoryMethods.append("\t\t\t\tcase ").append(item.id).append(":\n");
+			factoryMethods.append("\t\t\t\t\treturn new ").append(item.typeName).append("();\n");
+		}
+		factoryMethods.append("\t\t\t\tdefault:\n");
+		factoryMethods.append("\t\t\t\t\treturn null;\n");
+		factoryMethods.append("\t\t\t}\n");
+		factoryMethods.append("\t\t}\n");
+		factoryMethods.append("\t}\n");
+	}
+
+	private static String fragmentHandlerArguments(final AnnotatedClass annotatedClass) {
+		return annotatedClass.contentViewResource + ", " +
+				annotatedClass.attachContentViewToContainer + ", " +
+				annotatedClass.contentViewBackgroundResId + ", " +
+				annotatedClass.inflateContentViewAsync + ", " +
+				annotatedClass.createContentViewLazily;
+	}
+
+	private static String actionBarFragmentHandlerArguments(final AnnotatedClass annotatedClass) {
+		return fragmentHandlerArguments(annotatedClass) + ", " +
+				annotatedClass.homeAsUp + ", " +
+				annotatedClass.homeAsUpVectorIndicator + ", " +
+				annotatedClass.homeAsUpIndicator + ", " +
+				annotatedClass.icon + ", " +
+				annotatedClass.title + ", " +
+				annotatedClass.hasOptionsMenu + ", " +
+				annotatedClass.clearOptionsMenu + ", " +
+				annotatedClass.optionsMenuResource + ", " +
+				annotatedClass.optionsMenuFlags + ", " +
+				annotatedClass.actionModeMenuResource;
+	}
+
+	private static String webFragmentHandlerArguments(final AnnotatedClass annotatedClass) {
+		return actionBarFragmentHandlerArguments(annotatedClass) + ", " +
+				annotatedClass.webContentResId + ", " +
+				(annotatedClass.webContent == null ? "null" : stringLiteral(annotatedClass.webContent));
+	}
+
+	/**
+	 * Creates Java string literal for the given <var>value</var>.
+	 *
+	 * @param value The value for which to create literal.
+	 * @return Quoted and escaped literal.
+	 */
+	static String stringLiteral(final String value) {
+		final StringBuilder literal = new StringBuilder(value.length() + 2);
+		literal.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char character = value.charAt(i);
+			switch (character) {
+				case '"':
+					literal.append("\\\"");
+					break;
+				case '\\':
+					literal.append("\\\\");
+					break;
+				case '\n':
+					literal.append("\\n");
+					break;
+				case '\r':
+					literal.append("\\r");
+					break;
+				case '\t':
+					literal.append("\\t");
+					break;
+				default:
+					if (character < 0x20 || character > 0x7e) {
+						literal.append(String.format("\\u%04x", (int) character));
+					} else {
+						literal.append(character);
+					}
+					break;
+			}
+		}
+		return literal.append('"').toString();
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+
+/**
+ * Writer which generates source code of a fragment instantiators index for fragment classes resolved
+ * by {@link FragmentsAnnotationProcessor}.
+ * <p>
+ * The generated index dispatches on identity of the fragment class, resolved via map filled with
+ * class literals, and creates the fragment via direct call to its public empty constructor, so no
+ * reflection is involved. Fragments requested just by name are resolved via map of runtime names
+ * of the same class literals, so the index works also in obfuscated builds.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class InstantiatorsIndexWriter {
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Package of the index.
+	 */
+	private final String packageName;
+
+	/**
+	 * Simple name of the index.
+	 */
+	private final String indexName;
+
+	/**
+	 * Builder for source code of the index.
+	 */
+	private final StringBuilder source = new StringBuilder(2048);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of InstantiatorsIndexWriter for index with the specified name.
+	 *
+	 * @param packageName Package of the index.
+	 * @param indexName   Simple name of the index.
+	 */
+	InstantiatorsIndexWriter(final String packageName, final String indexName) {
+		this.packageName = packageName;
+		this.indexName = indexName;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Generates source code of the index for the given <var>fragments</var> and writes it via the
+	 * given <var>filer</var>.
+	 *
+	 * @param filer               Filer used to create the source file.
+	 * @param fragments           Canonical names of the fragment classes.
+	 * @param originatingElements Elements from which are the fragment classes resolved.
+	 * @throws IOException If writing of the source file fails.
+	 */
+	void write(final Filer filer, final Collection<String> fragments, final Element... originatingElements) throws IOException {
+		final String source = generate(fragments);
+		try (Writer writer = filer.createSourceFile(packageName + "." + indexName, originatingElements).openWriter()) {
+			writer.write(source);
+		}
+	}
+
+	/**
+	 * Generates source code of the index for the given <var>fragments</var>.
+	 *
+	 * @param fragments Canonical names of the fragment classes.
+	 * @return Source code of the index.
+	 */
+	String generate(final Collection<String> fragments) {
+		source.setLength(0);
+		source.append("// Generated by ").append(FragmentsAnnotationProcessor.class.getSimpleName()).append(". Do not modify!\n");
+		source.append("package ").append(packageName).append(";\n\n");
+		source.append("import java.util.HashMap;\n");
+		source.append("import java.util.IdentityHashMap;\n");
+		source.append("import java.util.Map;\n\n");
+		source.append("import androidx.fragment.app.Fragment;\n\n");
+		source.append("/**\n");
+		source.append(" * Fragment instantiators index generated by the Fragments annotation processor.\n");
+		source.append(" */\n");
+		source.append("public final class ").append(indexName).append(" implements FragmentInstantiatorsIndex {\n\n");
+		source.append("\tprivate static final Map<Class<?>, Integer> CLASS_INDEXES = new IdentityHashMap<>(").append(fragments.size()).append(");\n");
+		source.append("\tprivate static final Map<String, Integer> NAME_INDEXES = new HashMap<>(").append(fragments.size()).append(");\n\n");
+		source.append("\tstatic {\n");
+		int classIndex = 0;
+		for (final String fragment : fragments) {
+			source.append("\t\tCLASS_INDEXES.put(").append(fragment).append(".class, ").append(classIndex++).append(");\n");
+		}
+		// Names are taken from the class literals at runtime, so they match also renamed classes.
+		source.append("\t\tfor (final Map.Entry<Class<?>, Integer> entry : CLASS_INDEXES.entrySet()) {\n");
+		source.append("\t\t\tNAME_INDEXES.put(entry.getKey().getName(), entry.getValue());\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n\n");
+		source.append("\t@Override public Fragment instantiate(final Class<?> fragmentClass) {\n");
+		source.append("\t\tfinal Integer classIndex = CLASS_INDEXES.get(fragmentClass);\n");
+		source.append("\t\treturn classIndex == null ? null : instantiate(classIndex);\n");
+		source.append("\t}\n\n");
+		source.append("\t@Override public Fragment instantiate(final String className) {\n");
+		source.append("\t\tfinal Integer classIndex = NAME_INDEXES.get(className);\n");
+		source.append("\t\treturn classIndex == null ? null : instantiate(classIndex);\n");
+		source.append("\t}\n\n");
+		source.append("\tprivate static Fragment instantiate(final int classIndex) {\n");
+		source.append("\t\tswitch (classIndex) {\n");
+		classIndex = 0;
+		for (final String fragment : fragments) {
+			source.append("\t\t\tcase ").append(classIndex++).append(":\n");
+			source.append("\t\t\t\treturn new ").append(fragment).append("();\n");
+		}
+		source.append("\t\t\tdefault:\n");
+		source.append("\t\t\t\treturn null;\n");
+		source.append("\t\t}\n");
+		source.append("\t}\n");
+		source.append("}\n");
+		return source.toString();
+	}
+}
@@ -0,0 +1,687 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Compiler which translates XML layout into Java statements that construct the equivalent view
+ * hierarchy directly, without the layout being parsed and inflated at runtime.
+ * <p>
+ * Only a conservative subset of layouts is supported: plain framework views and view groups (see
+ * {@link ViewType}) with a fixed set of attributes whose values are literals or references to
+ * resources that do not depend on a theme. Views are created via theirs {@code (Context)} constructor,
+ * so default styles from the theme are applied in the same way as when inflated. Whenever a layout
+ * contains anything else (custom views, styles, theme attributes, {@code <include>}, {@code <merge>},
+ * attributes from other than the android namespace, ...), {@link UnsupportedLayoutException} is
+ * thrown and the layout is left for inflation.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class LayoutCompiler {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Namespace of the Android framework attributes.
+	 */
+	static final String ANDROID_NAMESPACE = "http://schemas.android.com/apk/res/android";
+
+	/**
+	 * Namespace of design time attributes which are stripped from layouts when packaged.
+	 */
+	static final String TOOLS_NAMESPACE = "http://schemas.android.com/tools";
+
+	/**
+	 * Indentation of the generated statements.
+	 */
+	private static final String INDENT = "\t\t\t";
+
+	/**
+	 * Pattern for dimension values like {@code 16dp}.
+	 */
+	private static final Pattern DIMENSION = Pattern.compile("(-?\\d+(?:\\.\\d+)?)(dp|dip|sp|px)");
+
+	/**
+	 * Pattern for references to resources like {@code @+id/title} or {@code @android:drawable/icon}.
+	 */
+	private static final Pattern REFERENCE = Pattern.compile("@(\\+)?(android:)?([a-z]+)/([A-Za-z_][A-Za-z0-9_]*)");
+
+	/**
+	 * Pattern for color values like {@code #ff0000}.
+	 */
+	private static final Pattern COLOR = Pattern.compile("#([0-9a-fA-F]{3,4}|[0-9a-fA-F]{6}|[0-9a-fA-F]{8})");
+
+	/**
+	 * Pattern for literal texts that are compiled by the resource compiler without any changes, that
+	 * is, texts without escape sequences, quotes or whitespace that would be collapsed.
+	 */
+	private static final Pattern TEXT = Pattern.compile("[A-Za-z0-9.,:;!()\\-][A-Za-z0-9.,:;!?()\\-]*( [A-Za-z0-9.,:;!?()\\-]+)*");
+
+	/**
+	 * Pattern for integer values.
+	 */
+	private static final Pattern INTEGER = Pattern.compile("-?\\d+");
+
+	/**
+	 * Pattern for float values.
+	 */
+	private static final Pattern FLOAT = Pattern.compile("-?\\d+(?:\\.\\d+)?");
+
+	/**
+	 * Gravity flags mapped to names of theirs constants in {@code android.view.Gravity}.
+	 */
+	private static final Map<String, String> GRAVITY_FLAGS = new HashMap<>();
+
+	/**
+	 * Scale types mapped to names of theirs constants in {@code android.widget.ImageView.ScaleType}.
+	 */
+	private static final Map<String, String> SCALE_TYPES = new HashMap<>();
+
+	static {
+		GRAVITY_FLAGS.put("top", "TOP");
+		GRAVITY_FLAGS.put("bottom", "BOTTOM");
+		GRAVITY_FLAGS.put("left", "LEFT");
+		GRAVITY_FLAGS.put("right", "RIGHT");
+		GRAVITY_FLAGS.put("center_vertical", "CENTER_VERTICAL");
+		GRAVITY_FLAGS.put("fill_vertical", "FILL_VERTICAL");
+		GRAVITY_FLAGS.put("center_horizontal", "CENTER_HORIZONTAL");
+		GRAVITY_FLAGS.put("fill_horizontal", "FILL_HORIZONTAL");
+		GRAVITY_FLAGS.put("center", "CENTER");
+		GRAVITY_FLAGS.put("fill", "FILL");
+		GRAVITY_FLAGS.put("clip_vertical", "CLIP_VERTICAL");
+		GRAVITY_FLAGS.put("clip_horizontal", "CLIP_HORIZONTAL");
+		GRAVITY_FLAGS.put("start", "START");
+		GRAVITY_FLAGS.put("end", "END");
+		SCALE_TYPES.put("matrix", "MATRIX");
+		SCALE_TYPES.put("fitXY", "FIT_XY");
+		SCALE_TYPES.put("fitStart", "FIT_START");
+		SCALE_TYPES.put("fitCenter", "FIT_CENTER");
+		SCALE_TYPES.put("fitEnd", "FIT_END");
+		SCALE_TYPES.put("center", "CENTER");
+		SCALE_TYPES.put("centerCrop", "CENTER_CROP");
+		SCALE_TYPES.put("centerInside", "CENTER_INSIDE");
+	}
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Fully qualified name of the R class used to reference resources of the compiled layout.
+	 */
+	private final String resourcesClass;
+
+	/**
+	 * Builder for the generated statements.
+	 */
+	private final StringBuilder code = new StringBuilder(1024);
+
+	/**
+	 * Count of views declared so far, used to name theirs variables.
+	 */
+	private int viewCount;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of LayoutCompiler which references resources via the specified R class.
+	 *
+	 * @param resourcesClass Fully qualified name of the R class of the compiled layouts.
+	 */
+	LayoutCompiler(final String resourcesClass) {
+		this.resourcesClass = resourcesClass;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Compiles the given <var>layoutFile</var> into statements building its view hierarchy.
+	 * <p>
+	 * The generated statements expect {@code context}, {@code resources} and {@code metrics} variables
+	 * along with {@code dimension(DisplayMetrics, int, float)} method to be declared by the enclosing
+	 * code (see {@link BuildersIndexWriter}) and end with return statement of the root view.
+	 *
+	 * @param layoutFile The layout file to compile.
+	 * @return Generated statements.
+	 * @throws IOException                If reading of the layout file fails.
+	 * @throws UnsupportedLayoutException If the layout contains anything what is not supported.
+	 */
+	String compile(final File layoutFile) throws IOException {
+		code.setLength(0);
+		this.viewCount = 0;
+		final String rootName = appendView(parse(layoutFile).getDocumentElement(), null, null);
+		code.append(INDENT).append("return ").append(rootName).append(";\n");
+		return code.toString();
+	}
+
+	/**
+	 * Parses the given <var>layoutFile</var> into namespace aware document.
+	 */
+	private static Document parse(final File layoutFile) throws IOException {
+		final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+		factory.setNamespaceAware(true);
+		factory.setExpandEntityReferences(false);
+		try {
+			// Layouts never contain DTD declarations.
+			factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+			return factory.newDocumentBuilder().parse(layoutFile);
+		} catch (ParserConfigurationException | SAXException e) {
+			throw new UnsupportedLayoutException("Layout cannot be parsed. " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Appends statements building view for the given <var>element</var> along with all its children.
+	 *
+	 * @param element    The element of the view to build.
+	 * @param parentType Type of the parent view group. May be {@code null} for the root view.
+	 * @param parentName Name of the parent variable. May be {@code null} for the root view.
+	 * @return Name of variable of the view.
+	 */
+	private String appendView(final Element element, final ViewType parentType, final String parentName) {
+		final ViewType type = ViewType.forTag(element.getTagName());
+		if (type == null) {
+			throw new UnsupportedLayoutException("View <" + element.getTagName() + "> is not supported.");
+		}
+		final String name = "view" + viewCount++;
+		final Map<String, String> attributes = resolveAttributes(element);
+		code.append(INDENT).append("final ").append(type.className).append(" ").append(name);
+		code.append(" = new ").append(type.className).append("(context);\n");
+		appendViewAttributes(type, name, attributes);
+		final String paramsName = appendLayoutParams(parentType, name, attributes);
+		if (!attributes.isEmpty()) {
+			throw new UnsupportedLayoutException("Attribute android:" + attributes.keySet().iterator().next() + " of <" + element.getTagName() + "> is not supported.");
+		}
+		if (parentName == null) {
+			code.append(INDENT).append(name).append(".setLayoutParams(").append(paramsName).append(");\n");
+		}
+		final NodeList children = element.getChildNodes();
+		for (int i = 0; i < children.getLength(); i++) {
+			final Node child = children.item(i);
+			if (child.getNodeType() != Node.ELEMENT_NODE) {
+				continue;
+			}
+			if (type.layoutParamsClassName == null) {
+				throw new UnsupportedLayoutException("View <" + element.getTagName() + "> cannot have children.");
+			}
+			appendView((Element) child, type, name);
+		}
+		if (parentName != null) {
+			code.append(INDENT).append(parentName).append(".addView(").append(name).append(", ").append(paramsName).append(");\n");
+		}
+		return name;
+	}
+
+	/**
+	 * Resolves android attributes of the given <var>element</var> mapped to theirs local names.
+	 * Design time attributes are ignored.
+	 */
+	private static Map<String, String> resolveAttributes(final Element element) {
+		final NamedNodeMap nodes = element.getAttributes();
+		final Map<String, String> attributes = new LinkedHashMap<>(nodes.getLength());
+		for (int i = 0; i < nodes.getLength(); i++) {
+			final Attr attribute = (Attr) nodes.item(i);
+			final String namespace = attribute.getNamespaceURI();
+			if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(namespace) || TOOLS_NAMESPACE.equals(namespace)) {
+				continue;
+			}
+			if (!ANDROID_NAMESPACE.equals(namespace)) {
+				throw new UnsupportedLayoutException("Attribute " + attribute.getName() + " of <" + element.getTagName() + "> is not supported.");
+			}
+			attributes.put(attribute.getLocalName(), attribute.getValue());
+		}
+		return attributes;
+	}
+
+	/**
+	 * Appends statements applying all supported attributes for the view of the specified <var>type</var>.
+	 * Each applied attribute is removed from the given <var>attributes</var>.
+	 * <p>
+	 * Background is applied before padding as setting of a background may change padding of a view.
+	 */
+	private void appendViewAttributes(final ViewType type, final String name, final Map<String, String> attributes) {
+		final String id = attributes.remove("id");
+		if (id != null) {
+			appendCall(name, "setId", reference(id, "id"));
+		}
+		final String background = attributes.remove("background");
+		if (background != null) {
+			if (COLOR.matcher(background).matches()) {
+				appendCall(name, "setBackgroundColor", color(background));
+			} else {
+				appendCall(name, "setBackgroundResource", reference(background, "drawable", "color", "mipmap"));
+			}
+		}
+		appendPadding(name, attributes);
+		final String visibility = attributes.remove("visibility");
+		if (visibility != null) {
+			appendCall(name, "setVisibility", "android.view.View." + constant(visibility, "visible", "invisible", "gone"));
+		}
+		appendBooleanCall(name, "setEnabled", attributes.remove("enabled"));
+		appendBooleanCall(name, "setClickable", attributes.remove("clickable"));
+		final String alpha = attributes.remove("alpha");
+		if (alpha != null) {
+			appendCall(name, "setAlpha", floatValue(alpha));
+		}
+		final String contentDescription = attributes.remove("contentDescription");
+		if (contentDescription != null) {
+			appendCall(name, "setContentDescription", text(contentDescription, true));
+		}
+		switch (type) {
+			case LINEAR_LAYOUT:
+				final String orientation = attributes.remove("orientation");
+				if (orientation != null) {
+					appendCall(name, "setOrientation", "android.widget.LinearLayout." + constant(orientation, "horizontal", "vertical"));
+				}
+				appendGravity(name, attributes.remove("gravity"));
+				final String weightSum = attributes.remove("weightSum");
+				if (weightSum != null) {
+					appendCall(name, "setWeightSum", floatValue(weightSum));
+				}
+				appendBooleanCall(name, "setBaselineAligned", attributes.remove("baselineAligned"));
+				break;
+			case TEXT_VIEW:
+			case BUTTON:
+			case EDIT_TEXT:
+				final String text = attributes.remove("text");
+				if (text != null) {
+					appendCall(name, "setText", text(text, false));
+				}
+				final String hint = attributes.remove("hint");
+				if (hint != null) {
+					appendCall(name, "setHint", text(hint, false));
+				}
+				final String textSize = attributes.remove("textSize");
+				if (textSize != null) {
+					appendCall(name, "setTextSize", "TypedValue.COMPLEX_UNIT_PX, " + dimension(textSize, false));
+				}
+				final String textColor = attributes.remove("textColor");
+				if (textColor != null) {
+					appendCall(name, "setTextColor", color(textColor));
+				}
+				appendGravity(name, attributes.remove("gravity"));
+				final String maxLines = attributes.remove("maxLines");
+				if (maxLines != null) {
+					appendCall(name, "setMaxLines", integerValue(maxLines));
+				}
+				break;
+			case IMAGE_VIEW:
+			case IMAGE_BUTTON:
+				final String src = attributes.remove("src");
+				if (src != null) {
+					appendCall(name, "setImageResource", reference(src, "drawable", "mipmap"));
+				}
+				final String scaleType = attributes.remove("scaleType");
+				if (scaleType != null) {
+					if (!SCALE_TYPES.containsKey(scaleType)) {
+						throw new UnsupportedLayoutException("Scale type " + scaleType + " is not supported.");
+					}
+					appendCall(name, "setScaleType", "android.widget.ImageView.ScaleType." + SCALE_TYPES.get(scaleType));
+				}
+				appendBooleanCall(name, "setAdjustViewBounds", attributes.remove("adjustViewBounds"));
+				break;
+			case PROGRESS_BAR:
+				appendBooleanCall(name, "setIndeterminate", attributes.remove("indeterminate"));
+				final String max = attributes.remove("max");
+				if (max != null) {
+					appendCall(name, "setMax", integerValue(max));
+				}
+				final String progress = attributes.remove("progress");
+				if (progress != null) {
+					appendCall(name, "setProgress", integerValue(progress));
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Appends statement applying padding attributes. Padding specified via {@code padding} attribute
+	 * takes precedence over padding specified for a particular side, the same as for inflated views.
+	 */
+	private void appendPadding(final String name, final Map<String, String> attributes) {
+		final String padding = attributes.remove("padding");
+		final String paddingLeft = attributes.remove("paddingLeft");
+		final String paddingTop = attributes.remove("paddingTop");
+		final String paddingRight = attributes.remove("paddingRight");
+		final String paddingBottom = attributes.remove("paddingBottom");
+		if (padding != null) {
+			final String paddingName = name + "Padding";
+			code.append(INDENT).append("final int ").append(paddingName).append(" = ").append(dimension(padding, false)).append(";\n");
+			appendCall(name, "setPadding", paddingName + ", " + paddingName + ", " + paddingName + ", " + paddingName);
+		} else if (paddingLeft != null || paddingTop != null || paddingRight != null || paddingBottom != null) {
+			appendCall(name, "setPadding",
+					(paddingLeft == null ? name + ".getPaddingLeft()" : dimension(paddingLeft, false)) + ", " +
+							(paddingTop == null ? name + ".getPaddingTop()" : dimension(paddingTop, false)) + ", " +
+							(paddingRight == null ? name + ".getPaddingRight()" : dimension(paddingRight, false)) + ", " +
+							(paddingBottom == null ? name + ".getPaddingBottom()" : dimension(paddingBottom, false))
+			);
+		}
+	}
+
+	/**
+	 * Appends statements creating layout params for the view with the specified <var>name</var>.
+	 * Each applied layout attribute is removed from the given <var>attributes</var>.
+	 *
+	 * @return Name of variable of the layout params.
+	 */
+	private String appendLayoutParams(final ViewType parentType, final String name, final Map<String, String> attributes) {
+		final String width = attributes.remove("layout_width");
+		final String height = attributes.remove("layout_height");
+		if (width == null || height == null) {
+			throw new UnsupportedLayoutException("View without layout_width or layout_height is not supported.");
+		}
+		final String margin = attributes.remove("layout_margin");
+		final String[] margins = {
+				attributes.remove("layout_marginLeft"),
+				attributes.remove("layout_marginTop"),
+				attributes.remove("layout_marginRight"),
+				attributes.remove("layout_marginBottom")
+		};
+		final boolean hasMargins = margin != null || margins[0] != null || margins[1] != null || margins[2] != null || margins[3] != null;
+		final String paramsClassName;
+		if (parentType == null) {
+			// Root view's params are converted by the fragment's container whenever the view is added
+			// into it, so only params of the base classes are used for it.
+			paramsClassName = hasMargins ? "ViewGroup.MarginLayoutParams" : "ViewGroup.LayoutParams";
+		} else {
+			paramsClassName = parentType.layoutParamsClassName;
+		}
+		final String paramsName = name + "Params";
+		code.append(INDENT).append("final ").append(paramsClassName).append(" ").append(paramsName);
+		code.append(" = new ").append(paramsClassName).append("(").append(dimension(width, true)).append(", ").append(dimension(height, true)).append(");\n");
+		if (hasMargins) {
+			final String[] fields = {"leftMargin", "topMargin", "rightMargin", "bottomMargin"};
+			for (int i = 0; i < fields.length; i++) {
+				final String value = margin == null ? margins[i] : margin;
+				if (value != null) {
+					code.append(INDENT).append(paramsName).append(".").append(fields[i]).append(" = ").append(dimension(value, false)).append(";\n");
+				}
+			}
+		}
+		final String gravity = attributes.remove("layout_gravity");
+		if (gravity != null) {
+			if (parentType == null) {
+				throw new UnsupportedLayoutException("Attribute android:layout_gravity of root view is not supported.");
+			}
+			code.append(INDENT).append(paramsName).append(".gravity = ").append(gravity(gravity)).append(";\n");
+		}
+		final String weight = attributes.remove("layout_weight");
+		if (weight != null) {
+			if (parentType != ViewType.LINEAR_LAYOUT) {
+				throw new UnsupportedLayoutException("Attribute android:layout_weight is supported only for children of LinearLayout.");
+			}
+			code.append(INDENT).append(paramsName).append(".weight = ").append(floatValue(weight)).append(";\n");
+		}
+		return paramsName;
+	}
+
+	private void appendGravity(final String name, final String gravity) {
+		if (gravity != null) {
+			appendCall(name, "setGravity", gravity(gravity));
+		}
+	}
+
+	private void appendBooleanCall(final String name, final String method, final String value) {
+		if (value != null) {
+			if (!"true".equals(value) && !"false".equals(value)) {
+				throw new UnsupportedLayoutException("Value " + value + " is not a boolean literal.");
+			}
+			appendCall(name, method, value);
+		}
+	}
+
+	private void appendCall(final String name, final String method, final String arguments) {
+		code.append(INDENT).append(name).append(".").append(method).append("(").append(arguments).append(");\n");
+	}
+
+	/**
+	 * Creates expression for the given dimension <var>value</var> in pixels, the same as resolved
+	 * by {@code TypedArray.getDimensionPixelSize(int, int)}.
+	 *
+	 * @param value        The dimension value.
+	 * @param layoutValues {@code True} if also {@code match_parent} and {@code wrap_content} are
+	 *                     accepted, {@code false} otherwise.
+	 */
+	private String dimension(final String value, final boolean layoutValues) {
+		if (layoutValues) {
+			switch (value) {
+				case "match_parent":
+				case "fill_parent":
+					return "ViewGroup.LayoutParams.MATCH_PARENT";
+				case "wrap_content":
+					return "ViewGroup.LayoutParams.WRAP_CONTENT";
+				default:
+					break;
+			}
+		}
+		final Matcher matcher = DIMENSION.matcher(value);
+		if (matcher.matches()) {
+			final String unit;
+			switch (matcher.group(2)) {
+				case "sp":
+					unit = "COMPLEX_UNIT_SP";
+					break;
+				case "px":
+					unit = "COMPLEX_UNIT_PX";
+					break;
+				default:
+					unit = "COMPLEX_UNIT_DIP";
+					break;
+			}
+			return "dimension(metrics, TypedValue." + unit + ", " + floatValue(matcher.group(1)) + ")";
+		}
+		return "resources.getDimensionPixelSize(" + reference(value, "dimen") + ")";
+	}
+
+	/**
+	 * Creates expression for the given <var>text</var> value which is either a literal or a reference
+	 * to string resource.
+	 *
+	 * @param asText {@code True} to resolve referenced string resource, {@code false} to pass just
+	 *               its resource id.
+	 */
+	private String text(final String text, final boolean asText) {
+		if (TEXT.matcher(text).matches()) {
+			return HandlersIndexWriter.stringLiteral(text);
+		}
+		final String reference = reference(text, "string");
+		return asText ? "resources.getText(" + reference + ")" : reference;
+	}
+
+	/**
+	 * Creates expression referencing the resource specified by the given <var>value</var>.
+	 *
+	 * @param value The reference value like {@code @string/title}.
+	 * @param types Types of resources which may be referenced.
+	 */
+	private String reference(final String value, final String... types) {
+		final Matcher matcher = REFERENCE.matcher(value);
+		if (matcher.matches()) {
+			final String type = matcher.group(3);
+			for (final String acceptedType : types) {
+				if (acceptedType.equals(type) && (matcher.group(1) == null || "id".equals(type))) {
+					return (matcher.group(2) == null ? resourcesClass : "android.R") + "." + type + "." + matcher.group(4);
+				}
+			}
+		}
+		throw new UnsupportedLayoutException("Value " + value + " is not supported.");
+	}
+
+	/**
+	 * Creates expression for the given <var>gravity</var> flags.
+	 */
+	private static String gravity(final String gravity) {
+		final StringBuilder expression = new StringBuilder();
+		for (final String flag : gravity.split("\\|")) {
+			final String constant = GRAVITY_FLAGS.get(flag.trim());
+			if (constant == null) {
+				throw new UnsupportedLayoutException("Gravity " + gravity + " is not supported.");
+			}
+			if (expression.length() > 0) {
+				expression.append(" | ");
+			}
+			expression.append("android.view.Gravity.").append(constant);
+		}
+		return expression.toString();
+	}
+
+	/**
+	 * Returns name of constant for the given enum <var>value</var> if it is one of the specified
+	 * <var>values</var>.
+	 */
+	private static String constant(final String value, final String... values) {
+		for (final String acceptedValue : values) {
+			if (acceptedValue.equals(value)) {
+				return value.toUpperCase(Locale.ROOT);
+			}
+		}
+		throw new UnsupportedLayoutException("Value " + value + " is not supported.");
+	}
+
+	/**
+	 * Creates int literal for the given color <var>value</var> in one of {@code #RGB}, {@code #ARGB},
+	 * {@code #RRGGBB} or {@code #AARRGGBB} formats.
+	 */
+	static String color(final String value) {
+		if (!COLOR.matcher(value).matches()) {
+			throw new UnsupportedLayoutException("Color " + value + " is not supported.");
+		}
+		String digits = value.substring(1).toLowerCase(Locale.ROOT);
+		if (digits.length() <= 4) {
+			final StringBuilder expanded = new StringBuilder(8);
+			for (int i = 0; i < digits.length(); i++) {
+				expanded.append(digits.charAt(i)).append(digits.charAt(i));
+			}
+			digits = expanded.toString();
+		}
+		return "0x" + (digits.length() == 6 ? "ff" + digits : digits);
+	}
+
+	private static String integerValue(final String value) {
+		if (!INTEGER.matcher(value).matches()) {
+			throw new UnsupportedLayoutException("Value " + value + " is not an integer literal.");
+		}
+		return Integer.toString(Integer.parseInt(value));
+	}
+
+	private static String floatValue(final String value) {
+		if (!FLOAT.matcher(value).matches()) {
+			throw new UnsupportedLayoutException("Value " + value + " is not a float literal.");
+		}
+		return Float.parseFloat(value) + "f";
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Enumeration of views which are supported by the compiler.
+	 */
+	enum ViewType {
+
+		VIEW("android.view.View", null),
+		SPACE("android.widget.Space", null),
+		FRAME_LAYOUT("android.widget.FrameLayout", "android.widget.FrameLayout.LayoutParams"),
+		LINEAR_LAYOUT("android.widget.LinearLayout", "android.widget.LinearLayout.LayoutParams"),
+		SCROLL_VIEW("android.widget.ScrollView", "android.widget.FrameLayout.LayoutParams"),
+		HORIZONTAL_SCROLL_VIEW("android.widget.HorizontalScrollView", "android.widget.FrameLayout.LayoutParams"),
+		TEXT_VIEW("android.widget.TextView", null),
+		BUTTON("android.widget.Button", null),
+		EDIT_TEXT("android.widget.EditText", null),
+		IMAGE_VIEW("android.widget.ImageView", null),
+		IMAGE_BUTTON("android.widget.ImageButton", null),
+		PROGRESS_BAR("android.widget.ProgressBar", null);
+
+		/**
+		 * Fully qualified name of the view class.
+		 */
+		final String className;
+
+		/**
+		 * Fully qualified name of the layout params class created for children of the view. Is
+		 * {@code null} if the view cannot have children.
+		 */
+		final String layoutParamsClassName;
+
+		/**
+		 * Creates a new ViewType with the specified class names.
+		 */
+		ViewType(final String className, final String layoutParamsClassName) {
+			this.className = className;
+			this.layoutParamsClassName = layoutParamsClassName;
+		}
+
+		/**
+		 * Returns type of the view declared in layout via the given <var>tag</var>.
+		 *
+		 * @param tag The tag of the view.
+		 * @return The corresponding type or {@code null} if there is no such view supported.
+		 */
+		static ViewType forTag(final String tag) {
+			for (final ViewType type : values()) {
+				if (type.className.endsWith("." + tag)) {
+					return type;
+				}
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Exception thrown whenever a layout contains anything what cannot be compiled.
+	 */
+	static final class UnsupportedLayoutException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		UnsupportedLayoutException(final String message) {
+			super(message);
+		}
+	}
+}
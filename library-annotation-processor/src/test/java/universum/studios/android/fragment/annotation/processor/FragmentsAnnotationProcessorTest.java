@@ -0,0 +1,509 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class FragmentsAnnotationProcessorTest {
+
+	private static final String INDEX = "universum.studios.android.fragment.annotation.handler.GeneratedAnnotationHandlersIndex";
+	private static final String BUILDERS_INDEX = "universum.studios.android.fragment.GeneratedContentViewBuildersIndex";
+	private static final String DISPATCHERS_INDEX = "universum.studios.android.fragment.GeneratedViewClickDispatchersIndex";
+	private static final String INSTANTIATORS_INDEX = "universum.studios.android.fragment.GeneratedFragmentInstantiatorsIndex";
+
+	@Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test public void testStringLiteral() {
+		// Act + Assert:
+		org.hamcrest.MatcherAssert.assertThat(HandlersIndexWriter.stringLiteral("say \"hi\"\n\\"), is("\"say \\\"hi\\\"\\n\\\\\""));
+	}
+
+	@Test public void testGenerateFragmentHandler() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"@ContentView(value = 10, attachToContainer = true)",
+				"public class HomeFragment extends BaseFragment {}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.HomeFragment.class, 0);");
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"new BaseAnnotationHandlers.FragmentHandler(annotatedClass, 10, true, -1, false, false)"
+		);
+	}
+
+	@Test public void testGenerateFragmentHandlerWithInheritedAnnotation() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"public class HomeFragment {",
+				"	@ContentView(10) public static abstract class Parent extends BaseFragment {}",
+				"	public static class Child extends Parent {}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.HomeFragment.Child.class, 0);");
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().doesNotContain("com.example.HomeFragment.Parent.class");
+	}
+
+	@Test public void testGenerateWebFragmentHandler() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.ContentFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.WebFragment;",
+				"import universum.studios.android.fragment.annotation.MenuOptions;",
+				"import universum.studios.android.fragment.annotation.WebContent;",
+				"@MenuOptions(value = 7, clear = true)",
+				"@WebContent(\"file:///android_asset/content.html\")",
+				"public class ContentFragment extends WebFragment {}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"new WebAnnotationHandlers.WebFragmentHandler(annotatedClass, 0, false, 0, false, false, -1, -1, -1, -1, -1, true, true, 7, 0, 0, -1, \"file:///android_asset/content.html\")"
+		);
+	}
+
+	@Test public void testGenerateFactoryHandler() {
+		// Arrange:
+		final JavaFileObject factory = JavaFileObjects.forSourceLines(
+				"com.example.Fragments",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.FactoryFragment;",
+				"import universum.studios.android.fragment.annotation.FactoryFragments;",
+				"import universum.studios.android.fragment.manage.BaseFragmentFactory;",
+				"@FactoryFragments(1)",
+				"public class Fragments extends BaseFragmentFactory {",
+				"	@FactoryFragment(value = Home.class, taggedName = \"home\") private static final int HOME = 2;",
+				"	public static class Home extends BaseFragment {}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(factory);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"items.put(1, new FragmentItem(1, androidx.fragment.app.Fragment.class, tagPrefix + \"1\"));"
+		);
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"items.put(2, new FragmentItem(2, com.example.Fragments.Home.class, tagPrefix + \"home\", instantiator));"
+		);
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"final FragmentItem.Instantiator instantiator = new FactoryInstantiator0();"
+		);
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"case 2:\n\t\t\t\t\treturn new com.example.Fragments.Home();"
+		);
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().doesNotContain("case 1:\n");
+	}
+
+	@Test public void testGenerateFactoryHandlerWithNotInstantiableFragments() {
+		// Arrange:
+		final JavaFileObject factory = JavaFileObjects.forSourceLines(
+				"com.example.Fragments",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.FactoryFragment;",
+				"import universum.studios.android.fragment.manage.BaseFragmentFactory;",
+				"public class Fragments extends BaseFragmentFactory {",
+				"	@FactoryFragment(Abstract.class) static final int ABSTRACT = 1;",
+				"	@FactoryFragment(WithoutEmptyConstructor.class) static final int WITHOUT_EMPTY_CONSTRUCTOR = 2;",
+				"	public static abstract class Abstract extends BaseFragment {}",
+				"	public static class WithoutEmptyConstructor extends BaseFragment {",
+				"		public WithoutEmptyConstructor(int value) {}",
+				"	}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(factory);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"items.put(1, new FragmentItem(1, com.example.Fragments.Abstract.class, tagPrefix + \"1\"));"
+		);
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains(
+				"items.put(2, new FragmentItem(2, com.example.Fragments.WithoutEmptyConstructor.class, tagPrefix + \"2\"));"
+		);
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().doesNotContain("FactoryInstantiator");
+	}
+
+	@Test public void testSkipFactoryWithNotConstantId() {
+		// Arrange:
+		final JavaFileObject factory = JavaFileObjects.forSourceLines(
+				"com.example.Fragments",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.FactoryFragment;",
+				"import universum.studios.android.fragment.manage.BaseFragmentFactory;",
+				"public class Fragments extends BaseFragmentFactory {",
+				"	@FactoryFragment(Home.class) static int HOME = Integer.parseInt(\"2\");",
+				"	public static class Home extends BaseFragment {}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(factory);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().doesNotContain("com.example.Fragments.class");
+		assertThat(compilation).hadNoteContaining("will be instantiated via reflection");
+	}
+
+	@Test public void testSkipNotPublicFragment() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"public class HomeFragment extends BaseFragment {",
+				"	@ContentView(10) static class Hidden extends BaseFragment {}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.HomeFragment.class, 0);");
+		assertThat(compilation).generatedSourceFile(INDEX).contentsAsUtf8String().doesNotContain("Hidden");
+		assertThat(compilation).hadNoteContaining("Class is not public.");
+	}
+
+	@Test public void testGenerateIndexWithCustomName() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"public class HomeFragment extends universum.studios.android.fragment.BaseFragment {}"
+		);
+		// Act:
+		final Compilation compilation = javac()
+				.withProcessors(new FragmentsAnnotationProcessor())
+				.withOptions("-A" + FragmentsAnnotationProcessor.OPTION_INDEX_NAME + "=FeatureIndex", "-proc:only")
+				.compile(sources(fragment));
+		// Assert:
+		assertThat(compilation).generatedSourceFile("universum.studios.android.fragment.annotation.handler.FeatureIndex").isNotNull();
+	}
+
+	@Test public void testGenerateContentViewBuilder() throws Exception {
+		// Arrange:
+		final File resDir = createLayout("layout", "home",
+				"<LinearLayout xmlns:android=\"http://schemas.android.com/apk/res/android\"",
+				"	xmlns:tools=\"http://schemas.android.com/tools\"",
+				"	android:layout_width=\"match_parent\"",
+				"	android:layout_height=\"match_parent\"",
+				"	android:orientation=\"vertical\"",
+				"	tools:context=\".HomeFragment\">",
+				"	<TextView",
+				"		android:id=\"@+id/title\"",
+				"		android:layout_width=\"wrap_content\"",
+				"		android:layout_height=\"wrap_content\"",
+				"		android:layout_gravity=\"center_horizontal\"",
+				"		android:text=\"@string/title\"/>",
+				"</LinearLayout>"
+		);
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"@ContentView(R.layout.home)",
+				"public class HomeFragment extends BaseFragment {}"
+		);
+		// Act:
+		final Compilation compilation = compileWithLayouts(resDir, fragment);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(BUILDERS_INDEX).contentsAsUtf8String().contains(
+				"builders.put(com.example.R.layout.home, new Builder0());"
+		);
+		assertThat(compilation).generatedSourceFile(BUILDERS_INDEX).contentsAsUtf8String().contains(
+				"final android.widget.LinearLayout view0 = new android.widget.LinearLayout(context);\n" +
+						"\t\t\tview0.setOrientation(android.widget.LinearLayout.VERTICAL);\n" +
+						"\t\t\tfinal ViewGroup.LayoutParams view0Params = new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);\n" +
+						"\t\t\tview0.setLayoutParams(view0Params);\n" +
+						"\t\t\tfinal android.widget.TextView view1 = new android.widget.TextView(context);\n" +
+						"\t\t\tview1.setId(com.example.R.id.title);\n" +
+						"\t\t\tview1.setText(com.example.R.string.title);\n" +
+						"\t\t\tfinal android.widget.LinearLayout.LayoutParams view1Params = new android.widget.LinearLayout.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT);\n" +
+						"\t\t\tview1Params.gravity = android.view.Gravity.CENTER_HORIZONTAL;\n" +
+						"\t\t\tview0.addView(view1, view1Params);\n" +
+						"\t\t\treturn view0;"
+		);
+	}
+
+	@Test public void testSkipContentViewBuilderForNotSupportedLayout() throws Exception {
+		// Arrange:
+		final File resDir = createLayout("layout", "home",
+				"<com.example.CustomView xmlns:android=\"http://schemas.android.com/apk/res/android\"",
+				"	android:layout_width=\"match_parent\"",
+				"	android:layout_height=\"match_parent\"/>"
+		);
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"@ContentView(R.layout.home)",
+				"public class HomeFragment extends BaseFragment {}"
+		);
+		// Act:
+		final Compilation compilation = compileWithLayouts(resDir, fragment);
+		// Assert:
+		assertThat(compilation).hadNoteContaining("Layout com.example.R.layout.home will be inflated. View <com.example.CustomView> is not supported.");
+		org.hamcrest.MatcherAssert.assertThat(compilation.generatedSourceFile(BUILDERS_INDEX).isPresent(), is(false));
+	}
+
+	@Test public void testSkipContentViewBuilderForLayoutWithConfigurationVariant() throws Exception {
+		// Arrange:
+		final File resDir = createLayout("layout", "home",
+				"<View xmlns:android=\"http://schemas.android.com/apk/res/android\"",
+				"	android:layout_width=\"match_parent\"",
+				"	android:layout_height=\"match_parent\"/>"
+		);
+		createLayout("layout-land", "home", "<View/>");
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"@ContentView(R.layout.home)",
+				"public class HomeFragment extends BaseFragment {}"
+		);
+		// Act:
+		final Compilation compilation = compileWithLayouts(resDir, fragment);
+		// Assert:
+		assertThat(compilation).hadNoteContaining("Layout has configuration specific variant in layout-land.");
+		org.hamcrest.MatcherAssert.assertThat(compilation.generatedSourceFile(BUILDERS_INDEX).isPresent(), is(false));
+	}
+
+	@Test public void testSkipContentViewBuilderForContentViewAttachedToContainer() throws Exception {
+		// Arrange:
+		final File resDir = createLayout("layout", "home",
+				"<View xmlns:android=\"http://schemas.android.com/apk/res/android\"",
+				"	android:layout_width=\"match_parent\"",
+				"	android:layout_height=\"match_parent\"/>"
+		);
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.ContentView;",
+				"@ContentView(value = R.layout.home, attachToContainer = true)",
+				"public class HomeFragment extends BaseFragment {}"
+		);
+		// Act:
+		final Compilation compilation = compileWithLayouts(resDir, fragment);
+		// Assert:
+		org.hamcrest.MatcherAssert.assertThat(compilation.generatedSourceFile(BUILDERS_INDEX).isPresent(), is(false));
+	}
+
+	@Test public void testGenerateFragmentInstantiators() {
+		// Arrange:
+		final JavaFileObject factory = JavaFileObjects.forSourceLines(
+				"com.example.Fragments",
+				"package com.example;",
+				"import androidx.fragment.app.Fragment;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.FactoryFragment;",
+				"import universum.studios.android.fragment.manage.BaseFragmentFactory;",
+				"public class Fragments extends BaseFragmentFactory {",
+				"	@FactoryFragment(Plain.class) private static final int PLAIN = 1;",
+				"	public static class Plain extends Fragment {}",
+				"	public static class Home extends BaseFragment {}",
+				"	static class Hidden extends BaseFragment {}",
+				"	public static class WithArguments extends BaseFragment {",
+				"		public WithArguments(int argument) {}",
+				"	}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(factory);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.Fragments.Home.class, ");
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().contains("return new com.example.Fragments.Home();");
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.Fragments.Plain.class, ");
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().contains("return new com.example.Fragments.Plain();");
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().contains(
+				"NAME_INDEXES.put(entry.getKey().getName(), entry.getValue());"
+		);
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().doesNotContain("Hidden");
+		assertThat(compilation).generatedSourceFile(INSTANTIATORS_INDEX).contentsAsUtf8String().doesNotContain("WithArguments");
+	}
+
+	@Test public void testGenerateViewClickDispatcher() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import android.view.View;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.OnViewClick;",
+				"public class HomeFragment extends BaseFragment {",
+				"	@OnViewClick({1, 2}) public void onButtonClick(View view) {}",
+				"	@OnViewClick(3) public boolean onTitleClick() { return false; }",
+				"	public static class Child extends HomeFragment {",
+				"		@OnViewClick(2) public void onChildButtonClick() {}",
+				"	}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).generatedSourceFile(DISPATCHERS_INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.HomeFragment.class, 0);");
+		assertThat(compilation).generatedSourceFile(DISPATCHERS_INDEX).contentsAsUtf8String().contains("CLASS_INDEXES.put(com.example.HomeFragment.Child.class, 1);");
+		assertThat(compilation).generatedSourceFile(DISPATCHERS_INDEX).contentsAsUtf8String().contains(
+				"final com.example.HomeFragment.Child target = (com.example.HomeFragment.Child) fragment;\n" +
+						"\t\t\tswitch (view.getId()) {\n" +
+						"\t\t\t\tcase 2:\n" +
+						"\t\t\t\t\ttarget.onChildButtonClick();\n" +
+						"\t\t\t\t\treturn true;\n" +
+						"\t\t\t\tcase 1:\n" +
+						"\t\t\t\t\ttarget.onButtonClick(view);\n" +
+						"\t\t\t\t\treturn true;\n" +
+						"\t\t\t\tcase 3:\n" +
+						"\t\t\t\t\treturn target.onTitleClick();\n"
+		);
+	}
+
+	@Test public void testSkipViewClickDispatcherForNotPublicMethod() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.OnViewClick;",
+				"public class HomeFragment extends BaseFragment {",
+				"	@OnViewClick(1) void onButtonClick() {}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).hadNoteContaining("Method onButtonClick is not public.");
+		org.hamcrest.MatcherAssert.assertThat(compilation.generatedSourceFile(DISPATCHERS_INDEX).isPresent(), is(false));
+	}
+
+	@Test public void testViewClickMethodWithInvalidSignature() {
+		// Arrange:
+		final JavaFileObject fragment = JavaFileObjects.forSourceLines(
+				"com.example.HomeFragment",
+				"package com.example;",
+				"import universum.studios.android.fragment.BaseFragment;",
+				"import universum.studios.android.fragment.annotation.OnViewClick;",
+				"public class HomeFragment extends BaseFragment {",
+				"	@OnViewClick(1) public void onButtonClick(int id) {}",
+				"}"
+		);
+		// Act:
+		final Compilation compilation = compile(fragment);
+		// Assert:
+		assertThat(compilation).hadErrorContaining("must have either no parameter or a single View parameter");
+	}
+
+	private File createLayout(final String directory, final String name, final String... lines) throws IOException {
+		final File resDir = new File(temporaryFolder.getRoot(), "res");
+		final File layoutDir = new File(resDir, directory);
+		if (!layoutDir.isDirectory() && !layoutDir.mkdirs()) {
+			throw new IOException("Failed to create directory " + layoutDir);
+		}
+		Files.write(new File(layoutDir, name + ".xml").toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+		return resDir;
+	}
+
+	private static Compilation compileWithLayouts(final File resDir, final JavaFileObject source) {
+		final List<JavaFileObject> sources = sources(source);
+		sources.add(JavaFileObjects.forSourceString("com.example.R",
+				"package com.example; public final class R {" +
+						" public static final class id { public static final int title = 1; }" +
+						" public static final class layout { public static final int home = 2; }" +
+						" public static final class string { public static final int title = 3; }" +
+						" }"
+		));
+		return javac()
+				.withProcessors(new FragmentsAnnotationProcessor())
+				.withOptions("-A" + FragmentsAnnotationProcessor.OPTION_RES_DIRS + "=" + resDir.getAbsolutePath(), "-proc:only")
+				.compile(sources);
+	}
+
+	private static Compilation compile(final JavaFileObject source) {
+		// Only processing is performed as the library classes are available only as stubs.
+		return javac().withProcessors(new FragmentsAnnotationProcessor()).withOptions("-proc:only").compile(sources(source));
+	}
+
+	private static List<JavaFileObject> sources(final JavaFileObject source) {
+		final List<JavaFileObject> sources = new ArrayList<>(Arrays.asList(
+				JavaFileObjects.forSourceString("androidx.fragment.app.Fragment", "package androidx.fragment.app; public class Fragment {}"),
+				JavaFileObjects.forSourceString(FragmentsAnnotationProcessor.VIEW, "package android.view; public class View { public int getId() { return 0; } }"),
+				JavaFileObjects.forSourceString(FragmentsAnnotationProcessor.BASE_FRAGMENT, "package universum.studios.android.fragment; public abstract class BaseFragment extends androidx.fragment.app.Fragment {}"),
+				JavaFileObjects.forSourceString(FragmentsAnnotationProcessor.ACTION_BAR_FRAGMENT, "package universum.studios.android.fragment; public abstract class ActionBarFragment extends BaseFragment {}"),
+				JavaFileObjects.forSourceString(FragmentsAnnotationProcessor.WEB_FRAGMENT, "package universum.studios.android.fragment; public abstract class WebFragment extends ActionBarFragment {}"),
+				JavaFileObjects.forSourceString(FragmentsAnnotationProcessor.BASE_FRAGMENT_FACTORY, "package universum.studios.android.fragment.manage; public abstract class BaseFragmentFactory {}"),
+				annotation(FragmentsAnnotationProcessor.CONTENT_VIEW, true, "int value(); boolean attachToContainer() default false; int background() default -1; boolean async() default false; boolean lazy() default false;"),
+				annotation(FragmentsAnnotationProcessor.ACTION_BAR_OPTIONS, true, "int title() default -1; int icon() default -1; int homeAsUp() default -1; int homeAsUpVectorIndicator() default -1; int homeAsUpIndicator() default -1;"),
+				annotation(FragmentsAnnotationProcessor.MENU_OPTIONS, true, "int value() default 0; boolean clear() default false; int flags() default 0;"),
+				annotation(FragmentsAnnotationProcessor.ACTION_MODE_OPTIONS, true, "int menu() default 0;"),
+				annotation(FragmentsAnnotationProcessor.WEB_CONTENT, false, "String value() default \"\"; int valueRes() default -1;"),
+				annotation(FragmentsAnnotationProcessor.FACTORY_FRAGMENTS, true, "int[] value();"),
+				annotation(FragmentsAnnotationProcessor.ON_VIEW_CLICK, false, "int[] value();"),
+				annotation(FragmentsAnnotationProcessor.FACTORY_FRAGMENT, false, "Class<? extends androidx.fragment.app.Fragment> value() default androidx.fragment.app.Fragment.class; String taggedName() default \"\";")
+		));
+		sources.add(source);
+		return sources;
+	}
+
+	private static JavaFileObject annotation(final String name, final boolean inherited, final String body) {
+		final int separator = name.lastIndexOf('.');
+		return JavaFileObjects.forSourceString(name,
+				"package " + name.substring(0, separator) + ";" +
+						(inherited ? "@java.lang.annotation.Inherited " : "") +
+						"@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME) " +
+						"public @interface " + name.substring(separator + 1) + " { " + body + " }"
+		);
+	}
+}
@@ -0,0 +1,365 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.util.AttributeSet;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Inflater which inflates content views of fragments on a background thread and delivers the inflated
+ * views on the main thread.
+ * <p>
+ * Each inflation is performed via a basic inflater created for the context of the inflater supplied
+ * by the fragment. Factories of the supplied inflater, like the one installed by AppCompat, are not
+ * required to be thread-safe, so the basic inflater does not use any of them, the same way as
+ * {@code AsyncLayoutInflater} does not. Views of the inflated layout are thus not substituted by
+ * theirs compat variants. If a layout fails to be inflated on the background thread, for example
+ * because some of its views require a Looper, it is inflated again on the main thread via the
+ * supplied inflater.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class AsyncContentViewInflater {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "AsyncContentViewInflater";
+
+	/**
+	 * Name of the background thread on which are the content views inflated.
+	 */
+	private static final String THREAD_NAME = "Fragments-ContentViewInflater";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Callback to be invoked on the main thread when a requested content view is inflated.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	interface Callback {
+
+		/**
+		 * Invoked when the requested content view has been inflated.
+		 *
+		 * @param contentView The inflated content view.
+		 */
+		@MainThread void onContentViewInflated(@NonNull View contentView);
+	}
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Executor used to execute inflation requests. Created lazily when the first request is made.
+	 */
+	private static Executor executor;
+
+	/**
+	 * Handler used to deliver inflated views on the main thread.
+	 */
+	private static Handler mainHandler;
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private AsyncContentViewInflater() {
+		// Not allowed to be instantiated.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Requests inflation of the specified <var>resource</var> on the background thread.
+	 *
+	 * @param inflater Inflater of which context should be used to inflate the layout.
+	 * @param resource Resource id of the layout to inflate.
+	 * @param parent   Parent into which will be the content view added. Used only to generate
+	 *                 layout params for the content view.
+	 * @param callback Callback to be invoked on the main thread with the inflated view.
+	 * @return Request that may be used to cancel the inflation.
+	 */
+	@MainThread @NonNull static Request inflate(
+			@NonNull final LayoutInflater inflater,
+			@LayoutRes final int resource,
+			@NonNull final ViewGroup parent,
+			@NonNull final Callback callback
+	) {
+		final Request request = new Request(inflater, resource, parent, callback);
+		obtainExecutor().execute(request);
+		return request;
+	}
+
+	/**
+	 * Sets an executor that should be used to execute all subsequent inflation requests.
+	 *
+	 * @param executor The desired executor. May be {@code null} to use the default one.
+	 */
+	@VisibleForTesting static void setExecutor(@Nullable final Executor executor) {
+		synchronized (AsyncContentViewInflater.class) {
+			AsyncContentViewInflater.executor = executor;
+		}
+	}
+
+	/**
+	 * Returns the executor used to execute inflation requests. If there is no executor yet, a new
+	 * one with a single background thread will be created.
+	 *
+	 * @return Executor for inflation requests.
+	 */
+	private static Executor obtainExecutor() {
+		synchronized (AsyncContentViewInflater.class) {
+			if (executor == null) {
+				final ExecutorService service = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+					/**
+					 */
+					@Override public Thread newThread(@NonNull final Runnable runnable) {
+						final Thread thread = new Thread(new Runnable() {
+
+							/**
+							 */
+							@Override public void run() {
+								Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+								runnable.run();
+							}
+						}, THREAD_NAME);
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+				executor = service;
+			}
+			return executor;
+		}
+	}
+
+	/**
+	 * Posts the given <var>runnable</var> to be executed on the main thread.
+	 *
+	 * @param runnable The runnable to post.
+	 */
+	static void postOnMainThread(final Runnable runnable) {
+		synchronized (AsyncContentViewInflater.class) {
+			if (mainHandler == null) {
+				mainHandler = new Handler(Looper.getMainLooper());
+			}
+		}
+		mainHandler.post(runnable);
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Request for inflation of a single content view. Inflation of the view is performed on the
+	 * background thread while its delivery on the main thread.
+	 */
+	static final class Request implements Runnable {
+
+		/**
+		 * Inflater used to inflate the layout on the main thread.
+		 */
+		private final LayoutInflater inflater;
+
+		/**
+		 * Inflater without any factories used to inflate the layout on the background thread.
+		 */
+		private final LayoutInflater backgroundInflater;
+
+		/**
+		 * Resource id of the layout to inflate.
+		 */
+		private final int resource;
+
+		/**
+		 * Parent used to generate layout params for the inflated view.
+		 */
+		private final ViewGroup parent;
+
+		/**
+		 * Callback to be invoked with the inflated view.
+		 */
+		private final Callback callback;
+
+		/**
+		 * Boolean flag indicating whether this request has been cancelled.
+		 */
+		private volatile boolean cancelled;
+
+		/**
+		 * View inflated on the background thread. May be {@code null} if the inflation failed.
+		 */
+		private View contentView;
+
+		/**
+		 * Creates a new instance of Request with the specified parameters.
+		 *
+		 * @param inflater Inflater used to inflate the layout on the main thread.
+		 * @param resource Resource id of the layout to inflate.
+		 * @param parent   Parent used to generate layout params for the inflated view.
+		 * @param callback Callback to be invoked with the inflated view.
+		 */
+		Request(final LayoutInflater inflater, final int resource, final ViewGroup parent, final Callback callback) {
+			this.inflater = inflater;
+			this.backgroundInflater = new BasicInflater(inflater.getContext());
+			this.resource = resource;
+			this.parent = parent;
+			this.callback = callback;
+		}
+
+		/**
+		 * Inflates the requested layout on the current (background) thread and posts its delivery
+		 * on the main thread.
+		 */
+		@Override public void run() {
+			if (cancelled) {
+				return;
+			}
+			try {
+				this.contentView = backgroundInflater.inflate(resource, parent, false);
+			} catch (RuntimeException e) {
+				FragmentsLogging.w(TAG, "Failed to inflate content view on background thread. Falling back to inflation on main thread.", e);
+			}
+			postOnMainThread(new Runnable() {
+
+				/**
+				 */
+				@Override public void run() {
+					deliver();
+				}
+			});
+		}
+
+		/**
+		 * Delivers the inflated view to the callback if this request has not been cancelled. If the
+		 * inflation on background thread failed, the view is inflated on the current (main) thread.
+		 */
+		@MainThread void deliver() {
+			if (cancelled) {
+				return;
+			}
+			final View view = contentView == null ? inflater.inflate(resource, parent, false) : contentView;
+			this.contentView = null;
+			callback.onContentViewInflated(view);
+		}
+
+		/**
+		 * Cancels this request, so the inflated view will not be delivered to the callback.
+		 */
+		@MainThread void cancel() {
+			this.cancelled = true;
+		}
+
+		/**
+		 * Returns a boolean flag indicating whether this request has been cancelled.
+		 *
+		 * @return {@code True} if cancelled, {@code false} otherwise.
+		 */
+		boolean isCancelled() {
+			return cancelled;
+		}
+	}
+
+	/**
+	 * Layout inflater without any factories which creates views of the framework packages the same
+	 * way as the inflater provided by the platform.
+	 */
+	static final class BasicInflater extends LayoutInflater {
+
+		/**
+		 * Prefixes of the framework packages of which views may be specified in layouts without
+		 * theirs package name.
+		 */
+		private static final String[] CLASS_PREFIXES = {
+				"android.widget.",
+				"android.webkit.",
+				"android.app."
+		};
+
+		/**
+		 * Creates a new instance of BasicInflater for the specified <var>context</var>.
+		 *
+		 * @param context Context used to inflate layouts.
+		 */
+		BasicInflater(final Context context) {
+			super(context);
+		}
+
+		/**
+		 */
+		@Override public LayoutInflater cloneInContext(final Context newContext) {
+			return new BasicInflater(newContext);
+		}
+
+		/**
+		 */
+		@Override protected View onCreateView(final String name, final AttributeSet attrs) throws ClassNotFoundException {
+			for (final String prefix : CLASS_PREFIXES) {
+				try {
+					final View view = createView(name, prefix, attrs);
+					if (view != null) {
+						return view;
+					}
+				} catch (ClassNotFoundException e) {
+					// Try the next prefix, the last one is "android.view." tried via super.
+				}
+			}
+			return super.onCreateView(name, attrs);
+		}
+	}
+}
@@ -22,15 +22,19 @@ import android.app.Activity;
 import android.content.Context;
 import android.content.res.Resources;
 import android.os.Bundle;
+import android.os.Parcelable;
 import android.transition.Transition;
 import android.transition.TransitionInflater;
 import android.util.Log;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.FrameLayout;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.InvocationTargetException;
 
 import androidx.annotation.CheckResult;
 import androidx.annotation.IntDef;
@@ -42,6 +46,7 @@ import androidx.annotation.VisibleForTesting;
 import androidx.fragment.app.Fragment;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.fragment.annotation.handler.BaseAnnotationHandlers;
+import universum.studios.android.fragment.annotation.handler.ExtendedFragmentAnnotationHandler;
 import universum.studios.android.fragment.annotation.handler.FragmentAnnotationHandler;
 import universum.studios.android.fragment.util.FragmentUtils;
 
@@ -69,6 +74,9 @@ import universum.studios.android.fragment.util.FragmentUtils;
  * You can also easily dispatch view click events to your specific implementation of BaseFragment
  * via {@link #dispatchViewClick(View)} or back press events via {@link #dispatchBackPress()}
  * from activity's context in which such fragment presented.
+ * <p>
+ * View of BaseFragment may be also allowed to be released while the fragment is hidden via
+ * {@link #setViewReleasable(boolean)}. See {@link ViewReleasable} for more information.
  *
  * <h3>Accepted annotations</h3>
  * <ul>
@@ -78,6 +86,31 @@ import universum.studios.android.fragment.util.FragmentUtils;
  * If this annotation is presented, the layout resource specified via this annotation will be used
  * to inflate root view for an instance of annotated BaseFragment sub-class when
  * {@link #onCreateView(LayoutInflater, ViewGroup, Bundle)} is called.
+ * <p>
+ * If asynchronous inflation is requested via this annotation, the layout is inflated on a background
+ * thread while a lightweight container with a placeholder created via
+ * {@link #onCreateContentViewPlaceholder(LayoutInflater, ViewGroup)} is used as root view. The inflated
+ * content view is then added into that container and delivered to
+ * {@link #onContentViewCreated(View, Bundle)}.
+ * <p>
+ * If the layout has been precompiled by the annotation processor, the view hierarchy is built
+ * directly via the generated {@link ContentViewBuilder} instead of being inflated. Layouts which are
+ * attached to the container are always inflated.
+ * <p>
+ * If the content view has been already inflated ahead of time via {@link ContentViewPool} provided
+ * by the context of the fragment, the pooled content view is used instead.
+ * <p>
+ * If lazy creation is requested via this annotation, an empty lightweight container is used as root
+ * view and the content view is created only when the fragment is started while not being hidden or
+ * when it is shown. The created content view is then added into that container and delivered to
+ * {@link #onContentViewCreated(View, Bundle)}.
+ * </li>
+ * <li>
+ * {@link universum.studios.android.fragment.annotation.OnViewClick @OnViewClick} <b>[method - inherited]</b>
+ * <p>
+ * If this annotation is presented, clicks on views with the specified ids dispatched via
+ * {@link #dispatchViewClick(View)} are delivered directly to the annotated method instead of
+ * {@link #onViewClick(View)}.
  * </li>
  * </ul>
  *
@@ -85,7 +118,7 @@ import universum.studios.android.fragment.util.FragmentUtils;
  * @since 1.0
  */
 @SuppressWarnings("WeakerAccess")
-public abstract class BaseFragment extends Fragment implements BackPressWatcher, ViewClickWatcher {
+public abstract class BaseFragment extends Fragment implements BackPressWatcher, ViewClickWatcher, ViewReleasable {
 
 	/*
 	 * Constants ===================================================================================
@@ -96,6 +129,16 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	 */
 	private static final String TAG = "BaseFragment";
 
+	/**
+	 * Bundle key used to store flag indicating whether the view of fragment has been released.
+	 */
+	@VisibleForTesting static final String BUNDLE_VIEW_RELEASED = BaseFragment.class.getName() + ".BUNDLE.ViewReleased";
+
+	/**
+	 * Bundle key under which is hierarchy state of the view of fragment stored by the fragment manager.
+	 */
+	@VisibleForTesting static final String BUNDLE_VIEW_STATE = "android:view_state";
+
 	/**
 	 * Lifecycle flag used to indicate that fragment is <b>attached</b> to the parent context.
 	 */
@@ -181,6 +224,37 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	 */
 	private int lifecycleFlags;
 
+	/**
+	 * Request for asynchronous inflation of the content view of this fragment. Available only while
+	 * the inflation is in progress.
+	 */
+	private AsyncContentViewInflater.Request contentViewRequest;
+
+	/**
+	 * Boolean flag indicating whether creation of the content view of this fragment has been deferred
+	 * until this fragment becomes visible.
+	 */
+	private boolean contentViewDeferred;
+
+	/**
+	 * Saved state passed to {@link #onCreateView(LayoutInflater, ViewGroup, Bundle)} which is
+	 * delivered to {@link #onContentViewCreated(View, Bundle)} when deferred creation or asynchronous
+	 * inflation of the content view finishes.
+	 */
+	private Bundle contentViewSavedState;
+
+	/**
+	 * Boolean flag indicating whether the view of this fragment may be released while this fragment
+	 * is hidden.
+	 */
+	private boolean viewReleasable;
+
+	/**
+	 * Boolean flag indicating whether the view of this fragment has been released and has not been
+	 * re-created yet.
+	 */
+	private boolean viewReleased;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -220,15 +294,29 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	 * @param <F>             Type of the desired fragment.
 	 * @return New instance of fragment with the given arguments or {@code null} if some instantiation
 	 * error occurs.
+	 * @throws RuntimeException Exception thrown by constructor of the fragment class, which is not
+	 *                          treated as instantiation error but propagated as is.
+	 *
+	 * @see FragmentInstantiators#instantiate(Class)
 	 */
 	@Nullable public static <F extends Fragment> F newInstanceWithArguments(@NonNull final Class<F> classOfFragment, @Nullable final Bundle args) {
 		try {
-			final F fragment = classOfFragment.newInstance();
+			final F fragment = FragmentInstantiators.instantiate(classOfFragment);
 			fragment.setArguments(args);
 			return fragment;
-		} catch (java.lang.InstantiationException e) {
-			Log.e(TAG, "Failed to instantiate instance of " + classOfFragment + " with arguments!", e);
-		} catch (IllegalAccessException e) {
+		} catch (Fragment.InstantiationException e) {
+			final Throwable cause = e.getCause();
+			if (cause instanceof InvocationTargetException) {
+				// Failure of the constructor itself, propagate it the same as Class.newInstance() does.
+				final Throwable targetException = cause.getCause();
+				if (targetException instanceof RuntimeException) {
+					throw (RuntimeException) targetException;
+				}
+				if (targetException instanceof Error) {
+					throw (Error) targetException;
+				}
+				throw e;
+			}
 			Log.e(TAG, "Failed to instantiate instance of " + classOfFragment + " with arguments!", e);
 		}
 		return null;
@@ -281,14 +369,41 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 		return (lifecycleFlags & flag) != 0;
 	}
 
+	/**
+	 * Returns time in nanoseconds at which has been a lifecycle callback entered, if lifecycle events
+	 * are being recorded via {@link FragmentLifecycleMetrics}.
+	 *
+	 * @return Entry time of the callback or {@code 0} if the metrics are not being recorded.
+	 *
+	 * @see #recordLifecycleEvent(int, long)
+	 */
+	private static long lifecycleEventStartTime() {
+		return FragmentLifecycleMetrics.isEnabled() ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records duration of the specified lifecycle <var>event</var> which has been entered at the
+	 * given <var>startTime</var> via {@link FragmentLifecycleMetrics}.
+	 *
+	 * @param event     The lifecycle event to be recorded.
+	 * @param startTime Entry time of the event obtained via {@link #lifecycleEventStartTime()}.
+	 */
+	private void recordLifecycleEvent(@FragmentLifecycleMetrics.Event final int event, final long startTime) {
+		if (startTime != 0) {
+			FragmentLifecycleMetrics.record(getClass(), event, System.nanoTime() - startTime);
+		}
+	}
+
 	/**
 	 */
 	@SuppressWarnings("deprecation")
 	@Override public void onAttach(@NonNull final Activity activity) {
+		final long startTime = lifecycleEventStartTime();
 		super.onAttach(activity);
-		this.activityDelegate = ActivityDelegate.create(activity);
+		this.activityDelegate = DelegateRegistry.obtainActivityDelegate(activity);
 		this.updateLifecycleFlags(LIFECYCLE_DETACHED, false);
 		this.updateLifecycleFlags(LIFECYCLE_ATTACHED, true);
+		this.recordLifecycleEvent(FragmentLifecycleMetrics.EVENT_ATTACH, startTime);
 	}
 
 	/**
@@ -338,9 +453,14 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	/**
 	 */
 	@Override public void onCreate(@Nullable final Bundle savedInstanceState) {
+		final long startTime = lifecycleEventStartTime();
 		super.onCreate(savedInstanceState);
+		if (savedInstanceState != null) {
+			this.viewReleased = savedInstanceState.getBoolean(BUNDLE_VIEW_RELEASED);
+		}
 		this.updateLifecycleFlags(LIFECYCLE_DESTROYED, false);
 		this.updateLifecycleFlags(LIFECYCLE_CREATED, true);
+		this.recordLifecycleEvent(FragmentLifecycleMetrics.EVENT_CREATE, startTime);
 	}
 
 	/**
@@ -361,9 +481,14 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	/**
 	 */
 	@Override public void onStart() {
+		final long startTime = lifecycleEventStartTime();
 		super.onStart();
+		if (contentViewDeferred && !isHidden()) {
+			createDeferredContentView();
+		}
 		this.updateLifecycleFlags(LIFECYCLE_STOPPED, false);
 		this.updateLifecycleFlags(LIFECYCLE_STARTED, true);
+		this.recordLifecycleEvent(FragmentLifecycleMetrics.EVENT_START, startTime);
 	}
 
 	/**
@@ -384,6 +509,19 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	/**
 	 */
 	@Override public View onCreateView(@NonNull final LayoutInflater inflater, @Nullable final ViewGroup container, @Nullable final Bundle savedInstanceState) {
+		final long startTime = lifecycleEventStartTime();
+		final View view = createContentView(inflater, container, savedInstanceState);
+		this.recordLifecycleEvent(FragmentLifecycleMetrics.EVENT_CREATE_VIEW, startTime);
+		return view;
+	}
+
+	/**
+	 * Creates content view for this fragment either as specified via {@link universum.studios.android.fragment.annotation.ContentView @ContentView}
+	 * annotation or via the default implementation of {@link Fragment#onCreateView(LayoutInflater, ViewGroup, Bundle)}.
+	 *
+	 * @see #onCreateView(LayoutInflater, ViewGroup, Bundle)
+	 */
+	private View createContentView(final LayoutInflater inflater, final ViewGroup container, final Bundle savedInstanceState) {
 		if (annotationHandler != null) {
 			final int viewResource = annotationHandler.getContentViewResource(-1);
 			if (viewResource != -1) {
@@ -391,22 +529,283 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 					inflater.inflate(viewResource, container, true);
 					return null;
 				}
+				if (shouldCreateContentViewLazily() && !viewReleased && (savedInstanceState == null || isHidden())) {
+					// Visible fragment being re-created or fragment of which view has been released
+					// inflates its content view right away, so its hierarchy state may be restored.
+					this.contentViewDeferred = true;
+					this.contentViewSavedState = savedInstanceState;
+					return createContentViewContainer(inflater.getContext());
+				}
+				final View preparedView = obtainPreparedContentView(inflater, container, viewResource);
+				if (preparedView != null) {
+					return preparedView;
+				}
+				if (shouldInflateContentViewAsync()) {
+					final ViewGroup rootView = createContentViewContainer(inflater.getContext());
+					requestAsyncContentView(inflater, viewResource, rootView, savedInstanceState);
+					return rootView;
+				}
 				return inflater.inflate(viewResource, container, false);
 			}
 		}
 		return super.onCreateView(inflater, container, savedInstanceState);
 	}
 
+	/**
+	 * Returns a boolean flag indicating whether asynchronous inflation of the content view has been
+	 * requested via {@link universum.studios.android.fragment.annotation.ContentView @ContentView}
+	 * annotation, if the annotation handler of this fragment supports it.
+	 *
+	 * @return {@code True} to inflate the content view asynchronously, {@code false} otherwise.
+	 *
+	 * @see ExtendedFragmentAnnotationHandler#shouldInflateContentViewAsync()
+	 */
+	private boolean shouldInflateContentViewAsync() {
+		return annotationHandler instanceof ExtendedFragmentAnnotationHandler &&
+				((ExtendedFragmentAnnotationHandler) annotationHandler).shouldInflateContentViewAsync();
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether lazy creation of the content view has been requested
+	 * via {@link universum.studios.android.fragment.annotation.ContentView @ContentView} annotation,
+	 * if the annotation handler of this fragment supports it.
+	 *
+	 * @return {@code True} to create the content view lazily, {@code false} otherwise.
+	 *
+	 * @see ExtendedFragmentAnnotationHandler#shouldCreateContentViewLazily()
+	 */
+	private boolean shouldCreateContentViewLazily() {
+		return annotationHandler instanceof ExtendedFragmentAnnotationHandler &&
+				((ExtendedFragmentAnnotationHandler) annotationHandler).shouldCreateContentViewLazily();
+	}
+
+	/**
+	 * Obtains content view with the specified <var>viewResource</var> which does not need to be
+	 * inflated, that is either the one pooled via {@link ContentViewPool} or the one built via
+	 * generated {@link ContentViewBuilder}.
+	 *
+	 * @param inflater     Inflater used to create the content view.
+	 * @param container    Container into which will be the content view of this fragment added.
+	 * @param viewResource Resource id of the desired content view.
+	 * @return Prepared content view or {@code null} if the content view needs to be inflated.
+	 */
+	private View obtainPreparedContentView(final LayoutInflater inflater, final ViewGroup container, final int viewResource) {
+		final ContentViewPool contentViewPool = ContentViewPool.from(inflater.getContext());
+		final View pooledView = contentViewPool == null ? null : contentViewPool.obtain(viewResource, container, inflater.getContext());
+		if (pooledView != null) {
+			return pooledView;
+		}
+		final ContentViewBuilder builder = ContentViewBuilders.findBuilder(viewResource);
+		if (builder != null) {
+			// Layout has been precompiled, so there is nothing to be inflated, neither asynchronously.
+			return builder.build(inflater.getContext());
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a lightweight container which is used as root view of this fragment while its content
+	 * view is being inflated asynchronously or while its creation is deferred.
+	 *
+	 * @param context Context used to create the container.
+	 * @return Empty container for the content view.
+	 */
+	private ViewGroup createContentViewContainer(final Context context) {
+		final FrameLayout rootView = new FrameLayout(context);
+		rootView.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+		return rootView;
+	}
+
+	/**
+	 * Requests the content view with the specified <var>viewResource</var> to be inflated asynchronously
+	 * into the given <var>rootView</var>. The placeholder view (if any) is added into the root view
+	 * until the inflation finishes.
+	 *
+	 * @param inflater           Inflater used to create the placeholder and to inflate the content view.
+	 * @param viewResource       Resource id of the content view to inflate.
+	 * @param rootView           Container into which to add the inflated content view.
+	 * @param savedInstanceState Saved state to be delivered along with the inflated content view.
+	 */
+	private void requestAsyncContentView(final LayoutInflater inflater, final int viewResource, final ViewGroup rootView, final Bundle savedInstanceState) {
+		final View placeholderView = onCreateContentViewPlaceholder(inflater, rootView);
+		if (placeholderView != null) {
+			rootView.addView(placeholderView);
+		}
+		this.contentViewSavedState = savedInstanceState;
+		this.contentViewRequest = AsyncContentViewInflater.inflate(inflater, viewResource, rootView, new AsyncContentViewInflater.Callback() {
+
+			/**
+			 */
+			@Override public void onContentViewInflated(@NonNull final View contentView) {
+				handleAsyncContentViewInflated(rootView, contentView);
+			}
+		});
+	}
+
+	/**
+	 * Invoked to create a placeholder view that is displayed while the content view of this fragment
+	 * is being inflated asynchronously as requested via {@link universum.studios.android.fragment.annotation.ContentView#async() @ContentView(async = true)}.
+	 * The placeholder is removed as soon as the content view is inflated.
+	 * <p>
+	 * This implementation returns {@code null}, so only an empty container is displayed.
+	 *
+	 * @param inflater  Inflater that may be used to inflate the placeholder.
+	 * @param container Container into which will be the placeholder added.
+	 * @return Placeholder view or {@code null} if no placeholder should be displayed.
+	 */
+	@Nullable protected View onCreateContentViewPlaceholder(@NonNull final LayoutInflater inflater, @NonNull final ViewGroup container) {
+		// Inheritance hierarchies may create here theirs lightweight placeholder views.
+		return null;
+	}
+
+	/**
+	 * Handles the given <var>contentView</var> inflated asynchronously for this fragment. The content
+	 * view replaces the placeholder within the given <var>rootView</var>, if the root view is still
+	 * the current view of this fragment.
+	 *
+	 * @param rootView    Root view created for this fragment along with the inflation request.
+	 * @param contentView The inflated content view.
+	 */
+	@VisibleForTesting void handleAsyncContentViewInflated(final ViewGroup rootView, final View contentView) {
+		this.contentViewRequest = null;
+		final Bundle savedInstanceState = contentViewSavedState;
+		this.contentViewSavedState = null;
+		if (getView() != rootView) {
+			return;
+		}
+		rootView.removeAllViews();
+		rootView.addView(contentView);
+		restoreContentViewState(contentView, savedInstanceState);
+		onContentViewCreated(contentView, savedInstanceState);
+	}
+
+	/**
+	 * Restores hierarchy state of the given <var>contentView</var> which has been added into the root
+	 * view of this fragment only after the fragment manager has already restored hierarchy state of
+	 * that root view.
+	 *
+	 * @param contentView        The content view of which state to restore.
+	 * @param savedInstanceState Saved state of this fragment, if it is being re-created.
+	 */
+	private void restoreContentViewState(final View contentView, final Bundle savedInstanceState) {
+		if (savedInstanceState != null) {
+			final SparseArray<Parcelable> viewState = savedInstanceState.getSparseParcelableArray(BUNDLE_VIEW_STATE);
+			if (viewState != null) {
+				contentView.restoreHierarchyState(viewState);
+			}
+		}
+	}
+
+	/**
+	 * Creates the content view of this fragment of which creation has been deferred as requested via
+	 * {@link universum.studios.android.fragment.annotation.ContentView#lazy() @ContentView(lazy = true)}
+	 * and adds it into the current root view of this fragment.
+	 */
+	private void createDeferredContentView() {
+		final Bundle savedInstanceState = contentViewSavedState;
+		this.contentViewDeferred = false;
+		this.contentViewSavedState = null;
+		final ViewGroup rootView = (ViewGroup) getView();
+		if (rootView == null) {
+			return;
+		}
+		final LayoutInflater inflater = getLayoutInflater();
+		final int viewResource = annotationHandler.getContentViewResource(-1);
+		// Content views are pooled for the container of this fragment and not for its root view.
+		final ViewGroup container = rootView.getParent() instanceof ViewGroup ? (ViewGroup) rootView.getParent() : rootView;
+		View contentView = obtainPreparedContentView(inflater, container, viewResource);
+		if (contentView == null) {
+			if (shouldInflateContentViewAsync()) {
+				requestAsyncContentView(inflater, viewResource, rootView, savedInstanceState);
+				return;
+			}
+			contentView = inflater.inflate(viewResource, rootView, false);
+		}
+		rootView.addView(contentView);
+		restoreContentViewState(contentView, savedInstanceState);
+		onContentViewCreated(contentView, savedInstanceState);
+	}
+
 	/**
 	 */
 	@Override public void onViewCreated(@NonNull final View view, @Nullable final Bundle savedInstanceState) {
+		final long startTime = lifecycleEventStartTime();
 		super.onViewCreated(view, savedInstanceState);
+		this.viewReleased = false;
 		if (annotationHandler != null) {
 			final int backgroundResId = annotationHandler.getContentViewBackgroundResId(-1);
 			if (backgroundResId != -1) {
 				view.setBackgroundResource(backgroundResId);
 			}
 		}
+		if (contentViewRequest == null && !contentViewDeferred) {
+			onContentViewCreated(view, savedInstanceState);
+		}
+		this.recordLifecycleEvent(FragmentLifecycleMetrics.EVENT_VIEW_CREATED, startTime);
+	}
+
+	/**
+	 * Invoked whenever the content view of this fragment is created and ready to be set up.
+	 * <p>
+	 * For content views inflated synchronously this is invoked from {@link #onViewCreated(View, Bundle)}
+	 * with the root view of this fragment. For content views inflated asynchronously as requested via
+	 * {@link universum.studios.android.fragment.annotation.ContentView#async() @ContentView(async = true)}
+	 * this is invoked on the main thread as soon as the inflation finishes, which is always after
+	 * {@link #onViewCreated(View, Bundle)} and in most cases also after {@link #onStart()} and
+	 * {@link #onResume()}, as those are dispatched by the fragment manager within the same transaction
+	 * in which is the view of this fragment created. The root view passed to {@link #onViewCreated(View, Bundle)}
+	 * is only an empty container, so any setup which depends on the content view, including the one
+	 * performed in {@link #onStart()} or {@link #onResume()}, should be performed here or deferred
+	 * while {@link #isContentViewInflating()} returns {@code true}. If the view of this fragment is
+	 * destroyed before the inflation finishes, this is not invoked at all.
+	 * <p>
+	 * For content views created lazily as requested via
+	 * {@link universum.studios.android.fragment.annotation.ContentView#lazy() @ContentView(lazy = true)}
+	 * this is invoked when this fragment is started while not being hidden or when it is shown via
+	 * {@link #onHiddenChanged(boolean)}, whichever happens first.
+	 * <p>
+	 * Hierarchy state of an asynchronously inflated or lazily created content view is restored right
+	 * before this is invoked, as the fragment manager restores hierarchy state of the root view of this
+	 * fragment while it is still empty. <b>Note</b>, that if state of this fragment is saved again
+	 * before the content view is delivered, its previous hierarchy state is not preserved.
+	 *
+	 * @param contentView        The created content view.
+	 * @param savedInstanceState Saved state of this fragment, if it is being re-created.
+	 */
+	protected void onContentViewCreated(@NonNull final View contentView, @Nullable final Bundle savedInstanceState) {
+		// Inheritance hierarchies may set up here theirs content view.
+	}
+
+	/**
+	 * Checks whether the content view of this fragment is being currently inflated asynchronously.
+	 *
+	 * @return {@code True} if the inflation is in progress, {@code false} otherwise.
+	 *
+	 * @see #onContentViewCreated(View, Bundle)
+	 */
+	public final boolean isContentViewInflating() {
+		return contentViewRequest != null;
+	}
+
+	/**
+	 * Checks whether creation of the content view of this fragment is deferred until this fragment
+	 * becomes visible.
+	 *
+	 * @return {@code True} if the content view has not been created yet, {@code false} otherwise.
+	 *
+	 * @see universum.studios.android.fragment.annotation.ContentView#lazy()
+	 */
+	public final boolean isContentViewDeferred() {
+		return contentViewDeferred;
+	}
+
+	/**
+	 */
+	@Override public void onHiddenChanged(final boolean hidden) {
+		super.onHiddenChanged(hidden);
+		if (!hidden && contentViewDeferred && isStarted()) {
+			createDeferredContentView();
+		}
 	}
 
 	/**
@@ -418,6 +817,40 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 		return getView() != null;
 	}
 
+	/**
+	 * Sets a boolean flag indicating whether the view of this fragment may be released while this
+	 * fragment is hidden. Should be specified preferably from constructor of this fragment, so it is
+	 * applied also to instance re-created by the framework.
+	 * <p>
+	 * Default value: {@code false}
+	 *
+	 * @param releasable {@code True} to allow the view to be released, {@code false} otherwise.
+	 *
+	 * @see ViewReleasable
+	 * @see #isViewReleasable()
+	 */
+	public void setViewReleasable(final boolean releasable) {
+		this.viewReleasable = releasable;
+	}
+
+	/**
+	 */
+	@Override public boolean isViewReleasable() {
+		return viewReleasable;
+	}
+
+	/**
+	 */
+	@Override public void setViewReleased(final boolean released) {
+		this.viewReleased = released;
+	}
+
+	/**
+	 */
+	@Override public boolean isViewReleased() {
+		return viewReleased;
+	}
+
 	/**
 	 * Inflates a desired Transition from the specified <var>resource</var>.
 	 *
@@ -435,9 +868,11 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	/**
 	 */
 	@Override public void onResume() {
+		final long startTime = lifecycleEventStartTime();
 		super.onResume();
 		this.updateLifecycleFlags(LIFECYCLE_PAUSED, false);
 		this.updateLifecycleFlags(LIFECYCLE_RESUMED, true);
+		this.recordLifecycleEvent(FragmentLifecycleMetrics.EVENT_RESUME, startTime);
 	}
 
 	// This lifecycle state method is already available for the parent Fragment class.
@@ -464,11 +899,21 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 	}
 
 	/**
-	 * Dispatches to {@link #onViewClick(View)}.
+	 * Dispatches to method of this fragment annotated via {@link universum.studios.android.fragment.annotation.OnViewClick @OnViewClick}
+	 * for id of the given <var>view</var>, if there is such method, otherwise dispatches to {@link #onViewClick(View)}.
 	 * <p>
-	 * This implementation by default returns {@code false} for all passed views.
+	 * This implementation returns {@code false} for all views which are not handled by an annotated
+	 * method.
+	 *
+	 * @see ViewClickDispatchers
 	 */
 	@Override public boolean dispatchViewClick(@NonNull final View view) {
+		if (annotationHandler instanceof ExtendedFragmentAnnotationHandler) {
+			final ViewClickDispatcher dispatcher = ((ExtendedFragmentAnnotationHandler) annotationHandler).getViewClickDispatcher();
+			if (dispatcher != null && dispatcher.dispatchViewClick(this, view)) {
+				return true;
+			}
+		}
 		onViewClick(view);
 		return false;
 	}
@@ -529,6 +974,15 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 		return hasLifecycleFlag(LIFECYCLE_STOPPED);
 	}
 
+	/**
+	 */
+	@Override public void onSaveInstanceState(@NonNull final Bundle state) {
+		super.onSaveInstanceState(state);
+		if (viewReleased) {
+			state.putBoolean(BUNDLE_VIEW_RELEASED, true);
+		}
+	}
+
 	/**
 	 */
 	@Override @CheckResult public boolean dispatchBackPress() {
@@ -545,6 +999,21 @@ public abstract class BaseFragment extends Fragment implements BackPressWatcher,
 		return false;
 	}
 
+	/**
+	 */
+	@Override public void onDestroyView() {
+		super.onDestroyView();
+		if (contentViewDeferred) {
+			this.contentViewDeferred = false;
+			this.contentViewSavedState = null;
+		}
+		if (contentViewRequest != null) {
+			this.contentViewRequest.cancel();
+			this.contentViewRequest = null;
+			this.contentViewSavedState = null;
+		}
+	}
+
 	/**
 	 */
 	@Override public void onDestroy() {
@@ -0,0 +1,49 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.Context;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Interface for builders which construct a view hierarchy of a specific layout resource directly
+ * via Java code, so the layout does not need to be parsed and inflated at runtime. Such builders
+ * are generated at compile time by the Fragments <b>annotation processor</b> for layouts referenced
+ * via {@link universum.studios.android.fragment.annotation.ContentView @ContentView} and are provided
+ * via {@link ContentViewBuildersIndex}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ * @see ContentViewBuilders
+ */
+public interface ContentViewBuilder {
+
+	/**
+	 * Builds a new view hierarchy equivalent to the one that would be inflated from the layout
+	 * resource for which is this builder generated.
+	 *
+	 * @param context Context used to create all views of the hierarchy. This should be the context
+	 *                of the inflater supplied to the fragment, so the views are created with the
+	 *                fragment's theme.
+	 * @return Root view of the built hierarchy.
+	 */
+	@NonNull View build(@NonNull Context context);
+}
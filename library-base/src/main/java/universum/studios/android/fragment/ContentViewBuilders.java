@@ -0,0 +1,186 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Registry of {@link ContentViewBuildersIndex ContentViewBuildersIndexes} which are consulted by
+ * {@link BaseFragment} for a {@link ContentViewBuilder} whenever it is about to create its content
+ * view specified via {@link universum.studios.android.fragment.annotation.ContentView @ContentView}.
+ * If there is a builder available for the content view's layout, the view hierarchy is built directly
+ * via that builder, otherwise the layout is inflated via {@link android.view.LayoutInflater} as usual.
+ * <p>
+ * Index generated by the annotation processor under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+ * is loaded automatically whenever a builder is requested for the first time.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class ContentViewBuilders {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "ContentViewBuilders";
+
+	/**
+	 * Fully qualified name of the {@link ContentViewBuildersIndex} implementation that is generated
+	 * by the annotation processor by default and which is loaded automatically.
+	 *
+	 * @see #registerIndex(ContentViewBuildersIndex)
+	 */
+	public static final String GENERATED_INDEX_CLASS_NAME = "universum.studios.android.fragment.GeneratedContentViewBuildersIndex";
+
+	/**
+	 * Lock used for synchronized modifications of the registered indexes.
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Empty array of indexes.
+	 */
+	private static final ContentViewBuildersIndex[] NO_INDEXES = new ContentViewBuildersIndex[0];
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Array with indexes which are consulted whenever a builder is requested. This array is never
+	 * modified, a new array is created whenever a new index is registered.
+	 */
+	private static volatile ContentViewBuildersIndex[] indexes = NO_INDEXES;
+
+	/**
+	 * Boolean flag indicating whether there has been already made an attempt to load the index
+	 * generated under the default name.
+	 */
+	private static volatile boolean generatedIndexLoaded;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private ContentViewBuilders() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Registers the given <var>index</var> to be consulted whenever a content view builder is requested.
+	 * <p>
+	 * <b>Note</b>, that index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+	 * is registered automatically and does not need to be registered via this method. This method
+	 * is meant for indexes generated under a different name, for example for separate feature modules.
+	 *
+	 * @param index The desired index to register.
+	 */
+	public static void registerIndex(@NonNull final ContentViewBuildersIndex index) {
+		synchronized (LOCK) {
+			addIndex(index, false);
+		}
+	}
+
+	/**
+	 * Finds a builder for the specified <var>layoutResource</var> within the registered indexes.
+	 *
+	 * @param layoutResource Resource id of the layout for which to find builder.
+	 * @return Builder provided by one of the indexes or {@code null} if there is no builder generated
+	 * for the layout and the layout should be inflated.
+	 */
+	@Nullable public static ContentViewBuilder findBuilder(@LayoutRes final int layoutResource) {
+		if (!generatedIndexLoaded) {
+			loadGeneratedIndex();
+		}
+		for (final ContentViewBuildersIndex index : indexes) {
+			final ContentViewBuilder builder = index.getBuilder(layoutResource);
+			if (builder != null) {
+				return builder;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Loads index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}, if such index
+	 * is available, and registers it as the first of all indexes. The load is attempted only once.
+	 */
+	private static void loadGeneratedIndex() {
+		synchronized (LOCK) {
+			if (generatedIndexLoaded) {
+				return;
+			}
+			try {
+				addIndex((ContentViewBuildersIndex) Class.forName(GENERATED_INDEX_CLASS_NAME).newInstance(), true);
+			} catch (ClassNotFoundException e) {
+				// Layouts have not been precompiled by the annotation processor, all content views
+				// will be inflated.
+			} catch (Exception e) {
+				FragmentsLogging.e(TAG, "Failed to load generated content view builders index(" + GENERATED_INDEX_CLASS_NAME + ").", e);
+			} finally {
+				generatedIndexLoaded = true;
+			}
+		}
+	}
+
+	/**
+	 * Adds the given <var>index</var> into the registered indexes if it is not registered yet.
+	 * <p>
+	 * <b>Note</b>, that this method should be called while holding the {@link #LOCK}.
+	 *
+	 * @param index The index to add.
+	 * @param first {@code True} to add the index as the first one, {@code false} to add it as the last one.
+	 */
+	private static void addIndex(final ContentViewBuildersIndex index, final boolean first) {
+		final ContentViewBuildersIndex[] currentIndexes = indexes;
+		for (final ContentViewBuildersIndex currentIndex : currentIndexes) {
+			if (currentIndex.equals(index)) {
+				return;
+			}
+		}
+		final ContentViewBuildersIndex[] newIndexes = new ContentViewBuildersIndex[currentIndexes.length + 1];
+		System.arraycopy(currentIndexes, 0, newIndexes, first ? 1 : 0, currentIndexes.length);
+		newIndexes[first ? 0 : currentIndexes.length] = index;
+		indexes = newIndexes;
+	}
+
+	/**
+	 * Clears all registered indexes so the generated index may be loaded again.
+	 */
+	@VisibleForTesting static void clearIndexes() {
+		synchronized (LOCK) {
+			indexes = NO_INDEXES;
+			generatedIndexLoaded = false;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.Nullable;
+
+/**
+ * Interface for indexes that provide {@link ContentViewBuilder ContentViewBuilders} for specific
+ * layout resources. Such indexes are generated at compile time by the Fragments <b>annotation processor</b>
+ * when precompilation of layouts is enabled for it.
+ * <p>
+ * Index generated under the {@link ContentViewBuilders#GENERATED_INDEX_CLASS_NAME default name}
+ * is picked up automatically, any other index may be registered via {@link ContentViewBuilders#registerIndex(ContentViewBuildersIndex)}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public interface ContentViewBuildersIndex {
+
+	/**
+	 * Returns the builder generated for the specified <var>layoutResource</var>.
+	 *
+	 * @param layoutResource Resource id of the layout for which to return builder.
+	 * @return Builder for the layout or {@code null} if this index does not have builder generated
+	 * for such layout.
+	 */
+	@Nullable ContentViewBuilder getBuilder(@LayoutRes int layoutResource);
+}
@@ -0,0 +1,471 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Configuration;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import universum.studios.android.fragment.annotation.handler.BaseAnnotationHandlers;
+import universum.studios.android.fragment.annotation.handler.FragmentAnnotationHandler;
+
+/**
+ * Pool of content views which are inflated ahead of time for fragments that are likely to be shown
+ * next, so {@link BaseFragment} does not need to inflate its content view during a fragment transaction.
+ * <p>
+ * Content views requested via {@link #preInflate(Class, ViewGroup)} or {@link #preInflate(int, ViewGroup)}
+ * are inflated one by one on the main thread whenever its message queue becomes idle. BaseFragment
+ * then takes a pooled content view in {@link BaseFragment#onCreateView(LayoutInflater, ViewGroup, android.os.Bundle)}
+ * if there is one inflated for its layout and container. The pool is looked up via context of the
+ * fragment's inflater. That context, or any of its base contexts, needs to implement {@link Provider}.
+ * This is usually the activity:
+ * <pre>
+ * public class MainActivity extends FragmentActivity implements ContentViewPool.Provider {
+ *
+ *     private ContentViewPool contentViewPool;
+ *
+ *     &#64;Override protected void onCreate(Bundle savedInstanceState) {
+ *         super.onCreate(savedInstanceState);
+ *         setContentView(R.layout.activity_main);
+ *         this.contentViewPool = new ContentViewPool(getLayoutInflater());
+ *         registerComponentCallbacks(contentViewPool);
+ *         contentViewPool.preInflate(fragmentFactory.getFragmentClass(FragmentFactory.DETAIL), (ViewGroup) findViewById(R.id.container));
+ *     }
+ *
+ *     &#64;Override public ContentViewPool getContentViewPool() {
+ *         return contentViewPool;
+ *     }
+ *
+ *     &#64;Override protected void onDestroy() {
+ *         super.onDestroy();
+ *         unregisterComponentCallbacks(contentViewPool);
+ *         contentViewPool.clear();
+ *     }
+ * }
+ * </pre>
+ * Count of pooled content views is limited via {@link #setMaxSize(int)} and {@link #setMaxSizePerLayout(int)}.
+ * The pool also implements {@link ComponentCallbacks2}, so when registered, it releases all pooled
+ * views whenever the system runs low on memory or when configuration changes.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class ContentViewPool implements ComponentCallbacks2 {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "ContentViewPool";
+
+	/**
+	 * Default maximum count of content views that may be pooled.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 3;
+
+	/**
+	 * Default maximum count of content views that may be pooled for a single layout and container.
+	 */
+	public static final int DEFAULT_MAX_SIZE_PER_LAYOUT = 1;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Interface for contexts, usually activities, which provide a pool of content views for fragments
+	 * that are inflated in theirs context.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Provider {
+
+		/**
+		 * Returns the pool of content views for fragments inflated in context of this provider.
+		 *
+		 * @return The content view pool or {@code null} if there is no pool available.
+		 */
+		@Nullable ContentViewPool getContentViewPool();
+	}
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Inflater used to inflate pooled content views.
+	 */
+	private final LayoutInflater inflater;
+
+	/**
+	 * List of entries with inflated content views.
+	 */
+	private final List<Entry> entries = new ArrayList<>(DEFAULT_MAX_SIZE);
+
+	/**
+	 * List of entries waiting to be inflated.
+	 */
+	private final List<Entry> pendingEntries = new ArrayList<>(DEFAULT_MAX_SIZE);
+
+	/**
+	 * Handler which inflates pending entries whenever the main message queue becomes idle.
+	 */
+	private final MessageQueue.IdleHandler idleHandler = new MessageQueue.IdleHandler() {
+
+		/**
+		 */
+		@Override public boolean queueIdle() {
+			final boolean hasPendingEntries = inflateNext();
+			idleHandlerRegistered = hasPendingEntries;
+			return hasPendingEntries;
+		}
+	};
+
+	/**
+	 * Boolean flag indicating whether the {@link #idleHandler} is registered.
+	 */
+	private boolean idleHandlerRegistered;
+
+	/**
+	 * Maximum count of content views that may be pooled.
+	 */
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * Maximum count of content views that may be pooled for a single layout and container.
+	 */
+	private int maxSizePerLayout = DEFAULT_MAX_SIZE_PER_LAYOUT;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of ContentViewPool which inflates content views via the given <var>inflater</var>.
+	 *
+	 * @param inflater The inflater used to inflate pooled content views. Context of this inflater
+	 *                 should be the same as context of inflater supplied to the fragments, which is
+	 *                 by default the activity, otherwise the pooled content views are not used.
+	 */
+	public ContentViewPool(@NonNull final LayoutInflater inflater) {
+		this.inflater = inflater;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the content view pool provided by the given <var>context</var> or by any of its base
+	 * contexts.
+	 *
+	 * @param context The context in which to find the pool.
+	 * @return The pool or {@code null} if there is no {@link Provider} with pool available.
+	 */
+	@Nullable public static ContentViewPool from(@NonNull final Context context) {
+		Context currentContext = context;
+		while (currentContext != null) {
+			if (currentContext instanceof Provider) {
+				return ((Provider) currentContext).getContentViewPool();
+			}
+			currentContext = currentContext instanceof ContextWrapper ? ((ContextWrapper) currentContext).getBaseContext() : null;
+		}
+		return null;
+	}
+
+	/**
+	 * Sets the maximum count of content views that may be pooled. If there is more content views
+	 * pooled, the oldest ones are released.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_MAX_SIZE}</b>
+	 *
+	 * @param maxSize The desired maximum size. May be {@code 0} to not pool any content views.
+	 * @throws IllegalArgumentException If the specified size is negative.
+	 */
+	@MainThread public void setMaxSize(final int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Max size must not be negative, specified(" + maxSize + ").");
+		}
+		this.maxSize = maxSize;
+		while (entries.size() > maxSize) {
+			entries.remove(0);
+		}
+		while (entries.size() + pendingEntries.size() > maxSize) {
+			pendingEntries.remove(pendingEntries.size() - 1);
+		}
+	}
+
+	/**
+	 * Returns the maximum count of content views that may be pooled.
+	 *
+	 * @return Maximum size of this pool.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Sets the maximum count of content views that may be pooled for a single layout and container.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_MAX_SIZE_PER_LAYOUT}</b>
+	 *
+	 * @param maxSize The desired maximum size per layout.
+	 * @throws IllegalArgumentException If the specified size is negative.
+	 */
+	@MainThread public void setMaxSizePerLayout(final int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Max size per layout must not be negative, specified(" + maxSize + ").");
+		}
+		this.maxSizePerLayout = maxSize;
+	}
+
+	/**
+	 * Returns the maximum count of content views that may be pooled for a single layout and container.
+	 *
+	 * @return Maximum size per layout.
+	 */
+	public int getMaxSizePerLayout() {
+		return maxSizePerLayout;
+	}
+
+	/**
+	 * Requests content view of the specified <var>fragmentClass</var>, as specified via
+	 * {@link universum.studios.android.fragment.annotation.ContentView @ContentView}, to be inflated
+	 * ahead of time for the given <var>container</var>.
+	 *
+	 * @param fragmentClass Class of the fragment that is likely to be shown next. May be {@code null}
+	 *                      in which case this method does nothing.
+	 * @param container     The container into which will be the fragment's view added.
+	 * @return {@code True} if the content view has been requested to be inflated, {@code false} if
+	 * the fragment does not have content view that may be pooled or the pool is full.
+	 *
+	 * @see #preInflate(int, ViewGroup)
+	 */
+	@MainThread public boolean preInflate(@Nullable final Class<?> fragmentClass, @Nullable final ViewGroup container) {
+		if (fragmentClass == null || !BaseFragment.class.isAssignableFrom(fragmentClass)) {
+			return false;
+		}
+		final FragmentAnnotationHandler annotationHandler = BaseAnnotationHandlers.obtainFragmentHandler(fragmentClass);
+		if (annotationHandler == null || annotationHandler.shouldAttachContentViewToContainer()) {
+			return false;
+		}
+		final int layoutResource = annotationHandler.getContentViewResource(0);
+		return layoutResource != 0 && preInflate(layoutResource, container);
+	}
+
+	/**
+	 * Requests the specified <var>layoutResource</var> to be inflated ahead of time for the given
+	 * <var>container</var>. The layout is inflated once the main message queue becomes idle.
+	 *
+	 * @param layoutResource Resource id of the desired layout to inflate.
+	 * @param container      The container into which will be the inflated view added.
+	 * @return {@code True} if the layout has been requested to be inflated, {@code false} if the
+	 * pool is full.
+	 */
+	@MainThread public boolean preInflate(@LayoutRes final int layoutResource, @Nullable final ViewGroup container) {
+		if (entries.size() + pendingEntries.size() >= maxSize || countEntries(layoutResource, container) >= maxSizePerLayout) {
+			return false;
+		}
+		pendingEntries.add(new Entry(layoutResource, container));
+		if (!idleHandlerRegistered) {
+			Looper.myQueue().addIdleHandler(idleHandler);
+			this.idleHandlerRegistered = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Counts pooled and pending entries for the specified layout and container.
+	 */
+	private int countEntries(final int layoutResource, final ViewGroup container) {
+		int count = 0;
+		for (final Entry entry : entries) {
+			if (entry.matches(layoutResource, container)) {
+				count++;
+			}
+		}
+		for (final Entry entry : pendingEntries) {
+			if (entry.matches(layoutResource, container)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Inflates the next pending entry, if there is any.
+	 *
+	 * @return {@code True} if there are still some pending entries to be inflated, {@code false} otherwise.
+	 */
+	@VisibleForTesting boolean inflateNext() {
+		if (pendingEntries.isEmpty()) {
+			return false;
+		}
+		final Entry entry = pendingEntries.remove(0);
+		try {
+			final ContentViewBuilder builder = ContentViewBuilders.findBuilder(entry.layoutResource);
+			entry.view = builder == null ?
+					inflater.inflate(entry.layoutResource, entry.container, false) :
+					builder.build(inflater.getContext());
+			entries.add(entry);
+		} catch (RuntimeException e) {
+			FragmentsLogging.w(TAG, "Failed to pre-inflate layout(" + entry.layoutResource + ").", e);
+		} finally {
+			// The container is needed only to generate layout params for the inflated view.
+			entry.container = null;
+		}
+		return !pendingEntries.isEmpty();
+	}
+
+	/**
+	 * Takes a content view inflated for the specified <var>layoutResource</var> and <var>container</var>
+	 * out of this pool.
+	 *
+	 * @param layoutResource Resource id of the layout of the desired content view.
+	 * @param container      The container for which has been the content view inflated.
+	 * @param context        Context in which should be the content view inflated.
+	 * @return Pooled content view or {@code null} if there is no such content view available.
+	 */
+	@MainThread @Nullable public View obtain(@LayoutRes final int layoutResource, @Nullable final ViewGroup container, @NonNull final Context context) {
+		for (int i = 0; i < entries.size(); i++) {
+			final Entry entry = entries.get(i);
+			if (entry.matches(layoutResource, container) && entry.view.getContext() == context) {
+				entries.remove(i);
+				return entry.view;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the count of content views which are currently pooled.
+	 *
+	 * @return Count of inflated content views.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Releases all pooled content views along with all pending requests.
+	 */
+	@MainThread public void clear() {
+		entries.clear();
+		pendingEntries.clear();
+		if (idleHandlerRegistered) {
+			Looper.myQueue().removeIdleHandler(idleHandler);
+			this.idleHandlerRegistered = false;
+		}
+	}
+
+	/**
+	 * Releases all pooled content views whenever the specified <var>level</var> indicates that the
+	 * application is running low on memory or that its UI is no longer visible.
+	 */
+	@Override public void onTrimMemory(final int level) {
+		if (level >= TRIM_MEMORY_RUNNING_LOW) {
+			clear();
+		}
+	}
+
+	/**
+	 */
+	@Override public void onLowMemory() {
+		clear();
+	}
+
+	/**
+	 * Releases all pooled content views as they have been inflated for the previous configuration.
+	 */
+	@Override public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+		clear();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Entry of the pool holding a content view inflated for a specific layout and container.
+	 */
+	private static final class Entry {
+
+		/**
+		 * Resource id of the layout of the content view.
+		 */
+		final int layoutResource;
+
+		/**
+		 * Class and id of the container for which is the content view inflated. Layout params of
+		 * the content view depend on these.
+		 */
+		final Class<?> containerClass;
+		final int containerId;
+
+		/**
+		 * The container for which should be the content view inflated. Is cleared once inflated.
+		 */
+		ViewGroup container;
+
+		/**
+		 * The inflated content view.
+		 */
+		View view;
+
+		/**
+		 * Creates a new instance of Entry for the specified layout and container.
+		 */
+		Entry(final int layoutResource, final ViewGroup container) {
+			this.layoutResource = layoutResource;
+			this.containerClass = container == null ? null : container.getClass();
+			this.containerId = container == null ? View.NO_ID : container.getId();
+			this.container = container;
+		}
+
+		/**
+		 * Checks whether this entry has been created for the specified layout and container.
+		 */
+		boolean matches(final int layoutResource, final ViewGroup container) {
+			if (this.layoutResource != layoutResource) {
+				return false;
+			}
+			return container == null ?
+					containerClass == null :
+					container.getClass() == containerClass && container.getId() == containerId;
+		}
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Registry which holds delegates scoped to a single activity, so all fragments hosted by that
+ * activity share the same delegates instead of creating theirs own instances whenever they are
+ * attached to the activity.
+ * <p>
+ * {@link ActivityDelegate} for an activity may be obtained via {@link #obtainActivityDelegate(Activity)}.
+ * Other delegates, like delegate for ActionBar of the activity, may be stored via
+ * {@link #putDelegate(Activity, Class, Object)} and later obtained via {@link #getDelegate(Activity, Class)}.
+ * All delegates of an activity are dropped when that activity is destroyed or when they are
+ * explicitly invalidated via {@link #invalidate(Activity)}.
+ * <p>
+ * <b>Note</b>, that the registry should be accessed only from the main thread.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+@MainThread
+public final class DelegateRegistry {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "DelegateRegistry";
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Map with delegates mapped to theirs classes mapped to activities for which have been the
+	 * delegates registered.
+	 */
+	private static final Map<Activity, Map<Class<?>, Object>> scopes = new WeakHashMap<>(2);
+
+	/**
+	 * Set of applications for which has been registered {@link #ACTIVITY_CALLBACKS}.
+	 */
+	private static final Set<Application> applications = Collections.newSetFromMap(new WeakHashMap<Application, Boolean>(1));
+
+	/**
+	 * Callbacks used to drop delegates of destroyed activities.
+	 */
+	private static final Application.ActivityLifecycleCallbacks ACTIVITY_CALLBACKS = new Application.ActivityLifecycleCallbacks() {
+
+		@Override public void onActivityCreated(@NonNull final Activity activity, @Nullable final Bundle savedInstanceState) {}
+
+		@Override public void onActivityStarted(@NonNull final Activity activity) {}
+
+		@Override public void onActivityResumed(@NonNull final Activity activity) {}
+
+		@Override public void onActivityPaused(@NonNull final Activity activity) {}
+
+		@Override public void onActivityStopped(@NonNull final Activity activity) {}
+
+		@Override public void onActivitySaveInstanceState(@NonNull final Activity activity, @NonNull final Bundle outState) {}
+
+		@Override public void onActivityDestroyed(@NonNull final Activity activity) {
+			invalidate(activity);
+		}
+	};
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private DelegateRegistry() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains delegate for the given <var>activity</var>. The delegate is created only once for
+	 * each activity.
+	 *
+	 * @param activity The activity for which to obtain its delegate.
+	 * @return Delegate for the activity.
+	 *
+	 * @see ActivityDelegate#create(Activity)
+	 */
+	@NonNull public static ActivityDelegate obtainActivityDelegate(@NonNull final Activity activity) {
+		ActivityDelegate delegate = getDelegate(activity, ActivityDelegate.class);
+		if (delegate == null) {
+			putDelegate(activity, ActivityDelegate.class, delegate = ActivityDelegate.create(activity));
+		}
+		return delegate;
+	}
+
+	/**
+	 * Returns the delegate of the specified <var>delegateClass</var> registered for the given
+	 * <var>activity</var>.
+	 *
+	 * @param activity      The activity for which to return the delegate.
+	 * @param delegateClass Class of the desired delegate.
+	 * @param <D>           Type of the delegate.
+	 * @return The registered delegate or {@code null} if there is no such delegate registered for
+	 * the activity.
+	 *
+	 * @see #putDelegate(Activity, Class, Object)
+	 */
+	@Nullable public static <D> D getDelegate(@NonNull final Activity activity, @NonNull final Class<D> delegateClass) {
+		final Map<Class<?>, Object> delegates = scopes.get(activity);
+		return delegates == null ? null : delegateClass.cast(delegates.get(delegateClass));
+	}
+
+	/**
+	 * Registers the given <var>delegate</var> for the specified <var>activity</var>, replacing
+	 * the delegate of the same class registered before (if any).
+	 *
+	 * @param activity      The activity for which to register the delegate.
+	 * @param delegateClass Class of the delegate by which may be the delegate obtained.
+	 * @param delegate      The delegate to be registered. May be {@code null} to unregister the
+	 *                      current one.
+	 * @param <D>           Type of the delegate.
+	 *
+	 * @see #getDelegate(Activity, Class)
+	 */
+	public static <D> void putDelegate(@NonNull final Activity activity, @NonNull final Class<D> delegateClass, @Nullable final D delegate) {
+		Map<Class<?>, Object> delegates = scopes.get(activity);
+		if (delegate == null) {
+			if (delegates != null) {
+				delegates.remove(delegateClass);
+			}
+			return;
+		}
+		if (delegates == null) {
+			scopes.put(activity, delegates = new HashMap<>(2));
+			registerActivityCallbacks(activity.getApplication());
+		}
+		delegates.put(delegateClass, delegate);
+	}
+
+	/**
+	 * Registers {@link #ACTIVITY_CALLBACKS} for the given <var>application</var> if they have not
+	 * been registered for it yet.
+	 *
+	 * @param application The application for which to register the callbacks. May be {@code null}
+	 *                    if the activity is not attached to its application.
+	 */
+	private static void registerActivityCallbacks(final Application application) {
+		if (application != null && applications.add(application)) {
+			application.registerActivityLifecycleCallbacks(ACTIVITY_CALLBACKS);
+		}
+	}
+
+	/**
+	 * Drops all delegates registered for the given <var>activity</var>, so they are created again
+	 * when they are requested next time.
+	 * <p>
+	 * This is called automatically when the activity is destroyed.
+	 *
+	 * @param activity The activity for which to drop its delegates.
+	 */
+	public static void invalidate(@NonNull final Activity activity) {
+		scopes.remove(activity);
+	}
+
+	/**
+	 * Returns count of activities for which are currently registered some delegates.
+	 *
+	 * @return Count of activities.
+	 */
+	@VisibleForTesting static int size() {
+		return scopes.size();
+	}
+}
\ No newline at end of file
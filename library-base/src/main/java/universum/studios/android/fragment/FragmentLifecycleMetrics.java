@@ -0,0 +1,391 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+
+/**
+ * Low overhead instrumentation of lifecycle of {@link BaseFragment BaseFragments} which aggregates
+ * timings of the lifecycle events into latency histograms per fragment class.
+ * <p>
+ * The instrumentation is disabled by default and may be enabled via {@link #setEnabled(boolean)}.
+ * When enabled, each fragment records duration of its {@link #EVENT_ATTACH onAttach},
+ * {@link #EVENT_CREATE onCreate}, {@link #EVENT_CREATE_VIEW onCreateView} which includes creation
+ * of the content view, {@link #EVENT_VIEW_CREATED onViewCreated} which includes dispatching of the
+ * content view, {@link #EVENT_START onStart} and {@link #EVENT_RESUME onResume} callbacks, measured
+ * from entry to exit of the implementations of those callbacks in {@link BaseFragment}. Work
+ * performed by sub-classes before or after they call the super implementation is not included.
+ * Every occurrence of each event is recorded, so for example restarts of an already shown fragment
+ * are recorded as well.
+ * <p>
+ * Histograms of all fragment classes are kept in arrays of primitives allocated once per class,
+ * so recording of an event does not allocate. Recorded histograms may be delivered to a
+ * {@link Reporter} via {@link #report(Reporter)}, for example whenever the application goes to
+ * the background.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class FragmentLifecycleMetrics {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Event recorded when fragment is attached to its context.
+	 */
+	public static final int EVENT_ATTACH = 0;
+
+	/**
+	 * Event recorded when fragment is created.
+	 */
+	public static final int EVENT_CREATE = 1;
+
+	/**
+	 * Event recorded when fragment's view is created. The duration of this event includes creation
+	 * (inflation) of the view.
+	 */
+	public static final int EVENT_CREATE_VIEW = 2;
+
+	/**
+	 * Event recorded when fragment's view is created and delivered to the fragment.
+	 */
+	public static final int EVENT_VIEW_CREATED = 3;
+
+	/**
+	 * Event recorded when fragment is started.
+	 */
+	public static final int EVENT_START = 4;
+
+	/**
+	 * Event recorded when fragment is resumed.
+	 */
+	public static final int EVENT_RESUME = 5;
+
+	/**
+	 * Count of all lifecycle events.
+	 */
+	public static final int EVENT_COUNT = 6;
+
+	/**
+	 * Defines an annotation for determining set of allowed lifecycle events.
+	 */
+	@Retention(RetentionPolicy.SOURCE)
+	@IntDef({
+			EVENT_ATTACH,
+			EVENT_CREATE,
+			EVENT_CREATE_VIEW,
+			EVENT_VIEW_CREATED,
+			EVENT_START,
+			EVENT_RESUME
+	})
+	public @interface Event {}
+
+	/**
+	 * Count of buckets of each histogram. Bucket at index {@code 0} holds durations shorter than
+	 * 1 microsecond, bucket at index {@code i} holds durations from {@code 2^(i - 1)} (inclusive)
+	 * to {@code 2^i} (exclusive) microseconds and the last bucket holds all longer durations.
+	 */
+	public static final int BUCKET_COUNT = 24;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Reporter to which may be delivered recorded histograms via {@link #report(Reporter)}.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Reporter {
+
+		/**
+		 * Invoked for each fragment class and lifecycle event for which there has been recorded
+		 * at least one duration.
+		 *
+		 * @param fragmentClass Class of the fragment for which has been the histogram recorded.
+		 * @param histogram     Snapshot of the recorded histogram.
+		 */
+		void onReport(@NonNull Class<?> fragmentClass, @NonNull Histogram histogram);
+	}
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Boolean flag indicating whether the instrumentation is enabled.
+	 */
+	private static volatile boolean enabled;
+
+	/**
+	 * Recorded histograms mapped to classes of fragments.
+	 */
+	private static final Map<Class<?>, ClassHistograms> histograms = new ConcurrentHashMap<>(16);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private FragmentLifecycleMetrics() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Enables or disables the instrumentation. Lifecycle callbacks entered while the instrumentation
+	 * is disabled are not recorded.
+	 * <p>
+	 * Default value: <b>false</b>
+	 *
+	 * @param enabled {@code True} to enable, {@code false} to disable.
+	 */
+	public static void setEnabled(final boolean enabled) {
+		FragmentLifecycleMetrics.enabled = enabled;
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether the instrumentation is enabled.
+	 *
+	 * @return {@code True} if enabled, {@code false} otherwise.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Records the given <var>duration</var> of the specified lifecycle <var>event</var> for the
+	 * given <var>fragmentClass</var>.
+	 *
+	 * @param fragmentClass Class of the fragment for which to record the event.
+	 * @param event         The lifecycle event.
+	 * @param duration      Duration of the event in nanoseconds.
+	 */
+	static void record(@NonNull final Class<?> fragmentClass, @Event final int event, final long duration) {
+		if (!enabled) {
+			return;
+		}
+		ClassHistograms classHistograms = histograms.get(fragmentClass);
+		if (classHistograms == null) {
+			final ClassHistograms newHistograms = new ClassHistograms();
+			classHistograms = histograms.putIfAbsent(fragmentClass, newHistograms);
+			if (classHistograms == null) {
+				classHistograms = newHistograms;
+			}
+		}
+		classHistograms.record(event, duration);
+	}
+
+	/**
+	 * Returns index of the bucket for the given <var>duration</var>.
+	 *
+	 * @param duration The duration in nanoseconds.
+	 * @return Bucket index from the {@code [0, BUCKET_COUNT)} range.
+	 */
+	static int bucketIndex(final long duration) {
+		final long micros = duration / 1000;
+		return micros <= 0 ? 0 : Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+	}
+
+	/**
+	 * Delivers snapshots of all recorded histograms to the given <var>reporter</var>.
+	 *
+	 * @param reporter The reporter to which to deliver the histograms.
+	 *
+	 * @see #reset()
+	 */
+	public static void report(@NonNull final Reporter reporter) {
+		for (final Map.Entry<Class<?>, ClassHistograms> entry : histograms.entrySet()) {
+			for (int event = 0; event < EVENT_COUNT; event++) {
+				final Histogram histogram = entry.getValue().snapshot(event);
+				if (histogram != null) {
+					reporter.onReport(entry.getKey(), histogram);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Clears all recorded histograms.
+	 */
+	public static void reset() {
+		histograms.clear();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Histograms of all lifecycle events recorded for a single fragment class. All values are kept
+	 * in arrays allocated upon creation.
+	 */
+	private static final class ClassHistograms {
+
+		/**
+		 * Counts of durations in buckets of all events, {@link #BUCKET_COUNT} buckets per event.
+		 */
+		final long[] bucketCounts = new long[EVENT_COUNT * BUCKET_COUNT];
+
+		/**
+		 * Counts, total and maximum durations of all events.
+		 */
+		final long[] counts = new long[EVENT_COUNT];
+		final long[] totalDurations = new long[EVENT_COUNT];
+		final long[] maxDurations = new long[EVENT_COUNT];
+
+		/**
+		 * Records the given <var>duration</var> of the specified <var>event</var>.
+		 */
+		synchronized void record(final int event, final long duration) {
+			bucketCounts[event * BUCKET_COUNT + bucketIndex(duration)]++;
+			counts[event]++;
+			totalDurations[event] += duration;
+			if (duration > maxDurations[event]) {
+				maxDurations[event] = duration;
+			}
+		}
+
+		/**
+		 * Creates snapshot of histogram of the specified <var>event</var>.
+		 *
+		 * @return The snapshot or {@code null} if there has not been recorded any duration yet.
+		 */
+		synchronized Histogram snapshot(final int event) {
+			if (counts[event] == 0) {
+				return null;
+			}
+			final long[] buckets = new long[BUCKET_COUNT];
+			System.arraycopy(bucketCounts, event * BUCKET_COUNT, buckets, 0, BUCKET_COUNT);
+			return new Histogram(event, counts[event], totalDurations[event], maxDurations[event], buckets);
+		}
+	}
+
+	/**
+	 * Snapshot of latency histogram recorded for a single lifecycle event of a fragment class.
+	 * All durations are in nanoseconds.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public static final class Histogram {
+
+		/**
+		 * The lifecycle event of this histogram.
+		 */
+		@Event public final int event;
+
+		/**
+		 * Count of recorded durations.
+		 */
+		public final long count;
+
+		/**
+		 * Sum of all recorded durations.
+		 */
+		public final long totalDuration;
+
+		/**
+		 * The longest recorded duration.
+		 */
+		public final long maxDuration;
+
+		/**
+		 * Counts of the recorded durations in buckets as described for {@link #BUCKET_COUNT}.
+		 */
+		private final long[] bucketCounts;
+
+		/**
+		 * Creates a new instance of Histogram with the specified values.
+		 */
+		Histogram(final int event, final long count, final long totalDuration, final long maxDuration, final long[] bucketCounts) {
+			this.event = event;
+			this.count = count;
+			this.totalDuration = totalDuration;
+			this.maxDuration = maxDuration;
+			this.bucketCounts = bucketCounts;
+		}
+
+		/**
+		 * Returns the count of durations recorded in the bucket at the specified <var>index</var>.
+		 *
+		 * @param index Index of the desired bucket from the {@code [0, BUCKET_COUNT)} range.
+		 * @return Count of durations in the bucket.
+		 */
+		public long getBucketCount(final int index) {
+			return bucketCounts[index];
+		}
+
+		/**
+		 * Returns the mean of all recorded durations.
+		 *
+		 * @return Mean duration in nanoseconds.
+		 */
+		public long getMeanDuration() {
+			return totalDuration / count;
+		}
+
+		/**
+		 * Returns an upper estimate of the specified <var>percentile</var> of the recorded durations,
+		 * that is, upper bound of the bucket in which lies the percentile. The estimate never exceeds
+		 * the {@link #maxDuration}.
+		 *
+		 * @param percentile The desired percentile from the {@code (0, 100]} range.
+		 * @return Estimated percentile duration in nanoseconds.
+		 */
+		public long getPercentileDuration(final double percentile) {
+			final double threshold = count * percentile / 100d;
+			long cumulativeCount = 0;
+			for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+				cumulativeCount += bucketCounts[i];
+				if (cumulativeCount >= threshold) {
+					return Math.min(maxDuration, (1L << i) * 1000L);
+				}
+			}
+			return maxDuration;
+		}
+
+		/**
+		 */
+		@Override @NonNull public String toString() {
+			return "Histogram{event: " + event +
+					", count: " + count +
+					", mean: " + getMeanDuration() +
+					", p50: " + getPercentileDuration(50) +
+					", p90: " + getPercentileDuration(90) +
+					", p99: " + getPercentileDuration(99) +
+					", max: " + maxDuration +
+					"}";
+		}
+	}
+}
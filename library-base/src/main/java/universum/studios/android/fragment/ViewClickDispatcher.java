@@ -0,0 +1,48 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Interface for dispatchers which dispatch view clicks to methods of a specific fragment class
+ * annotated with {@link universum.studios.android.fragment.annotation.OnViewClick @OnViewClick}.
+ * <p>
+ * Dispatchers are generated at compile time by the Fragments <b>annotation processor</b> or created
+ * at runtime via reflection for classes for which there is no dispatcher generated. See
+ * {@link ViewClickDispatchers} for more information.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public interface ViewClickDispatcher {
+
+	/**
+	 * Dispatches click on the given <var>view</var> to method of the given <var>fragment</var>
+	 * annotated for id of the view, if there is such method.
+	 *
+	 * @param fragment The fragment to which to dispatch the click. Must be an instance of the class
+	 *                 for which has been this dispatcher created.
+	 * @param view     The clicked view.
+	 * @return {@code True} if the click has been handled by the fragment, {@code false} otherwise.
+	 */
+	boolean dispatchViewClick(@NonNull Object fragment, @NonNull View view);
+}
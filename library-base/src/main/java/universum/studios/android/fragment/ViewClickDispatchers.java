@@ -0,0 +1,333 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.util.SparseArray;
+import android.view.View;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import universum.studios.android.fragment.annotation.OnViewClick;
+
+/**
+ * Registry of {@link ViewClickDispatchersIndex ViewClickDispatchersIndexes} which provides
+ * {@link ViewClickDispatcher ViewClickDispatchers} used by {@link BaseFragment} to dispatch view
+ * clicks to its methods annotated with {@link OnViewClick @OnViewClick}.
+ * <p>
+ * Dispatchers generated by the annotation processor invoke the annotated methods directly via switch
+ * on id of the clicked view. For fragment classes without generated dispatcher, the annotated methods
+ * are resolved via reflection into a table keyed by view ids, so the methods are looked up in constant
+ * time, however they are invoked via reflection. A dispatcher is meant to be obtained only once per
+ * fragment class, see {@link universum.studios.android.fragment.annotation.handler.ExtendedFragmentAnnotationHandler#getViewClickDispatcher()}.
+ * <p>
+ * Index generated by the annotation processor under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+ * is loaded automatically whenever a dispatcher is requested for the first time.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class ViewClickDispatchers {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "ViewClickDispatchers";
+
+	/**
+	 * Fully qualified name of the {@link ViewClickDispatchersIndex} implementation that is generated
+	 * by the annotation processor by default and which is loaded automatically.
+	 *
+	 * @see #registerIndex(ViewClickDispatchersIndex)
+	 */
+	public static final String GENERATED_INDEX_CLASS_NAME = "universum.studios.android.fragment.GeneratedViewClickDispatchersIndex";
+
+	/**
+	 * Lock used for synchronized modifications of the registered indexes.
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Empty array of indexes.
+	 */
+	private static final ViewClickDispatchersIndex[] NO_INDEXES = new ViewClickDispatchersIndex[0];
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Array with indexes which are consulted whenever a dispatcher is requested. This array is never
+	 * modified, a new array is created whenever a new index is registered.
+	 */
+	private static volatile ViewClickDispatchersIndex[] indexes = NO_INDEXES;
+
+	/**
+	 * Boolean flag indicating whether there has been already made an attempt to load the index
+	 * generated under the default name.
+	 */
+	private static volatile boolean generatedIndexLoaded;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private ViewClickDispatchers() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Registers the given <var>index</var> to be consulted whenever a view click dispatcher is requested.
+	 * <p>
+	 * <b>Note</b>, that index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+	 * is registered automatically and does not need to be registered via this method. This method
+	 * is meant for indexes generated under a different name, for example for separate feature modules.
+	 *
+	 * @param index The desired index to register.
+	 */
+	public static void registerIndex(@NonNull final ViewClickDispatchersIndex index) {
+		synchronized (LOCK) {
+			addIndex(index, false);
+		}
+	}
+
+	/**
+	 * Obtains a dispatcher for the specified <var>fragmentClass</var>. Dispatcher provided by one of
+	 * the registered indexes takes precedence, otherwise methods annotated with {@link OnViewClick @OnViewClick}
+	 * are resolved via reflection.
+	 *
+	 * @param fragmentClass Class of the fragment for which to obtain dispatcher.
+	 * @return Dispatcher for the fragment class or {@code null} if the class does not have any methods
+	 * annotated with {@link OnViewClick @OnViewClick}.
+	 * @throws IllegalStateException If some of the annotated methods has invalid signature.
+	 */
+	@Nullable public static ViewClickDispatcher obtainDispatcher(@NonNull final Class<?> fragmentClass) {
+		final ViewClickDispatcher dispatcher = findDispatcher(fragmentClass);
+		return dispatcher == null ? ReflectiveDispatcher.create(fragmentClass) : dispatcher;
+	}
+
+	/**
+	 * Finds a dispatcher for the specified <var>fragmentClass</var> within the registered indexes.
+	 *
+	 * @param fragmentClass Class of the fragment for which to find dispatcher.
+	 * @return Dispatcher provided by one of the indexes or {@code null} if there is no dispatcher
+	 * generated for the class.
+	 */
+	@Nullable static ViewClickDispatcher findDispatcher(@NonNull final Class<?> fragmentClass) {
+		if (!generatedIndexLoaded) {
+			loadGeneratedIndex();
+		}
+		for (final ViewClickDispatchersIndex index : indexes) {
+			final ViewClickDispatcher dispatcher = index.getDispatcher(fragmentClass);
+			if (dispatcher != null) {
+				return dispatcher;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Loads index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}, if such index
+	 * is available, and registers it as the first of all indexes. The load is attempted only once.
+	 */
+	private static void loadGeneratedIndex() {
+		synchronized (LOCK) {
+			if (generatedIndexLoaded) {
+				return;
+			}
+			try {
+				addIndex((ViewClickDispatchersIndex) Class.forName(GENERATED_INDEX_CLASS_NAME).newInstance(), true);
+			} catch (ClassNotFoundException e) {
+				// Dispatchers have not been generated by the annotation processor, all annotated
+				// methods will be resolved via reflection.
+			} catch (Exception e) {
+				FragmentsLogging.e(TAG, "Failed to load generated view click dispatchers index(" + GENERATED_INDEX_CLASS_NAME + ").", e);
+			} finally {
+				generatedIndexLoaded = true;
+			}
+		}
+	}
+
+	/**
+	 * Adds the given <var>index</var> into the registered indexes if it is not registered yet.
+	 * <p>
+	 * <b>Note</b>, that this method should be called while holding the {@link #LOCK}.
+	 *
+	 * @param index The index to add.
+	 * @param first {@code True} to add the index as the first one, {@code false} to add it as the last one.
+	 */
+	private static void addIndex(final ViewClickDispatchersIndex index, final boolean first) {
+		final ViewClickDispatchersIndex[] currentIndexes = indexes;
+		for (final ViewClickDispatchersIndex currentIndex : currentIndexes) {
+			if (currentIndex.equals(index)) {
+				return;
+			}
+		}
+		final ViewClickDispatchersIndex[] newIndexes = new ViewClickDispatchersIndex[currentIndexes.length + 1];
+		System.arraycopy(currentIndexes, 0, newIndexes, first ? 1 : 0, currentIndexes.length);
+		newIndexes[first ? 0 : currentIndexes.length] = index;
+		indexes = newIndexes;
+	}
+
+	/**
+	 * Clears all registered indexes so the generated index may be loaded again.
+	 */
+	@VisibleForTesting static void clearIndexes() {
+		synchronized (LOCK) {
+			indexes = NO_INDEXES;
+			generatedIndexLoaded = false;
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * A {@link ViewClickDispatcher} implementation which invokes methods annotated with {@link OnViewClick @OnViewClick}
+	 * via reflection.
+	 */
+	@VisibleForTesting static final class ReflectiveDispatcher implements ViewClickDispatcher {
+
+		/**
+		 * Bindings of the annotated methods mapped to ids of the views for which they have been specified.
+		 */
+		private final SparseArray<Binding> bindings;
+
+		/**
+		 * Creates a new instance of ReflectiveDispatcher with the given <var>bindings</var>.
+		 *
+		 * @param bindings Bindings of the annotated methods mapped to view ids.
+		 */
+		private ReflectiveDispatcher(final SparseArray<Binding> bindings) {
+			this.bindings = bindings;
+		}
+
+		/**
+		 * Creates a new dispatcher for all methods annotated with {@link OnViewClick @OnViewClick}
+		 * within hierarchy of the specified <var>fragmentClass</var>.
+		 *
+		 * @param fragmentClass Class of the fragment for which to create dispatcher.
+		 * @return Dispatcher for the class or {@code null} if there are no annotated methods.
+		 * @throws IllegalStateException If some of the annotated methods has invalid signature.
+		 */
+		@Nullable static ReflectiveDispatcher create(@NonNull final Class<?> fragmentClass) {
+			SparseArray<Binding> bindings = null;
+			Class<?> currentClass = fragmentClass;
+			while (currentClass != null && currentClass != BaseFragment.class && currentClass != Object.class) {
+				for (final Method method : currentClass.getDeclaredMethods()) {
+					final OnViewClick onViewClick = method.getAnnotation(OnViewClick.class);
+					if (onViewClick == null) {
+						continue;
+					}
+					final Class<?>[] parameterTypes = method.getParameterTypes();
+					if (parameterTypes.length > 1 || (parameterTypes.length == 1 && !parameterTypes[0].isAssignableFrom(View.class))) {
+						throw new IllegalStateException(
+								"Method " + currentClass.getName() + "." + method.getName() + " annotated with @OnViewClick " +
+										"must have either no parameter or a single View parameter."
+						);
+					}
+					method.setAccessible(true);
+					final Binding binding = new Binding(method, parameterTypes.length == 1, method.getReturnType() == boolean.class);
+					if (bindings == null) {
+						bindings = new SparseArray<>(onViewClick.value().length);
+					}
+					for (final int viewId : onViewClick.value()) {
+						// Methods of derived classes take precedence.
+						if (bindings.indexOfKey(viewId) < 0) {
+							bindings.put(viewId, binding);
+						}
+					}
+				}
+				currentClass = currentClass.getSuperclass();
+			}
+			return bindings == null ? null : new ReflectiveDispatcher(bindings);
+		}
+
+		/**
+		 */
+		@Override public boolean dispatchViewClick(@NonNull final Object fragment, @NonNull final View view) {
+			final Binding binding = bindings.get(view.getId());
+			if (binding == null) {
+				return false;
+			}
+			final Method method = binding.method;
+			final Object result;
+			try {
+				result = binding.withView ? method.invoke(fragment, view) : method.invoke(fragment);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException("Failed to invoke @OnViewClick method " + method.getName() + ".", e);
+			} catch (InvocationTargetException e) {
+				final Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new IllegalStateException("Failed to invoke @OnViewClick method " + method.getName() + ".", cause);
+			}
+			return !binding.returnsBoolean || (Boolean) result;
+		}
+
+		/**
+		 * Binding of a single method annotated with {@link OnViewClick @OnViewClick}.
+		 */
+		private static final class Binding {
+
+			/**
+			 * The annotated method.
+			 */
+			final Method method;
+
+			/**
+			 * Boolean flag indicating whether the method takes the clicked view as parameter.
+			 */
+			final boolean withView;
+
+			/**
+			 * Boolean flag indicating whether the method returns whether the click has been handled.
+			 */
+			final boolean returnsBoolean;
+
+			/**
+			 * Creates a new instance of Binding for the given <var>method</var>.
+			 */
+			Binding(final Method method, final boolean withView, final boolean returnsBoolean) {
+				this.method = method;
+				this.withView = withView;
+				this.returnsBoolean = returnsBoolean;
+			}
+		}
+	}
+}
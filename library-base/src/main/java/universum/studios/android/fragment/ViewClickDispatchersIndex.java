@@ -0,0 +1,44 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Interface for indexes that provide {@link ViewClickDispatcher ViewClickDispatchers} for specific
+ * fragment classes. Such indexes are generated at compile time by the Fragments <b>annotation processor</b>.
+ * <p>
+ * Index generated under the {@link ViewClickDispatchers#GENERATED_INDEX_CLASS_NAME default name}
+ * is picked up automatically, any other index may be registered via {@link ViewClickDispatchers#registerIndex(ViewClickDispatchersIndex)}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public interface ViewClickDispatchersIndex {
+
+	/**
+	 * Returns the dispatcher generated for the specified <var>fragmentClass</var>.
+	 *
+	 * @param fragmentClass Class of the fragment for which to return dispatcher.
+	 * @return Dispatcher for the fragment class or {@code null} if this index does not have dispatcher
+	 * generated for such class.
+	 */
+	@Nullable ViewClickDispatcher getDispatcher(@NonNull Class<?> fragmentClass);
+}
@@ -63,4 +63,43 @@ public @interface ContentView {
 	 * Default value: <b>-1</b>
 	 */
 	@ColorRes @DrawableRes int background() default -1;
+
+	/**
+	 * Flag indicating whether to inflate the content view asynchronously on a background thread.
+	 * <p>
+	 * If {@code true}, a lightweight container with an optional placeholder is created as root view
+	 * of the fragment and the content view is added into it when its inflation finishes. Such
+	 * fragments should perform setup of theirs content view in
+	 * {@link universum.studios.android.fragment.BaseFragment#onContentViewCreated(android.view.View, android.os.Bundle) BaseFragment.onContentViewCreated(View, Bundle)},
+	 * which is usually invoked only after the fragment has been already started and resumed.
+	 * <p>
+	 * The layout is inflated without factories of the inflater of the fragment, so views of the
+	 * inflated layout are not substituted by theirs AppCompat variants.
+	 * <p>
+	 * This flag is ignored if {@link #attachToContainer()} is {@code true}.
+	 * <p>
+	 * Default value: <b>false</b>
+	 *
+	 * @since 1.6
+	 */
+	boolean async() default false;
+
+	/**
+	 * Flag indicating whether to create the content view lazily, when the fragment becomes visible
+	 * for the first time.
+	 * <p>
+	 * If {@code true}, a lightweight empty container is created as root view of the fragment and the
+	 * content view is created and added into it only when the fragment is started while not being
+	 * hidden or when it is shown, so fragments which are added and immediately hidden do not create
+	 * theirs content views until they are actually displayed. Such fragments should perform setup
+	 * of theirs content view in
+	 * {@link universum.studios.android.fragment.BaseFragment#onContentViewCreated(android.view.View, android.os.Bundle) BaseFragment.onContentViewCreated(View, Bundle)}.
+	 * <p>
+	 * This flag is ignored if {@link #attachToContainer()} is {@code true}.
+	 * <p>
+	 * Default value: <b>false</b>
+	 *
+	 * @since 1.6
+	 */
+	boolean lazy() default false;
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import androidx.annotation.IdRes;
+
+/**
+ * Defines an annotation for determining a method of fragment that should be invoked whenever a view
+ * with one of the specified ids is clicked and the click is dispatched to the fragment via
+ * {@link universum.studios.android.fragment.BaseFragment#dispatchViewClick(android.view.View) BaseFragment.dispatchViewClick(View)}.
+ * <p>
+ * The annotated method may either take no parameter or a single {@link android.view.View} parameter
+ * which is the clicked view. If the method returns {@code boolean}, the returned value determines
+ * whether the click has been handled, otherwise the click is treated as handled.
+ * <p>
+ * When there are multiple methods specified for the same view id within a fragment class hierarchy,
+ * the one declared in the most derived class is invoked.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OnViewClick {
+
+	/**
+	 * Ids of the views of which clicks should be dispatched to the annotated method.
+	 */
+	@IdRes int[] value();
+}
@@ -18,13 +18,20 @@
  */
 package universum.studios.android.fragment.annotation.handler;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 import androidx.annotation.ColorRes;
 import androidx.annotation.DrawableRes;
 import androidx.annotation.LayoutRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import universum.studios.android.fragment.BaseFragment;
+import universum.studios.android.fragment.ViewClickDispatcher;
+import universum.studios.android.fragment.ViewClickDispatchers;
 import universum.studios.android.fragment.annotation.ContentView;
+import universum.studios.android.fragment.annotation.OnViewClick;
 
 /**
  * An {@link AnnotationHandlers} implementation providing {@link AnnotationHandler} instances for
@@ -35,6 +42,16 @@ import universum.studios.android.fragment.annotation.ContentView;
  */
 public final class BaseAnnotationHandlers extends AnnotationHandlers {
 
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	static {
+		// Register handler type for pre-warming and codec for persisting of handlers of all BaseFragment classes.
+		registerHandlerType(BaseFragment.class, FragmentHandler.class);
+		AnnotationHandlersStore.registerCodec(FragmentHandler.class, new FragmentHandlerCodec());
+	}
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -59,10 +76,10 @@ public final class BaseAnnotationHandlers extends AnnotationHandlers {
 	 */
 
 	/**
-	 * A {@link FragmentAnnotationHandler} implementation for {@link BaseFragment} class.
+	 * A {@link ExtendedFragmentAnnotationHandler} implementation for {@link BaseFragment} class.
 	 */
 	@SuppressWarnings("WeakerAccess")
-	static class FragmentHandler extends BaseAnnotationHandler implements FragmentAnnotationHandler {
+	static class FragmentHandler extends BaseAnnotationHandler implements ExtendedFragmentAnnotationHandler {
 
 		/**
 		 * Boolean flat determining whether to attach content view to the related fragment's parent
@@ -87,6 +104,31 @@ public final class BaseAnnotationHandlers extends AnnotationHandlers {
 		 */
 		private int contentViewBackgroundResId = NO_RES;
 
+		/**
+		 * Boolean flag determining whether to inflate the related fragment's content view asynchronously.
+		 * <p>
+		 * Obtained via {@link ContentView @ContentView} annotation.
+		 */
+		private boolean inflateContentViewAsync;
+
+		/**
+		 * Boolean flag determining whether to create the related fragment's content view lazily.
+		 * <p>
+		 * Obtained via {@link ContentView @ContentView} annotation.
+		 */
+		private boolean createContentViewLazily;
+
+		/**
+		 * Dispatcher of view clicks to methods of the related fragment annotated with {@link OnViewClick @OnViewClick}.
+		 * Resolved lazily, when it is requested for the first time.
+		 */
+		private volatile ViewClickDispatcher viewClickDispatcher;
+
+		/**
+		 * Boolean flag indicating whether the {@link #viewClickDispatcher} has been already resolved.
+		 */
+		private volatile boolean viewClickDispatcherResolved;
+
 		/**
 		 * Creates a new instance of FragmentHandler for the given <var>annotatedClass</var>.
 		 *
@@ -99,9 +141,56 @@ public final class BaseAnnotationHandlers extends AnnotationHandlers {
 				this.attachContentViewToContainer = contentView.attachToContainer();
 				this.contentViewResource = contentView.value();
 				this.contentViewBackgroundResId = contentView.background();
+				this.inflateContentViewAsync = contentView.async();
+				this.createContentViewLazily = contentView.lazy();
 			}
 		}
 
+		/**
+		 * Creates a new instance of FragmentHandler for the given <var>annotatedClass</var> with
+		 * already resolved values of {@link ContentView @ContentView} annotation.
+		 * <p>
+		 * This constructor is used by handlers index generated by the Fragments annotation processor.
+		 *
+		 * @param annotatedClass               The class of which annotations processing should the
+		 *                                     new handler handle.
+		 * @param contentViewResource          Resolved {@link ContentView#value()}.
+		 * @param attachContentViewToContainer Resolved {@link ContentView#attachToContainer()}.
+		 * @param contentViewBackgroundResId   Resolved {@link ContentView#background()}.
+		 * @param inflateContentViewAsync      Resolved {@link ContentView#async()}.
+		 * @param createContentViewLazily      Resolved {@link ContentView#lazy()}.
+		 */
+		FragmentHandler(
+				@NonNull final Class<?> annotatedClass,
+				final int contentViewResource,
+				final boolean attachContentViewToContainer,
+				final int contentViewBackgroundResId,
+				final boolean inflateContentViewAsync,
+				final boolean createContentViewLazily
+		) {
+			super(annotatedClass);
+			this.contentViewResource = contentViewResource;
+			this.attachContentViewToContainer = attachContentViewToContainer;
+			this.contentViewBackgroundResId = contentViewBackgroundResId;
+			this.inflateContentViewAsync = inflateContentViewAsync;
+			this.createContentViewLazily = createContentViewLazily;
+		}
+
+		/**
+		 * Writes all values resolved by this handler into the given <var>output</var>, so this
+		 * handler may be later re-created from them.
+		 *
+		 * @param output Output where to write the values.
+		 * @throws IOException If writing fails.
+		 */
+		void writeValues(@NonNull final DataOutput output) throws IOException {
+			output.writeInt(contentViewResource);
+			output.writeBoolean(attachContentViewToContainer);
+			output.writeInt(contentViewBackgroundResId);
+			output.writeBoolean(inflateContentViewAsync);
+			output.writeBoolean(createContentViewLazily);
+		}
+
 		/**
 		 */
 		@Override @LayoutRes public int getContentViewResource(@LayoutRes final int defaultViewResource) {
@@ -119,5 +208,52 @@ public final class BaseAnnotationHandlers extends AnnotationHandlers {
 		@Override @ColorRes @DrawableRes public int getContentViewBackgroundResId(final int defaultResId) {
 			return contentViewBackgroundResId == NO_RES ? defaultResId : contentViewBackgroundResId;
 		}
+
+		/**
+		 */
+		@Override public boolean shouldInflateContentViewAsync() {
+			return inflateContentViewAsync;
+		}
+
+		/**
+		 */
+		@Override public boolean shouldCreateContentViewLazily() {
+			return createContentViewLazily;
+		}
+
+		/**
+		 */
+		@Override @Nullable public ViewClickDispatcher getViewClickDispatcher() {
+			if (!viewClickDispatcherResolved) {
+				this.viewClickDispatcher = ViewClickDispatchers.obtainDispatcher(getAnnotatedClass());
+				this.viewClickDispatcherResolved = true;
+			}
+			return viewClickDispatcher;
+		}
+	}
+
+	/**
+	 * A {@link AnnotationHandlersStore.HandlerCodec} implementation for {@link FragmentHandler}.
+	 */
+	static final class FragmentHandlerCodec implements AnnotationHandlersStore.HandlerCodec<FragmentHandler> {
+
+		/**
+		 */
+		@Override public void write(@NonNull final FragmentHandler handler, @NonNull final DataOutput output) throws IOException {
+			handler.writeValues(output);
+		}
+
+		/**
+		 */
+		@Override @NonNull public FragmentHandler read(@NonNull final Class<?> annotatedClass, @NonNull final DataInput input) throws IOException {
+			return new FragmentHandler(
+					annotatedClass,
+					input.readInt(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readBoolean(),
+					input.readBoolean()
+			);
+		}
 	}
-}
\ No newline at end of file
+}
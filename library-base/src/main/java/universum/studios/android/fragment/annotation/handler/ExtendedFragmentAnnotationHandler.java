@@ -0,0 +1,73 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import androidx.annotation.Nullable;
+import universum.studios.android.fragment.BaseFragment;
+import universum.studios.android.fragment.ViewClickDispatcher;
+import universum.studios.android.fragment.annotation.ContentView;
+import universum.studios.android.fragment.annotation.OnViewClick;
+
+/**
+ * A {@link FragmentAnnotationHandler} extended interface for annotation handlers which support also
+ * the annotation attributes added in later versions of the Fragments library.
+ * <p>
+ * {@link BaseFragment} checks whether its annotation handler implements this interface and if it
+ * does not, it behaves as if none of these attributes has been specified. Custom implementations
+ * of {@link FragmentAnnotationHandler} thus do not need to implement this interface.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ *
+ * @see BaseFragment
+ */
+public interface ExtendedFragmentAnnotationHandler extends FragmentAnnotationHandler {
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns a boolean flag obtained from {@link ContentView @ContentView} annotation (if presented)
+	 * from {@link ContentView#async()} attribute.
+	 *
+	 * @return {@code True} if asynchronous inflation of the content view has been requested via
+	 * annotation, {@code false} otherwise.
+	 */
+	boolean shouldInflateContentViewAsync();
+
+	/**
+	 * Returns a boolean flag obtained from {@link ContentView @ContentView} annotation (if presented)
+	 * from {@link ContentView#lazy()} attribute.
+	 *
+	 * @return {@code True} if lazy creation of the content view has been requested via annotation,
+	 * {@code false} otherwise.
+	 */
+	boolean shouldCreateContentViewLazily();
+
+	/**
+	 * Returns the dispatcher of view clicks to methods annotated with {@link OnViewClick @OnViewClick}
+	 * (if presented). The dispatcher is resolved only once, when it is requested for the first time.
+	 *
+	 * @return Dispatcher for the annotated methods or {@code null} if there are no such methods.
+	 *
+	 * @see universum.studios.android.fragment.ViewClickDispatchers#obtainDispatcher(Class)
+	 */
+	@Nullable ViewClickDispatcher getViewClickDispatcher();
+}
\ No newline at end of file
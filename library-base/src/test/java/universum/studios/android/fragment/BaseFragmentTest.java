@@ -22,22 +22,31 @@ import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.os.Build;
 import android.os.Bundle;
+import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
 import android.widget.FrameLayout;
+import android.widget.TextView;
 
 import org.junit.Test;
 import org.robolectric.Robolectric;
+import org.robolectric.android.controller.ActivityController;
 import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.FragmentActivity;
 import androidx.fragment.app.FragmentManager;
 import universum.studios.android.fragment.annotation.ContentView;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
+import universum.studios.android.fragment.annotation.OnViewClick;
 import universum.studios.android.fragment.annotation.handler.FragmentAnnotationHandler;
 import universum.studios.android.test.AndroidTestCase;
 import universum.studios.android.test.TestActivity;
@@ -62,6 +71,15 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		FragmentAnnotations.setEnabled(true);
 	}
 
+	@Override public void afterTest() {
+		super.afterTest();
+		AsyncContentViewInflater.setExecutor(null);
+		ContentViewBuilders.clearIndexes();
+		ViewClickDispatchers.clearIndexes();
+		FragmentLifecycleMetrics.setEnabled(false);
+		FragmentLifecycleMetrics.reset();
+	}
+
 	@Test public void testNewInstanceWithArguments() {
 		// Arrange:
 		final Bundle args = new Bundle();
@@ -90,6 +108,12 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		assertThat(BaseFragment.newInstanceWithArguments(TestFragmentWithPrivateConstructor.class, new Bundle()), is(nullValue()));
 	}
 
+	@Test(expected = IllegalStateException.class)
+	public void testNewInstanceWithArgumentsForFragmentWithFailingConstructor() {
+		// Act:
+		BaseFragment.newInstanceWithArguments(TestFragmentWithFailingConstructor.class, new Bundle());
+	}
+
 	@Test public void testOnCreateAnnotationHandler() {
 		// Arrange:
 		final BaseFragment fragment = new TestFragment();
@@ -250,6 +274,214 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		FragmentAnnotations.setEnabled(true);
 	}
 
+	@Test public void testOnCreateViewAsync() {
+		// Arrange:
+		final QueueExecutor executor = new QueueExecutor();
+		AsyncContentViewInflater.setExecutor(executor);
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final TestFragmentWithAsyncContentView fragment = new TestFragmentWithAsyncContentView();
+		// Act:
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).commitNow();
+		// Assert:
+		final ViewGroup rootView = (ViewGroup) fragment.getView();
+		assertThat(rootView, is(notNullValue()));
+		assertThat(rootView.getChildCount(), is(1));
+		assertThat(rootView.getChildAt(0) == fragment.placeholderView, is(true));
+		assertThat(fragment.isContentViewInflating(), is(true));
+		assertThat(fragment.createdContentView, is(nullValue()));
+		executor.runAll();
+		ShadowLooper.idleMainLooper();
+		assertThat(fragment.isContentViewInflating(), is(false));
+		assertThat(rootView.getChildCount(), is(1));
+		assertThat(fragment.createdContentView, is(notNullValue()));
+		assertThat(rootView.getChildAt(0) == fragment.createdContentView, is(true));
+	}
+
+	@Test public void testOnCreateViewAsyncRestoresHierarchyState() {
+		// Arrange:
+		final QueueExecutor executor = new QueueExecutor();
+		AsyncContentViewInflater.setExecutor(executor);
+		final ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).create().start().resume();
+		final TestFragmentWithAsyncContentView fragment = new TestFragmentWithAsyncContentView();
+		controller.get().getSupportFragmentManager().beginTransaction().add(android.R.id.content, fragment, "async").commitNow();
+		executor.runAll();
+		ShadowLooper.idleMainLooper();
+		final TextView contentView = (TextView) fragment.createdContentView;
+		contentView.setFreezesText(true);
+		contentView.setText("Restored");
+		final Bundle state = new Bundle();
+		controller.pause().saveInstanceState(state).stop();
+		// Act:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create(state).start().resume().get();
+		executor.runAll();
+		ShadowLooper.idleMainLooper();
+		// Assert:
+		final TestFragmentWithAsyncContentView restoredFragment = (TestFragmentWithAsyncContentView) activity.getSupportFragmentManager().findFragmentByTag("async");
+		assertThat(restoredFragment, is(notNullValue()));
+		assertThat(restoredFragment.createdContentView, is(notNullValue()));
+		assertThat(((TextView) restoredFragment.createdContentView).getText().toString(), is("Restored"));
+	}
+
+	@Test public void testOnCreateViewWithContentViewBuilder() {
+		// Arrange:
+		final Activity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final View builtView = new View(activity);
+		ContentViewBuilders.registerIndex(layoutResource -> layoutResource == android.R.layout.simple_list_item_1 ? context -> builtView : null);
+		final BaseFragment fragment = new TestFragment();
+		// Act:
+		final View view = fragment.onCreateView(activity.getLayoutInflater(), null, null);
+		// Assert:
+		assertThat(view, is(builtView));
+	}
+
+	@Test public void testOnCreateViewAsyncWithContentViewBuilder() {
+		// Arrange:
+		final QueueExecutor executor = new QueueExecutor();
+		AsyncContentViewInflater.setExecutor(executor);
+		final Activity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final View builtView = new View(activity);
+		ContentViewBuilders.registerIndex(layoutResource -> layoutResource == android.R.layout.simple_list_item_1 ? context -> builtView : null);
+		final TestFragmentWithAsyncContentView fragment = new TestFragmentWithAsyncContentView();
+		// Act:
+		final View view = fragment.onCreateView(activity.getLayoutInflater(), null, null);
+		// Assert:
+		assertThat(view, is(builtView));
+		assertThat(fragment.isContentViewInflating(), is(false));
+		assertThat(executor.commands.isEmpty(), is(true));
+	}
+
+	@Test public void testOnDestroyViewWhileContentViewIsInflatingAsync() {
+		// Arrange:
+		final QueueExecutor executor = new QueueExecutor();
+		AsyncContentViewInflater.setExecutor(executor);
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final TestFragmentWithAsyncContentView fragment = new TestFragmentWithAsyncContentView();
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).commitNow();
+		// Act:
+		fragmentManager.beginTransaction().remove(fragment).commitNow();
+		// Assert:
+		assertThat(fragment.isContentViewInflating(), is(false));
+		executor.runAll();
+		ShadowLooper.idleMainLooper();
+		assertThat(fragment.createdContentView, is(nullValue()));
+	}
+
+	@Test public void testOnCreateViewLazyWhenHidden() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final TestFragmentWithLazyContentView fragment = new TestFragmentWithLazyContentView();
+		// Act:
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).hide(fragment).commitNow();
+		// Assert:
+		final ViewGroup rootView = (ViewGroup) fragment.getView();
+		assertThat(rootView, is(notNullValue()));
+		assertThat(rootView.getChildCount(), is(0));
+		assertThat(fragment.isContentViewDeferred(), is(true));
+		assertThat(fragment.createdContentView, is(nullValue()));
+		fragmentManager.beginTransaction().show(fragment).commitNow();
+		assertThat(fragment.isContentViewDeferred(), is(false));
+		assertThat(rootView.getChildCount(), is(1));
+		assertThat(fragment.createdContentView, is(notNullValue()));
+		assertThat(rootView.getChildAt(0) == fragment.createdContentView, is(true));
+	}
+
+	@Test public void testOnCreateViewLazyWhenVisible() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final TestFragmentWithLazyContentView fragment = new TestFragmentWithLazyContentView();
+		// Act:
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).commitNow();
+		// Assert:
+		final ViewGroup rootView = (ViewGroup) fragment.getView();
+		assertThat(rootView, is(notNullValue()));
+		assertThat(fragment.isContentViewDeferred(), is(false));
+		assertThat(rootView.getChildCount(), is(1));
+		assertThat(rootView.getChildAt(0) == fragment.createdContentView, is(true));
+	}
+
+	@Test public void testOnDestroyViewWhileContentViewIsDeferred() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final TestFragmentWithLazyContentView fragment = new TestFragmentWithLazyContentView();
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).hide(fragment).commitNow();
+		// Act:
+		fragmentManager.beginTransaction().remove(fragment).commitNow();
+		// Assert:
+		assertThat(fragment.isContentViewDeferred(), is(false));
+		assertThat(fragment.createdContentView, is(nullValue()));
+	}
+
+	@Test public void testLifecycleRecordedToMetrics() {
+		// Arrange:
+		FragmentLifecycleMetrics.setEnabled(true);
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final BaseFragment fragment = new TestFragment();
+		final List<FragmentLifecycleMetrics.Histogram> histograms = new ArrayList<>();
+		// Act:
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).commitNow();
+		// Assert:
+		FragmentLifecycleMetrics.report((fragmentClass, histogram) -> {
+			assertThat(fragmentClass == TestFragment.class, is(true));
+			histograms.add(histogram);
+		});
+		assertThat(histograms.size(), is(FragmentLifecycleMetrics.EVENT_COUNT));
+		for (final FragmentLifecycleMetrics.Histogram histogram : histograms) {
+			assertThat(histogram.count, is(1L));
+		}
+	}
+
+	@Test public void testLifecycleRecordedToMetricsForEachOccurrence() {
+		// Arrange:
+		FragmentLifecycleMetrics.setEnabled(true);
+		final ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).create().start().resume();
+		final FragmentManager fragmentManager = controller.get().getSupportFragmentManager();
+		fragmentManager.beginTransaction().add(android.R.id.content, new TestFragment()).commitNow();
+		final List<FragmentLifecycleMetrics.Histogram> histograms = new ArrayList<>();
+		// Act:
+		controller.pause().stop().start().resume();
+		// Assert:
+		FragmentLifecycleMetrics.report((fragmentClass, histogram) -> histograms.add(histogram));
+		for (final FragmentLifecycleMetrics.Histogram histogram : histograms) {
+			switch (histogram.event) {
+				case FragmentLifecycleMetrics.EVENT_START:
+				case FragmentLifecycleMetrics.EVENT_RESUME:
+					assertThat(histogram.count, is(2L));
+					break;
+				default:
+					assertThat(histogram.count, is(1L));
+					break;
+			}
+		}
+	}
+
+	@Test public void testLifecycleNotRecordedToMetricsWhenDisabled() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentLifecycleMetrics.Reporter mockReporter = mock(FragmentLifecycleMetrics.Reporter.class);
+		// Act:
+		fragmentManager.beginTransaction().add(android.R.id.content, new TestFragment()).commitNow();
+		// Assert:
+		FragmentLifecycleMetrics.report(mockReporter);
+		verifyNoInteractions(mockReporter);
+	}
+
+	@Test public void testOnViewCreatedDispatchesContentViewCreated() {
+		// Arrange:
+		final TestFragmentWithAsyncContentView fragment = new TestFragmentWithAsyncContentView();
+		final View mockView = mock(FrameLayout.class);
+		// Act:
+		fragment.onViewCreated(mockView, null);
+		// Assert:
+		assertThat(fragment.createdContentView == mockView, is(true));
+	}
+
 	@Test public void testOnViewCreated() {
 		// Arrange:
 		final BaseFragment fragment = new TestFragment();
@@ -305,6 +537,54 @@ public final class BaseFragmentTest extends AndroidTestCase {
 	}
 
 	@Config(sdk = Build.VERSION_CODES.JELLY_BEAN)
+	@Test public void testViewReleasable() {
+		// Arrange:
+		final BaseFragment fragment = new TestFragment();
+		// Act + Assert:
+		assertThat(fragment.isViewReleasable(), is(false));
+		fragment.setViewReleasable(true);
+		assertThat(fragment.isViewReleasable(), is(true));
+		fragment.setViewReleasable(false);
+		assertThat(fragment.isViewReleasable(), is(false));
+	}
+
+	@Test public void testViewReleasedClearedWhenViewIsCreated() {
+		// Arrange:
+		final BaseFragment fragment = new TestFragment();
+		fragment.setViewReleased(true);
+		// Act:
+		fragment.onViewCreated(mock(View.class), null);
+		// Assert:
+		assertThat(fragment.isViewReleased(), is(false));
+	}
+
+	@Test public void testOnSaveInstanceStateWithReleasedView() {
+		// Arrange:
+		final BaseFragment fragment = new TestFragment();
+		final Bundle state = new Bundle();
+		fragment.setViewReleased(true);
+		// Act:
+		fragment.onSaveInstanceState(state);
+		// Assert:
+		assertThat(state.getBoolean(BaseFragment.BUNDLE_VIEW_RELEASED), is(true));
+	}
+
+	@Test public void testOnCreateViewLazyWhenViewHasBeenReleased() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final TestFragmentWithLazyContentView fragment = new TestFragmentWithLazyContentView();
+		fragmentManager.beginTransaction().add(android.R.id.content, fragment).hide(fragment).commitNow();
+		fragmentManager.beginTransaction().detach(fragment).commitNow();
+		fragment.setViewReleased(true);
+		// Act:
+		fragmentManager.beginTransaction().attach(fragment).commitNow();
+		// Assert:
+		assertThat(fragment.isContentViewDeferred(), is(false));
+		assertThat(fragment.isViewReleased(), is(false));
+		assertThat(fragment.createdContentView, is(notNullValue()));
+	}
+
 	@Test public void testInflateTransitionOnJellyBeanApiLevel() {
 		// Arrange:
 		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
@@ -396,6 +676,39 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		assertThat(fragment.dispatchedClickedView, is(view));
 	}
 
+	@Test public void testDispatchViewClickToAnnotatedMethod() {
+		// Arrange:
+		final TestFragmentWithViewClicks fragment = new TestFragmentWithViewClicks();
+		final View view = new Button(context());
+		view.setId(android.R.id.button1);
+		// Act + Assert:
+		assertThat(fragment.dispatchViewClick(view), is(true));
+		assertThat(fragment.annotatedClickedView, is(view));
+		assertThat(fragment.dispatchedClickedView, is(nullValue()));
+	}
+
+	@Test public void testDispatchViewClickToAnnotatedMethodNotHandlingClick() {
+		// Arrange:
+		final TestFragmentWithViewClicks fragment = new TestFragmentWithViewClicks();
+		final View view = new Button(context());
+		view.setId(android.R.id.button2);
+		// Act + Assert:
+		assertThat(fragment.dispatchViewClick(view), is(false));
+		assertThat(fragment.dispatchedClickedView, is(view));
+	}
+
+	@Test public void testDispatchViewClickViaGeneratedDispatcher() {
+		// Arrange:
+		final ViewClickDispatcher mockDispatcher = mock(ViewClickDispatcher.class);
+		ViewClickDispatchers.registerIndex(fragmentClass -> fragmentClass == TestFragmentWithGeneratedViewClicks.class ? mockDispatcher : null);
+		final BaseFragment fragment = new TestFragmentWithGeneratedViewClicks();
+		final View view = new Button(context());
+		// Act:
+		fragment.dispatchViewClick(view);
+		// Assert:
+		verify(mockDispatcher).dispatchViewClick(fragment, view);
+	}
+
 	@Test public void testOnPause() {
 		// Arrange:
 		final BaseFragment fragment = new TestFragment();
@@ -481,6 +794,21 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		}
 	}
 
+	public static class TestFragmentWithViewClicks extends TestFragment {
+
+		View annotatedClickedView;
+
+		@OnViewClick(android.R.id.button1) void onButtonClick(final View view) {
+			this.annotatedClickedView = view;
+		}
+
+		@OnViewClick(android.R.id.button2) boolean onSecondButtonClick() {
+			return false;
+		}
+	}
+
+	public static class TestFragmentWithGeneratedViewClicks extends BaseFragment {}
+
 	@ContentView(value = android.R.layout.simple_list_item_1, attachToContainer = true)
 	public static class TestFragmentWithContentViewToBeAttachedToContainer extends BaseFragment {}
 
@@ -493,6 +821,33 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		static final int BACKGROUND_RESOURCE = android.R.color.black;
 	}
 
+	@ContentView(value = android.R.layout.simple_list_item_1, async = true)
+	public static class TestFragmentWithAsyncContentView extends BaseFragment {
+
+		View placeholderView;
+		View createdContentView;
+
+		@Override @NonNull protected View onCreateContentViewPlaceholder(@NonNull final LayoutInflater inflater, @NonNull final ViewGroup container) {
+			return placeholderView = new View(inflater.getContext());
+		}
+
+		@Override protected void onContentViewCreated(@NonNull final View contentView, @Nullable final Bundle savedInstanceState) {
+			super.onContentViewCreated(contentView, savedInstanceState);
+			this.createdContentView = contentView;
+		}
+	}
+
+	@ContentView(value = android.R.layout.simple_list_item_1, lazy = true)
+	public static class TestFragmentWithLazyContentView extends BaseFragment {
+
+		View createdContentView;
+
+		@Override protected void onContentViewCreated(@NonNull final View contentView, @Nullable final Bundle savedInstanceState) {
+			super.onContentViewCreated(contentView, savedInstanceState);
+			this.createdContentView = contentView;
+		}
+	}
+
 	@ContentView(0)
 	public static class TestFragmentWithoutContentView extends BaseFragment {}
 
@@ -503,4 +858,27 @@ public final class BaseFragmentTest extends AndroidTestCase {
 		@SuppressLint("ValidFragment")
 		private TestFragmentWithPrivateConstructor() {}
 	}
+
+	public static class TestFragmentWithFailingConstructor extends BaseFragment {
+
+		public TestFragmentWithFailingConstructor() {
+			throw new IllegalStateException();
+		}
+	}
+
+	private static final class QueueExecutor implements Executor {
+
+		final List<Runnable> commands = new ArrayList<>();
+
+		@Override public void execute(@NonNull final Runnable command) {
+			commands.add(command);
+		}
+
+		void runAll() {
+			for (final Runnable command : commands) {
+				command.run();
+			}
+			commands.clear();
+		}
+	}
 }
\ No newline at end of file
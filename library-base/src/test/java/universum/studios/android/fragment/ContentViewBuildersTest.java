@@ -0,0 +1,65 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.view.View;
+
+import org.junit.Test;
+
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class ContentViewBuildersTest extends AndroidTestCase {
+
+	@Override public void afterTest() {
+		super.afterTest();
+		ContentViewBuilders.clearIndexes();
+	}
+
+	@Test public void testFindBuilderWithoutIndexes() {
+		// Act + Assert:
+		assertThat(ContentViewBuilders.findBuilder(android.R.layout.simple_list_item_1), is(nullValue()));
+	}
+
+	@Test public void testFindBuilder() {
+		// Arrange:
+		final ContentViewBuilder builder = View::new;
+		ContentViewBuilders.registerIndex(layoutResource -> layoutResource == android.R.layout.simple_list_item_1 ? builder : null);
+		// Act + Assert:
+		assertThat(ContentViewBuilders.findBuilder(android.R.layout.simple_list_item_1), is(builder));
+		assertThat(ContentViewBuilders.findBuilder(android.R.layout.simple_list_item_2), is(nullValue()));
+	}
+
+	@Test public void testFindBuilderInMultipleIndexes() {
+		// Arrange:
+		final ContentViewBuilder firstBuilder = View::new;
+		final ContentViewBuilder secondBuilder = View::new;
+		ContentViewBuilders.registerIndex(layoutResource -> layoutResource == android.R.layout.simple_list_item_1 ? firstBuilder : null);
+		ContentViewBuilders.registerIndex(layoutResource -> secondBuilder);
+		// Act + Assert:
+		assertThat(ContentViewBuilders.findBuilder(android.R.layout.simple_list_item_1), is(firstBuilder));
+		assertThat(ContentViewBuilders.findBuilder(android.R.layout.simple_list_item_2), is(secondBuilder));
+	}
+}
@@ -0,0 +1,250 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.app.Activity;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Configuration;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+
+import org.junit.Test;
+import org.robolectric.Robolectric;
+
+import androidx.annotation.Nullable;
+import universum.studios.android.fragment.annotation.ContentView;
+import universum.studios.android.test.AndroidTestCase;
+import universum.studios.android.test.TestActivity;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class ContentViewPoolTest extends AndroidTestCase {
+
+	private static final int LAYOUT = android.R.layout.simple_list_item_1;
+
+	private Activity activity;
+	private ContentViewPool pool;
+
+	@Override public void beforeTest() {
+		super.beforeTest();
+		this.activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		this.pool = new ContentViewPool(activity.getLayoutInflater());
+	}
+
+	@Override public void afterTest() {
+		super.afterTest();
+		pool.clear();
+	}
+
+	@Test public void testFrom() {
+		// Arrange:
+		final Context context = new ProviderContext(activity, pool);
+		// Act + Assert:
+		assertThat(ContentViewPool.from(context), is(pool));
+		assertThat(ContentViewPool.from(new ContextWrapper(context)), is(pool));
+		assertThat(ContentViewPool.from(activity), is(nullValue()));
+	}
+
+	@Test public void testPreInflate() {
+		// Arrange:
+		final FrameLayout container = new FrameLayout(activity);
+		// Act:
+		final boolean requested = pool.preInflate(LAYOUT, container);
+		// Assert:
+		assertThat(requested, is(true));
+		assertThat(pool.size(), is(0));
+		assertThat(pool.inflateNext(), is(false));
+		assertThat(pool.size(), is(1));
+	}
+
+	@Test public void testPreInflateFragment() {
+		// Act + Assert:
+		assertThat(pool.preInflate(TestFragment.class, null), is(true));
+		assertThat(pool.preInflate(TestFragmentWithContentViewToBeAttachedToContainer.class, null), is(false));
+		assertThat(pool.preInflate(androidx.fragment.app.Fragment.class, null), is(false));
+		assertThat(pool.preInflate((Class<?>) null, null), is(false));
+	}
+
+	@Test public void testPreInflateWhenPoolIsFull() {
+		// Arrange:
+		pool.setMaxSize(2);
+		pool.setMaxSizePerLayout(2);
+		// Act + Assert:
+		assertThat(pool.preInflate(LAYOUT, null), is(true));
+		assertThat(pool.preInflate(LAYOUT, null), is(true));
+		assertThat(pool.preInflate(android.R.layout.simple_list_item_2, null), is(false));
+	}
+
+	@Test public void testPreInflateWhenLayoutIsFull() {
+		// Act + Assert:
+		assertThat(pool.preInflate(LAYOUT, null), is(true));
+		assertThat(pool.preInflate(LAYOUT, null), is(false));
+		assertThat(pool.preInflate(LAYOUT, new FrameLayout(activity)), is(true));
+	}
+
+	@Test public void testObtain() {
+		// Arrange:
+		final FrameLayout container = new FrameLayout(activity);
+		pool.preInflate(LAYOUT, container);
+		pool.inflateNext();
+		// Act:
+		final View view = pool.obtain(LAYOUT, container, activity);
+		// Assert:
+		assertThat(view, is(notNullValue()));
+		assertThat(view.getParent(), is(nullValue()));
+		assertThat(view.getLayoutParams() instanceof FrameLayout.LayoutParams, is(true));
+		assertThat(pool.size(), is(0));
+		assertThat(pool.obtain(LAYOUT, container, activity), is(nullValue()));
+	}
+
+	@Test public void testObtainForDifferentContainer() {
+		// Arrange:
+		pool.preInflate(LAYOUT, new FrameLayout(activity));
+		pool.inflateNext();
+		// Act + Assert:
+		assertThat(pool.obtain(LAYOUT, new LinearLayout(activity), activity), is(nullValue()));
+		assertThat(pool.obtain(LAYOUT, null, activity), is(nullValue()));
+		assertThat(pool.size(), is(1));
+	}
+
+	@Test public void testObtainForDifferentContext() {
+		// Arrange:
+		pool.preInflate(LAYOUT, null);
+		pool.inflateNext();
+		// Act + Assert:
+		assertThat(pool.obtain(LAYOUT, null, new ContextWrapper(activity)), is(nullValue()));
+		assertThat(pool.size(), is(1));
+	}
+
+	@Test public void testSetMaxSize() {
+		// Arrange:
+		pool.setMaxSizePerLayout(3);
+		for (int i = 0; i < 3; i++) {
+			pool.preInflate(LAYOUT, null);
+			pool.inflateNext();
+		}
+		// Act:
+		pool.setMaxSize(1);
+		// Assert:
+		assertThat(pool.getMaxSize(), is(1));
+		assertThat(pool.size(), is(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetNegativeMaxSize() {
+		// Act:
+		pool.setMaxSize(-1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetNegativeMaxSizePerLayout() {
+		// Act:
+		pool.setMaxSizePerLayout(-1);
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		pool.setMaxSizePerLayout(2);
+		pool.preInflate(LAYOUT, null);
+		pool.preInflate(LAYOUT, null);
+		pool.inflateNext();
+		// Act:
+		pool.clear();
+		// Assert:
+		assertThat(pool.size(), is(0));
+		assertThat(pool.inflateNext(), is(false));
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testOnTrimMemory() {
+		// Arrange:
+		pool.preInflate(LAYOUT, null);
+		pool.inflateNext();
+		// Act + Assert:
+		pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+		assertThat(pool.size(), is(1));
+		pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testOnLowMemory() {
+		// Arrange:
+		pool.preInflate(LAYOUT, null);
+		pool.inflateNext();
+		// Act:
+		pool.onLowMemory();
+		// Assert:
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testOnConfigurationChanged() {
+		// Arrange:
+		pool.preInflate(LAYOUT, null);
+		pool.inflateNext();
+		// Act:
+		pool.onConfigurationChanged(new Configuration());
+		// Assert:
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testOnCreateViewOfFragmentWithPooledContentView() {
+		// Arrange:
+		final LayoutInflater inflater = activity.getLayoutInflater().cloneInContext(new ProviderContext(activity, null));
+		final ContentViewPool pool = new ContentViewPool(inflater);
+		((ProviderContext) inflater.getContext()).pool = pool;
+		pool.preInflate(TestFragment.class, null);
+		pool.inflateNext();
+		final BaseFragment fragment = new TestFragment();
+		// Act:
+		final View view = fragment.onCreateView(inflater, null, null);
+		// Assert:
+		assertThat(view, is(notNullValue()));
+		assertThat(pool.size(), is(0));
+	}
+
+	@ContentView(LAYOUT)
+	public static class TestFragment extends BaseFragment {}
+
+	@ContentView(value = LAYOUT, attachToContainer = true)
+	public static class TestFragmentWithContentViewToBeAttachedToContainer extends BaseFragment {}
+
+	private static final class ProviderContext extends ContextWrapper implements ContentViewPool.Provider {
+
+		ContentViewPool pool;
+
+		ProviderContext(final Context base, final ContentViewPool pool) {
+			super(base);
+			this.pool = pool;
+		}
+
+		@Override @Nullable public ContentViewPool getContentViewPool() {
+			return pool;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.app.Activity;
+
+import org.junit.Test;
+import org.robolectric.Robolectric;
+import org.robolectric.android.controller.ActivityController;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import universum.studios.android.test.AndroidTestCase;
+import universum.studios.android.test.TestActivity;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class DelegateRegistryTest extends AndroidTestCase {
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInstantiationWithAccessibleConstructor() throws Exception {
+		// Arrange:
+		final Constructor<DelegateRegistry> constructor = DelegateRegistry.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		// Act:
+		constructor.newInstance();
+	}
+
+	@Test public void testObtainActivityDelegate() {
+		// Arrange:
+		final Activity activity = new Activity();
+		// Act:
+		final ActivityDelegate delegate = DelegateRegistry.obtainActivityDelegate(activity);
+		// Assert:
+		assertThat(delegate, is(notNullValue()));
+		assertThat(delegate, instanceOf(ActivityDelegate.Impl.class));
+		assertThat(delegate.getActivity(), is(activity));
+		assertThat(DelegateRegistry.obtainActivityDelegate(activity), is(sameInstance(delegate)));
+		DelegateRegistry.invalidate(activity);
+	}
+
+	@Test public void testObtainActivityDelegateForDifferentActivities() {
+		// Arrange:
+		final Activity firstActivity = new Activity();
+		final Activity secondActivity = new Activity();
+		// Act + Assert:
+		assertThat(
+				DelegateRegistry.obtainActivityDelegate(firstActivity),
+				is(not(sameInstance(DelegateRegistry.obtainActivityDelegate(secondActivity))))
+		);
+		DelegateRegistry.invalidate(firstActivity);
+		DelegateRegistry.invalidate(secondActivity);
+	}
+
+	@Test public void testPutAndGetDelegate() {
+		// Arrange:
+		final Activity activity = new Activity();
+		final TestDelegate delegate = new TestDelegate();
+		// Act:
+		DelegateRegistry.putDelegate(activity, TestDelegate.class, delegate);
+		// Assert:
+		assertThat(DelegateRegistry.getDelegate(activity, TestDelegate.class), is(delegate));
+		assertThat(DelegateRegistry.getDelegate(activity, ActivityDelegate.class), is(nullValue()));
+		DelegateRegistry.putDelegate(activity, TestDelegate.class, null);
+		assertThat(DelegateRegistry.getDelegate(activity, TestDelegate.class), is(nullValue()));
+		DelegateRegistry.invalidate(activity);
+	}
+
+	@Test public void testGetDelegateForUnknownActivity() {
+		// Act + Assert:
+		assertThat(DelegateRegistry.getDelegate(new Activity(), TestDelegate.class), is(nullValue()));
+	}
+
+	@Test public void testInvalidate() {
+		// Arrange:
+		final Activity activity = new Activity();
+		final ActivityDelegate delegate = DelegateRegistry.obtainActivityDelegate(activity);
+		DelegateRegistry.putDelegate(activity, TestDelegate.class, new TestDelegate());
+		// Act:
+		DelegateRegistry.invalidate(activity);
+		// Assert:
+		assertThat(DelegateRegistry.getDelegate(activity, TestDelegate.class), is(nullValue()));
+		assertThat(DelegateRegistry.obtainActivityDelegate(activity), is(not(sameInstance(delegate))));
+		DelegateRegistry.invalidate(activity);
+	}
+
+	@Test public void testDelegatesDroppedWhenActivityDestroyed() {
+		// Arrange:
+		final ActivityController<TestActivity> controller = Robolectric.buildActivity(TestActivity.class).create();
+		final Activity activity = controller.get();
+		final int size = DelegateRegistry.size();
+		DelegateRegistry.obtainActivityDelegate(activity);
+		DelegateRegistry.putDelegate(activity, TestDelegate.class, new TestDelegate());
+		assertThat(DelegateRegistry.size(), is(size + 1));
+		// Act:
+		controller.destroy();
+		// Assert:
+		assertThat(DelegateRegistry.size(), is(size));
+		assertThat(DelegateRegistry.getDelegate(activity, TestDelegate.class), is(nullValue()));
+	}
+
+	private static final class TestDelegate {}
+}
\ No newline at end of file
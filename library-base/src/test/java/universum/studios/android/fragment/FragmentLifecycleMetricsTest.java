@@ -0,0 +1,141 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class FragmentLifecycleMetricsTest extends AndroidTestCase {
+
+	@Override public void afterTest() {
+		super.afterTest();
+		FragmentLifecycleMetrics.setEnabled(false);
+		FragmentLifecycleMetrics.reset();
+	}
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInstantiationWithAccessibleConstructor() throws Exception {
+		// Arrange:
+		final Constructor<FragmentLifecycleMetrics> constructor = FragmentLifecycleMetrics.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		// Act:
+		constructor.newInstance();
+	}
+
+	@Test public void testEnabled() {
+		// Act + Assert:
+		FragmentLifecycleMetrics.setEnabled(true);
+		assertThat(FragmentLifecycleMetrics.isEnabled(), is(true));
+		FragmentLifecycleMetrics.setEnabled(false);
+		assertThat(FragmentLifecycleMetrics.isEnabled(), is(false));
+	}
+
+	@Test public void testBucketIndex() {
+		// Act + Assert:
+		assertThat(FragmentLifecycleMetrics.bucketIndex(0), is(0));
+		assertThat(FragmentLifecycleMetrics.bucketIndex(999), is(0));
+		assertThat(FragmentLifecycleMetrics.bucketIndex(1000), is(1));
+		assertThat(FragmentLifecycleMetrics.bucketIndex(1999), is(1));
+		assertThat(FragmentLifecycleMetrics.bucketIndex(2000), is(2));
+		assertThat(FragmentLifecycleMetrics.bucketIndex(1_000_000), is(10));
+		assertThat(FragmentLifecycleMetrics.bucketIndex(Long.MAX_VALUE), is(FragmentLifecycleMetrics.BUCKET_COUNT - 1));
+	}
+
+	@Test public void testRecordWhenDisabled() {
+		// Arrange:
+		final FragmentLifecycleMetrics.Reporter mockReporter = mock(FragmentLifecycleMetrics.Reporter.class);
+		// Act:
+		FragmentLifecycleMetrics.record(TestFragment.class, FragmentLifecycleMetrics.EVENT_CREATE, 1000);
+		// Assert:
+		FragmentLifecycleMetrics.report(mockReporter);
+		verifyNoInteractions(mockReporter);
+	}
+
+	@Test public void testReport() {
+		// Arrange:
+		FragmentLifecycleMetrics.setEnabled(true);
+		for (int i = 1; i <= 100; i++) {
+			FragmentLifecycleMetrics.record(TestFragment.class, FragmentLifecycleMetrics.EVENT_CREATE_VIEW, i * 100_000L);
+		}
+		final List<FragmentLifecycleMetrics.Histogram> histograms = new ArrayList<>();
+		// Act:
+		FragmentLifecycleMetrics.report((fragmentClass, histogram) -> histograms.add(histogram));
+		// Assert:
+		assertThat(histograms.size(), is(1));
+		final FragmentLifecycleMetrics.Histogram histogram = histograms.get(0);
+		assertThat(histogram.event, is(FragmentLifecycleMetrics.EVENT_CREATE_VIEW));
+		assertThat(histogram.count, is(100L));
+		assertThat(histogram.totalDuration, is(505_000_000L));
+		assertThat(histogram.maxDuration, is(10_000_000L));
+		assertThat(histogram.getMeanDuration(), is(5_050_000L));
+		assertThat(histogram.getPercentileDuration(50), is(8_192_000L));
+		assertThat(histogram.getPercentileDuration(100), is(10_000_000L));
+		long bucketsCount = 0;
+		for (int i = 0; i < FragmentLifecycleMetrics.BUCKET_COUNT; i++) {
+			bucketsCount += histogram.getBucketCount(i);
+		}
+		assertThat(bucketsCount, is(100L));
+	}
+
+	@Test public void testReportForMultipleClasses() {
+		// Arrange:
+		FragmentLifecycleMetrics.setEnabled(true);
+		FragmentLifecycleMetrics.record(TestFragment.class, FragmentLifecycleMetrics.EVENT_ATTACH, 1000);
+		FragmentLifecycleMetrics.record(TestFragment.class, FragmentLifecycleMetrics.EVENT_RESUME, 1000);
+		FragmentLifecycleMetrics.record(BaseFragment.class, FragmentLifecycleMetrics.EVENT_RESUME, 1000);
+		final FragmentLifecycleMetrics.Reporter mockReporter = mock(FragmentLifecycleMetrics.Reporter.class);
+		// Act:
+		FragmentLifecycleMetrics.report(mockReporter);
+		// Assert:
+		verify(mockReporter, times(2)).onReport(eq(TestFragment.class), any(FragmentLifecycleMetrics.Histogram.class));
+		verify(mockReporter).onReport(eq(BaseFragment.class), any(FragmentLifecycleMetrics.Histogram.class));
+	}
+
+	@Test public void testReset() {
+		// Arrange:
+		FragmentLifecycleMetrics.setEnabled(true);
+		FragmentLifecycleMetrics.record(TestFragment.class, FragmentLifecycleMetrics.EVENT_ATTACH, 1000);
+		final FragmentLifecycleMetrics.Reporter mockReporter = mock(FragmentLifecycleMetrics.Reporter.class);
+		// Act:
+		FragmentLifecycleMetrics.reset();
+		// Assert:
+		FragmentLifecycleMetrics.report(mockReporter);
+		verifyNoInteractions(mockReporter);
+	}
+
+	public static final class TestFragment extends BaseFragment {}
+}
@@ -0,0 +1,145 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.view.View;
+
+import org.junit.Test;
+
+import universum.studios.android.fragment.annotation.OnViewClick;
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class ViewClickDispatchersTest extends AndroidTestCase {
+
+	@Override public void afterTest() {
+		super.afterTest();
+		ViewClickDispatchers.clearIndexes();
+	}
+
+	@Test public void testObtainDispatcherFromIndex() {
+		// Arrange:
+		final ViewClickDispatcher mockDispatcher = mock(ViewClickDispatcher.class);
+		ViewClickDispatchers.registerIndex(fragmentClass -> fragmentClass == TestFragment.class ? mockDispatcher : null);
+		// Act + Assert:
+		assertThat(ViewClickDispatchers.obtainDispatcher(TestFragment.class), is(mockDispatcher));
+		assertThat(ViewClickDispatchers.obtainDispatcher(TestChildFragment.class), is(instanceOf(ViewClickDispatchers.ReflectiveDispatcher.class)));
+	}
+
+	@Test public void testObtainDispatcherForClassWithoutAnnotatedMethods() {
+		// Act + Assert:
+		assertThat(ViewClickDispatchers.obtainDispatcher(TestFragmentWithoutViewClicks.class), is(nullValue()));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testObtainDispatcherForMethodWithInvalidSignature() {
+		// Act:
+		ViewClickDispatchers.obtainDispatcher(TestFragmentWithInvalidViewClick.class);
+	}
+
+	@Test public void testReflectiveDispatcher() {
+		// Arrange:
+		final ViewClickDispatcher dispatcher = ViewClickDispatchers.obtainDispatcher(TestFragment.class);
+		final TestFragment fragment = new TestFragment();
+		final View firstView = createView(1);
+		final View secondView = createView(2);
+		// Act + Assert:
+		assertThat(dispatcher, is(notNullValue()));
+		assertThat(dispatcher.dispatchViewClick(fragment, firstView), is(true));
+		assertThat(fragment.clickedView, is(firstView));
+		assertThat(dispatcher.dispatchViewClick(fragment, secondView), is(true));
+		assertThat(fragment.clickedView, is(secondView));
+		assertThat(dispatcher.dispatchViewClick(fragment, createView(3)), is(false));
+		assertThat(fragment.thirdClicksCount, is(1));
+		assertThat(dispatcher.dispatchViewClick(fragment, createView(4)), is(false));
+	}
+
+	@Test public void testReflectiveDispatcherWithInheritedMethods() {
+		// Arrange:
+		final ViewClickDispatcher dispatcher = ViewClickDispatchers.obtainDispatcher(TestChildFragment.class);
+		final TestChildFragment fragment = new TestChildFragment();
+		final View firstView = createView(1);
+		final View secondView = createView(2);
+		// Act + Assert:
+		assertThat(dispatcher, is(notNullValue()));
+		assertThat(dispatcher.dispatchViewClick(fragment, firstView), is(true));
+		assertThat(fragment.clickedView, is(firstView));
+		assertThat(dispatcher.dispatchViewClick(fragment, secondView), is(true));
+		assertThat(fragment.childClicksCount, is(1));
+		assertThat(fragment.clickedView, is(firstView));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReflectiveDispatcherRethrowsExceptionOfMethod() {
+		// Arrange:
+		final ViewClickDispatcher dispatcher = ViewClickDispatchers.obtainDispatcher(TestFragment.class);
+		// Act:
+		dispatcher.dispatchViewClick(new TestFragment(), createView(5));
+	}
+
+	private View createView(final int id) {
+		final View view = new View(context());
+		view.setId(id);
+		return view;
+	}
+
+	public static class TestFragment extends BaseFragment {
+
+		View clickedView;
+		int thirdClicksCount;
+
+		@OnViewClick({1, 2}) void onClick(final View view) {
+			this.clickedView = view;
+		}
+
+		@OnViewClick(3) private boolean onThirdClick() {
+			this.thirdClicksCount++;
+			return false;
+		}
+
+		@OnViewClick(5) public void onFailingClick() {
+			throw new IllegalArgumentException();
+		}
+	}
+
+	public static class TestChildFragment extends TestFragment {
+
+		int childClicksCount;
+
+		@OnViewClick(2) void onChildClick() {
+			this.childClicksCount++;
+		}
+	}
+
+	public static class TestFragmentWithoutViewClicks extends BaseFragment {}
+
+	public static class TestFragmentWithInvalidViewClick extends BaseFragment {
+
+		@OnViewClick(1) void onClick(final int id) {}
+	}
+}
@@ -20,11 +20,17 @@ package universum.studios.android.fragment.annotation.handler;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
 import androidx.fragment.app.Fragment;
 import universum.studios.android.fragment.annotation.ContentView;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.test.AndroidTestCase;
 
+import static junit.framework.Assert.assertSame;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -60,6 +66,70 @@ public final class FragmentHandlerTest extends AndroidTestCase {
 		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithoutAnnotation.class).getContentViewBackgroundResId(-1), is(-1));
 	}
 
+	@Test public void testShouldInflateContentViewAsync() {
+		// Arrange + Act + Assert:
+		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragment.class).shouldInflateContentViewAsync(), is(false));
+		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithAsync.class).shouldInflateContentViewAsync(), is(true));
+		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithoutAnnotation.class).shouldInflateContentViewAsync(), is(false));
+	}
+
+	@Test public void testShouldCreateContentViewLazily() {
+		// Arrange + Act + Assert:
+		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragment.class).shouldCreateContentViewLazily(), is(false));
+		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithLazy.class).shouldCreateContentViewLazily(), is(true));
+		assertThat(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithoutAnnotation.class).shouldCreateContentViewLazily(), is(false));
+	}
+
+	@Test public void testCodec() throws Exception {
+		// Arrange:
+		final BaseAnnotationHandlers.FragmentHandlerCodec codec = new BaseAnnotationHandlers.FragmentHandlerCodec();
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		codec.write(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithBackground.class), new DataOutputStream(values));
+		// Act:
+		final BaseAnnotationHandlers.FragmentHandler handler = codec.read(
+				TestFragmentWithBackground.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+		// Assert:
+		assertSame(handler.getAnnotatedClass(), TestFragmentWithBackground.class);
+		assertThat(handler.getContentViewResource(-1), is(android.R.layout.simple_list_item_1));
+		assertThat(handler.shouldAttachContentViewToContainer(), is(false));
+		assertThat(handler.getContentViewBackgroundResId(-1), is(android.R.color.white));
+		assertThat(handler.shouldInflateContentViewAsync(), is(false));
+		assertThat(handler.shouldCreateContentViewLazily(), is(false));
+	}
+
+	@Test public void testCodecWithAsync() throws Exception {
+		// Arrange:
+		final BaseAnnotationHandlers.FragmentHandlerCodec codec = new BaseAnnotationHandlers.FragmentHandlerCodec();
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		codec.write(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithAsync.class), new DataOutputStream(values));
+		// Act:
+		final BaseAnnotationHandlers.FragmentHandler handler = codec.read(
+				TestFragmentWithAsync.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+		// Assert:
+		assertThat(handler.getContentViewResource(-1), is(android.R.layout.simple_list_item_1));
+		assertThat(handler.shouldInflateContentViewAsync(), is(true));
+	}
+
+	@Test public void testCodecWithLazy() throws Exception {
+		// Arrange:
+		final BaseAnnotationHandlers.FragmentHandlerCodec codec = new BaseAnnotationHandlers.FragmentHandlerCodec();
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		codec.write(new BaseAnnotationHandlers.FragmentHandler(TestFragmentWithLazy.class), new DataOutputStream(values));
+		// Act:
+		final BaseAnnotationHandlers.FragmentHandler handler = codec.read(
+				TestFragmentWithLazy.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+		// Assert:
+		assertThat(handler.getContentViewResource(-1), is(android.R.layout.simple_list_item_1));
+		assertThat(handler.shouldInflateContentViewAsync(), is(false));
+		assertThat(handler.shouldCreateContentViewLazily(), is(true));
+	}
+
 	@ContentView(android.R.layout.simple_list_item_1)
 	public static class TestFragment extends Fragment {}
 
@@ -69,5 +139,11 @@ public final class FragmentHandlerTest extends AndroidTestCase {
 	@ContentView(value = android.R.layout.simple_list_item_1, background = android.R.color.white)
 	public static final class TestFragmentWithBackground extends TestFragment {}
 
+	@ContentView(value = android.R.layout.simple_list_item_1, async = true)
+	public static final class TestFragmentWithAsync extends TestFragment {}
+
+	@ContentView(value = android.R.layout.simple_list_item_1, lazy = true)
+	public static final class TestFragmentWithLazy extends TestFragment {}
+
 	public static final class TestFragmentWithoutAnnotation extends Fragment {}
 }
\ No newline at end of file
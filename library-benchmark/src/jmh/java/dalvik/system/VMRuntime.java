@@ -0,0 +1,47 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package dalvik.system;
+
+import java.lang.reflect.Array;
+
+/**
+ * Minimal JVM replacement of the Android runtime class which is required by the Android framework
+ * collections (like {@code SparseArray}) used by the benchmarked library classes. The original class
+ * relies on native methods which are not available on a desktop JVM.
+ *
+ * @author Martin Albedinsky
+ */
+public final class VMRuntime {
+
+	private static final VMRuntime RUNTIME = new VMRuntime();
+
+	private VMRuntime() {}
+
+	public static VMRuntime getRuntime() {
+		return RUNTIME;
+	}
+
+	public Object newUnpaddedArray(final Class<?> componentType, final int minLength) {
+		return Array.newInstance(componentType, minLength);
+	}
+
+	public Object newNonMovableArray(final Class<?> componentType, final int length) {
+		return Array.newInstance(componentType, length);
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for {@link WebFragment#resolveContentType(String)} with small and multi-megabyte contents.
+ *
+ * @author Martin Albedinsky
+ */
+@State(Scope.Thread)
+public class WebFragmentBenchmark {
+
+	@Param({"html", "url", "file"})
+	public String contentKind;
+
+	@Param({"64", "4096", "4194304"})
+	public int contentLength;
+
+	private String content;
+
+	@Setup public void setUp() {
+		final String prefix;
+		final String chunk;
+		switch (contentKind) {
+			case "url":
+				prefix = "https://www.example.com/path?query=";
+				chunk = "value";
+				break;
+			case "file":
+				prefix = "file:///android_asset/";
+				chunk = "directory/";
+				break;
+			default:
+				prefix = "<html><body>";
+				chunk = "<p>Lorem ipsum dolor sit amet.</p>";
+				break;
+		}
+		final StringBuilder builder = new StringBuilder(contentLength + chunk.length());
+		builder.append(prefix);
+		while (builder.length() < contentLength) {
+			builder.append(chunk);
+		}
+		builder.setLength(contentLength);
+		this.content = builder.toString();
+	}
+
+	@Benchmark public int resolveContentType() {
+		return WebFragment.resolveContentType(content);
+	}
+}
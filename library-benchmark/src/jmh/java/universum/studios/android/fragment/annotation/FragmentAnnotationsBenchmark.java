@@ -0,0 +1,103 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Benchmarks for {@link FragmentAnnotations#obtainAnnotationFrom(Class, Class, Class)} and
+ * {@link FragmentAnnotations#iterateFields(FragmentAnnotations.FieldProcessor, Class, Class)}.
+ *
+ * @author Martin Albedinsky
+ */
+@State(Scope.Benchmark)
+public class FragmentAnnotationsBenchmark {
+
+	@Setup public void setUp() {
+		FragmentAnnotations.setEnabled(true);
+	}
+
+	@Benchmark public ContentView obtainAnnotationFromAnnotatedClass() {
+		return FragmentAnnotations.obtainAnnotationFrom(ContentView.class, AnnotatedComponent.class, null);
+	}
+
+	@Benchmark public ContentView obtainAnnotationFromSuperClass() {
+		return FragmentAnnotations.obtainAnnotationFrom(ContentView.class, GrandChildComponent.class, Object.class);
+	}
+
+	@Benchmark public ContentView obtainAnnotationNotPresented() {
+		return FragmentAnnotations.obtainAnnotationFrom(ContentView.class, Component.class, Object.class);
+	}
+
+	@Benchmark public void iterateFields(final Blackhole blackhole) {
+		FragmentAnnotations.iterateFields(new ConsumingProcessor(blackhole), AnnotatedComponent.class, null);
+	}
+
+	@Benchmark public void iterateFieldsWithSuperClasses(final Blackhole blackhole) {
+		FragmentAnnotations.iterateFields(new ConsumingProcessor(blackhole), GrandChildComponent.class, Object.class);
+	}
+
+	private static final class ConsumingProcessor implements FragmentAnnotations.FieldProcessor {
+
+		private final Blackhole blackhole;
+
+		ConsumingProcessor(final Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override public void onProcessField(@NonNull final Field field, @NonNull final String name) {
+			blackhole.consume(field);
+		}
+	}
+
+	private static class Component {
+
+		static final int FIRST = 1;
+		static final int SECOND = 2;
+	}
+
+	@ContentView(1)
+	private static class AnnotatedComponent {
+
+		static final int FIRST = 1;
+		static final int SECOND = 2;
+		static final int THIRD = 3;
+		static final int FOURTH = 4;
+	}
+
+	private static class ChildComponent extends AnnotatedComponent {
+
+		static final int FIFTH = 5;
+		static final int SIXTH = 6;
+	}
+
+	private static class GrandChildComponent extends ChildComponent {
+
+		static final int SEVENTH = 7;
+		static final int EIGHTH = 8;
+	}
+}
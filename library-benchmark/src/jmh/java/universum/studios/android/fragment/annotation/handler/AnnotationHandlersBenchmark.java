@@ -0,0 +1,110 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import androidx.annotation.NonNull;
+import universum.studios.android.fragment.BaseFragment;
+import universum.studios.android.fragment.annotation.ContentView;
+import universum.studios.android.fragment.annotation.FragmentAnnotations;
+
+/**
+ * Benchmarks for {@link AnnotationHandlers#obtainHandler(Class, Class)} under single-threaded and
+ * contended access to already cached handlers.
+ *
+ * @author Martin Albedinsky
+ */
+@State(Scope.Benchmark)
+public class AnnotationHandlersBenchmark {
+
+	private static final Class<?>[] ANNOTATED_CLASSES = {
+			FirstComponent.class,
+			SecondComponent.class,
+			ThirdComponent.class,
+			FourthComponent.class
+	};
+
+	@Setup public void setUp() {
+		FragmentAnnotations.setEnabled(true);
+		AnnotationHandlers.clearHandlers();
+		for (final Class<?> annotatedClass : ANNOTATED_CLASSES) {
+			AnnotationHandlers.obtainHandler(Handler.class, annotatedClass);
+		}
+		BaseAnnotationHandlers.obtainFragmentHandler(AnnotatedFragment.class);
+	}
+
+	@Benchmark public Handler obtainHandler() {
+		return AnnotationHandlers.obtainHandler(Handler.class, FirstComponent.class);
+	}
+
+	@Benchmark @Threads(8) public Handler obtainHandlerContended() {
+		return AnnotationHandlers.obtainHandler(Handler.class, FirstComponent.class);
+	}
+
+	@Benchmark @Threads(8) public Handler obtainDifferentHandlersContended(final ThreadCursor cursor) {
+		return AnnotationHandlers.obtainHandler(Handler.class, ANNOTATED_CLASSES[cursor.next()]);
+	}
+
+	@Benchmark public FragmentAnnotationHandler obtainFragmentHandler() {
+		return BaseAnnotationHandlers.obtainFragmentHandler(AnnotatedFragment.class);
+	}
+
+	@Benchmark @Threads(8) public FragmentAnnotationHandler obtainFragmentHandlerContended() {
+		return BaseAnnotationHandlers.obtainFragmentHandler(AnnotatedFragment.class);
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadCursor {
+
+		private int position;
+
+		int next() {
+			return position = (position + 1) % ANNOTATED_CLASSES.length;
+		}
+	}
+
+	public static final class Handler implements AnnotationHandler {
+
+		private final Class<?> annotatedClass;
+
+		public Handler(final Class<?> annotatedClass) {
+			this.annotatedClass = annotatedClass;
+		}
+
+		@Override @NonNull public Class<?> getAnnotatedClass() {
+			return annotatedClass;
+		}
+	}
+
+	private static final class FirstComponent {}
+
+	private static final class SecondComponent {}
+
+	private static final class ThirdComponent {}
+
+	private static final class FourthComponent {}
+
+	@ContentView(1)
+	public static final class AnnotatedFragment extends BaseFragment {}
+}
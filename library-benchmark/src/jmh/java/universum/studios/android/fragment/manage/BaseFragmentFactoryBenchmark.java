@@ -0,0 +1,85 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.manage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import androidx.fragment.app.Fragment;
+import universum.studios.android.fragment.annotation.FactoryFragment;
+import universum.studios.android.fragment.annotation.FactoryFragments;
+import universum.studios.android.fragment.annotation.FragmentAnnotations;
+
+/**
+ * Benchmarks for {@link BaseFragmentFactory#isFragmentProvided(int)} and for creation of fragment
+ * tags via {@link BaseFragmentFactory}.
+ *
+ * @author Martin Albedinsky
+ */
+@State(Scope.Thread)
+public class BaseFragmentFactoryBenchmark {
+
+	private BenchmarkFactory factory;
+	private int cursor;
+
+	@Setup public void setUp() {
+		FragmentAnnotations.setEnabled(true);
+		this.factory = new BenchmarkFactory();
+	}
+
+	@Benchmark public boolean isFragmentProvidedForSameId() {
+		return factory.isFragmentProvided(BenchmarkFactory.FRAGMENT_1);
+	}
+
+	@Benchmark public boolean isFragmentProvidedForAlternatingIds() {
+		return factory.isFragmentProvided((cursor++ & 1) == 0 ? BenchmarkFactory.FRAGMENT_1 : BenchmarkFactory.FRAGMENT_4);
+	}
+
+	@Benchmark public boolean isFragmentProvidedForNotProvidedId() {
+		return factory.isFragmentProvided((cursor++ & 1) == 0 ? -1 : -2);
+	}
+
+	@Benchmark public String createFragmentTag() {
+		return factory.createFragmentTag(BenchmarkFactory.FRAGMENT_3);
+	}
+
+	@Benchmark public String createFragmentTagForAlternatingIds() {
+		return factory.createFragmentTag((cursor++ & 1) == 0 ? BenchmarkFactory.FRAGMENT_2 : BenchmarkFactory.FRAGMENT_3);
+	}
+
+	@Benchmark public String createFragmentTagForName() {
+		return BaseFragmentFactory.createFragmentTag(BenchmarkFactory.class, "BenchmarkFragment");
+	}
+
+	@FactoryFragments({
+			BenchmarkFactory.FRAGMENT_1,
+			BenchmarkFactory.FRAGMENT_2
+	})
+	public static final class BenchmarkFactory extends BaseFragmentFactory {
+
+		static final int FRAGMENT_1 = 0x01;
+		static final int FRAGMENT_2 = 0x02;
+		@FactoryFragment(BenchmarkFragment.class) static final int FRAGMENT_3 = 0x03;
+		@FactoryFragment(value = BenchmarkFragment.class, taggedName = "Benchmark") static final int FRAGMENT_4 = 0x04;
+	}
+
+	public static final class BenchmarkFragment extends Fragment {}
+}
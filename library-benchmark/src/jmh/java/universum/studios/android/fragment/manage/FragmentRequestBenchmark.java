@@ -0,0 +1,64 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.manage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks for building of {@link FragmentRequest} and for its {@link FragmentRequest#toString()}.
+ *
+ * @author Martin Albedinsky
+ */
+@State(Scope.Thread)
+public class FragmentRequestBenchmark {
+
+	private FragmentRequest request;
+
+	@Setup public void setUp() {
+		this.request = buildRequest();
+	}
+
+	@Benchmark public FragmentRequest build() {
+		return buildRequest();
+	}
+
+	@Benchmark public String toStringOfRequest() {
+		return request.toString();
+	}
+
+	@Benchmark public String buildAndToString() {
+		return buildRequest().toString();
+	}
+
+	private static FragmentRequest buildRequest() {
+		// Requests are only built here, never executed, so there is no need for a controller.
+		return new FragmentRequest(null, 0x01)
+				.outgoingFragmentId(0x02)
+				.tag("universum.studios.android.fragment.manage.BenchmarkFactory.TAG.Benchmark")
+				.viewContainerId(0x7f0a0001)
+				.transaction(FragmentRequest.REPLACE)
+				.transitionStyle(0x7f100001)
+				.replaceSame(true)
+				.addToBackStack(true)
+				.allowStateLoss(true);
+	}
+}
@@ -23,6 +23,9 @@ import android.app.Activity;
 import android.content.Context;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.text.TextUtils;
+
+import java.lang.ref.WeakReference;
 
 import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
@@ -35,6 +38,19 @@ import universum.studios.android.fragment.util.FragmentUtils;
 /**
  * ActionBarDelegate is used to wrap an instance of {@link ActionBar} or {@link androidx.appcompat.app.ActionBar}
  * in order to hide some implementation details when using ActionBar within fragments.
+ * <p>
+ * Delegates remember state that has been last applied to the wrapped action bar (home as up flag,
+ * home as up indicator, icon and title) and skip calls which would apply the same state again, so
+ * the action bar is not needlessly re-laid out and redrawn when, for example, switching between
+ * fragments with the same ActionBar configuration. Resources are compared by theirs ids, titles by
+ * theirs text and drawables by theirs identity. If the action bar is changed directly (not through
+ * a delegate), {@link #invalidateAppliedState()} should be called so the next calls are not skipped.
+ * <p>
+ * Delegate obtained via {@link #obtain(Activity)} is created only once for ActionBar of an activity
+ * and is kept in {@link DelegateRegistry}, so it along with its applied state is shared by all
+ * fragments hosted by that activity. A new delegate is created whenever the activity changes its
+ * ActionBar (for example via {@link AppCompatActivity#setSupportActionBar(androidx.appcompat.widget.Toolbar)})
+ * or when the activity is re-created.
  *
  * @author Martin Albedinsky
  * @since 1.0
@@ -68,6 +84,12 @@ public abstract class ActionBarDelegate {
 	 */
 	@NonNull final Context context;
 
+	/**
+	 * State applied to the wrapped action bar by this delegate. May be {@code null} if there is no
+	 * action bar wrapped.
+	 */
+	@Nullable AppliedState appliedState;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -107,6 +129,37 @@ public abstract class ActionBarDelegate {
 		return actionBar == null ? null : create(activity, actionBar);
 	}
 
+	/**
+	 * Obtains delegate for ActionBar of the given <var>activity</var> from {@link DelegateRegistry}.
+	 * The delegate is created only if there is no delegate registered for the activity yet or the
+	 * registered one wraps a different ActionBar than the one the activity currently has.
+	 * <p>
+	 * <b>Note</b>, that this method will return {@code null} if the specified activity does not have
+	 * its ActionBar available at the time.
+	 *
+	 * @param activity The activity of which action bar delegate to obtain.
+	 * @return Instance of ActionBarDelegate for ActionBar of the specified activity.
+	 *
+	 * @see #create(Activity)
+	 */
+	@Nullable public static ActionBarDelegate obtain(@NonNull final Activity activity) {
+		final Object actionBar = activity instanceof AppCompatActivity ?
+				((AppCompatActivity) activity).getSupportActionBar() :
+				activity.getActionBar();
+		ActionBarDelegate delegate = DelegateRegistry.getDelegate(activity, ActionBarDelegate.class);
+		if (delegate == null || delegate.getWrappedActionBar() != actionBar) {
+			if (actionBar == null) {
+				delegate = null;
+			} else if (actionBar instanceof ActionBar) {
+				delegate = create(activity, (ActionBar) actionBar);
+			} else {
+				delegate = create(activity, (androidx.appcompat.app.ActionBar) actionBar);
+			}
+			DelegateRegistry.putDelegate(activity, ActionBarDelegate.class, delegate);
+		}
+		return delegate;
+	}
+
 	/**
 	 * Wraps the given <var>actionBar</var> into its corresponding delegate.
 	 *
@@ -129,6 +182,27 @@ public abstract class ActionBarDelegate {
 		return new SupportImpl(context, actionBar);
 	}
 
+	/**
+	 * Returns the action bar wrapped by this delegate.
+	 *
+	 * @return The wrapped action bar or {@code null} if this delegate does not wrap any.
+	 */
+	@Nullable Object getWrappedActionBar() {
+		return null;
+	}
+
+	/**
+	 * Invalidates state remembered as applied to the wrapped action bar, so the next calls to this
+	 * delegate are applied regardless of the previous ones.
+	 * <p>
+	 * This should be called whenever the action bar is changed directly, not through a delegate.
+	 */
+	public void invalidateAppliedState() {
+		if (appliedState != null) {
+			appliedState.clear();
+		}
+	}
+
 	/**
 	 * Returns the context this delegate for created with.
 	 *
@@ -203,34 +277,46 @@ public abstract class ActionBarDelegate {
 		Impl(final Context context, final ActionBar actionBar) {
 			super(context);
 			this.actionBar = actionBar;
+			this.appliedState = actionBar == null ? null : new AppliedState();
+		}
+
+		/**
+		 */
+		@Override @Nullable Object getWrappedActionBar() {
+			return actionBar;
 		}
 
 		/**
 		 */
 		@Override public void setDisplayHomeAsUpEnabled(final boolean enabled) {
-			if (actionBar != null) actionBar.setDisplayHomeAsUpEnabled(enabled);
+			if (actionBar != null && appliedState.applyHomeAsUpEnabled(enabled)) actionBar.setDisplayHomeAsUpEnabled(enabled);
 		}
 
 		/**
 		 */
 		@Override public void setHomeAsUpIndicator(@DrawableRes final int resId) {
-			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) actionBar.setHomeAsUpIndicator(resId);
+			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2 &&
+					appliedState.homeAsUpIndicator.apply(AppliedDrawable.RESOURCE, resId, null)) {
+				actionBar.setHomeAsUpIndicator(resId);
+			}
 		}
 
 		/**
 		 */
 		@Override public void setHomeAsUpVectorIndicator(@DrawableRes final int resId) {
-			setHomeAsUpIndicator(FragmentUtils.getVectorDrawable(
-					context.getResources(),
-					resId,
-					context.getTheme()
-			));
+			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2 &&
+					appliedState.homeAsUpIndicator.apply(AppliedDrawable.VECTOR_RESOURCE, resId, null)) {
+				actionBar.setHomeAsUpIndicator(FragmentUtils.getCachedVectorDrawable(context, resId));
+			}
 		}
 
 		/**
 		 */
 		@Override public void setHomeAsUpIndicator(@Nullable final Drawable indicator) {
-			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2) actionBar.setHomeAsUpIndicator(indicator);
+			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2 &&
+					appliedState.homeAsUpIndicator.apply(AppliedDrawable.DRAWABLE, 0, indicator)) {
+				actionBar.setHomeAsUpIndicator(indicator);
+			}
 		}
 
 		/**
@@ -242,19 +328,25 @@ public abstract class ActionBarDelegate {
 		/**
 		 */
 		@Override public void setTitle(@Nullable final CharSequence title) {
-			if (actionBar != null) actionBar.setTitle(title);
+			if (actionBar != null && appliedState.applyTitle(title)) actionBar.setTitle(title);
 		}
 
 		/**
 		 */
 		@Override public void setIcon(@DrawableRes final int resId) {
-			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) actionBar.setIcon(resId);
+			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH &&
+					appliedState.icon.apply(AppliedDrawable.RESOURCE, resId, null)) {
+				actionBar.setIcon(resId);
+			}
 		}
 
 		/**
 		 */
 		@Override public void setIcon(@Nullable final Drawable icon) {
-			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) actionBar.setIcon(icon);
+			if (actionBar != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH &&
+					appliedState.icon.apply(AppliedDrawable.DRAWABLE, 0, icon)) {
+				actionBar.setIcon(icon);
+			}
 		}
 	}
 
@@ -277,46 +369,59 @@ public abstract class ActionBarDelegate {
 		SupportImpl(final Context context, final androidx.appcompat.app.ActionBar actionBar) {
 			super(context);
 			this.actionBar = actionBar;
+			this.appliedState = actionBar == null ? null : new AppliedState();
+		}
+
+		/**
+		 */
+		@Override @Nullable Object getWrappedActionBar() {
+			return actionBar;
 		}
 
 		/**
 		 */
 		@Override public void setDisplayHomeAsUpEnabled(final boolean enabled) {
-			if (actionBar != null) actionBar.setDisplayHomeAsUpEnabled(enabled);
+			if (actionBar != null && appliedState.applyHomeAsUpEnabled(enabled)) actionBar.setDisplayHomeAsUpEnabled(enabled);
 		}
 
 		/**
 		 */
 		@Override public void setHomeAsUpIndicator(@DrawableRes final int resId) {
-			if (actionBar != null) actionBar.setHomeAsUpIndicator(resId);
+			if (actionBar != null && appliedState.homeAsUpIndicator.apply(AppliedDrawable.RESOURCE, resId, null)) {
+				actionBar.setHomeAsUpIndicator(resId);
+			}
 		}
 
 		/**
 		 */
 		@Override public void setHomeAsUpVectorIndicator(@DrawableRes final int resId) {
-			setHomeAsUpIndicator(FragmentUtils.getVectorDrawable(
-					context.getResources(),
-					resId,
-					context.getTheme()
-			));
+			if (actionBar != null && appliedState.homeAsUpIndicator.apply(AppliedDrawable.VECTOR_RESOURCE, resId, null)) {
+				actionBar.setHomeAsUpIndicator(FragmentUtils.getCachedVectorDrawable(context, resId));
+			}
 		}
 
 		/**
 		 */
 		@Override public void setHomeAsUpIndicator(@Nullable final Drawable indicator) {
-			if (actionBar != null) actionBar.setHomeAsUpIndicator(indicator);
+			if (actionBar != null && appliedState.homeAsUpIndicator.apply(AppliedDrawable.DRAWABLE, 0, indicator)) {
+				actionBar.setHomeAsUpIndicator(indicator);
+			}
 		}
 
 		/**
 		 */
 		@Override public void setIcon(@DrawableRes final int resId) {
-			if (actionBar != null) actionBar.setIcon(resId);
+			if (actionBar != null && appliedState.icon.apply(AppliedDrawable.RESOURCE, resId, null)) {
+				actionBar.setIcon(resId);
+			}
 		}
 
 		/**
 		 */
 		@Override public void setIcon(@Nullable final Drawable icon) {
-			if (actionBar != null) actionBar.setIcon(icon);
+			if (actionBar != null && appliedState.icon.apply(AppliedDrawable.DRAWABLE, 0, icon)) {
+				actionBar.setIcon(icon);
+			}
 		}
 
 		/**
@@ -328,7 +433,170 @@ public abstract class ActionBarDelegate {
 		/**
 		 */
 		@Override public void setTitle(@Nullable final CharSequence title) {
-			if (actionBar != null) actionBar.setTitle(title);
+			if (actionBar != null && appliedState.applyTitle(title)) actionBar.setTitle(title);
+		}
+	}
+
+	/**
+	 * State that has been last applied to an action bar.
+	 */
+	@VisibleForTesting static final class AppliedState {
+
+		/**
+		 * Constant identifying that home as up flag has not been applied yet.
+		 */
+		private static final int HOME_AS_UP_UNKNOWN = 0;
+
+		/**
+		 * Constant identifying that home as up has been enabled.
+		 */
+		private static final int HOME_AS_UP_ENABLED = 1;
+
+		/**
+		 * Constant identifying that home as up has been disabled.
+		 */
+		private static final int HOME_AS_UP_DISABLED = 2;
+
+		/**
+		 * Applied home as up indicator.
+		 */
+		final AppliedDrawable homeAsUpIndicator = new AppliedDrawable();
+
+		/**
+		 * Applied icon.
+		 */
+		final AppliedDrawable icon = new AppliedDrawable();
+
+		/**
+		 * Applied home as up flag. One of {@link #HOME_AS_UP_UNKNOWN}, {@link #HOME_AS_UP_ENABLED}
+		 * or {@link #HOME_AS_UP_DISABLED}.
+		 */
+		private int homeAsUp = HOME_AS_UP_UNKNOWN;
+
+		/**
+		 * Applied title. Only immutable titles are remembered.
+		 */
+		private String title;
+
+		/**
+		 * Boolean flag indicating whether the {@link #title} has been applied.
+		 */
+		private boolean titleApplied;
+
+		/**
+		 * Remembers the specified home as up flag as applied.
+		 *
+		 * @param enabled The home as up flag to be applied.
+		 * @return {@code True} if the flag differs from the applied one and should be applied,
+		 * {@code false} if it has been already applied.
+		 */
+		boolean applyHomeAsUpEnabled(final boolean enabled) {
+			final int homeAsUp = enabled ? HOME_AS_UP_ENABLED : HOME_AS_UP_DISABLED;
+			if (this.homeAsUp == homeAsUp) {
+				return false;
+			}
+			this.homeAsUp = homeAsUp;
+			return true;
+		}
+
+		/**
+		 * Remembers the specified <var>title</var> as applied.
+		 *
+		 * @param title The title to be applied.
+		 * @return {@code True} if the title differs from the applied one and should be applied,
+		 * {@code false} if it has been already applied.
+		 */
+		boolean applyTitle(final CharSequence title) {
+			if (titleApplied && TextUtils.equals(this.title, title)) {
+				return false;
+			}
+			// Mutable or styled text may change without its identity being changed, so such titles
+			// are always applied.
+			this.titleApplied = title == null || title instanceof String;
+			this.title = titleApplied ? (String) title : null;
+			return true;
+		}
+
+		/**
+		 * Clears all applied values, so the next values are always applied.
+		 */
+		void clear() {
+			this.homeAsUp = HOME_AS_UP_UNKNOWN;
+			this.homeAsUpIndicator.clear();
+			this.icon.clear();
+			this.title = null;
+			this.titleApplied = false;
+		}
+	}
+
+	/**
+	 * Drawable that has been last applied to an action bar either as resource or as instance.
+	 */
+	@VisibleForTesting static final class AppliedDrawable {
+
+		/**
+		 * Type identifying that no drawable has been applied yet.
+		 */
+		static final int NONE = 0;
+
+		/**
+		 * Type identifying that drawable has been applied as resource id.
+		 */
+		static final int RESOURCE = 1;
+
+		/**
+		 * Type identifying that drawable has been applied as vector drawable resource id.
+		 */
+		static final int VECTOR_RESOURCE = 2;
+
+		/**
+		 * Type identifying that drawable has been applied as instance.
+		 */
+		static final int DRAWABLE = 3;
+
+		/**
+		 * Type of the applied drawable.
+		 */
+		private int type = NONE;
+
+		/**
+		 * Resource id of the applied drawable if applied as resource.
+		 */
+		private int resource;
+
+		/**
+		 * Weak reference to the applied drawable if applied as instance. The drawable is not
+		 * referenced strongly as it may reference context of the action bar.
+		 */
+		private WeakReference<Drawable> drawableReference;
+
+		/**
+		 * Remembers the specified drawable as applied.
+		 *
+		 * @param type     Type of the drawable to be applied.
+		 * @param resource Resource id of the drawable if applied as resource, {@code 0} otherwise.
+		 * @param drawable The drawable if applied as instance, {@code null} otherwise.
+		 * @return {@code True} if the drawable differs from the applied one and should be applied,
+		 * {@code false} if it has been already applied.
+		 */
+		boolean apply(final int type, final int resource, final Drawable drawable) {
+			final boolean sameDrawable = drawableReference == null ? drawable == null : drawable != null && drawableReference.get() == drawable;
+			if (this.type == type && this.resource == resource && sameDrawable) {
+				return false;
+			}
+			this.type = type;
+			this.resource = resource;
+			this.drawableReference = drawable == null ? null : new WeakReference<>(drawable);
+			return true;
+		}
+
+		/**
+		 * Clears the applied drawable, so the next one is always applied.
+		 */
+		void clear() {
+			this.type = NONE;
+			this.resource = 0;
+			this.drawableReference = null;
 		}
 	}
 }
\ No newline at end of file
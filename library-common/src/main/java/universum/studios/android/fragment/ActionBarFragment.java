@@ -19,6 +19,7 @@
 package universum.studios.android.fragment;
 
 import android.app.ActionBar;
+import android.content.Context;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.Menu;
@@ -38,6 +39,7 @@ import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.fragment.annotation.MenuOptions;
 import universum.studios.android.fragment.annotation.handler.ActionBarAnnotationHandlers;
 import universum.studios.android.fragment.annotation.handler.ActionBarFragmentAnnotationHandler;
+import universum.studios.android.fragment.annotation.handler.ExtendedActionBarFragmentAnnotationHandler;
 
 /**
  * A {@link BaseFragment} implementation that provides API allowing to access an instance of
@@ -68,7 +70,8 @@ import universum.studios.android.fragment.annotation.handler.ActionBarFragmentAn
  * <p>
  * If this annotation is presented, options menu will be requested in {@link #onCreate(Bundle)}
  * via {@link #setHasOptionsMenu(boolean)} and menu will be created in {@link #onCreateOptionsMenu(Menu, MenuInflater)}
- * according to the options specified via this annotation.
+ * according to the options specified via this annotation. The menu resource is parsed only once
+ * into a {@link MenuTemplate} which is then used to create the menu whenever it is invalidated.
  * </li>
  * <li>
  * {@link universum.studios.android.fragment.annotation.ActionModeOptions @ActionModeOptions} <b>[class - inherited]</b>
@@ -188,16 +191,16 @@ public class ActionBarFragment extends BaseFragment {
 			} else {
 				switch (annotationHandler.getOptionsMenuFlags(0)) {
 					case MenuOptions.IGNORE_SUPER:
-						inflater.inflate(menuResource, menu);
+						MenuTemplate.inflate(getContext(), inflater, menuResource, menu);
 						break;
 					case MenuOptions.BEFORE_SUPER:
-						inflater.inflate(menuResource, menu);
+						MenuTemplate.inflate(getContext(), inflater, menuResource, menu);
 						super.onCreateOptionsMenu(menu, inflater);
 						break;
 					case MenuOptions.DEFAULT:
 					default:
 						super.onCreateOptionsMenu(menu, inflater);
-						inflater.inflate(menuResource, menu);
+						MenuTemplate.inflate(getContext(), inflater, menuResource, menu);
 						break;
 				}
 			}
@@ -210,7 +213,7 @@ public class ActionBarFragment extends BaseFragment {
 	 */
 	@Override public void onActivityCreated(@Nullable final Bundle savedInstanceState) {
 		super.onActivityCreated(savedInstanceState);
-		this.actionBarDelegate = ActionBarDelegate.create(requireActivity());
+		this.actionBarDelegate = ActionBarDelegate.obtain(requireActivity());
 		this.invalidateActionBar();
 	}
 
@@ -449,7 +452,11 @@ public class ActionBarFragment extends BaseFragment {
 			if (fragment == null || !FragmentAnnotations.isEnabled()) {
 				return false;
 			}
-			return fragment.getAnnotationHandler().handleCreateActionMode(actionMode, menu);
+			final Context context = fragment.getContext();
+			final ActionBarFragmentAnnotationHandler annotationHandler = fragment.getAnnotationHandler();
+			return context != null && annotationHandler instanceof ExtendedActionBarFragmentAnnotationHandler ?
+					((ExtendedActionBarFragmentAnnotationHandler) annotationHandler).handleCreateActionMode(context, actionMode, menu) :
+					annotationHandler.handleCreateActionMode(actionMode, menu);
 		}
 
 		/**
@@ -0,0 +1,684 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.XmlResourceParser;
+import android.util.SparseArray;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.SubMenu;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.MenuRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Template of a menu resource which has been parsed into a compact description of its items, so
+ * the menu may be created repeatedly without parsing of the menu XML again.
+ * <p>
+ * Templates are created and cached via {@link #inflate(Context, MenuInflater, int, Menu)}. Items
+ * are added into a menu in the same way and with the same attributes as {@link MenuInflater}
+ * would add them. Titles and icons specified as resources are resolved by the menu itself, other
+ * resource references are resolved when the template is created and the template is re-created
+ * whenever configuration of the resources changes.
+ * <p>
+ * Only menus consisting of groups and items (with sub-menus) with commonly used attributes may be
+ * described by a template. Menus with items that specify action views, action providers, click
+ * handlers, tints, content descriptions, tooltips or theme attributes are always inflated via
+ * {@link MenuInflater}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class MenuTemplate {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "MenuTemplate";
+
+	/**
+	 * Namespace of the Android framework attributes.
+	 */
+	private static final String NAMESPACE_ANDROID = "http://schemas.android.com/apk/res/android";
+
+	/**
+	 * Namespace of the application (library) attributes.
+	 */
+	private static final String NAMESPACE_APP = "http://schemas.android.com/apk/res-auto";
+
+	/**
+	 * Name of the menu inflater from the AppCompat library that reads {@code showAsAction} attribute
+	 * from the application namespace.
+	 */
+	private static final String SUPPORT_MENU_INFLATER_CLASS_NAME = "androidx.appcompat.view.SupportMenuInflater";
+
+	/**
+	 * Value of {@code checkableBehavior} attribute of a group indicating that items are not checkable.
+	 */
+	private static final int CHECKABLE_NONE = 0;
+
+	/**
+	 * Value of {@code checkableBehavior} attribute of a group indicating that items are checkable
+	 * exclusively.
+	 */
+	private static final int CHECKABLE_SINGLE = 2;
+
+	/**
+	 * Value indicating that {@code showAsAction} attribute has not been specified.
+	 */
+	private static final int SHOW_AS_ACTION_UNSPECIFIED = -1;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Array with templates mapped to resource ids of theirs menus. Accessed only from the main thread.
+	 */
+	private static final SparseArray<MenuTemplate> templates = new SparseArray<>(4);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Descriptions of the top level items of the menu. May be {@code null} if the menu cannot be
+	 * described by a template.
+	 */
+	private final Item[] items;
+
+	/**
+	 * Configuration of the resources from which has been this template created.
+	 */
+	private Configuration configuration;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of MenuTemplate with the specified <var>items</var>.
+	 *
+	 * @param items Descriptions of the top level items of the menu. May be {@code null} if the menu
+	 *              cannot be described by a template.
+	 */
+	private MenuTemplate(final Item[] items) {
+		this.items = items;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Adds items of the menu with the specified <var>resource</var> into the given <var>menu</var>
+	 * via template of that menu. The template is created (and cached) when the menu is inflated for
+	 * the first time. If the menu cannot be described by a template or there is no <var>context</var>
+	 * available, the menu is inflated via the given <var>inflater</var>.
+	 *
+	 * @param context  Context of which resources to use to create the template. May be {@code null}.
+	 * @param inflater Inflater used to inflate the menu if there is no template for it.
+	 * @param resource Resource id of the desired menu.
+	 * @param menu     The menu into which to add the items.
+	 */
+	public static void inflate(@Nullable final Context context, @NonNull final MenuInflater inflater, @MenuRes final int resource, @NonNull final Menu menu) {
+		final MenuTemplate template = context == null ? null : obtain(context.getResources(), resource);
+		if (template != null && template.isSupported()) {
+			template.addItems(menu, SUPPORT_MENU_INFLATER_CLASS_NAME.equals(inflater.getClass().getName()));
+		} else {
+			inflater.inflate(resource, menu);
+		}
+	}
+
+	/**
+	 * Obtains template for the menu with the specified <var>resource</var>. The template is created
+	 * if it has not been created yet or it has been created for a different configuration.
+	 *
+	 * @param resources Resources used to create the template.
+	 * @param resource  Resource id of the desired menu.
+	 * @return Template for the menu.
+	 */
+	private static MenuTemplate obtain(final Resources resources, final int resource) {
+		final Configuration configuration = resources.getConfiguration();
+		MenuTemplate template = templates.get(resource);
+		if (template == null || !template.configuration.equals(configuration)) {
+			template = create(resources, resource);
+			template.configuration = new Configuration(configuration);
+			templates.put(resource, template);
+		}
+		return template;
+	}
+
+	/**
+	 * Creates a new template for the menu with the specified <var>resource</var>.
+	 *
+	 * @param resources Resources used to parse the menu.
+	 * @param resource  Resource id of the desired menu.
+	 * @return New template which is not {@link #isSupported() supported} if the menu cannot be
+	 * described by a template.
+	 */
+	@VisibleForTesting static MenuTemplate create(@NonNull final Resources resources, @MenuRes final int resource) {
+		XmlResourceParser parser = null;
+		try {
+			parser = resources.getLayout(resource);
+			final List<Item> items = new Parser(resources, parser).parse();
+			return new MenuTemplate(items == null ? null : items.toArray(new Item[0]));
+		} catch (Resources.NotFoundException | XmlPullParserException | IOException e) {
+			FragmentsLogging.w(TAG, "Failed to parse menu resource(" + resource + "). Menu will be inflated via MenuInflater.", e);
+			return new MenuTemplate(null);
+		} finally {
+			if (parser != null) {
+				parser.close();
+			}
+		}
+	}
+
+	/**
+	 * Clears all cached templates.
+	 */
+	public static void clearCache() {
+		templates.clear();
+	}
+
+	/**
+	 * Checks whether this template describes a menu.
+	 *
+	 * @return {@code True} if items of the menu may be added via this template, {@code false} if
+	 * the menu needs to be inflated via {@link MenuInflater}.
+	 */
+	@VisibleForTesting boolean isSupported() {
+		return items != null;
+	}
+
+	/**
+	 * Adds items described by this template into the given <var>menu</var>.
+	 *
+	 * @param menu            The menu into which to add the items.
+	 * @param appShowAsAction {@code True} to apply {@code showAsAction} attribute from the application
+	 *                        namespace, {@code false} to apply the one from the framework namespace.
+	 */
+	@VisibleForTesting void addItems(@NonNull final Menu menu, final boolean appShowAsAction) {
+		addItems(menu, items, appShowAsAction);
+	}
+
+	/**
+	 * Adds the given <var>items</var> into the specified <var>menu</var>.
+	 *
+	 * @param menu            The menu into which to add the items.
+	 * @param items           Descriptions of the items to be added.
+	 * @param appShowAsAction {@code True} to apply {@code showAsAction} from the application namespace.
+	 */
+	private static void addItems(final Menu menu, final Item[] items, final boolean appShowAsAction) {
+		for (final Item item : items) {
+			final MenuItem menuItem;
+			if (item.subItems == null) {
+				menuItem = item.titleResource == 0 ?
+						menu.add(item.groupId, item.id, item.categoryOrder, item.title) :
+						menu.add(item.groupId, item.id, item.categoryOrder, item.titleResource);
+			} else {
+				final SubMenu subMenu = item.titleResource == 0 ?
+						menu.addSubMenu(item.groupId, item.id, item.categoryOrder, item.title) :
+						menu.addSubMenu(item.groupId, item.id, item.categoryOrder, item.titleResource);
+				menuItem = subMenu.getItem();
+				addItems(subMenu, item.subItems, appShowAsAction);
+			}
+			// Setup the item in the same order as MenuInflater does.
+			menuItem.setChecked(item.checked)
+					.setVisible(item.visible)
+					.setEnabled(item.enabled)
+					.setCheckable(item.checkable != CHECKABLE_NONE)
+					.setTitleCondensed(item.titleCondensed)
+					.setIcon(item.iconResource)
+					.setAlphabeticShortcut(item.alphabeticShortcut)
+					.setNumericShortcut(item.numericShortcut);
+			final int showAsAction = appShowAsAction ? item.appShowAsAction : item.showAsAction;
+			if (showAsAction != SHOW_AS_ACTION_UNSPECIFIED) {
+				menuItem.setShowAsAction(showAsAction);
+			}
+			if (item.checkable == CHECKABLE_SINGLE) {
+				menu.setGroupCheckable(item.groupId, true, true);
+			}
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Description of a single menu item.
+	 */
+	private static final class Item {
+
+		/**
+		 * Id of the group to which the item belongs.
+		 */
+		int groupId;
+
+		/**
+		 * Id of the item.
+		 */
+		int id;
+
+		/**
+		 * Category and order of the item.
+		 */
+		int categoryOrder;
+
+		/**
+		 * Resource id of the title or {@code 0} if the title is specified as {@link #title}.
+		 */
+		int titleResource;
+
+		/**
+		 * Title of the item if not specified as resource.
+		 */
+		CharSequence title;
+
+		/**
+		 * Condensed title of the item.
+		 */
+		CharSequence titleCondensed;
+
+		/**
+		 * Resource id of the icon of the item.
+		 */
+		int iconResource;
+
+		/**
+		 * Alphabetic shortcut of the item.
+		 */
+		char alphabeticShortcut;
+
+		/**
+		 * Numeric shortcut of the item.
+		 */
+		char numericShortcut;
+
+		/**
+		 * Checkable behavior of the item.
+		 */
+		int checkable;
+
+		/**
+		 * Boolean flag indicating whether the item is checked.
+		 */
+		boolean checked;
+
+		/**
+		 * Boolean flag indicating whether the item is visible.
+		 */
+		boolean visible;
+
+		/**
+		 * Boolean flag indicating whether the item is enabled.
+		 */
+		boolean enabled;
+
+		/**
+		 * Value of {@code showAsAction} attribute from the framework namespace.
+		 */
+		int showAsAction = SHOW_AS_ACTION_UNSPECIFIED;
+
+		/**
+		 * Value of {@code showAsAction} attribute from the application namespace.
+		 */
+		int appShowAsAction = SHOW_AS_ACTION_UNSPECIFIED;
+
+		/**
+		 * Descriptions of items of a sub-menu of the item. May be {@code null} if the item does not
+		 * have sub-menu.
+		 */
+		Item[] subItems;
+	}
+
+	/**
+	 * Parser of a menu XML into descriptions of its items.
+	 */
+	private static final class Parser {
+
+		/**
+		 * Resources used to resolve references in attributes.
+		 */
+		private final Resources resources;
+
+		/**
+		 * Parser of the menu XML.
+		 */
+		private final XmlResourceParser parser;
+
+		/**
+		 * Attributes of the currently parsed group.
+		 */
+		private int groupId, groupCategory, groupOrder, groupCheckable;
+
+		/**
+		 * Attributes of the currently parsed group.
+		 */
+		private boolean groupVisible = true, groupEnabled = true;
+
+		/**
+		 * Creates a new instance of Parser for the specified <var>parser</var>.
+		 *
+		 * @param resources Resources used to resolve references in attributes.
+		 * @param parser    Parser of the menu XML.
+		 */
+		Parser(final Resources resources, final XmlResourceParser parser) {
+			this.resources = resources;
+			this.parser = parser;
+		}
+
+		/**
+		 * Parses the menu.
+		 *
+		 * @return Descriptions of the top level items of the menu or {@code null} if the menu cannot
+		 * be described by a template.
+		 * @throws XmlPullParserException If the menu XML is not valid.
+		 * @throws IOException            If the menu XML cannot be read.
+		 */
+		List<Item> parse() throws XmlPullParserException, IOException {
+			int eventType = parser.getEventType();
+			while (eventType != XmlPullParser.START_TAG && eventType != XmlPullParser.END_DOCUMENT) {
+				eventType = parser.next();
+			}
+			if (eventType != XmlPullParser.START_TAG || !"menu".equals(parser.getName()) || parser.getAttributeCount() != 0) {
+				return null;
+			}
+			return parseMenu();
+		}
+
+		/**
+		 * Parses content of a {@code menu} tag at which is the parser currently positioned.
+		 *
+		 * @return Descriptions of items of the menu or {@code null} if the menu cannot be described
+		 * by a template.
+		 * @throws XmlPullParserException If the menu XML is not valid.
+		 * @throws IOException            If the menu XML cannot be read.
+		 */
+		private List<Item> parseMenu() throws XmlPullParserException, IOException {
+			final List<Item> items = new ArrayList<>();
+			boolean inGroup = false;
+			int eventType;
+			while ((eventType = parser.next()) != XmlPullParser.END_DOCUMENT) {
+				if (eventType == XmlPullParser.START_TAG) {
+					final String name = parser.getName();
+					if ("item".equals(name)) {
+						final Item item = parseItem();
+						if (item == null) {
+							return null;
+						}
+						items.add(item);
+					} else if ("group".equals(name) && !inGroup) {
+						if (!parseGroup()) {
+							return null;
+						}
+						inGroup = true;
+					} else {
+						return null;
+					}
+				} else if (eventType == XmlPullParser.END_TAG) {
+					final String name = parser.getName();
+					if ("group".equals(name)) {
+						resetGroup();
+						inGroup = false;
+					} else if ("menu".equals(name)) {
+						return items;
+					}
+				}
+			}
+			return items;
+		}
+
+		/**
+		 * Parses attributes of a {@code group} tag at which is the parser currently positioned.
+		 *
+		 * @return {@code True} if the group may be described by a template, {@code false} otherwise.
+		 */
+		private boolean parseGroup() {
+			for (int i = 0; i < parser.getAttributeCount(); i++) {
+				if (!NAMESPACE_ANDROID.equals(parser.getAttributeNamespace(i)) || isThemeReference(i)) {
+					return false;
+				}
+				switch (parser.getAttributeName(i)) {
+					case "id":
+						this.groupId = parser.getAttributeResourceValue(i, 0);
+						break;
+					case "menuCategory":
+						this.groupCategory = intValue(i);
+						break;
+					case "orderInCategory":
+						this.groupOrder = intValue(i);
+						break;
+					case "checkableBehavior":
+						this.groupCheckable = intValue(i);
+						break;
+					case "visible":
+						this.groupVisible = booleanValue(i);
+						break;
+					case "enabled":
+						this.groupEnabled = booleanValue(i);
+						break;
+					default:
+						return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Resets attributes of the last parsed group.
+		 */
+		private void resetGroup() {
+			this.groupId = 0;
+			this.groupCategory = 0;
+			this.groupOrder = 0;
+			this.groupCheckable = CHECKABLE_NONE;
+			this.groupVisible = true;
+			this.groupEnabled = true;
+		}
+
+		/**
+		 * Parses an {@code item} tag at which is the parser currently positioned.
+		 *
+		 * @return Description of the item or {@code null} if the item cannot be described by a template.
+		 * @throws XmlPullParserException If the menu XML is not valid.
+		 * @throws IOException            If the menu XML cannot be read.
+		 */
+		private Item parseItem() throws XmlPullParserException, IOException {
+			final Item item = new Item();
+			item.groupId = groupId;
+			item.checkable = groupCheckable;
+			item.visible = groupVisible;
+			item.enabled = groupEnabled;
+			int category = groupCategory;
+			int order = groupOrder;
+			for (int i = 0; i < parser.getAttributeCount(); i++) {
+				if (isThemeReference(i)) {
+					return null;
+				}
+				final String namespace = parser.getAttributeNamespace(i);
+				final String name = parser.getAttributeName(i);
+				if (NAMESPACE_APP.equals(namespace) && "showAsAction".equals(name)) {
+					item.appShowAsAction = parser.getAttributeIntValue(i, SHOW_AS_ACTION_UNSPECIFIED);
+					continue;
+				}
+				if (!NAMESPACE_ANDROID.equals(namespace)) {
+					return null;
+				}
+				switch (name) {
+					case "id":
+						item.id = parser.getAttributeResourceValue(i, 0);
+						break;
+					case "menuCategory":
+						category = intValue(i);
+						break;
+					case "orderInCategory":
+						order = intValue(i);
+						break;
+					case "title":
+						item.titleResource = parser.getAttributeResourceValue(i, 0);
+						item.title = item.titleResource == 0 ? parser.getAttributeValue(i) : null;
+						break;
+					case "titleCondensed":
+						item.titleCondensed = textValue(i);
+						break;
+					case "icon":
+						item.iconResource = parser.getAttributeResourceValue(i, 0);
+						break;
+					case "alphabeticShortcut":
+						item.alphabeticShortcut = charValue(i);
+						break;
+					case "numericShortcut":
+						item.numericShortcut = charValue(i);
+						break;
+					case "checkable":
+						item.checkable = booleanValue(i) ? 1 : CHECKABLE_NONE;
+						break;
+					case "checked":
+						item.checked = booleanValue(i);
+						break;
+					case "visible":
+						item.visible = booleanValue(i);
+						break;
+					case "enabled":
+						item.enabled = booleanValue(i);
+						break;
+					case "showAsAction":
+						item.showAsAction = parser.getAttributeIntValue(i, SHOW_AS_ACTION_UNSPECIFIED);
+						break;
+					default:
+						return null;
+				}
+			}
+			item.categoryOrder = (category & Menu.CATEGORY_MASK) | (order & Menu.USER_MASK);
+			int eventType;
+			while ((eventType = parser.next()) != XmlPullParser.END_DOCUMENT) {
+				if (eventType == XmlPullParser.START_TAG) {
+					if (!"menu".equals(parser.getName()) || item.subItems != null || parser.getAttributeCount() != 0) {
+						return null;
+					}
+					final int subGroupId = groupId, subGroupCategory = groupCategory, subGroupOrder = groupOrder, subGroupCheckable = groupCheckable;
+					final boolean subGroupVisible = groupVisible, subGroupEnabled = groupEnabled;
+					resetGroup();
+					final List<Item> subItems = parseMenu();
+					if (subItems == null) {
+						return null;
+					}
+					item.subItems = subItems.toArray(new Item[0]);
+					this.groupId = subGroupId;
+					this.groupCategory = subGroupCategory;
+					this.groupOrder = subGroupOrder;
+					this.groupCheckable = subGroupCheckable;
+					this.groupVisible = subGroupVisible;
+					this.groupEnabled = subGroupEnabled;
+				} else if (eventType == XmlPullParser.END_TAG && "item".equals(parser.getName())) {
+					break;
+				}
+			}
+			return item;
+		}
+
+		/**
+		 * Checks whether value of the attribute at the specified <var>index</var> references a
+		 * theme attribute.
+		 *
+		 * @param index Index of the attribute.
+		 * @return {@code True} if the value is a theme reference, {@code false} otherwise.
+		 */
+		private boolean isThemeReference(final int index) {
+			final String value = parser.getAttributeValue(index);
+			return value != null && value.startsWith("?");
+		}
+
+		/**
+		 * Checks whether value of the attribute at the specified <var>index</var> references a resource.
+		 *
+		 * @param index Index of the attribute.
+		 * @return {@code True} if the value is a resource reference, {@code false} otherwise.
+		 */
+		private boolean isResourceReference(final int index) {
+			final String value = parser.getAttributeValue(index);
+			return value != null && value.startsWith("@");
+		}
+
+		/**
+		 * Resolves integer value of the attribute at the specified <var>index</var>.
+		 *
+		 * @param index Index of the attribute.
+		 * @return Integer value of the attribute.
+		 */
+		private int intValue(final int index) {
+			return isResourceReference(index) ?
+					resources.getInteger(parser.getAttributeResourceValue(index, 0)) :
+					parser.getAttributeIntValue(index, 0);
+		}
+
+		/**
+		 * Resolves boolean value of the attribute at the specified <var>index</var>.
+		 *
+		 * @param index Index of the attribute.
+		 * @return Boolean value of the attribute.
+		 */
+		private boolean booleanValue(final int index) {
+			return isResourceReference(index) ?
+					resources.getBoolean(parser.getAttributeResourceValue(index, 0)) :
+					parser.getAttributeBooleanValue(index, false);
+		}
+
+		/**
+		 * Resolves text value of the attribute at the specified <var>index</var>.
+		 *
+		 * @param index Index of the attribute.
+		 * @return Text value of the attribute.
+		 */
+		private CharSequence textValue(final int index) {
+			return isResourceReference(index) ?
+					resources.getText(parser.getAttributeResourceValue(index, 0)) :
+					parser.getAttributeValue(index);
+		}
+
+		/**
+		 * Resolves character value of the attribute at the specified <var>index</var>.
+		 *
+		 * @param index Index of the attribute.
+		 * @return The first character of text value of the attribute or {@code 0} if the text is empty.
+		 */
+		private char charValue(final int index) {
+			final CharSequence text = textValue(index);
+			return text == null || text.length() == 0 ? 0 : text.charAt(0);
+		}
+	}
+}
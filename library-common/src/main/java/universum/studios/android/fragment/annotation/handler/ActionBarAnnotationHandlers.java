@@ -18,16 +18,22 @@
  */
 package universum.studios.android.fragment.annotation.handler;
 
+import android.content.Context;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.view.Menu;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 import androidx.annotation.MenuRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.appcompat.view.ActionMode;
 import universum.studios.android.fragment.ActionBarDelegate;
 import universum.studios.android.fragment.ActionBarFragment;
+import universum.studios.android.fragment.MenuTemplate;
 import universum.studios.android.fragment.annotation.ActionBarOptions;
 import universum.studios.android.fragment.annotation.ActionModeOptions;
 import universum.studios.android.fragment.annotation.MenuOptions;
@@ -41,6 +47,16 @@ import universum.studios.android.fragment.annotation.MenuOptions;
  */
 public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	static {
+		// Register handler type for pre-warming and codec for persisting of handlers of all ActionBarFragment classes.
+		registerHandlerType(ActionBarFragment.class, ActionBarFragmentHandler.class);
+		AnnotationHandlersStore.registerCodec(ActionBarFragmentHandler.class, new ActionBarFragmentHandlerCodec());
+	}
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -65,9 +81,16 @@ public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 	 */
 
 	/**
-	 * An {@link ActionBarFragmentAnnotationHandler} implementation for {@link ActionBarFragment} class.
+	 * An {@link ExtendedActionBarFragmentAnnotationHandler} implementation for {@link ActionBarFragment} class.
 	 */
-	static class ActionBarFragmentHandler extends BaseAnnotationHandlers.FragmentHandler implements ActionBarFragmentAnnotationHandler {
+	static class ActionBarFragmentHandler extends BaseAnnotationHandlers.FragmentHandler implements ExtendedActionBarFragmentAnnotationHandler {
+
+		/**
+		 * Transparent drawable used for {@link ActionBarOptions#NONE} icon and home as up indicator.
+		 * The same instance is used for all action bars, so {@link ActionBarDelegate} may recognize
+		 * that it has been already applied. As it does not draw anything, it may be safely shared.
+		 */
+		private static final ColorDrawable NONE_DRAWABLE = new ColorDrawable(Color.TRANSPARENT);
 
 		/**
 		 * Action bar's home as up flag obtained from the annotated class.
@@ -169,6 +192,62 @@ public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 			}
 		}
 
+		/**
+		 * Creates a new instance of ActionBarFragmentHandler for the given <var>annotatedClass</var>
+		 * with already resolved values of {@link ActionBarOptions @ActionBarOptions}, {@link MenuOptions @MenuOptions}
+		 * and {@link ActionModeOptions @ActionModeOptions} annotations.
+		 * <p>
+		 * This constructor is used by handlers index generated by the Fragments annotation processor.
+		 *
+		 * @see BaseAnnotationHandlers.FragmentHandler#FragmentHandler(Class, int, boolean, int, boolean, boolean)
+		 */
+		ActionBarFragmentHandler(
+				@NonNull final Class<?> annotatedClass,
+				final int contentViewResource,
+				final boolean attachContentViewToContainer,
+				final int contentViewBackgroundResId,
+				final boolean inflateContentViewAsync,
+				final boolean createContentViewLazily,
+				final int homeAsUp,
+				final int homeAsUpVectorIndicator,
+				final int homeAsUpIndicator,
+				final int icon,
+				final int title,
+				final boolean hasOptionsMenu,
+				final boolean clearOptionsMenu,
+				final int optionsMenuResource,
+				final int optionsMenuFlags,
+				final int actionModeMenuResource
+		) {
+			super(annotatedClass, contentViewResource, attachContentViewToContainer, contentViewBackgroundResId, inflateContentViewAsync, createContentViewLazily);
+			this.homeAsUp = homeAsUp;
+			this.homeAsUpVectorIndicator = homeAsUpVectorIndicator;
+			this.homeAsUpIndicator = homeAsUpIndicator;
+			this.icon = icon;
+			this.title = title;
+			this.hasOptionsMenu = hasOptionsMenu;
+			this.clearOptionsMenu = clearOptionsMenu;
+			this.optionsMenuResource = optionsMenuResource;
+			this.optionsMenuFlags = optionsMenuFlags;
+			this.actionModeMenuResource = actionModeMenuResource;
+		}
+
+		/**
+		 */
+		@Override void writeValues(@NonNull final DataOutput output) throws IOException {
+			super.writeValues(output);
+			output.writeInt(homeAsUp);
+			output.writeInt(homeAsUpVectorIndicator);
+			output.writeInt(homeAsUpIndicator);
+			output.writeInt(icon);
+			output.writeInt(title);
+			output.writeBoolean(hasOptionsMenu);
+			output.writeBoolean(clearOptionsMenu);
+			output.writeInt(optionsMenuResource);
+			output.writeInt(optionsMenuFlags);
+			output.writeInt(actionModeMenuResource);
+		}
+
 		/**
 		 */
 		@Override public void configureActionBar(@NonNull final ActionBarDelegate actionBarDelegate) {
@@ -188,7 +267,7 @@ public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 				//noinspection SwitchStatementWithTooFewBranches
 				switch (homeAsUpVectorIndicator) {
 					case ActionBarOptions.NONE:
-						actionBarDelegate.setHomeAsUpIndicator(new ColorDrawable(Color.TRANSPARENT));
+						actionBarDelegate.setHomeAsUpIndicator(NONE_DRAWABLE);
 						break;
 					default:
 						actionBarDelegate.setHomeAsUpVectorIndicator(homeAsUpVectorIndicator);
@@ -198,7 +277,7 @@ public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 				//noinspection SwitchStatementWithTooFewBranches
 				switch (homeAsUpIndicator) {
 					case ActionBarOptions.NONE:
-						actionBarDelegate.setHomeAsUpIndicator(new ColorDrawable(Color.TRANSPARENT));
+						actionBarDelegate.setHomeAsUpIndicator(NONE_DRAWABLE);
 						break;
 					default:
 						actionBarDelegate.setHomeAsUpIndicator(homeAsUpIndicator);
@@ -209,7 +288,7 @@ public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 				case ActionBarOptions.UNCHANGED:
 					break;
 				case ActionBarOptions.NONE:
-					actionBarDelegate.setIcon(new ColorDrawable(Color.TRANSPARENT));
+					actionBarDelegate.setIcon(NONE_DRAWABLE);
 					break;
 				default:
 					actionBarDelegate.setIcon(icon);
@@ -260,5 +339,50 @@ public final class ActionBarAnnotationHandlers extends AnnotationHandlers {
 			actionMode.getMenuInflater().inflate(actionModeMenuResource, menu);
 			return true;
 		}
+
+		/**
+		 */
+		@Override public boolean handleCreateActionMode(@NonNull final Context context, @NonNull final ActionMode actionMode, @NonNull final Menu menu) {
+			if (actionModeMenuResource == NO_RES) {
+				return false;
+			}
+			MenuTemplate.inflate(context, actionMode.getMenuInflater(), actionModeMenuResource, menu);
+			return true;
+		}
+	}
+
+	/**
+	 * A {@link AnnotationHandlersStore.HandlerCodec} implementation for {@link ActionBarFragmentHandler}.
+	 */
+	static final class ActionBarFragmentHandlerCodec implements AnnotationHandlersStore.HandlerCodec<ActionBarFragmentHandler> {
+
+		/**
+		 */
+		@Override public void write(@NonNull final ActionBarFragmentHandler handler, @NonNull final DataOutput output) throws IOException {
+			handler.writeValues(output);
+		}
+
+		/**
+		 */
+		@Override @NonNull public ActionBarFragmentHandler read(@NonNull final Class<?> annotatedClass, @NonNull final DataInput input) throws IOException {
+			return new ActionBarFragmentHandler(
+					annotatedClass,
+					input.readInt(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readBoolean(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readBoolean(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt()
+			);
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,60 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import android.content.Context;
+import android.view.Menu;
+
+import androidx.annotation.NonNull;
+import androidx.appcompat.view.ActionMode;
+import universum.studios.android.fragment.ActionBarFragment;
+
+/**
+ * An {@link ActionBarFragmentAnnotationHandler} extended interface for annotation handlers which
+ * support also the operations added in later versions of the Fragments library.
+ * <p>
+ * {@link ActionBarFragment} checks whether its annotation handler implements this interface and if
+ * it does not, it falls back to the operations of {@link ActionBarFragmentAnnotationHandler}. Custom
+ * implementations of {@link ActionBarFragmentAnnotationHandler} thus do not need to implement this
+ * interface.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ *
+ * @see ActionBarFragment
+ */
+public interface ExtendedActionBarFragmentAnnotationHandler extends ActionBarFragmentAnnotationHandler, ExtendedFragmentAnnotationHandler {
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Same as {@link #handleCreateActionMode(ActionMode, Menu)} except that the menu options are
+	 * added via {@link universum.studios.android.fragment.MenuTemplate MenuTemplate} created using
+	 * resources of the given <var>context</var>, so the menu resource is parsed only once.
+	 *
+	 * @param context    Context of the fragment for which is the action mode started.
+	 * @param actionMode The started action mode of which creation to handle.
+	 * @param menu       The menu where to possibly add menu options.
+	 * @return {@code True} if there were added some menu options into the specified <var>menu</var>,
+	 * {@code false} otherwise.
+	 */
+	boolean handleCreateActionMode(@NonNull Context context, @NonNull ActionMode actionMode, @NonNull Menu menu);
+}
\ No newline at end of file
@@ -30,6 +30,7 @@ import org.robolectric.annotation.Config;
 import universum.studios.android.test.AndroidTestCase;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -155,4 +156,56 @@ public final class ActionBarDelegateImplTest extends AndroidTestCase {
 		// Only ensure that the delegate does not cause any troubles when it does not have ActionBar.
 		new ActionBarDelegate.Impl(context(), null).setIcon(null);
 	}
-}
\ No newline at end of file
+
+	@Config(sdk = Build.VERSION_CODES.JELLY_BEAN_MR2)
+	@Test public void testSameStateAppliedOnlyOnce() {
+		// Arrange:
+		final ActionBar mockActionBar = mock(ActionBar.class);
+		final ActionBarDelegate delegate = new ActionBarDelegate.Impl(context(), mockActionBar);
+		final Drawable indicator = new ColorDrawable(Color.WHITE);
+		// Act:
+		delegate.setDisplayHomeAsUpEnabled(true);
+		delegate.setHomeAsUpIndicator(indicator);
+		delegate.setIcon(android.R.drawable.ic_delete);
+		delegate.setTitle(android.R.string.dialog_alert_title);
+		delegate.setDisplayHomeAsUpEnabled(true);
+		delegate.setHomeAsUpIndicator(indicator);
+		delegate.setIcon(android.R.drawable.ic_delete);
+		delegate.setTitle(android.R.string.dialog_alert_title);
+		// Assert:
+		verify(mockActionBar).setDisplayHomeAsUpEnabled(true);
+		verify(mockActionBar).setHomeAsUpIndicator(indicator);
+		verify(mockActionBar).setIcon(android.R.drawable.ic_delete);
+		verify(mockActionBar).setTitle(context().getText(android.R.string.dialog_alert_title));
+		verifyNoMoreInteractions(mockActionBar);
+	}
+
+	@Config(sdk = Build.VERSION_CODES.JELLY_BEAN_MR2)
+	@Test public void testChangedIndicatorApplied() {
+		// Arrange:
+		final ActionBar mockActionBar = mock(ActionBar.class);
+		final ActionBarDelegate delegate = new ActionBarDelegate.Impl(context(), mockActionBar);
+		final Drawable indicator = new ColorDrawable(Color.WHITE);
+		delegate.setHomeAsUpIndicator(android.R.drawable.ic_delete);
+		// Act:
+		delegate.setHomeAsUpIndicator(indicator);
+		delegate.setHomeAsUpIndicator(android.R.drawable.ic_delete);
+		// Assert:
+		verify(mockActionBar, times(2)).setHomeAsUpIndicator(android.R.drawable.ic_delete);
+		verify(mockActionBar).setHomeAsUpIndicator(indicator);
+		verifyNoMoreInteractions(mockActionBar);
+	}
+
+	@Test public void testInvalidateAppliedState() {
+		// Arrange:
+		final ActionBar mockActionBar = mock(ActionBar.class);
+		final ActionBarDelegate delegate = new ActionBarDelegate.Impl(context(), mockActionBar);
+		delegate.setDisplayHomeAsUpEnabled(true);
+		// Act:
+		delegate.invalidateAppliedState();
+		delegate.setDisplayHomeAsUpEnabled(true);
+		// Assert:
+		verify(mockActionBar, times(2)).setDisplayHomeAsUpEnabled(true);
+		verifyNoMoreInteractions(mockActionBar);
+	}
+}
@@ -18,6 +18,8 @@
  */
 package universum.studios.android.fragment;
 
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
 
 import org.junit.Test;
@@ -25,6 +27,7 @@ import org.junit.Test;
 import universum.studios.android.test.AndroidTestCase;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -148,4 +151,62 @@ public final class ActionBarDelegateSupportTest extends AndroidTestCase {
 		// Only ensure that the delegate does not cause any troubles when it does not have ActionBar.
 		new ActionBarDelegate.SupportImpl(context(), null).setIcon(null);
 	}
-}
\ No newline at end of file
+
+	@Test public void testSameStateAppliedOnlyOnce() {
+		// Arrange:
+		final androidx.appcompat.app.ActionBar mockActionBar = mock(androidx.appcompat.app.ActionBar.class);
+		final ActionBarDelegate delegate = new ActionBarDelegate.SupportImpl(context(), mockActionBar);
+		final Drawable icon = new ColorDrawable(Color.WHITE);
+		// Act:
+		delegate.setDisplayHomeAsUpEnabled(true);
+		delegate.setHomeAsUpIndicator(android.R.drawable.ic_delete);
+		delegate.setIcon(icon);
+		delegate.setTitle("Title");
+		delegate.setDisplayHomeAsUpEnabled(true);
+		delegate.setHomeAsUpIndicator(android.R.drawable.ic_delete);
+		delegate.setIcon(icon);
+		delegate.setTitle("Title");
+		// Assert:
+		verify(mockActionBar).setDisplayHomeAsUpEnabled(true);
+		verify(mockActionBar).setHomeAsUpIndicator(android.R.drawable.ic_delete);
+		verify(mockActionBar).setIcon(icon);
+		verify(mockActionBar).setTitle("Title");
+		verifyNoMoreInteractions(mockActionBar);
+	}
+
+	@Test public void testChangedStateApplied() {
+		// Arrange:
+		final androidx.appcompat.app.ActionBar mockActionBar = mock(androidx.appcompat.app.ActionBar.class);
+		final ActionBarDelegate delegate = new ActionBarDelegate.SupportImpl(context(), mockActionBar);
+		delegate.setIcon(android.R.drawable.ic_delete);
+		delegate.setTitle("Title");
+		// Act:
+		delegate.setIcon(android.R.drawable.ic_input_add);
+		delegate.setTitle("Other title");
+		// Assert:
+		verify(mockActionBar).setIcon(android.R.drawable.ic_delete);
+		verify(mockActionBar).setIcon(android.R.drawable.ic_input_add);
+		verify(mockActionBar).setTitle("Title");
+		verify(mockActionBar).setTitle("Other title");
+		verifyNoMoreInteractions(mockActionBar);
+	}
+
+	@Test public void testInvalidateAppliedState() {
+		// Arrange:
+		final androidx.appcompat.app.ActionBar mockActionBar = mock(androidx.appcompat.app.ActionBar.class);
+		final ActionBarDelegate delegate = new ActionBarDelegate.SupportImpl(context(), mockActionBar);
+		delegate.setTitle("Title");
+		// Act:
+		delegate.invalidateAppliedState();
+		delegate.setTitle("Title");
+		// Assert:
+		verify(mockActionBar, times(2)).setTitle("Title");
+		verifyNoMoreInteractions(mockActionBar);
+	}
+
+	@Test public void testInvalidateAppliedStateWithoutActionBar() {
+		// Act:
+		// Only ensure that the delegate does not cause any troubles when it does not have ActionBar.
+		new ActionBarDelegate.SupportImpl(context(), null).invalidateAppliedState();
+	}
+}
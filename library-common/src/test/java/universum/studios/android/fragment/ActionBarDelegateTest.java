@@ -36,6 +36,7 @@ import universum.studios.android.test.TestActivity;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -101,6 +102,75 @@ public final class ActionBarDelegateTest extends AndroidTestCase {
 		assertThat(ActionBarDelegate.create(context(), (androidx.appcompat.app.ActionBar) null), is(notNullValue()));
 	}
 
+	@Test public void testObtainForFrameworkActivity() {
+		// Arrange:
+		final Activity mockActivity = mock(TestActivity.class);
+		final ActionBar mockActionBar = mock(ActionBar.class);
+		when(mockActivity.getActionBar()).thenReturn(mockActionBar);
+		// Act:
+		final ActionBarDelegate actionBarDelegate = ActionBarDelegate.obtain(mockActivity);
+		// Assert:
+		assertThat(actionBarDelegate, is(notNullValue()));
+		assertThat(actionBarDelegate.getWrappedActionBar(), is((Object) mockActionBar));
+		assertThat(ActionBarDelegate.obtain(mockActivity), is(sameInstance(actionBarDelegate)));
+		DelegateRegistry.invalidate(mockActivity);
+	}
+
+	@Test public void testObtainForCompatActivity() {
+		// Arrange:
+		final AppCompatActivity mockActivity = mock(TestCompatActivity.class);
+		final androidx.appcompat.app.ActionBar mockActionBar = mock(androidx.appcompat.app.ActionBar.class);
+		when(mockActivity.getSupportActionBar()).thenReturn(mockActionBar);
+		// Act:
+		final ActionBarDelegate actionBarDelegate = ActionBarDelegate.obtain(mockActivity);
+		// Assert:
+		assertThat(actionBarDelegate, is(notNullValue()));
+		assertThat(actionBarDelegate.getWrappedActionBar(), is((Object) mockActionBar));
+		assertThat(ActionBarDelegate.obtain(mockActivity), is(sameInstance(actionBarDelegate)));
+		DelegateRegistry.invalidate(mockActivity);
+	}
+
+	@Test public void testObtainAfterActionBarChanged() {
+		// Arrange:
+		final AppCompatActivity mockActivity = mock(TestCompatActivity.class);
+		final androidx.appcompat.app.ActionBar mockActionBar = mock(androidx.appcompat.app.ActionBar.class);
+		when(mockActivity.getSupportActionBar()).thenReturn(mockActionBar);
+		final ActionBarDelegate actionBarDelegate = ActionBarDelegate.obtain(mockActivity);
+		final androidx.appcompat.app.ActionBar mockOtherActionBar = mock(androidx.appcompat.app.ActionBar.class);
+		when(mockActivity.getSupportActionBar()).thenReturn(mockOtherActionBar);
+		// Act:
+		final ActionBarDelegate otherActionBarDelegate = ActionBarDelegate.obtain(mockActivity);
+		// Assert:
+		assertThat(otherActionBarDelegate, is(not(sameInstance(actionBarDelegate))));
+		assertThat(otherActionBarDelegate.getWrappedActionBar(), is((Object) mockOtherActionBar));
+		assertThat(ActionBarDelegate.obtain(mockActivity), is(sameInstance(otherActionBarDelegate)));
+		DelegateRegistry.invalidate(mockActivity);
+	}
+
+	@Test public void testObtainAfterActionBarRemoved() {
+		// Arrange:
+		final AppCompatActivity mockActivity = mock(TestCompatActivity.class);
+		when(mockActivity.getSupportActionBar()).thenReturn(mock(androidx.appcompat.app.ActionBar.class));
+		ActionBarDelegate.obtain(mockActivity);
+		when(mockActivity.getSupportActionBar()).thenReturn(null);
+		// Act + Assert:
+		assertThat(ActionBarDelegate.obtain(mockActivity), is(nullValue()));
+		assertThat(DelegateRegistry.getDelegate(mockActivity, ActionBarDelegate.class), is(nullValue()));
+		DelegateRegistry.invalidate(mockActivity);
+	}
+
+	@Test public void testObtainAfterInvalidated() {
+		// Arrange:
+		final Activity mockActivity = mock(TestActivity.class);
+		when(mockActivity.getActionBar()).thenReturn(mock(ActionBar.class));
+		final ActionBarDelegate actionBarDelegate = ActionBarDelegate.obtain(mockActivity);
+		// Act:
+		DelegateRegistry.invalidate(mockActivity);
+		// Assert:
+		assertThat(ActionBarDelegate.obtain(mockActivity), is(not(sameInstance(actionBarDelegate))));
+		DelegateRegistry.invalidate(mockActivity);
+	}
+
 	private static class TestCompatActivity extends AppCompatActivity {}
 
 	private static final class TestDelegate extends ActionBarDelegate {
@@ -26,6 +26,7 @@ import org.junit.Test;
 import androidx.appcompat.view.ActionMode;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.fragment.annotation.handler.ActionBarFragmentAnnotationHandler;
+import universum.studios.android.fragment.annotation.handler.ExtendedActionBarFragmentAnnotationHandler;
 import universum.studios.android.test.AndroidTestCase;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -75,6 +76,7 @@ public final class ActionBarFragmentActionModeCallbackTest extends AndroidTestCa
 		final ActionBarFragment.ActionModeCallback callback = new ActionBarFragment.ActionModeCallback(mockFragment);
 		// Act + Assert:
 		assertThat(callback.onCreateActionMode(mockActionMode, mockMenu), is(true));
+		verify(mockFragment).getContext();
 		verify(mockFragment).getAnnotationHandler();
 		verify(mockAnnotationHandler).handleCreateActionMode(mockActionMode, mockMenu);
 		verifyNoMoreInteractions(mockFragment, mockAnnotationHandler);
@@ -92,6 +94,45 @@ public final class ActionBarFragmentActionModeCallbackTest extends AndroidTestCa
 		final ActionBarFragment.ActionModeCallback callback = new ActionBarFragment.ActionModeCallback(mockFragment);
 		// Act + Assert:
 		assertThat(callback.onCreateActionMode(mockActionMode, mockMenu), is(false));
+		verify(mockFragment).getContext();
+		verify(mockFragment).getAnnotationHandler();
+		verify(mockAnnotationHandler).handleCreateActionMode(mockActionMode, mockMenu);
+		verifyNoMoreInteractions(mockFragment, mockAnnotationHandler);
+		verifyNoInteractions(mockActionMode, mockMenu);
+	}
+
+	@Test public void testOnCreateActionModeWithFragmentContext() {
+		// Arrange:
+		final ActionBarFragment mockFragment = mock(TestFragment.class);
+		final ActionMode mockActionMode = mock(ActionMode.class);
+		final Menu mockMenu = mock(Menu.class);
+		final ExtendedActionBarFragmentAnnotationHandler mockAnnotationHandler = mock(ExtendedActionBarFragmentAnnotationHandler.class);
+		when(mockAnnotationHandler.handleCreateActionMode(context(), mockActionMode, mockMenu)).thenReturn(true);
+		when(mockFragment.getContext()).thenReturn(context());
+		when(mockFragment.getAnnotationHandler()).thenReturn(mockAnnotationHandler);
+		final ActionBarFragment.ActionModeCallback callback = new ActionBarFragment.ActionModeCallback(mockFragment);
+		// Act + Assert:
+		assertThat(callback.onCreateActionMode(mockActionMode, mockMenu), is(true));
+		verify(mockFragment).getContext();
+		verify(mockFragment).getAnnotationHandler();
+		verify(mockAnnotationHandler).handleCreateActionMode(context(), mockActionMode, mockMenu);
+		verifyNoMoreInteractions(mockFragment, mockAnnotationHandler);
+		verifyNoInteractions(mockActionMode, mockMenu);
+	}
+
+	@Test public void testOnCreateActionModeWithFragmentContextAndNotExtendedAnnotationHandler() {
+		// Arrange:
+		final ActionBarFragment mockFragment = mock(TestFragment.class);
+		final ActionMode mockActionMode = mock(ActionMode.class);
+		final Menu mockMenu = mock(Menu.class);
+		final ActionBarFragmentAnnotationHandler mockAnnotationHandler = mock(ActionBarFragmentAnnotationHandler.class);
+		when(mockAnnotationHandler.handleCreateActionMode(mockActionMode, mockMenu)).thenReturn(true);
+		when(mockFragment.getContext()).thenReturn(context());
+		when(mockFragment.getAnnotationHandler()).thenReturn(mockAnnotationHandler);
+		final ActionBarFragment.ActionModeCallback callback = new ActionBarFragment.ActionModeCallback(mockFragment);
+		// Act + Assert:
+		assertThat(callback.onCreateActionMode(mockActionMode, mockMenu), is(true));
+		verify(mockFragment).getContext();
 		verify(mockFragment).getAnnotationHandler();
 		verify(mockAnnotationHandler).handleCreateActionMode(mockActionMode, mockMenu);
 		verifyNoMoreInteractions(mockFragment, mockAnnotationHandler);
@@ -0,0 +1,210 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.content.res.XmlResourceParser;
+import android.util.Xml;
+import android.view.Menu;
+import android.view.MenuInflater;
+import android.view.MenuItem;
+import android.view.SubMenu;
+
+import org.junit.After;
+import org.junit.Test;
+import org.xmlpull.v1.XmlPullParser;
+
+import java.io.StringReader;
+
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class MenuTemplateTest extends AndroidTestCase {
+
+	private static final int MENU_RESOURCE = 0x7f0c0001;
+
+	@After public void afterTest() {
+		MenuTemplate.clearCache();
+	}
+
+	@Test public void testCreateForSimpleMenu() throws Exception {
+		// Arrange:
+		final Resources mockResources = createResources(
+				"<menu xmlns:android=\"http://schemas.android.com/apk/res/android\">" +
+						"<item android:id=\"@1\" android:title=\"Search\" android:icon=\"@10\" android:showAsAction=\"2\"/>" +
+						"<group android:id=\"@2\" android:checkableBehavior=\"2\">" +
+						"<item android:id=\"@3\" android:title=\"@20\" android:checked=\"true\"/>" +
+						"</group>" +
+						"</menu>"
+		);
+		final Menu mockMenu = mock(Menu.class);
+		final MenuItem mockFirstItem = mock(MenuItem.class, RETURNS_SELF);
+		final MenuItem mockSecondItem = mock(MenuItem.class, RETURNS_SELF);
+		when(mockMenu.add(0, 1, 0, "Search")).thenReturn(mockFirstItem);
+		when(mockMenu.add(2, 3, 0, 20)).thenReturn(mockSecondItem);
+		// Act:
+		final MenuTemplate template = MenuTemplate.create(mockResources, MENU_RESOURCE);
+		// Assert:
+		assertThat(template.isSupported(), is(true));
+		template.addItems(mockMenu, false);
+		verify(mockMenu).add(0, 1, 0, "Search");
+		verify(mockFirstItem).setChecked(false);
+		verify(mockFirstItem).setVisible(true);
+		verify(mockFirstItem).setEnabled(true);
+		verify(mockFirstItem).setCheckable(false);
+		verify(mockFirstItem).setIcon(10);
+		verify(mockFirstItem).setShowAsAction(2);
+		verify(mockMenu).add(2, 3, 0, 20);
+		verify(mockSecondItem).setChecked(true);
+		verify(mockSecondItem).setCheckable(true);
+		verify(mockMenu).setGroupCheckable(2, true, true);
+		verifyNoMoreInteractions(mockMenu);
+	}
+
+	@Test public void testCreateForMenuWithSubMenu() throws Exception {
+		// Arrange:
+		final Resources mockResources = createResources(
+				"<menu xmlns:android=\"http://schemas.android.com/apk/res/android\" xmlns:app=\"http://schemas.android.com/apk/res-auto\">" +
+						"<item android:id=\"@1\" android:title=\"More\" app:showAsAction=\"1\">" +
+						"<menu>" +
+						"<item android:id=\"@2\" android:title=\"Settings\"/>" +
+						"</menu>" +
+						"</item>" +
+						"</menu>"
+		);
+		final Menu mockMenu = mock(Menu.class);
+		final SubMenu mockSubMenu = mock(SubMenu.class);
+		final MenuItem mockItem = mock(MenuItem.class, RETURNS_SELF);
+		final MenuItem mockSubItem = mock(MenuItem.class, RETURNS_SELF);
+		when(mockMenu.addSubMenu(0, 1, 0, "More")).thenReturn(mockSubMenu);
+		when(mockSubMenu.getItem()).thenReturn(mockItem);
+		when(mockSubMenu.add(0, 2, 0, "Settings")).thenReturn(mockSubItem);
+		final MenuTemplate template = MenuTemplate.create(mockResources, MENU_RESOURCE);
+		// Act:
+		template.addItems(mockMenu, true);
+		// Assert:
+		verify(mockMenu).addSubMenu(0, 1, 0, "More");
+		verify(mockSubMenu).add(0, 2, 0, "Settings");
+		verify(mockItem).setShowAsAction(1);
+		verify(mockSubItem).setVisible(true);
+	}
+
+	@Test public void testCreateForMenuWithUnsupportedAttribute() throws Exception {
+		// Arrange:
+		final Resources mockResources = createResources(
+				"<menu xmlns:android=\"http://schemas.android.com/apk/res/android\">" +
+						"<item android:id=\"@1\" android:actionLayout=\"@10\"/>" +
+						"</menu>"
+		);
+		// Act + Assert:
+		assertThat(MenuTemplate.create(mockResources, MENU_RESOURCE).isSupported(), is(false));
+	}
+
+	@Test public void testCreateForMenuWithThemeReference() throws Exception {
+		// Arrange:
+		final Resources mockResources = createResources(
+				"<menu xmlns:android=\"http://schemas.android.com/apk/res/android\">" +
+						"<item android:id=\"@1\" android:icon=\"?10\"/>" +
+						"</menu>"
+		);
+		// Act + Assert:
+		assertThat(MenuTemplate.create(mockResources, MENU_RESOURCE).isSupported(), is(false));
+	}
+
+	@Test public void testCreateForMenuWithNestedGroups() throws Exception {
+		// Arrange:
+		final Resources mockResources = createResources(
+				"<menu xmlns:android=\"http://schemas.android.com/apk/res/android\">" +
+						"<group android:id=\"@1\"><group android:id=\"@2\"/></group>" +
+						"</menu>"
+		);
+		// Act + Assert:
+		assertThat(MenuTemplate.create(mockResources, MENU_RESOURCE).isSupported(), is(false));
+	}
+
+	@Test public void testCreateForInvalidResource() {
+		// Act + Assert:
+		assertThat(MenuTemplate.create(context().getResources(), MENU_RESOURCE).isSupported(), is(false));
+	}
+
+	@Test public void testInflateWithoutContext() {
+		// Arrange:
+		final MenuInflater mockInflater = mock(MenuInflater.class);
+		final Menu mockMenu = mock(Menu.class);
+		// Act:
+		MenuTemplate.inflate(null, mockInflater, MENU_RESOURCE, mockMenu);
+		// Assert:
+		verify(mockInflater).inflate(MENU_RESOURCE, mockMenu);
+		verifyNoMoreInteractions(mockInflater);
+		verifyNoInteractions(mockMenu);
+	}
+
+	@Test public void testInflateForUnsupportedMenu() {
+		// Arrange:
+		final MenuInflater mockInflater = mock(MenuInflater.class);
+		final Menu mockMenu = mock(Menu.class);
+		// Act:
+		MenuTemplate.inflate(context(), mockInflater, android.R.layout.simple_list_item_1, mockMenu);
+		MenuTemplate.inflate(context(), mockInflater, android.R.layout.simple_list_item_1, mockMenu);
+		// Assert:
+		verify(mockInflater, times(2)).inflate(android.R.layout.simple_list_item_1, mockMenu);
+		verifyNoMoreInteractions(mockInflater);
+		verifyNoInteractions(mockMenu);
+	}
+
+	private static Resources createResources(final String menuXml) throws Exception {
+		final XmlPullParser xmlParser = Xml.newPullParser();
+		xmlParser.setFeature(XmlPullParser.FEATURE_PROCESS_NAMESPACES, true);
+		xmlParser.setInput(new StringReader(menuXml));
+		// Typed accessors of attributes are not provided by plain pull parser so resolve them here,
+		// where references in the test XMLs are specified directly via resource ids like '@10'.
+		final XmlResourceParser mockParser = mock(XmlResourceParser.class, delegatesTo(xmlParser));
+		doAnswer(invocation -> {
+			final String value = xmlParser.getAttributeValue((int) invocation.getArgument(0));
+			return value.startsWith("@") ? Integer.parseInt(value.substring(1)) : invocation.getArgument(1);
+		}).when(mockParser).getAttributeResourceValue(anyInt(), anyInt());
+		doAnswer(invocation -> Integer.parseInt(xmlParser.getAttributeValue((int) invocation.getArgument(0))))
+				.when(mockParser).getAttributeIntValue(anyInt(), anyInt());
+		doAnswer(invocation -> Boolean.parseBoolean(xmlParser.getAttributeValue((int) invocation.getArgument(0))))
+				.when(mockParser).getAttributeBooleanValue(anyInt(), anyBoolean());
+		doNothing().when(mockParser).close();
+		final Resources mockResources = mock(Resources.class);
+		when(mockResources.getLayout(MENU_RESOURCE)).thenReturn(mockParser);
+		when(mockResources.getConfiguration()).thenReturn(new Configuration());
+		return mockResources;
+	}
+}
\ No newline at end of file
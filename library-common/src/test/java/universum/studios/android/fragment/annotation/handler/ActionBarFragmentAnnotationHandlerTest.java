@@ -214,6 +214,31 @@ public final class ActionBarFragmentAnnotationHandlerTest extends AndroidTestCas
 		verify(mockMenuInflater).inflate(TestFragmentWithActionModeOptions.MENU_RESOURCE, mockMenu);
 	}
 
+	@SuppressWarnings("ResourceType")
+	@Test public void testActionModeOptionsWithContext() {
+		// Arrange:
+		final ExtendedActionBarFragmentAnnotationHandler annotationHandler = new ActionBarAnnotationHandlers.ActionBarFragmentHandler(TestFragmentWithActionModeOptions.class);
+		final ActionMode mockActionMode = mock(ActionMode.class);
+		final Menu mockMenu = mock(Menu.class);
+		final MenuInflater mockMenuInflater = mock(MenuInflater.class);
+		when(mockActionMode.getMenuInflater()).thenReturn(mockMenuInflater);
+		// Act + Assert:
+		assertThat(annotationHandler.handleCreateActionMode(context(), mockActionMode, mockMenu), is(true));
+		verify(mockActionMode).getMenuInflater();
+		// Menu resource of the test fragment does not exist, so it is inflated via inflater.
+		verify(mockMenuInflater).inflate(TestFragmentWithActionModeOptions.MENU_RESOURCE, mockMenu);
+	}
+
+	@Test public void testActionModeOptionsWithContextWithoutMenu() {
+		// Arrange:
+		final ExtendedActionBarFragmentAnnotationHandler annotationHandler = new ActionBarAnnotationHandlers.ActionBarFragmentHandler(TestFragmentWithEmptyActionBarOptions.class);
+		final ActionMode mockActionMode = mock(ActionMode.class);
+		final Menu mockMenu = mock(Menu.class);
+		// Act + Assert:
+		assertThat(annotationHandler.handleCreateActionMode(context(), mockActionMode, mockMenu), is(false));
+		verifyNoInteractions(mockActionMode, mockMenu);
+	}
+
 	@Test public void testActionModeOptionsWithoutMenu() {
 		// Arrange:
 		final ActionBarFragmentAnnotationHandler annotationHandler = new ActionBarAnnotationHandlers.ActionBarFragmentHandler(TestFragmentWithEmptyActionBarOptions.class);
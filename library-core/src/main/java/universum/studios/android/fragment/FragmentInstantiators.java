@@ -0,0 +1,324 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentFactory;
+
+/**
+ * Central point for instantiation of fragments used by the Fragments library.
+ * <p>
+ * Fragments are primarily created by {@link FragmentInstantiatorsIndex FragmentInstantiatorsIndexes}
+ * which create instances of theirs fragment classes directly. Fragment classes which are not
+ * provided by any of the registered indexes are instantiated via theirs public empty constructors
+ * which are resolved only once per class and then cached, so the costly access checks that
+ * {@link Class#newInstance()} performs for each call are omitted.
+ * <p>
+ * Index generated by the annotation processor under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+ * is loaded automatically whenever a fragment is instantiated for the first time.
+ * <p>
+ * Fragments which are re-created by {@link androidx.fragment.app.FragmentManager FragmentManager}
+ * after process death may be instantiated in the same way via {@link Factory} which may be set to
+ * the manager via {@link androidx.fragment.app.FragmentManager#setFragmentFactory(FragmentFactory) FragmentManager.setFragmentFactory(FragmentFactory)}.
+ * Note that the factory needs to be set before the activity's {@code super.onCreate(Bundle)} is
+ * called in order to be used also for the restored fragments.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class FragmentInstantiators {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "FragmentInstantiators";
+
+	/**
+	 * Fully qualified name of the {@link FragmentInstantiatorsIndex} implementation that is generated
+	 * by the annotation processor by default and which is loaded automatically.
+	 *
+	 * @see #registerIndex(FragmentInstantiatorsIndex)
+	 */
+	public static final String GENERATED_INDEX_CLASS_NAME = "universum.studios.android.fragment.GeneratedFragmentInstantiatorsIndex";
+
+	/**
+	 * Lock used for synchronized modifications of the registered indexes.
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Empty array of indexes.
+	 */
+	private static final FragmentInstantiatorsIndex[] NO_INDEXES = new FragmentInstantiatorsIndex[0];
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Array with indexes which are consulted whenever a fragment is instantiated. This array is never
+	 * modified, a new array is created whenever a new index is registered.
+	 */
+	private static volatile FragmentInstantiatorsIndex[] indexes = NO_INDEXES;
+
+	/**
+	 * Boolean flag indicating whether there has been already made an attempt to load the index
+	 * generated under the default name.
+	 */
+	private static volatile boolean generatedIndexLoaded;
+
+	/**
+	 * Public empty constructors of already instantiated fragment classes mapped to the classes.
+	 */
+	private static final Map<Class<?>, Constructor<?>> constructors = new ConcurrentHashMap<>(16);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private FragmentInstantiators() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Registers the given <var>index</var> to be consulted whenever a fragment is instantiated.
+	 * <p>
+	 * <b>Note</b>, that index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+	 * is registered automatically and does not need to be registered via this method. This method
+	 * is meant for indexes generated under a different name, for example for separate feature modules.
+	 *
+	 * @param index The desired index to register.
+	 */
+	public static void registerIndex(@NonNull final FragmentInstantiatorsIndex index) {
+		synchronized (LOCK) {
+			addIndex(index, false);
+		}
+	}
+
+	/**
+	 * Creates a new instance of the specified <var>fragmentClass</var>.
+	 *
+	 * @param fragmentClass Class of the desired fragment to instantiate.
+	 * @param <F>           Type of the desired fragment.
+	 * @return New fragment instance.
+	 * @throws Fragment.InstantiationException If the fragment class is not public or it does not
+	 *                                         have public empty constructor or its constructor fails.
+	 */
+	@SuppressWarnings("unchecked")
+	@NonNull public static <F extends Fragment> F instantiate(@NonNull final Class<F> fragmentClass) {
+		final Fragment fragment = instantiateFromIndexes(fragmentClass);
+		return fragment == null ? (F) newInstance(fragmentClass) : (F) fragment;
+	}
+
+	/**
+	 * Creates a new instance of fragment class with the specified <var>className</var>.
+	 *
+	 * @param classLoader Class loader used to load the fragment class, if it is not provided by any
+	 *                    of the registered indexes.
+	 * @param className   Binary name of the fragment class.
+	 * @return New fragment instance.
+	 * @throws Fragment.InstantiationException If the fragment class cannot be found or it is not public
+	 *                                         or it does not have public empty constructor or its constructor
+	 *                                         fails.
+	 */
+	@NonNull public static Fragment instantiate(@NonNull final ClassLoader classLoader, @NonNull final String className) {
+		final Fragment fragment = instantiateFromIndexes(className);
+		return fragment == null ? newInstance(FragmentFactory.loadFragmentClass(classLoader, className)) : fragment;
+	}
+
+	/**
+	 * Creates a new instance of the specified <var>fragmentClass</var> via the first of the registered
+	 * indexes that provides such class.
+	 *
+	 * @param fragmentClass Class of the fragment.
+	 * @return New fragment instance or {@code null} if none of the indexes provides the class.
+	 */
+	@Nullable private static Fragment instantiateFromIndexes(final Class<?> fragmentClass) {
+		if (!generatedIndexLoaded) {
+			loadGeneratedIndex();
+		}
+		for (final FragmentInstantiatorsIndex index : indexes) {
+			final Fragment fragment = index.instantiate(fragmentClass);
+			if (fragment != null) {
+				return fragment;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a new instance of fragment class with the specified <var>className</var> via the
+	 * first of the registered indexes that provides such class.
+	 *
+	 * @param className Binary name of the fragment class.
+	 * @return New fragment instance or {@code null} if none of the indexes provides the class.
+	 */
+	@Nullable private static Fragment instantiateFromIndexes(final String className) {
+		if (!generatedIndexLoaded) {
+			loadGeneratedIndex();
+		}
+		for (final FragmentInstantiatorsIndex index : indexes) {
+			final Fragment fragment = index.instantiate(className);
+			if (fragment != null) {
+				return fragment;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a new instance of the specified <var>fragmentClass</var> via its cached public empty
+	 * constructor.
+	 *
+	 * @throws Fragment.InstantiationException If the instantiation fails.
+	 */
+	private static Fragment newInstance(final Class<? extends Fragment> fragmentClass) {
+		try {
+			return (Fragment) obtainConstructor(fragmentClass).newInstance();
+		} catch (InstantiationException | IllegalAccessException e) {
+			throw new Fragment.InstantiationException("Unable to instantiate fragment " + fragmentClass.getName() + ". " +
+					"Make sure class name exists, is public, and has an empty constructor that is public.", e);
+		} catch (InvocationTargetException e) {
+			throw new Fragment.InstantiationException("Unable to instantiate fragment " + fragmentClass.getName() + ". " +
+					"Calling the constructor caused an exception.", e);
+		}
+	}
+
+	/**
+	 * Obtains public empty constructor of the specified <var>fragmentClass</var> from the cache or
+	 * resolves and caches it if it has not been resolved yet.
+	 *
+	 * @throws Fragment.InstantiationException If the class is not public or it does not have public
+	 *                                         empty constructor.
+	 */
+	private static Constructor<?> obtainConstructor(final Class<? extends Fragment> fragmentClass) {
+		Constructor<?> constructor = constructors.get(fragmentClass);
+		if (constructor == null) {
+			if (!Modifier.isPublic(fragmentClass.getModifiers()) || Modifier.isAbstract(fragmentClass.getModifiers())) {
+				throw new Fragment.InstantiationException("Unable to instantiate fragment " + fragmentClass.getName() + ". " +
+						"Make sure class name exists, is public, and has an empty constructor that is public.", null);
+			}
+			try {
+				constructor = fragmentClass.getConstructor();
+			} catch (NoSuchMethodException e) {
+				throw new Fragment.InstantiationException("Unable to instantiate fragment " + fragmentClass.getName() + ". " +
+						"Could not find Fragment constructor.", e);
+			}
+			// The constructor is already known to be accessible, so the access checks may be skipped
+			// for all subsequent instantiations.
+			constructor.setAccessible(true);
+			constructors.put(fragmentClass, constructor);
+		}
+		return constructor;
+	}
+
+	/**
+	 * Loads index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}, if such index
+	 * is available, and registers it as the first of all indexes. The load is attempted only once.
+	 */
+	private static void loadGeneratedIndex() {
+		synchronized (LOCK) {
+			if (generatedIndexLoaded) {
+				return;
+			}
+			try {
+				addIndex((FragmentInstantiatorsIndex) Class.forName(GENERATED_INDEX_CLASS_NAME).newInstance(), true);
+			} catch (ClassNotFoundException e) {
+				// Instantiators have not been generated by the annotation processor, all fragments
+				// will be instantiated via theirs constructors.
+			} catch (Exception e) {
+				FragmentsLogging.e(TAG, "Failed to load generated fragment instantiators index(" + GENERATED_INDEX_CLASS_NAME + ").", e);
+			} finally {
+				generatedIndexLoaded = true;
+			}
+		}
+	}
+
+	/**
+	 * Adds the given <var>index</var> into the registered indexes if it is not registered yet.
+	 * <p>
+	 * <b>Note</b>, that this method should be called while holding the {@link #LOCK}.
+	 *
+	 * @param index The index to add.
+	 * @param first {@code True} to add the index as the first one, {@code false} to add it as the last one.
+	 */
+	private static void addIndex(final FragmentInstantiatorsIndex index, final boolean first) {
+		final FragmentInstantiatorsIndex[] currentIndexes = indexes;
+		for (final FragmentInstantiatorsIndex currentIndex : currentIndexes) {
+			if (currentIndex.equals(index)) {
+				return;
+			}
+		}
+		final FragmentInstantiatorsIndex[] newIndexes = new FragmentInstantiatorsIndex[currentIndexes.length + 1];
+		System.arraycopy(currentIndexes, 0, newIndexes, first ? 1 : 0, currentIndexes.length);
+		newIndexes[first ? 0 : currentIndexes.length] = index;
+		indexes = newIndexes;
+	}
+
+	/**
+	 * Clears all registered indexes so the generated index may be loaded again and also all cached
+	 * constructors.
+	 */
+	@VisibleForTesting static void clear() {
+		synchronized (LOCK) {
+			indexes = NO_INDEXES;
+			generatedIndexLoaded = false;
+			constructors.clear();
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * A {@link FragmentFactory} implementation which instantiates fragments via {@link FragmentInstantiators}.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public static class Factory extends FragmentFactory {
+
+		/**
+		 */
+		@Override @NonNull public Fragment instantiate(@NonNull final ClassLoader classLoader, @NonNull final String className) {
+			return FragmentInstantiators.instantiate(classLoader, className);
+		}
+	}
+}
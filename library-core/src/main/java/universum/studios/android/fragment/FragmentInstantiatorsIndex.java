@@ -0,0 +1,58 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+
+/**
+ * Interface for indexes that create instances of specific fragment classes directly, without use
+ * of reflection. Such indexes are generated at compile time by the Fragments <b>annotation processor</b>.
+ * <p>
+ * Index generated under the {@link FragmentInstantiators#GENERATED_INDEX_CLASS_NAME default name}
+ * is picked up automatically, any other index may be registered via {@link FragmentInstantiators#registerIndex(FragmentInstantiatorsIndex)}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public interface FragmentInstantiatorsIndex {
+
+	/**
+	 * Creates a new instance of the specified <var>fragmentClass</var>.
+	 *
+	 * @param fragmentClass Class of the fragment to instantiate.
+	 * @return New fragment instance or {@code null} if this index does not provide instances of such
+	 * fragment class.
+	 */
+	@Nullable Fragment instantiate(@NonNull Class<?> fragmentClass);
+
+	/**
+	 * Creates a new instance of fragment class with the specified <var>className</var>.
+	 * <p>
+	 * This method is used only when the fragment class is known just by its name, for example when
+	 * fragments are re-created by FragmentManager, in all other cases {@link #instantiate(Class)}
+	 * is used.
+	 *
+	 * @param className Runtime binary name of the fragment class as returned by {@link Class#getName()}.
+	 * @return New fragment instance or {@code null} if this index does not provide instances of such
+	 * fragment class.
+	 */
+	@Nullable Fragment instantiate(@NonNull String className);
+}
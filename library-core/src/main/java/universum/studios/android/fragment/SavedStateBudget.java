@@ -0,0 +1,466 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.app.Activity;
+import android.app.Application;
+import android.os.Bundle;
+import android.os.Parcel;
+import android.os.Parcelable;
+import android.util.SparseArray;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentActivity;
+import androidx.fragment.app.FragmentManager;
+
+/**
+ * A {@link FragmentManager.FragmentLifecycleCallbacks} implementation which monitors size of saved
+ * states of fragments and keeps them within a specified budget in order to prevent
+ * {@link android.os.TransactionTooLargeException} when state of an activity is being saved.
+ * <p>
+ * Whenever state of a fragment is saved, its parcelled size is measured and reported via
+ * {@link Reporter} along with class of that fragment. If the size exceeds the budget and there is
+ * {@link SavedStateStore} specified, the largest entries put into the state by the fragment are
+ * moved into that store and only a small key referencing them is left in the state. The moved
+ * entries are put back into the state right before the fragment is re-created, so the fragment
+ * receives its complete state in {@link Fragment#onCreate(Bundle)} and all subsequent callbacks.
+ * Entries put into the state by the framework (like state of views) are never moved.
+ * <p>
+ * The state is measured after the fragment and all its subclasses have saved theirs entries, so
+ * also entries like content and state of a web view saved by web fragments are subject of the budget.
+ * Hierarchy state of the fragment's view is put into the state by the fragment manager only after
+ * the state has been measured, so its size is measured separately from the current view hierarchy
+ * and included in the reported size. As such entries are never moved, they only reduce the budget
+ * available for entries of the fragment.
+ * The budget needs to be registered for fragment manager of each activity which hosts the fragments
+ * to be monitored, either via {@link #register(FragmentManager)} or for all activities of an
+ * application via {@link #install(Application, SavedStateBudget)}:
+ * <pre>
+ * final SavedStateBudget budget = new SavedStateBudget(50 * 1024, SavedStateStore.create(context, backgroundExecutor));
+ * budget.setReporter(reporter);
+ * SavedStateBudget.install(application, budget);
+ * </pre>
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class SavedStateBudget extends FragmentManager.FragmentLifecycleCallbacks {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "SavedStateBudget";
+
+	/**
+	 * Bundle key for the key of entries moved into the store.
+	 */
+	@VisibleForTesting static final String BUNDLE_STORE_KEY = SavedStateBudget.class.getName() + ".BUNDLE.StoreKey";
+
+	/**
+	 * Key under which is hierarchy state of the fragment's view put into its saved state by the
+	 * fragment manager.
+	 */
+	private static final String VIEW_STATE_KEY = "android:view_state";
+
+	/**
+	 * Prefixes of keys of entries which are put into saved states by the framework and which should
+	 * never be moved into the store.
+	 */
+	private static final String[] FRAMEWORK_KEY_PREFIXES = {"android:", "androidx."};
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Reporter which receives sizes of saved states of fragments.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Reporter {
+
+		/**
+		 * Invoked whenever state of a fragment of the specified <var>fragmentClass</var> has been saved.
+		 *
+		 * @param fragmentClass Class of the fragment of which state has been saved.
+		 * @param size          Parcelled size of the saved state in bytes.
+		 * @param movedSize     Size of entries that have been moved from the state into the store
+		 *                      in bytes. May be {@code 0} if no entries have been moved.
+		 */
+		void onStateSaved(@NonNull Class<? extends Fragment> fragmentClass, int size, int movedSize);
+	}
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Maximum parcelled size of a saved state of a single fragment in bytes.
+	 */
+	private final int budget;
+
+	/**
+	 * Store into which are moved entries of saved states exceeding the budget. May be {@code null}
+	 * if the states should be only measured.
+	 */
+	private final SavedStateStore store;
+
+	/**
+	 * Reporter to which are reported sizes of the saved states.
+	 */
+	private Reporter reporter;
+
+	/**
+	 * Map with keys of stored entries mapped to fragments for which have been the entries stored
+	 * or restored. Used to discard the entries once they are no longer needed.
+	 */
+	private final Map<Fragment, String> storeKeys = new WeakHashMap<>(4);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of SavedStateBudget with the specified <var>budget</var> and <var>store</var>.
+	 *
+	 * @param budget Maximum parcelled size of a saved state of a single fragment in bytes.
+	 * @param store  Store into which to move entries of saved states exceeding the budget. May be
+	 *               {@code null} to only measure and report sizes of the saved states.
+	 */
+	public SavedStateBudget(final int budget, @Nullable final SavedStateStore store) {
+		if (budget <= 0) {
+			throw new IllegalArgumentException("Budget must be greater than zero.");
+		}
+		this.budget = budget;
+		this.store = store;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Installs the given <var>budget</var> for fragment managers of all activities of the specified
+	 * <var>application</var> that are created from now on.
+	 *
+	 * @param application The application for which to install the budget.
+	 * @param budget      The desired budget.
+	 */
+	public static void install(@NonNull final Application application, @NonNull final SavedStateBudget budget) {
+		application.registerActivityLifecycleCallbacks(new Application.ActivityLifecycleCallbacks() {
+
+			@Override public void onActivityCreated(@NonNull final Activity activity, @Nullable final Bundle savedInstanceState) {
+				// Fragments restored by the activity are not created yet at this point.
+				if (activity instanceof FragmentActivity) {
+					budget.register(((FragmentActivity) activity).getSupportFragmentManager());
+				}
+			}
+
+			@Override public void onActivityStarted(@NonNull final Activity activity) {}
+
+			@Override public void onActivityResumed(@NonNull final Activity activity) {}
+
+			@Override public void onActivityPaused(@NonNull final Activity activity) {}
+
+			@Override public void onActivityStopped(@NonNull final Activity activity) {}
+
+			@Override public void onActivitySaveInstanceState(@NonNull final Activity activity, @NonNull final Bundle outState) {}
+
+			@Override public void onActivityDestroyed(@NonNull final Activity activity) {}
+		});
+	}
+
+	/**
+	 * Registers this budget for the given fragment <var>manager</var> along with all its child
+	 * fragment managers.
+	 *
+	 * @param manager The fragment manager for which to register this budget.
+	 *
+	 * @see #unregister(FragmentManager)
+	 */
+	public void register(@NonNull final FragmentManager manager) {
+		manager.registerFragmentLifecycleCallbacks(this, true);
+	}
+
+	/**
+	 * Unregisters this budget from the given fragment <var>manager</var>.
+	 *
+	 * @param manager The fragment manager from which to unregister this budget.
+	 *
+	 * @see #register(FragmentManager)
+	 */
+	public void unregister(@NonNull final FragmentManager manager) {
+		manager.unregisterFragmentLifecycleCallbacks(this);
+	}
+
+	/**
+	 * Returns the budget specified for this instance.
+	 *
+	 * @return Maximum parcelled size of a saved state of a single fragment in bytes.
+	 */
+	public int getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Sets a reporter to which should be reported sizes of saved states of fragments.
+	 *
+	 * @param reporter The desired reporter. May be {@code null} to clear the current one.
+	 */
+	public void setReporter(@Nullable final Reporter reporter) {
+		this.reporter = reporter;
+	}
+
+	/**
+	 */
+	@Override public void onFragmentPreCreated(@NonNull final FragmentManager manager, @NonNull final Fragment fragment, @Nullable final Bundle savedInstanceState) {
+		if (savedInstanceState == null || !savedInstanceState.containsKey(BUNDLE_STORE_KEY)) {
+			return;
+		}
+		final String key = savedInstanceState.getString(BUNDLE_STORE_KEY);
+		savedInstanceState.remove(BUNDLE_STORE_KEY);
+		if (store == null || key == null) {
+			return;
+		}
+		final Bundle entries = store.restore(key, fragment.getClass().getClassLoader());
+		if (entries == null) {
+			FragmentsLogging.w(TAG, "Stored state entries of fragment(" + fragment.getClass().getName() + ") are no longer available.");
+			return;
+		}
+		try {
+			savedInstanceState.putAll(entries);
+		} catch (RuntimeException e) {
+			FragmentsLogging.w(TAG, "Failed to restore stored state entries of fragment(" + fragment.getClass().getName() + ").", e);
+			return;
+		}
+		// Entries are retained until the fragment saves its state again or it is destroyed for good,
+		// so the state may be restored again if the process dies before that.
+		this.storeKeys.put(fragment, key);
+	}
+
+	/**
+	 */
+	@Override public void onFragmentSaveInstanceState(@NonNull final FragmentManager manager, @NonNull final Fragment fragment, @NonNull final Bundle outState) {
+		final String previousKey = storeKeys.remove(fragment);
+		final int size = measureSize(outState) + measureViewStateSize(fragment);
+		int movedSize = 0;
+		if (size > budget && store != null) {
+			movedSize = moveEntries(fragment, outState, size - budget);
+		}
+		if (previousKey != null) {
+			store.discard(previousKey);
+		}
+		if (movedSize > 0) {
+			FragmentsLogging.d(TAG, "Moved " + movedSize + " bytes of saved state of fragment(" + fragment.getClass().getName() + ") into store.");
+		}
+		if (reporter != null) {
+			reporter.onStateSaved(fragment.getClass(), size, movedSize);
+		}
+	}
+
+	/**
+	 */
+	@Override public void onFragmentDestroyed(@NonNull final FragmentManager manager, @NonNull final Fragment fragment) {
+		final Activity activity = fragment.getActivity();
+		if (fragment.isRemoving() || (activity != null && activity.isFinishing())) {
+			final String key = storeKeys.remove(fragment);
+			if (key != null) {
+				store.discard(key);
+			}
+		}
+	}
+
+	/**
+	 * Moves the largest entries (put into the state by the fragment) from the given <var>outState</var>
+	 * into the store until at least the specified <var>excessSize</var> is moved or there are no
+	 * more entries to be moved.
+	 *
+	 * @param fragment   The fragment of which state is being saved.
+	 * @param outState   The saved state of the fragment.
+	 * @param excessSize Size by which the state exceeds the budget.
+	 * @return Size of the moved entries in bytes.
+	 */
+	private int moveEntries(final Fragment fragment, final Bundle outState, final int excessSize) {
+		final List<Entry> entries = new ArrayList<>(outState.size());
+		for (final String key : outState.keySet()) {
+			if (!isFrameworkKey(key)) {
+				entries.add(new Entry(key, measureSize(key, outState.get(key))));
+			}
+		}
+		Collections.sort(entries, Entry.SIZE_DESCENDING);
+		final Set<String> movedKeys = new HashSet<>(entries.size());
+		int movedSize = 0;
+		for (final Entry entry : entries) {
+			if (movedSize >= excessSize) {
+				break;
+			}
+			movedKeys.add(entry.key);
+			movedSize += entry.size;
+		}
+		if (movedKeys.isEmpty()) {
+			return 0;
+		}
+		final Bundle movedEntries = new Bundle(outState);
+		for (final String key : outState.keySet()) {
+			if (movedKeys.contains(key)) {
+				continue;
+			}
+			movedEntries.remove(key);
+		}
+		final String storeKey;
+		try {
+			storeKey = store.store(movedEntries);
+		} catch (RuntimeException e) {
+			FragmentsLogging.w(TAG, "Failed to store state entries of fragment(" + fragment.getClass().getName() + ").", e);
+			return 0;
+		}
+		for (final String key : movedKeys) {
+			outState.remove(key);
+		}
+		outState.putString(BUNDLE_STORE_KEY, storeKey);
+		this.storeKeys.put(fragment, storeKey);
+		return movedSize;
+	}
+
+	/**
+	 * Checks whether the specified <var>key</var> is a key of an entry put into a saved state by the
+	 * framework.
+	 *
+	 * @param key The key to check.
+	 * @return {@code True} if the key is a framework key, {@code false} otherwise.
+	 */
+	private static boolean isFrameworkKey(final String key) {
+		for (final String prefix : FRAMEWORK_KEY_PREFIXES) {
+			if (key.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Measures parcelled size of the given <var>bundle</var>.
+	 *
+	 * @param bundle The bundle to measure.
+	 * @return Size of the bundle in bytes.
+	 */
+	@VisibleForTesting static int measureSize(@NonNull final Bundle bundle) {
+		final Parcel parcel = Parcel.obtain();
+		try {
+			parcel.writeBundle(bundle);
+			return parcel.dataSize();
+		} finally {
+			parcel.recycle();
+		}
+	}
+
+	/**
+	 * Measures parcelled size of hierarchy state of view of the given <var>fragment</var> which is
+	 * put into its saved state by the fragment manager only after {@link #onFragmentSaveInstanceState(FragmentManager, Fragment, Bundle)}.
+	 *
+	 * @param fragment The fragment of which view state to measure.
+	 * @return Size of the view state entry in bytes or {@code 0} if there is no view state.
+	 */
+	private static int measureViewStateSize(final Fragment fragment) {
+		final View view = fragment.getView();
+		if (view == null) {
+			return 0;
+		}
+		final SparseArray<Parcelable> viewState = new SparseArray<>();
+		view.saveHierarchyState(viewState);
+		return viewState.size() == 0 ? 0 : measureSize(VIEW_STATE_KEY, viewState);
+	}
+
+	/**
+	 * Measures parcelled size of an entry with the specified <var>key</var> and <var>value</var>.
+	 *
+	 * @param key   Key of the entry.
+	 * @param value Value of the entry.
+	 * @return Size of the entry in bytes.
+	 */
+	private static int measureSize(final String key, final Object value) {
+		final Parcel parcel = Parcel.obtain();
+		try {
+			parcel.writeString(key);
+			parcel.writeValue(value);
+			return parcel.dataSize();
+		} finally {
+			parcel.recycle();
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Key of an entry of a saved state along with its parcelled size.
+	 */
+	private static final class Entry {
+
+		/**
+		 * Comparator ordering entries from the largest one.
+		 */
+		static final Comparator<Entry> SIZE_DESCENDING = new Comparator<Entry>() {
+
+			@Override public int compare(@NonNull final Entry first, @NonNull final Entry second) {
+				return Integer.compare(second.size, first.size);
+			}
+		};
+
+		/**
+		 * Key of the entry.
+		 */
+		final String key;
+
+		/**
+		 * Parcelled size of the entry in bytes.
+		 */
+		final int size;
+
+		/**
+		 * Creates a new instance of Entry with the specified <var>key</var> and <var>size</var>.
+		 *
+		 * @param key  Key of the entry.
+		 * @param size Parcelled size of the entry in bytes.
+		 */
+		Entry(final String key, final int size) {
+			this.key = key;
+			this.size = size;
+		}
+	}
+}
@@ -0,0 +1,294 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.Context;
+import android.os.Bundle;
+import android.os.Parcel;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Store for entries of saved states of fragments which have been offloaded by {@link SavedStateBudget}
+ * in order to keep size of the saved states small. Each set of entries is stored under a unique key
+ * as a separate file in an app-private directory, so the entries survive also death of the application
+ * process.
+ * <p>
+ * Entries are marshalled on the calling thread and written asynchronously via executor specified
+ * for the store. Until they are written, the entries are held in memory, so they may be restored
+ * immediately. Files which have not been accessed for {@link #STALE_AGE} are considered stale and
+ * are deleted whenever a new store is created.
+ * <p>
+ * <b>Note</b>, that the executor should execute the submitted tasks serially.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ *
+ * @see #create(Context, Executor)
+ */
+public final class SavedStateStore {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "SavedStateStore";
+
+	/**
+	 * Name of the directory in which are the entries stored.
+	 */
+	@VisibleForTesting static final String DIRECTORY_NAME = "universum.studios.fragments.saved_states";
+
+	/**
+	 * Suffix of a temporary file into which are the entries written before the file is renamed.
+	 */
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * Age (in milliseconds) after which are the stored entries considered stale.
+	 */
+	@VisibleForTesting static final long STALE_AGE = TimeUnit.DAYS.toMillis(7);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Directory in which are the entries stored.
+	 */
+	private final File directory;
+
+	/**
+	 * Executor used to write and delete files of the entries.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Map with marshalled entries that have not been written yet mapped to theirs keys.
+	 */
+	private final Map<String, byte[]> pendingEntries = new ConcurrentHashMap<>(2);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of SavedStateStore with the specified <var>directory</var> and <var>executor</var>.
+	 *
+	 * @param directory Directory in which to store the entries.
+	 * @param executor  Executor used to write and delete files of the entries.
+	 */
+	private SavedStateStore(final File directory, final Executor executor) {
+		this.directory = directory;
+		this.executor = executor;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates a new SavedStateStore which stores entries in the files directory of the given
+	 * <var>context</var>. Stale entries are deleted via the specified <var>executor</var>.
+	 *
+	 * @param context  Context used to resolve directory for the entries.
+	 * @param executor Executor used to write and delete files of the entries.
+	 * @return New store ready to be used.
+	 */
+	@NonNull public static SavedStateStore create(@NonNull final Context context, @NonNull final Executor executor) {
+		final SavedStateStore store = new SavedStateStore(new File(context.getFilesDir(), DIRECTORY_NAME), executor);
+		executor.execute(new Runnable() {
+
+			@Override public void run() {
+				store.deleteStaleEntries(System.currentTimeMillis() - STALE_AGE);
+			}
+		});
+		return store;
+	}
+
+	/**
+	 * Stores the given <var>entries</var> under a new unique key.
+	 *
+	 * @param entries The entries to be stored.
+	 * @return Key which may be used to restore the entries via {@link #restore(String, ClassLoader)}.
+	 */
+	@NonNull public String store(@NonNull final Bundle entries) {
+		final Parcel parcel = Parcel.obtain();
+		final byte[] data;
+		try {
+			parcel.writeBundle(entries);
+			data = parcel.marshall();
+		} finally {
+			parcel.recycle();
+		}
+		final String key = UUID.randomUUID().toString();
+		this.pendingEntries.put(key, data);
+		this.executor.execute(new Runnable() {
+
+			@Override public void run() {
+				// Entries may have been already discarded.
+				if (pendingEntries.containsKey(key)) {
+					writeEntries(key, data);
+					pendingEntries.remove(key);
+				}
+			}
+		});
+		return key;
+	}
+
+	/**
+	 * Writes the given marshalled <var>data</var> into file for the specified <var>key</var>.
+	 *
+	 * @param key  Key of the entries.
+	 * @param data The marshalled entries.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void writeEntries(final String key, final byte[] data) {
+		if (!directory.exists() && !directory.mkdirs()) {
+			FragmentsLogging.w(TAG, "Failed to create directory for saved states.");
+			return;
+		}
+		final File file = new File(directory, key);
+		final File temporaryFile = new File(directory, key + TEMPORARY_FILE_SUFFIX);
+		try (FileOutputStream output = new FileOutputStream(temporaryFile)) {
+			output.write(data);
+			output.getFD().sync();
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to write saved state entries.", e);
+			temporaryFile.delete();
+			return;
+		}
+		if (!temporaryFile.renameTo(file)) {
+			FragmentsLogging.w(TAG, "Failed to rename file with saved state entries.");
+			temporaryFile.delete();
+		}
+	}
+
+	/**
+	 * Restores entries stored under the specified <var>key</var>.
+	 *
+	 * @param key         Key of the entries to restore.
+	 * @param classLoader Class loader to be set to the restored bundle.
+	 * @return Bundle with the restored entries or {@code null} if there are no entries stored under
+	 * the key (or they could not be read).
+	 */
+	@Nullable public Bundle restore(@NonNull final String key, @Nullable final ClassLoader classLoader) {
+		byte[] data = pendingEntries.get(key);
+		if (data == null) {
+			data = readEntries(key);
+		}
+		if (data == null) {
+			return null;
+		}
+		final Parcel parcel = Parcel.obtain();
+		try {
+			parcel.unmarshall(data, 0, data.length);
+			parcel.setDataPosition(0);
+			return parcel.readBundle(classLoader);
+		} catch (RuntimeException e) {
+			FragmentsLogging.w(TAG, "Failed to unmarshall saved state entries.", e);
+			return null;
+		} finally {
+			parcel.recycle();
+		}
+	}
+
+	/**
+	 * Reads marshalled entries from file for the specified <var>key</var>.
+	 *
+	 * @param key Key of the entries.
+	 * @return The marshalled entries or {@code null} if there is no such file or it could not be read.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private byte[] readEntries(final String key) {
+		final File file = new File(directory, key);
+		if (!file.exists()) {
+			return null;
+		}
+		try (FileInputStream input = new FileInputStream(file)) {
+			final byte[] data = new byte[(int) file.length()];
+			int offset = 0;
+			while (offset < data.length) {
+				final int count = input.read(data, offset, data.length - offset);
+				if (count == -1) {
+					throw new IOException("Unexpected end of file.");
+				}
+				offset += count;
+			}
+			// Mark the file as recently used, so it is not deleted as stale.
+			file.setLastModified(System.currentTimeMillis());
+			return data;
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to read saved state entries.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Discards entries stored under the specified <var>key</var>. Does nothing if there are no such
+	 * entries.
+	 *
+	 * @param key Key of the entries to discard.
+	 */
+	public void discard(@NonNull final String key) {
+		// If the entries have not been written yet, they will be not.
+		this.pendingEntries.remove(key);
+		this.executor.execute(new Runnable() {
+
+			@SuppressWarnings("ResultOfMethodCallIgnored")
+			@Override public void run() {
+				new File(directory, key).delete();
+			}
+		});
+	}
+
+	/**
+	 * Deletes files of all entries which have not been modified since the specified <var>time</var>.
+	 *
+	 * @param time Time in milliseconds before which are the entries considered stale.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	@VisibleForTesting void deleteStaleEntries(final long time) {
+		final File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (final File file : files) {
+			if (file.lastModified() < time || file.getName().endsWith(TEMPORARY_FILE_SUFFIX)) {
+				file.delete();
+			}
+		}
+	}
+
+}
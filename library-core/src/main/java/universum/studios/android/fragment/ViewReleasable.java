@@ -0,0 +1,61 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+/**
+ * Interface for fragments of which views may be released while they are hidden in order to reduce
+ * memory footprint of an application. Views of such fragments are released by {@code FragmentController}
+ * whenever the system signals that memory is running low or whenever a budget for views of hidden
+ * fragments specified for the controller is exceeded.
+ * <p>
+ * The view of a fragment is released by detaching of that fragment, so state of its view hierarchy
+ * is saved by the fragment manager and restored when the view is re-created. The view is re-created
+ * whenever the fragment is shown again via {@code FragmentController}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public interface ViewReleasable {
+
+	/**
+	 * Checks whether the view of this fragment may be released while this fragment is hidden.
+	 *
+	 * @return {@code True} if the view may be released, {@code false} if it should be always retained.
+	 */
+	boolean isViewReleasable();
+
+	/**
+	 * Sets a boolean flag indicating whether the view of this fragment has been released and needs
+	 * to be re-created when this fragment is shown again. Implementations should clear this flag
+	 * whenever theirs view is re-created.
+	 *
+	 * @param released {@code True} if the view has been released, {@code false} otherwise.
+	 */
+	void setViewReleased(boolean released);
+
+	/**
+	 * Checks whether the view of this fragment has been released.
+	 *
+	 * @return {@code True} if the view has been released and has not been re-created yet,
+	 * {@code false} otherwise.
+	 *
+	 * @see #setViewReleased(boolean)
+	 */
+	boolean isViewReleased();
+}
@@ -0,0 +1,491 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Cache of values created for annotated classes which references the annotated classes only weakly,
+ * so a cached value is released as soon as its annotated class becomes unreachable, for example when
+ * a class loader of a dynamic feature module is discarded.
+ * <p>
+ * Each value is mapped to its key type and annotated class, so there may be cached only one value
+ * of the same key type for the same annotated class. Cache may be optionally bounded by a capacity
+ * via {@link #setCapacity(int)} in which case the least recently used values are evicted whenever
+ * the capacity is exceeded.
+ * <p>
+ * Obtaining of an already cached value does not involve any locking. When the cache is bounded,
+ * each obtained entry is only stamped with a sequence number of its last access and these stamps
+ * are compared when the capacity is exceeded, so under concurrent access the evicted values are
+ * only approximately the least recently used ones. Creation of a new value is synchronized per key,
+ * so each value is created only once, and a key for which the value creation fails is not cached.
+ * <p>
+ * <b>Note</b>, that a cached value itself should not hold a strong reference to its annotated class,
+ * otherwise such value, and thus also the class, will be released only due to eviction.
+ *
+ * @param <V> Type of the values cached by the cache.
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class AnnotatedClassCache<V> {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "AnnotatedClassCache";
+
+	/**
+	 * Capacity specifying that a cache is not bounded.
+	 */
+	static final int UNBOUNDED = 0;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Factory used by {@link AnnotatedClassCache} to create values which are not cached yet.
+	 *
+	 * @param <V> Type of the values created by the factory.
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	interface ValueFactory<V> {
+
+		/**
+		 * Creates a new value of the specified <var>keyType</var> for the given <var>annotatedClass</var>.
+		 *
+		 * @param keyType        Type of the value to create.
+		 * @param annotatedClass Class for which to create the value.
+		 * @return New value to be cached.
+		 */
+		@NonNull V createValue(@NonNull Class<?> keyType, @NonNull Class<?> annotatedClass);
+	}
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Factory used to create values which are not cached yet.
+	 */
+	private final ValueFactory<V> factory;
+
+	/**
+	 * Map with cache entries mapped to theirs keys.
+	 */
+	private final ConcurrentMap<Object, Entry<V>> entries;
+
+	/**
+	 * Queue into which are enqueued keys of which annotated classes have been garbage collected.
+	 */
+	private final ReferenceQueue<Class<?>> releasedKeys = new ReferenceQueue<>();
+
+	/**
+	 * Count of requests for which has been the requested value already cached.
+	 */
+	private final AtomicLong hitCount = new AtomicLong();
+
+	/**
+	 * Count of requests for which the requested value needed to be created.
+	 */
+	private final AtomicLong missCount = new AtomicLong();
+
+	/**
+	 * Count of values evicted from the cache due to its capacity or released due to garbage collected
+	 * annotated class.
+	 */
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Sequence of accesses to the cached entries used to stamp the last access of each entry.
+	 */
+	private final AtomicLong accessSequence = new AtomicLong();
+
+	/**
+	 * Lock used to serialize evictions of the least recently used entries.
+	 */
+	private final Object trimLock = new Object();
+
+	/**
+	 * Maximum count of values that may be cached or {@link #UNBOUNDED}.
+	 */
+	private volatile int capacity = UNBOUNDED;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of AnnotatedClassCache with the specified <var>initialCapacity</var>.
+	 *
+	 * @param initialCapacity Initial capacity for the map of cache entries.
+	 * @param factory         Factory used to create values which are not cached yet.
+	 */
+	AnnotatedClassCache(final int initialCapacity, @NonNull final ValueFactory<V> factory) {
+		this.entries = new ConcurrentHashMap<>(initialCapacity);
+		this.factory = factory;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Sets a maximum count of values that may be cached by this cache. If there are more values
+	 * cached, the least recently used ones are evicted immediately.
+	 *
+	 * @param capacity The desired capacity or {@link #UNBOUNDED} to not limit count of cached values.
+	 * @throws IllegalArgumentException If the specified capacity is negative.
+	 */
+	void setCapacity(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative, specified(" + capacity + ").");
+		}
+		this.capacity = capacity;
+		trimToCapacity();
+	}
+
+	/**
+	 * Returns the maximum count of values that may be cached by this cache.
+	 *
+	 * @return Capacity of this cache or {@link #UNBOUNDED} if it is not bounded.
+	 */
+	int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Obtains a value of the specified <var>keyType</var> for the given <var>annotatedClass</var>.
+	 * If there is no such value cached, a new one will be created via the factory of this cache and
+	 * cached, while any other thread requesting the same value waits for its creation to finish.
+	 *
+	 * @param keyType        Type of the value to obtain.
+	 * @param annotatedClass Class for which to obtain the value.
+	 * @return Cached or newly created value.
+	 */
+	@NonNull V obtain(@NonNull final Class<?> keyType, @NonNull final Class<?> annotatedClass) {
+		Entry<V> entry = entries.get(new LookupKey(keyType, annotatedClass));
+		if (entry != null) {
+			final V value = entry.value;
+			if (value != null) {
+				if (capacity != UNBOUNDED) {
+					entry.lastAccess = accessSequence.incrementAndGet();
+				}
+				hitCount.incrementAndGet();
+				return value;
+			}
+		} else {
+			expungeReleasedEntries();
+			final Entry<V> newEntry = new Entry<>(new Key(keyType, annotatedClass, releasedKeys));
+			newEntry.lastAccess = accessSequence.incrementAndGet();
+			entry = entries.putIfAbsent(newEntry.key, newEntry);
+			if (entry == null) {
+				entry = newEntry;
+			}
+		}
+		missCount.incrementAndGet();
+		final V value;
+		try {
+			value = entry.obtainValue(factory, keyType, annotatedClass);
+		} catch (RuntimeException | Error e) {
+			// Entry without value would be never evicted, so the value may be requested again.
+			entries.remove(entry.key, entry);
+			throw e;
+		}
+		if (capacity != UNBOUNDED) {
+			trimToCapacity();
+		}
+		return value;
+	}
+
+	/**
+	 * Removes entries of which annotated classes have been already garbage collected.
+	 */
+	private void expungeReleasedEntries() {
+		Reference<? extends Class<?>> releasedKey;
+		while ((releasedKey = releasedKeys.poll()) != null) {
+			if (entries.remove(releasedKey) != null) {
+				evictionCount.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Evicts the least recently used values from this cache until count of the cached values does
+	 * not exceed its capacity. Entries of which values are just being created are never evicted.
+	 */
+	private void trimToCapacity() {
+		if (capacity == UNBOUNDED || entries.size() <= capacity) {
+			return;
+		}
+		synchronized (trimLock) {
+			while (capacity != UNBOUNDED && entries.size() > capacity) {
+				Entry<V> eldestEntry = null;
+				for (final Entry<V> entry : entries.values()) {
+					if (entry.value != null && (eldestEntry == null || entry.lastAccess < eldestEntry.lastAccess)) {
+						eldestEntry = entry;
+					}
+				}
+				if (eldestEntry == null) {
+					// All remaining entries are just being created.
+					return;
+				}
+				if (entries.remove(eldestEntry.key, eldestEntry)) {
+					evictionCount.incrementAndGet();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns count of the values currently cached by this cache, including values which are just
+	 * being created.
+	 *
+	 * @return Size of this cache.
+	 */
+	int size() {
+		expungeReleasedEntries();
+		return entries.size();
+	}
+
+	/**
+	 * Returns count of requests for which has been the requested value already cached.
+	 *
+	 * @return Hits count.
+	 */
+	long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns count of requests for which the requested value needed to be created.
+	 *
+	 * @return Misses count.
+	 */
+	long getMissCount() {
+		return missCount.get();
+	}
+
+	/**
+	 * Returns count of values that have been evicted from this cache, either due to its capacity or
+	 * because theirs annotated classes have been garbage collected.
+	 *
+	 * @return Evictions count.
+	 */
+	long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * Clears all values cached by this cache along with its statistics. Capacity of the cache remains
+	 * unchanged.
+	 */
+	void clear() {
+		entries.clear();
+		while (releasedKeys.poll() != null) {
+			// Drain keys of the cleared entries.
+		}
+		hitCount.set(0);
+		missCount.set(0);
+		evictionCount.set(0);
+	}
+
+	/**
+	 * Computes hash code for a key composed of the given <var>keyType</var> and <var>annotatedClass</var>.
+	 *
+	 * @param keyType        Type of the value.
+	 * @param annotatedClass Class for which is the value cached.
+	 * @return Hash code of the key.
+	 */
+	static int hashKey(final Class<?> keyType, final Class<?> annotatedClass) {
+		return 31 * System.identityHashCode(annotatedClass) + System.identityHashCode(keyType);
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Key of a cache entry which references its annotated class only weakly.
+	 */
+	private static final class Key extends WeakReference<Class<?>> {
+
+		/**
+		 * Type of the value mapped to this key.
+		 */
+		final Class<?> keyType;
+
+		/**
+		 * Hash code of this key computed while its annotated class has been still reachable.
+		 */
+		final int hash;
+
+		/**
+		 * Creates a new instance of Key for the specified <var>keyType</var> and <var>annotatedClass</var>.
+		 *
+		 * @param keyType        Type of the value.
+		 * @param annotatedClass Class for which is the value cached.
+		 * @param queue          Queue into which to enqueue the key when the class is garbage collected.
+		 */
+		Key(final Class<?> keyType, final Class<?> annotatedClass, final ReferenceQueue<Class<?>> queue) {
+			super(annotatedClass, queue);
+			this.keyType = keyType;
+			this.hash = hashKey(keyType, annotatedClass);
+		}
+
+		/**
+		 */
+		@Override public int hashCode() {
+			return hash;
+		}
+
+		/**
+		 */
+		@Override public boolean equals(@Nullable final Object other) {
+			if (other == this) return true;
+			if (other instanceof LookupKey) {
+				final LookupKey key = (LookupKey) other;
+				return keyType == key.keyType && get() == key.annotatedClass;
+			}
+			if (other instanceof Key) {
+				final Key key = (Key) other;
+				final Class<?> annotatedClass = get();
+				return keyType == key.keyType && annotatedClass != null && annotatedClass == key.get();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Key used only to look up cache entries. Unlike {@link Key} it references its annotated class
+	 * strongly, but it is never stored in the cache.
+	 */
+	private static final class LookupKey {
+
+		/**
+		 * Type of the requested value.
+		 */
+		final Class<?> keyType;
+
+		/**
+		 * Class for which is the value requested.
+		 */
+		final Class<?> annotatedClass;
+
+		/**
+		 * Creates a new instance of LookupKey for the specified <var>keyType</var> and <var>annotatedClass</var>.
+		 *
+		 * @param keyType        Type of the requested value.
+		 * @param annotatedClass Class for which is the value requested.
+		 */
+		LookupKey(final Class<?> keyType, final Class<?> annotatedClass) {
+			this.keyType = keyType;
+			this.annotatedClass = annotatedClass;
+		}
+
+		/**
+		 */
+		@Override public int hashCode() {
+			return hashKey(keyType, annotatedClass);
+		}
+
+		/**
+		 */
+		@Override public boolean equals(@Nullable final Object other) {
+			if (other == this) return true;
+			if (other instanceof Key) {
+				final Key key = (Key) other;
+				return keyType == key.keyType && annotatedClass == key.get();
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Entry holding a single cached value. The value is created only once, when it is requested
+	 * for the first time, and then read without any locking.
+	 *
+	 * @param <V> Type of the value.
+	 */
+	private static final class Entry<V> {
+
+		/**
+		 * Key to which is this entry mapped.
+		 */
+		final Key key;
+
+		/**
+		 * Value held by this entry. May be {@code null} if not created yet.
+		 */
+		volatile V value;
+
+		/**
+		 * Sequence number of the last access to this entry. Updated only when the cache is bounded.
+		 */
+		volatile long lastAccess;
+
+		/**
+		 * Creates a new instance of Entry for the specified <var>key</var>.
+		 *
+		 * @param key Key to which will be the new entry mapped.
+		 */
+		Entry(final Key key) {
+			this.key = key;
+		}
+
+		/**
+		 * Returns the value held by this entry. If there is no value created yet, a new one will be
+		 * created while any other thread requesting the same value waits for its creation to finish.
+		 *
+		 * @param factory        Factory used to create the value if needed.
+		 * @param keyType        Type of the value to create if needed.
+		 * @param annotatedClass Class for which to create the value if needed.
+		 * @return The value held by this entry.
+		 */
+		V obtainValue(final ValueFactory<V> factory, final Class<?> keyType, final Class<?> annotatedClass) {
+			V value = this.value;
+			if (value == null) {
+				synchronized (this) {
+					value = this.value;
+					if (value == null) {
+						this.value = value = factory.createValue(keyType, annotatedClass);
+					}
+				}
+			}
+			return value;
+		}
+	}
+}
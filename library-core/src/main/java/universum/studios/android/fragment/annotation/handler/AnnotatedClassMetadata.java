@@ -0,0 +1,159 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import java.lang.annotation.Annotation;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Immutable record holding all annotations presented for a specific annotated class, including
+ * annotations inherited from its super classes.
+ * <p>
+ * All annotations are collected via a single scan of the class hierarchy when the metadata for
+ * a particular class is requested for the first time. The metadata are then cached, so all annotation
+ * handlers created for the same class, regardless of theirs type, read from the very same record
+ * instead of looking up each annotation separately. The cached metadata are released when theirs
+ * annotated class becomes unreachable.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class AnnotatedClassMetadata {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "AnnotatedClassMetadata";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Cache with already created metadata mapped to theirs annotated classes.
+	 */
+	private static final AnnotatedClassCache<AnnotatedClassMetadata> metadata = new AnnotatedClassCache<>(
+			20,
+			new AnnotatedClassCache.ValueFactory<AnnotatedClassMetadata>() {
+
+				/**
+				 */
+				@Override @NonNull public AnnotatedClassMetadata createValue(@NonNull final Class<?> keyType, @NonNull final Class<?> annotatedClass) {
+					// Class.getAnnotations() resolves also all inherited annotations within a single
+					// scan of the class hierarchy.
+					return new AnnotatedClassMetadata(annotatedClass.getAnnotations());
+				}
+			}
+	);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Types of the collected annotations. Type at a specific index corresponds to annotation at the
+	 * same index in {@link #annotations}.
+	 */
+	private final Class<?>[] annotationTypes;
+
+	/**
+	 * Collected annotations.
+	 */
+	private final Annotation[] annotations;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of AnnotatedClassMetadata with the given <var>annotations</var>.
+	 *
+	 * @param annotations All annotations presented for the annotated class.
+	 */
+	private AnnotatedClassMetadata(final Annotation[] annotations) {
+		this.annotations = annotations;
+		this.annotationTypes = new Class<?>[annotations.length];
+		for (int i = 0; i < annotations.length; i++) {
+			annotationTypes[i] = annotations[i].annotationType();
+		}
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains metadata for the specified <var>annotatedClass</var>. If there are no such metadata
+	 * cached yet, they will be created and cached.
+	 *
+	 * @param annotatedClass Class for which to obtain the metadata.
+	 * @return Metadata with all annotations presented for the class.
+	 */
+	@NonNull static AnnotatedClassMetadata obtainFor(@NonNull final Class<?> annotatedClass) {
+		return metadata.obtain(AnnotatedClassMetadata.class, annotatedClass);
+	}
+
+	/**
+	 * Clears all cached metadata.
+	 */
+	static void clear() {
+		metadata.clear();
+	}
+
+	/**
+	 * Returns the annotation of the requested type from this metadata.
+	 *
+	 * @param classOfAnnotation Class of the desired annotation.
+	 * @param <A>               Type of the desired annotation.
+	 * @return The requested annotation or {@code null} if there is no such annotation presented
+	 * for the annotated class.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable <A extends Annotation> A get(@NonNull final Class<A> classOfAnnotation) {
+		for (int i = 0; i < annotationTypes.length; i++) {
+			if (annotationTypes[i] == classOfAnnotation) {
+				return (A) annotations[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns count of the annotations held by this metadata.
+	 *
+	 * @return Annotations count.
+	 */
+	int size() {
+		return annotations.length;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
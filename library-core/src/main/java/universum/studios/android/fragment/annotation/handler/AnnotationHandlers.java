@@ -18,16 +18,42 @@
  */
 package universum.studios.android.fragment.annotation.handler;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import universum.studios.android.fragment.FragmentsLogging;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 
 /**
  * Base factory and cache for {@link AnnotationHandler} instances for a specific classes from the
  * Fragments library.
+ * <p>
+ * Handlers for classes processed by the Fragments annotation processor are created via the generated
+ * {@link AnnotationHandlersIndex} without use of reflection. Handlers for all other classes are
+ * instantiated via reflection.
+ * <p>
+ * Cached handlers may be safely obtained from multiple threads. Obtaining of an already cached
+ * handler does not involve any locking, so a thread that obtains a handler never waits for another
+ * thread unless both of them request the very same handler that is just being instantiated.
+ * <p>
+ * Handlers for a known set of classes may be also instantiated ahead of time on a background thread
+ * via {@link #prewarm(Executor, Collection, PrewarmCallback)}, for example while a splash screen is
+ * displayed, so the first time a fragment of such class is created only the cached handler is used.
+ * <p>
+ * The cache references the annotated classes only weakly, so handlers for classes that are no longer
+ * reachable, for example classes loaded by a class loader of an uninstalled dynamic feature module,
+ * are released automatically. This does not apply to handlers that themselves reference classes
+ * loaded by the same class loader, like handlers of fragment factories which reference classes of
+ * theirs fragments, such handlers are released only when evicted due to capacity of the cache. Count
+ * of the cached handlers may be limited via {@link #setCacheCapacity(int)} and the cache may be
+ * monitored via {@link #getCacheStats()}.
  *
  * @author Martin Albedinsky
  * @since 1.0
@@ -41,31 +67,127 @@ public abstract class AnnotationHandlers {
 	/**
 	 * Log TAG.
 	 */
-	// private static final String TAG = "AnnotationHandlers";
+	private static final String TAG = "AnnotationHandlers";
+
+	/**
+	 * Fully qualified name of the {@link AnnotationHandlersIndex} implementation that is generated
+	 * by the Fragments annotation processor by default. If such class is available, it is loaded
+	 * and used automatically.
+	 *
+	 * @see #registerIndex(AnnotationHandlersIndex)
+	 */
+	public static final String GENERATED_INDEX_CLASS_NAME = "universum.studios.android.fragment.annotation.handler.GeneratedAnnotationHandlersIndex";
+
+	/**
+	 * Fully qualified names of the AnnotationHandlers implementations from the Fragments library
+	 * modules which register theirs handler types for pre-warming. Implementations from modules that
+	 * are not part of the application are simply ignored.
+	 *
+	 * @see #registerHandlerType(Class, Class)
+	 */
+	private static final String[] HANDLERS_CLASS_NAMES = {
+			"universum.studios.android.fragment.annotation.handler.BaseAnnotationHandlers",
+			"universum.studios.android.fragment.annotation.handler.ActionBarAnnotationHandlers",
+			"universum.studios.android.fragment.annotation.handler.WebAnnotationHandlers",
+			"universum.studios.android.fragment.annotation.handler.BaseManagementAnnotationHandlers"
+	};
 
 	/*
 	 * Interface ===================================================================================
 	 */
 
+	/**
+	 * Callback that may be used to receive a signal that pre-warming of annotation handlers has
+	 * finished.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 *
+	 * @see #prewarm(Executor, Collection, PrewarmCallback)
+	 */
+	public interface PrewarmCallback {
+
+		/**
+		 * Invoked whenever pre-warming of annotation handlers has finished.
+		 * <p>
+		 * <b>Note</b>, that this callback is invoked on the thread of the executor used to execute
+		 * the pre-warming.
+		 *
+		 * @param handlersCount Count of the annotation handlers that are cached for the requested
+		 *                      classes after the pre-warming.
+		 */
+		void onPrewarmFinished(int handlersCount);
+	}
+
 	/*
 	 * Static members ==============================================================================
 	 */
 
 	/**
-	 * Lock used for synchronized operations.
+	 * Lock used for synchronized modifications of the registered indexes.
 	 */
 	private static final Object LOCK = new Object();
 
 	/**
-	 * Initial capacity for the handlers map.
+	 * Initial capacity for the map of cached handlers.
+	 */
+	private static final int HANDLERS_INITIAL_CAPACITY = 40;
+
+	/**
+	 * Empty array of indexes.
 	 */
-	private static final int HANDLERS_INITIAL_CAPACITY = 20;
+	private static final AnnotationHandlersIndex[] NO_INDEXES = new AnnotationHandlersIndex[0];
 
 	/**
-	 * Map with annotation handlers where each handler is mapped to a particular class for which
-	 * has been that handler instantiated.
+	 * Empty array of handler types.
 	 */
-	private static Map<Class<?>, Object> handlers;
+	private static final HandlerType[] NO_HANDLER_TYPES = new HandlerType[0];
+
+	/**
+	 * Cache with annotation handlers mapped to theirs handler types and annotated classes for which
+	 * they have been requested.
+	 */
+	private static final AnnotatedClassCache<AnnotationHandler> handlers = new AnnotatedClassCache<>(
+			HANDLERS_INITIAL_CAPACITY,
+			new AnnotatedClassCache.ValueFactory<AnnotationHandler>() {
+
+				/**
+				 */
+				@SuppressWarnings("unchecked")
+				@Override @NonNull public AnnotationHandler createValue(@NonNull final Class<?> keyType, @NonNull final Class<?> annotatedClass) {
+					return instantiateHandler((Class<? extends AnnotationHandler>) keyType, annotatedClass);
+				}
+			}
+	);
+
+	/**
+	 * Array with indexes which are consulted whenever a new handler needs to be instantiated. This
+	 * array is never modified, a new array is created whenever a new index is registered.
+	 */
+	private static volatile AnnotationHandlersIndex[] indexes = NO_INDEXES;
+
+	/**
+	 * Boolean flag indicating whether there has been already made an attempt to load the index
+	 * generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}.
+	 */
+	private static volatile boolean generatedIndexLoaded;
+
+	/**
+	 * Array with handler types registered for pre-warming. This array is never modified, a new array
+	 * is created whenever a new handler type is registered.
+	 */
+	private static volatile HandlerType[] handlerTypes = NO_HANDLER_TYPES;
+
+	/**
+	 * Boolean flag indicating whether the AnnotationHandlers implementations specified by
+	 * {@link #HANDLERS_CLASS_NAMES} have been already loaded.
+	 */
+	private static volatile boolean handlerTypesLoaded;
+
+	/**
+	 * Store with persisted annotation handlers. May be {@code null} if no store has been set.
+	 */
+	private static volatile AnnotationHandlersStore store;
 
 	/*
 	 * Members =====================================================================================
@@ -86,13 +208,45 @@ public abstract class AnnotationHandlers {
 	 * Methods =====================================================================================
 	 */
 
+	/**
+	 * Registers the given <var>index</var> to be consulted whenever a new annotation handler needs
+	 * to be instantiated.
+	 * <p>
+	 * <b>Note</b>, that index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}
+	 * is registered automatically and does not need to be registered via this method. This method
+	 * is meant for indexes generated under a different name, for example for separate feature modules.
+	 *
+	 * @param index The desired index to register.
+	 */
+	public static void registerIndex(@NonNull final AnnotationHandlersIndex index) {
+		synchronized (LOCK) {
+			addIndex(index, false);
+		}
+	}
+
+	/**
+	 * Sets a store which should be used to persist resolved values of annotation handlers instantiated
+	 * via reflection, so they may be created from the persisted values the next time they are
+	 * requested, even after the application process is restarted.
+	 * <p>
+	 * The store should be set as soon as possible, before any of the handlers is requested.
+	 *
+	 * @param store The desired store. May be {@code null} to not persist handlers.
+	 *
+	 * @see AnnotationHandlersStore#create(android.content.Context, Executor)
+	 */
+	public static void setStore(@Nullable final AnnotationHandlersStore store) {
+		AnnotationHandlers.store = store;
+	}
+
 	/**
 	 * Obtains an annotation handler with the specified <var>classOfHandler</var> class for the
 	 * given <var>annotatedClass</var>. If there is no such handler already instantiated and cached,
 	 * its instance will be created and cached.
 	 * <p>
-	 * Each handler is mapped to its annotated class, so there may be only one handler of the same
-	 * type created for the same annotated class.
+	 * Each handler is mapped to its type and annotated class, so there may be only one handler of
+	 * the same type created for the same annotated class, while handlers of different types for
+	 * the same annotated class are cached independently.
 	 *
 	 * @param classOfHandler Class of the handler used to instantiate the requested handler instance
 	 *                       if needed.
@@ -100,40 +254,221 @@ public abstract class AnnotationHandlers {
 	 * @param <T>            Type of the handler to be obtained.
 	 * @return Always valid instance of the requested handler or {@code null} if annotations processing
 	 * is disabled for the Fragments library.
-	 * @throws ClassCastException If there is already an annotation handler instantiated for the
-	 *                            specified annotated class but it is of different type as requested.
 	 *
 	 * @see FragmentAnnotations#isEnabled()
 	 */
-	@SuppressWarnings({"unchecked", "ConstantConditions"})
+	@SuppressWarnings("unchecked")
 	@Nullable public static <T extends AnnotationHandler> T obtainHandler(@NonNull final Class<T> classOfHandler, @NonNull final Class<?> annotatedClass) {
-		Object handler = null;
-		if (FragmentAnnotations.isEnabled()) {
-			synchronized (LOCK) {
-				if (handlers == null) {
-					handlers = new HashMap<>(HANDLERS_INITIAL_CAPACITY);
+		return FragmentAnnotations.isEnabled() ? (T) handlers.obtain(classOfHandler, annotatedClass) : null;
+	}
+
+	/**
+	 * Sets a maximum count of annotation handlers that may be cached. Whenever the capacity is
+	 * exceeded, the least recently used handlers are evicted from the cache. An evicted handler is
+	 * simply instantiated again when it is requested next time.
+	 * <p>
+	 * By default the cache is not bounded.
+	 *
+	 * @param capacity The desired capacity or {@code 0} to not limit count of cached handlers.
+	 * @throws IllegalArgumentException If the specified capacity is negative.
+	 *
+	 * @see #getCacheStats()
+	 */
+	public static void setCacheCapacity(final int capacity) {
+		handlers.setCapacity(capacity);
+	}
+
+	/**
+	 * Returns a snapshot of the current statistics of the annotation handlers cache.
+	 *
+	 * @return Cache statistics which may be used, for example, to determine a proper capacity of the
+	 * cache for a specific application.
+	 *
+	 * @see #setCacheCapacity(int)
+	 */
+	@NonNull public static CacheStats getCacheStats() {
+		return new CacheStats(
+				handlers.getHitCount(),
+				handlers.getMissCount(),
+				handlers.getEvictionCount(),
+				handlers.size(),
+				handlers.getCapacity()
+		);
+	}
+
+	/**
+	 * Same as {@link #prewarm(Executor, Collection, PrewarmCallback)} without callback.
+	 */
+	@NonNull public static Future<Integer> prewarm(@NonNull final Executor executor, @NonNull final Collection<Class<?>> classes) {
+		return prewarm(executor, classes, null);
+	}
+
+	/**
+	 * Instantiates and caches annotation handlers for all the given <var>classes</var> via the
+	 * specified <var>executor</var>, so they do not need to be instantiated later when they are
+	 * requested for the first time, which is usually on the main thread.
+	 * <p>
+	 * Type of the handler for each of the classes is resolved as the handler type used by the
+	 * Fragments library for the most specific library class from which the class is derived. Classes
+	 * which are not derived from any of such library classes are ignored, as well as classes for
+	 * which the handler fails to be instantiated.
+	 *
+	 * @param executor Executor used to execute the pre-warming. Should execute on a background thread.
+	 * @param classes  Classes for which to instantiate theirs annotation handlers.
+	 * @param callback Callback to be invoked when the pre-warming finishes. May be {@code null}.
+	 * @return Future that may be used to wait for the pre-warming to finish. Its result is count of
+	 * the annotation handlers that are cached for the requested classes.
+	 */
+	@NonNull public static Future<Integer> prewarm(
+			@NonNull final Executor executor,
+			@NonNull final Collection<Class<?>> classes,
+			@Nullable final PrewarmCallback callback
+	) {
+		final List<Class<?>> classesToPrewarm = new ArrayList<>(classes);
+		return executePrewarm(executor, new Callable<Integer>() {
+
+			/**
+			 */
+			@Override public Integer call() {
+				return prewarmHandlers(classesToPrewarm);
+			}
+		}, callback);
+	}
+
+	/**
+	 * Executes the given pre-warming <var>task</var> via the specified <var>executor</var> and
+	 * notifies the given <var>callback</var> with its result.
+	 *
+	 * @param executor Executor used to execute the task.
+	 * @param task     The desired task which returns count of the pre-warmed annotation handlers.
+	 * @param callback Callback to be notified when the task finishes. May be {@code null}.
+	 * @return Future for the task.
+	 */
+	@NonNull static Future<Integer> executePrewarm(
+			@NonNull final Executor executor,
+			@NonNull final Callable<Integer> task,
+			@Nullable final PrewarmCallback callback
+	) {
+		final FutureTask<Integer> future = new FutureTask<>(new Callable<Integer>() {
+
+			/**
+			 */
+			@Override public Integer call() throws Exception {
+				final Integer handlersCount = task.call();
+				if (callback != null) {
+					callback.onPrewarmFinished(handlersCount);
+				}
+				return handlersCount;
+			}
+		});
+		executor.execute(future);
+		return future;
+	}
+
+	/**
+	 * Instantiates and caches annotation handlers for all the given <var>classes</var> on the
+	 * current thread.
+	 *
+	 * @param classes Classes for which to instantiate theirs annotation handlers.
+	 * @return Count of the annotation handlers that are cached for the classes.
+	 *
+	 * @see #prewarm(Executor, Collection, PrewarmCallback)
+	 */
+	static int prewarmHandlers(@NonNull final Collection<Class<?>> classes) {
+		int handlersCount = 0;
+		for (final Class<?> annotatedClass : classes) {
+			final Class<? extends AnnotationHandler> classOfHandler = resolveHandlerType(annotatedClass);
+			if (classOfHandler == null) {
+				continue;
+			}
+			try {
+				if (obtainHandler(classOfHandler, annotatedClass) != null) {
+					handlersCount++;
 				}
-				handler = handlers.get(annotatedClass);
-				if (handler == null) {
-					handler = instantiateHandler(classOfHandler, annotatedClass);
-					handlers.put(annotatedClass, handler);
-				} else if (!handler.getClass().equals(classOfHandler)) {
-					final String newHandlerName = classOfHandler.getSimpleName();
-					final String currentHandlerName = handler.getClass().getSimpleName();
-					final String className = annotatedClass.getSimpleName();
-					throw new ClassCastException(
-							"Trying to obtain handler(" + newHandlerName + ") for class(" + className + ") while there " +
-									"is already handler(" + currentHandlerName + ") of different type for that class!"
-					);
+			} catch (RuntimeException e) {
+				// Failure will be reported again when the handler is requested by the class itself.
+				FragmentsLogging.w(TAG, "Failed to pre-warm annotation handler for(" + annotatedClass.getName() + ").", e);
+			}
+		}
+		return handlersCount;
+	}
+
+	/**
+	 * Registers the specified <var>classOfHandler</var> as type of annotation handler that is used
+	 * for the given <var>annotatedBaseClass</var> and all classes derived from it.
+	 * <p>
+	 * This registration is used to resolve handler types for classes requested to be pre-warmed.
+	 *
+	 * @param annotatedBaseClass Base class for which is the handler type used.
+	 * @param classOfHandler     Class of the handler used for the base class.
+	 *
+	 * @see #prewarm(Executor, Collection, PrewarmCallback)
+	 */
+	protected static void registerHandlerType(@NonNull final Class<?> annotatedBaseClass, @NonNull final Class<? extends AnnotationHandler> classOfHandler) {
+		synchronized (LOCK) {
+			final HandlerType[] currentTypes = handlerTypes;
+			for (final HandlerType currentType : currentTypes) {
+				if (currentType.annotatedBaseClass.equals(annotatedBaseClass)) {
+					return;
 				}
 			}
+			final HandlerType[] newTypes = new HandlerType[currentTypes.length + 1];
+			System.arraycopy(currentTypes, 0, newTypes, 0, currentTypes.length);
+			newTypes[currentTypes.length] = new HandlerType(annotatedBaseClass, classOfHandler);
+			handlerTypes = newTypes;
+		}
+	}
+
+	/**
+	 * Resolves type of the annotation handler for the given <var>annotatedClass</var> from the
+	 * registered handler types.
+	 *
+	 * @param annotatedClass Class for which to resolve the handler type.
+	 * @return Handler type registered for the most specific base class of the annotated class or
+	 * {@code null} if there is no such type registered.
+	 */
+	@Nullable private static Class<? extends AnnotationHandler> resolveHandlerType(final Class<?> annotatedClass) {
+		if (!handlerTypesLoaded) {
+			loadHandlerTypes();
+		}
+		HandlerType resolvedType = null;
+		for (final HandlerType type : handlerTypes) {
+			if (type.annotatedBaseClass.isAssignableFrom(annotatedClass) &&
+					(resolvedType == null || resolvedType.annotatedBaseClass.isAssignableFrom(type.annotatedBaseClass))) {
+				resolvedType = type;
+			}
+		}
+		return resolvedType == null ? null : resolvedType.classOfHandler;
+	}
+
+	/**
+	 * Loads all AnnotationHandlers implementations specified by {@link #HANDLERS_CLASS_NAMES}, so
+	 * they can register theirs handler types. The load is attempted only once.
+	 */
+	private static void loadHandlerTypes() {
+		synchronized (LOCK) {
+			if (handlerTypesLoaded) {
+				return;
+			}
+			final ClassLoader classLoader = AnnotationHandlers.class.getClassLoader();
+			for (final String className : HANDLERS_CLASS_NAMES) {
+				try {
+					Class.forName(className, true, classLoader);
+				} catch (ClassNotFoundException e) {
+					// Module with the handlers is not part of the application.
+				}
+			}
+			handlerTypesLoaded = true;
 		}
-		return (T) handler;
 	}
 
 	/**
 	 * Instantiates a new annotation handler instance of the specified <var>classOfHandler</var> class
 	 * for the given <var>annotatedClass</var>.
+	 * <p>
+	 * The handler is created via one of the registered indexes, if there is such index that has
+	 * generated handler for the annotated class, otherwise from values persisted in the current
+	 * {@link AnnotationHandlersStore}, if there are such values, or via reflection.
 	 *
 	 * @param classOfHandler Class of the handler to instantiate.
 	 * @param annotatedClass Class for which to instantiate the requested handler.
@@ -141,9 +476,22 @@ public abstract class AnnotationHandlers {
 	 * @return New instance of the requested handler with the annotated class attached.
 	 * @throws IllegalStateException If the requested handler failed to be instantiated.
 	 */
-	private static <T> T instantiateHandler(final Class<T> classOfHandler, final Class<?> annotatedClass) {
+	@SuppressWarnings("unchecked")
+	static <T extends AnnotationHandler> T instantiateHandler(final Class<T> classOfHandler, final Class<?> annotatedClass) {
+		final AnnotationHandler indexedHandler = createHandlerFromIndexes(classOfHandler, annotatedClass);
+		if (indexedHandler != null) {
+			return (T) indexedHandler;
+		}
+		final AnnotationHandlersStore currentStore = store;
+		if (currentStore != null) {
+			final T storedHandler = currentStore.readHandler(classOfHandler, annotatedClass);
+			if (storedHandler != null) {
+				return storedHandler;
+			}
+		}
+		final T handler;
 		try {
-			return classOfHandler.getConstructor(Class.class).newInstance(annotatedClass);
+			handler = classOfHandler.getConstructor(Class.class).newInstance(annotatedClass);
 		} catch (Exception e) {
 			// Happens when the handler implementation is not properly implemented:
 			// - handler class is not visible,
@@ -152,21 +500,198 @@ public abstract class AnnotationHandlers {
 			final String className = annotatedClass.getSimpleName();
 			throw new IllegalStateException("Failed to instantiate annotation handler(" + handlerName + ") for(" + className + ").", e);
 		}
+		if (currentStore != null) {
+			currentStore.recordHandler(classOfHandler, annotatedClass, handler);
+		}
+		return handler;
 	}
 
 	/**
-	 * Clears cache with already obtained/instantiated annotation handlers.
+	 * Creates a new annotation handler of the specified <var>classOfHandler</var> type for the given
+	 * <var>annotatedClass</var> via the registered indexes.
+	 *
+	 * @param classOfHandler Class of the handler to create.
+	 * @param annotatedClass Class for which to create the requested handler.
+	 * @return Handler created by one of the indexes or {@code null} if none of the indexes provides
+	 * generated handler for the annotated class.
 	 */
-	static void clearHandlers() {
+	@Nullable private static AnnotationHandler createHandlerFromIndexes(final Class<? extends AnnotationHandler> classOfHandler, final Class<?> annotatedClass) {
+		if (!generatedIndexLoaded) {
+			loadGeneratedIndex();
+		}
+		for (final AnnotationHandlersIndex index : indexes) {
+			final AnnotationHandler handler = index.createHandler(classOfHandler, annotatedClass);
+			if (classOfHandler.isInstance(handler)) {
+				return handler;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Loads index generated under the {@link #GENERATED_INDEX_CLASS_NAME default name}, if such index
+	 * is available, and registers it as the first of all indexes. The load is attempted only once.
+	 */
+	private static void loadGeneratedIndex() {
 		synchronized (LOCK) {
-			if (handlers != null) {
-				handlers.clear();
-				handlers = null;
+			if (generatedIndexLoaded) {
+				return;
+			}
+			try {
+				addIndex((AnnotationHandlersIndex) Class.forName(GENERATED_INDEX_CLASS_NAME).newInstance(), true);
+			} catch (ClassNotFoundException e) {
+				// Annotation processor has not been applied to the application, all handlers will be
+				// instantiated via reflection.
+			} catch (Exception e) {
+				FragmentsLogging.e(TAG, "Failed to load generated annotation handlers index(" + GENERATED_INDEX_CLASS_NAME + ").", e);
+			} finally {
+				generatedIndexLoaded = true;
+			}
+		}
+	}
+
+	/**
+	 * Adds the given <var>index</var> into the registered indexes if it is not registered yet.
+	 * <p>
+	 * <b>Note</b>, that this method should be called while holding the {@link #LOCK}.
+	 *
+	 * @param index The index to add.
+	 * @param first {@code True} to add the index as the first one, {@code false} to add it as the last one.
+	 */
+	private static void addIndex(final AnnotationHandlersIndex index, final boolean first) {
+		final AnnotationHandlersIndex[] currentIndexes = indexes;
+		for (final AnnotationHandlersIndex currentIndex : currentIndexes) {
+			if (currentIndex.equals(index)) {
+				return;
 			}
 		}
+		final AnnotationHandlersIndex[] newIndexes = new AnnotationHandlersIndex[currentIndexes.length + 1];
+		System.arraycopy(currentIndexes, 0, newIndexes, first ? 1 : 0, currentIndexes.length);
+		newIndexes[first ? 0 : currentIndexes.length] = index;
+		indexes = newIndexes;
+	}
+
+	/**
+	 * Clears all registered annotation handler indexes so the generated index may be loaded again.
+	 */
+	static void clearIndexes() {
+		synchronized (LOCK) {
+			indexes = NO_INDEXES;
+			generatedIndexLoaded = false;
+		}
+	}
+
+	/**
+	 * Clears cache with already obtained/instantiated annotation handlers along with its statistics
+	 * and cached metadata of the annotated classes.
+	 */
+	static void clearHandlers() {
+		handlers.clear();
+		AnnotatedClassMetadata.clear();
 	}
 
 	/*
 	 * Inner classes ===============================================================================
 	 */
-}
\ No newline at end of file
+
+	/**
+	 * Holder for a type of annotation handler registered for a specific base class.
+	 */
+	private static final class HandlerType {
+
+		/**
+		 * Base class for which is the handler type used.
+		 */
+		final Class<?> annotatedBaseClass;
+
+		/**
+		 * Class of the handler.
+		 */
+		final Class<? extends AnnotationHandler> classOfHandler;
+
+		/**
+		 * Creates a new instance of HandlerType with the specified parameters.
+		 *
+		 * @param annotatedBaseClass Base class for which is the handler type used.
+		 * @param classOfHandler     Class of the handler.
+		 */
+		HandlerType(final Class<?> annotatedBaseClass, final Class<? extends AnnotationHandler> classOfHandler) {
+			this.annotatedBaseClass = annotatedBaseClass;
+			this.classOfHandler = classOfHandler;
+		}
+	}
+
+	/**
+	 * Immutable snapshot of statistics of the annotation handlers cache.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 *
+	 * @see #getCacheStats()
+	 */
+	public static final class CacheStats {
+
+		/**
+		 * Count of requests for which has been the requested handler already cached.
+		 */
+		public final long hitCount;
+
+		/**
+		 * Count of requests for which the requested handler needed to be instantiated.
+		 */
+		public final long missCount;
+
+		/**
+		 * Count of handlers evicted from the cache, either due to its capacity or because theirs
+		 * annotated classes have been garbage collected.
+		 */
+		public final long evictionCount;
+
+		/**
+		 * Count of handlers currently cached.
+		 */
+		public final int size;
+
+		/**
+		 * Capacity of the cache or {@code 0} if the cache is not bounded.
+		 */
+		public final int capacity;
+
+		/**
+		 * Creates a new instance of CacheStats with the specified values.
+		 *
+		 * @param hitCount      Count of cache hits.
+		 * @param missCount     Count of cache misses.
+		 * @param evictionCount Count of evicted handlers.
+		 * @param size          Count of cached handlers.
+		 * @param capacity      Capacity of the cache.
+		 */
+		CacheStats(final long hitCount, final long missCount, final long evictionCount, final int size, final int capacity) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+			this.capacity = capacity;
+		}
+
+		/**
+		 * Returns ratio of the cache hits to all requests.
+		 *
+		 * @return Hit rate from the range {@code [0.0, 1.0]} or {@code 1.0} if there were no requests.
+		 */
+		public double hitRate() {
+			final long requestCount = hitCount + missCount;
+			return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+		}
+
+		/**
+		 */
+		@Override @NonNull public String toString() {
+			return "CacheStats{hitCount: " + hitCount +
+					", missCount: " + missCount +
+					", evictionCount: " + evictionCount +
+					", size: " + size +
+					", capacity: " + capacity + "}";
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Interface for indexes that can create {@link AnnotationHandler} instances for a specific annotated
+ * classes without use of reflection. Such indexes are generated at compile time by the Fragments
+ * <b>annotation processor</b> where each generated handler has all its annotation values resolved
+ * in advance.
+ * <p>
+ * {@link AnnotationHandlers} consults all available indexes before it falls back to instantiation
+ * of a handler via reflection. Index generated under the {@link AnnotationHandlers#GENERATED_INDEX_CLASS_NAME default name}
+ * is picked up automatically, any other index may be registered via {@link AnnotationHandlers#registerIndex(AnnotationHandlersIndex)}.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public interface AnnotationHandlersIndex {
+
+	/**
+	 * Creates a new instance of annotation handler of the specified <var>classOfHandler</var> type
+	 * for the given <var>annotatedClass</var>.
+	 *
+	 * @param classOfHandler Class of the handler that is requested.
+	 * @param annotatedClass Class for which to create the requested handler.
+	 * @return New handler instance or {@code null} if this index does not have generated handler
+	 * of the requested type for the specified class.
+	 */
+	@Nullable AnnotationHandler createHandler(@NonNull Class<? extends AnnotationHandler> classOfHandler, @NonNull Class<?> annotatedClass);
+}
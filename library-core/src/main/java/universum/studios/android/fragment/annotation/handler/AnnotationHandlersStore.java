@@ -0,0 +1,514 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import android.content.Context;
+import android.content.pm.PackageInfo;
+import android.content.pm.PackageManager;
+import android.os.Build;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import universum.studios.android.fragment.FragmentsLogging;
+
+/**
+ * Persistent store for values of annotations resolved by annotation handlers from the Fragments
+ * library. Once a handler is instantiated via reflection, its resolved values are written into a
+ * compact binary file, so the next time the application process is started the handler may be
+ * created directly from these values without processing of annotations via reflection.
+ * <p>
+ * The file is memory-mapped when read and it is invalidated whenever the application is updated
+ * or reinstalled, that is, whenever its version code or last update time changes. New values are
+ * written asynchronously via executor specified for the store.
+ * <p>
+ * The store is opt-in and it needs to be set up via {@link AnnotationHandlers#setStore(AnnotationHandlersStore)}
+ * as soon as possible, ideally in {@link android.app.Application#onCreate()}:
+ * <pre>
+ * AnnotationHandlers.setStore(AnnotationHandlersStore.create(context, backgroundExecutor));
+ * </pre>
+ * <b>Note</b>, that handlers created via an {@link AnnotationHandlersIndex} do not need to be stored
+ * as they do not involve any reflection.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class AnnotationHandlersStore {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "AnnotationHandlersStore";
+
+	/**
+	 * Name of the file in which are the handlers stored.
+	 */
+	@VisibleForTesting static final String FILE_NAME = "universum.studios.fragments.annotation_handlers";
+
+	/**
+	 * Magic number at the beginning of the store file.
+	 */
+	private static final int MAGIC = 0x46524148;
+
+	/**
+	 * Version of the store file format. Should be incremented whenever format of the file or format
+	 * of values written by any of the codecs changes.
+	 */
+	private static final int FORMAT_VERSION = 3;
+
+	/**
+	 * Charset used to encode keys of the stored handlers.
+	 */
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	/**
+	 * Separator between name of the handler class and name of the annotated class in a key. This
+	 * character cannot be part of a binary name of a class.
+	 */
+	private static final char KEY_SEPARATOR = '/';
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Codec which writes resolved values of an annotation handler and creates the handler from these
+	 * values later.
+	 *
+	 * @param <H> Type of the handler supported by the codec.
+	 */
+	interface HandlerCodec<H extends AnnotationHandler> {
+
+		/**
+		 * Writes resolved values of the given <var>handler</var> into the specified <var>output</var>.
+		 *
+		 * @param handler The handler of which values to write.
+		 * @param output  Output where to write the values.
+		 * @throws IOException If writing fails.
+		 */
+		void write(@NonNull H handler, @NonNull DataOutput output) throws IOException;
+
+		/**
+		 * Creates a new handler for the given <var>annotatedClass</var> from values read from the
+		 * specified <var>input</var>.
+		 *
+		 * @param annotatedClass Class for which to create the handler.
+		 * @param input          Input from which to read the values.
+		 * @return New handler with the read values.
+		 * @throws IOException If reading fails or the read values are not valid anymore.
+		 */
+		@NonNull H read(@NonNull Class<?> annotatedClass, @NonNull DataInput input) throws IOException;
+	}
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Map with codecs mapped to classes of handlers which they support.
+	 */
+	private static final Map<Class<?>, HandlerCodec<?>> codecs = new ConcurrentHashMap<>(4);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Lock used for synchronized loading of the stored handlers.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * Lock used for synchronized writing of the store file.
+	 */
+	private final Object writeLock = new Object();
+
+	/**
+	 * File in which are the handlers stored.
+	 */
+	private final File file;
+
+	/**
+	 * Version code of the application for which are the handlers stored.
+	 */
+	private final long versionCode;
+
+	/**
+	 * Last update time of the application for which are the handlers stored.
+	 */
+	private final long lastUpdateTime;
+
+	/**
+	 * Executor used to write the store file.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Boolean flag indicating whether the store file has been already loaded.
+	 */
+	private volatile boolean loaded;
+
+	/**
+	 * Buffer with content of the loaded store file.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Map with entries of the handlers loaded from the store file mapped to theirs keys.
+	 */
+	private Map<String, Entry> loadedEntries = Collections.emptyMap();
+
+	/**
+	 * Map with encoded values of handlers recorded since the store file has been loaded mapped to
+	 * theirs keys.
+	 */
+	private final Map<String, byte[]> recordedEntries = new ConcurrentHashMap<>();
+
+	/**
+	 * Boolean flag indicating whether writing of the store file is already scheduled.
+	 */
+	private final AtomicBoolean writeScheduled = new AtomicBoolean(false);
+
+	/**
+	 * Task that writes the store file.
+	 */
+	private final Runnable writeTask = new Runnable() {
+
+		/**
+		 */
+		@Override public void run() {
+			writeScheduled.set(false);
+			write();
+		}
+	};
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of AnnotationHandlersStore with the specified parameters.
+	 *
+	 * @param file           File in which to store the handlers.
+	 * @param versionCode    Version code of the application.
+	 * @param lastUpdateTime Last update time of the application.
+	 * @param executor       Executor used to write the file.
+	 */
+	@VisibleForTesting AnnotationHandlersStore(
+			@NonNull final File file,
+			final long versionCode,
+			final long lastUpdateTime,
+			@NonNull final Executor executor
+	) {
+		this.file = file;
+		this.versionCode = versionCode;
+		this.lastUpdateTime = lastUpdateTime;
+		this.executor = executor;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates a new AnnotationHandlersStore with file placed in cache directory of the given
+	 * <var>context</var>.
+	 *
+	 * @param context  Context used to resolve location of the store file and version of the application.
+	 * @param executor Executor used to write the store file. Should execute on a background thread.
+	 * @return New store ready to be set via {@link AnnotationHandlers#setStore(AnnotationHandlersStore)}.
+	 */
+	@NonNull public static AnnotationHandlersStore create(@NonNull final Context context, @NonNull final Executor executor) {
+		long versionCode = 0;
+		long lastUpdateTime = 0;
+		try {
+			final PackageInfo packageInfo = context.getPackageManager().getPackageInfo(context.getPackageName(), 0);
+			versionCode = resolveVersionCode(packageInfo);
+			lastUpdateTime = packageInfo.lastUpdateTime;
+		} catch (PackageManager.NameNotFoundException e) {
+			// Should not happen for the package of the application itself. The store will be simply
+			// invalidated whenever it is read next time.
+			FragmentsLogging.w(TAG, "Failed to resolve version of the application.", e);
+		}
+		return new AnnotationHandlersStore(new File(context.getCacheDir(), FILE_NAME), versionCode, lastUpdateTime, executor);
+	}
+
+	/**
+	 * Resolves version code of the application from the given <var>packageInfo</var>.
+	 *
+	 * @param packageInfo Package info of the application.
+	 * @return Version code including its major part on Android Pie and newer.
+	 */
+	@SuppressWarnings("deprecation")
+	private static long resolveVersionCode(final PackageInfo packageInfo) {
+		return Build.VERSION.SDK_INT >= Build.VERSION_CODES.P ? packageInfo.getLongVersionCode() : packageInfo.versionCode;
+	}
+
+	/**
+	 * Registers the given <var>codec</var> for annotation handlers of the specified <var>classOfHandler</var>.
+	 * Only handlers for which there is codec registered are stored.
+	 *
+	 * @param classOfHandler Class of the handlers supported by the codec.
+	 * @param codec          The desired codec.
+	 * @param <H>            Type of the handlers.
+	 */
+	static <H extends AnnotationHandler> void registerCodec(@NonNull final Class<H> classOfHandler, @NonNull final HandlerCodec<H> codec) {
+		codecs.put(classOfHandler, codec);
+	}
+
+	/**
+	 * Creates a new annotation handler of the specified <var>classOfHandler</var> for the given
+	 * <var>annotatedClass</var> from values stored in this store.
+	 *
+	 * @param classOfHandler Class of the handler to create.
+	 * @param annotatedClass Class for which to create the handler.
+	 * @param <H>            Type of the handler.
+	 * @return Handler created from the stored values or {@code null} if there are no values stored
+	 * for the requested handler or they cannot be read.
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable <H extends AnnotationHandler> H readHandler(@NonNull final Class<H> classOfHandler, @NonNull final Class<?> annotatedClass) {
+		final HandlerCodec<H> codec = (HandlerCodec<H>) codecs.get(classOfHandler);
+		if (codec == null) {
+			return null;
+		}
+		if (!loaded) {
+			load();
+		}
+		final Entry entry = loadedEntries.get(createKey(classOfHandler, annotatedClass));
+		if (entry == null) {
+			return null;
+		}
+		try {
+			return codec.read(annotatedClass, new DataInputStream(new ByteArrayInputStream(entry.readValues(buffer))));
+		} catch (IOException | RuntimeException e) {
+			// Stored values are no longer valid, the handler will be instantiated via reflection
+			// and its values written again.
+			FragmentsLogging.w(TAG, "Failed to read stored annotation handler for(" + annotatedClass.getName() + ").", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Records values of the given annotation <var>handler</var> to be written into this store.
+	 * The store file is written asynchronously.
+	 *
+	 * @param classOfHandler Class of the handler.
+	 * @param annotatedClass Class for which has been the handler created.
+	 * @param handler        The handler of which values to record.
+	 * @param <H>            Type of the handler.
+	 */
+	@SuppressWarnings("unchecked")
+	<H extends AnnotationHandler> void recordHandler(@NonNull final Class<H> classOfHandler, @NonNull final Class<?> annotatedClass, @NonNull final H handler) {
+		final HandlerCodec<H> codec = (HandlerCodec<H>) codecs.get(classOfHandler);
+		if (codec == null) {
+			return;
+		}
+		// Values are encoded immediately so they are not affected by any later changes of the handler.
+		final ByteArrayOutputStream values = new ByteArrayOutputStream(64);
+		try {
+			codec.write(handler, new DataOutputStream(values));
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to record annotation handler for(" + annotatedClass.getName() + ").", e);
+			return;
+		}
+		recordedEntries.put(createKey(classOfHandler, annotatedClass), values.toByteArray());
+		if (writeScheduled.compareAndSet(false, true)) {
+			executor.execute(writeTask);
+		}
+	}
+
+	/**
+	 * Creates a key for handler of the specified <var>classOfHandler</var> and <var>annotatedClass</var>.
+	 */
+	private static String createKey(final Class<?> classOfHandler, final Class<?> annotatedClass) {
+		return classOfHandler.getName() + KEY_SEPARATOR + annotatedClass.getName();
+	}
+
+	/**
+	 * Loads entries of the stored handlers from the store file, if it exists and it has been
+	 * written for the current version of the application. The load is attempted only once.
+	 */
+	private void load() {
+		synchronized (lock) {
+			if (loaded) {
+				return;
+			}
+			try {
+				loadEntries();
+			} catch (IOException | RuntimeException e) {
+				// Store file is corrupted, it will be overwritten whenever a new handler is recorded.
+				FragmentsLogging.w(TAG, "Failed to load stored annotation handlers.", e);
+				this.buffer = null;
+				this.loadedEntries = Collections.emptyMap();
+			} finally {
+				this.loaded = true;
+			}
+		}
+	}
+
+	/**
+	 * Maps the store file into memory and reads entries of the stored handlers from it.
+	 *
+	 * @throws IOException If reading of the file fails.
+	 */
+	private void loadEntries() throws IOException {
+		if (!file.exists()) {
+			return;
+		}
+		final ByteBuffer fileBuffer;
+		try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+			final FileChannel channel = randomAccessFile.getChannel();
+			// The mapping remains valid also after the channel is closed.
+			fileBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (fileBuffer.getInt() != MAGIC ||
+				fileBuffer.getInt() != FORMAT_VERSION ||
+				fileBuffer.getLong() != versionCode ||
+				fileBuffer.getLong() != lastUpdateTime) {
+			// Written for different version of the application or with different format, the file
+			// will be overwritten whenever a new handler is recorded.
+			return;
+		}
+		final int entriesCount = fileBuffer.getInt();
+		final Map<String, Entry> entries = new HashMap<>(Math.max(entriesCount, 0) * 4 / 3 + 1);
+		for (int i = 0; i < entriesCount; i++) {
+			final byte[] key = new byte[fileBuffer.getShort() & 0xffff];
+			fileBuffer.get(key);
+			final int valuesLength = fileBuffer.getInt();
+			final int valuesOffset = fileBuffer.position();
+			fileBuffer.position(valuesOffset + valuesLength);
+			entries.put(new String(key, UTF_8), new Entry(valuesOffset, valuesLength));
+		}
+		this.buffer = fileBuffer;
+		this.loadedEntries = entries;
+	}
+
+	/**
+	 * Writes all loaded entries along with all recorded entries into the store file. The file is
+	 * first written into a temporary file which then replaces the current one.
+	 */
+	private void write() {
+		synchronized (writeLock) {
+			if (!loaded) {
+				load();
+			}
+			final Map<String, byte[]> entries = new LinkedHashMap<>();
+			for (final Map.Entry<String, Entry> loadedEntry : loadedEntries.entrySet()) {
+				entries.put(loadedEntry.getKey(), loadedEntry.getValue().readValues(buffer));
+			}
+			entries.putAll(recordedEntries);
+			final File temporaryFile = new File(file.getPath() + ".tmp");
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+				output.writeInt(MAGIC);
+				output.writeInt(FORMAT_VERSION);
+				output.writeLong(versionCode);
+				output.writeLong(lastUpdateTime);
+				output.writeInt(entries.size());
+				for (final Map.Entry<String, byte[]> entry : entries.entrySet()) {
+					final byte[] key = entry.getKey().getBytes(UTF_8);
+					output.writeShort(key.length);
+					output.write(key);
+					output.writeInt(entry.getValue().length);
+					output.write(entry.getValue());
+				}
+			} catch (IOException e) {
+				FragmentsLogging.w(TAG, "Failed to write annotation handlers store.", e);
+				if (!temporaryFile.delete()) {
+					FragmentsLogging.w(TAG, "Failed to delete temporary annotation handlers store.");
+				}
+				return;
+			}
+			if (!temporaryFile.renameTo(file)) {
+				FragmentsLogging.w(TAG, "Failed to replace annotation handlers store.");
+			}
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Entry describing location of values of a single handler within the loaded store file.
+	 */
+	private static final class Entry {
+
+		/**
+		 * Offset of the values within the file.
+		 */
+		final int offset;
+
+		/**
+		 * Length of the values.
+		 */
+		final int length;
+
+		/**
+		 * Creates a new instance of Entry with the specified parameters.
+		 *
+		 * @param offset Offset of the values within the file.
+		 * @param length Length of the values.
+		 */
+		Entry(final int offset, final int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		/**
+		 * Reads values described by this entry from the given <var>buffer</var>.
+		 *
+		 * @param buffer Buffer with content of the store file.
+		 * @return Copy of the values.
+		 */
+		byte[] readValues(final ByteBuffer buffer) {
+			final ByteBuffer values = buffer.duplicate();
+			values.position(offset);
+			final byte[] bytes = new byte[length];
+			values.get(bytes);
+			return bytes;
+		}
+	}
+}
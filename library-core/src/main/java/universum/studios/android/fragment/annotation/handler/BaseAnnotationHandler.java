@@ -19,6 +19,7 @@
 package universum.studios.android.fragment.annotation.handler;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 
 import androidx.annotation.NonNull;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
@@ -53,9 +54,18 @@ abstract class BaseAnnotationHandler implements AnnotationHandler {
 	 */
 
 	/**
-	 * Class for which has been this handler created.
+	 * Reference to class for which has been this handler created. The class is referenced only
+	 * weakly so a cached handler does not prevent its class from being garbage collected.
+	 *
+	 * @see AnnotationHandlers
+	 */
+	final WeakReference<Class<?>> annotatedClassReference;
+
+	/**
+	 * Metadata with all annotations of the annotated class. Obtained lazily when the first
+	 * annotation is requested.
 	 */
-	final Class<?> annotatedClass;
+	private AnnotatedClassMetadata metadata;
 
 	/*
 	 * Constructors ================================================================================
@@ -67,7 +77,7 @@ abstract class BaseAnnotationHandler implements AnnotationHandler {
 	 * @param annotatedClass The class of which annotations processing should the new handler handle.
 	 */
 	BaseAnnotationHandler(@NonNull final Class<?> annotatedClass) {
-		this.annotatedClass = annotatedClass;
+		this.annotatedClassReference = new WeakReference<Class<?>>(annotatedClass);
 	}
 
 	/*
@@ -75,21 +85,35 @@ abstract class BaseAnnotationHandler implements AnnotationHandler {
 	 */
 
 	/**
+	 * @throws IllegalStateException If the annotated class has been already garbage collected. This
+	 *                               may happen only if this handler is used while there is no instance
+	 *                               of its annotated class.
 	 */
 	@Override @NonNull public final Class<?> getAnnotatedClass() {
+		final Class<?> annotatedClass = annotatedClassReference.get();
+		if (annotatedClass == null) {
+			throw new IllegalStateException("Annotated class of " + getClass().getSimpleName() + " has been already garbage collected.");
+		}
 		return annotatedClass;
 	}
 
 	/**
-	 * Delegates to {@link FragmentAnnotations#obtainAnnotationFrom(Class, Class, Class)
-	 * FragmentAnnotations.obtainAnnotationFrom(classOfAnnotation, annotatedClass, null)}.
+	 * Finds the requested annotation within {@link AnnotatedClassMetadata} of the annotated class.
+	 * <p>
+	 * Result is the same as of {@link FragmentAnnotations#obtainAnnotationFrom(Class, Class, Class)
+	 * FragmentAnnotations.obtainAnnotationFrom(classOfAnnotation, annotatedClass, null)}, however
+	 * annotations of the annotated class are scanned only once and shared by all handlers created
+	 * for that class.
 	 *
 	 * @param classOfAnnotation Class of the annotation to find.
 	 * @param <A>               Type of the annotation to find.
 	 * @return Found annotation or {@code null} if there is no such annotation presented.
 	 */
 	final <A extends Annotation> A findAnnotation(final Class<A> classOfAnnotation) {
-		return FragmentAnnotations.obtainAnnotationFrom(classOfAnnotation, annotatedClass, null);
+		if (metadata == null) {
+			this.metadata = AnnotatedClassMetadata.obtainFor(getAnnotatedClass());
+		}
+		return metadata.get(classOfAnnotation);
 	}
 
 	/*
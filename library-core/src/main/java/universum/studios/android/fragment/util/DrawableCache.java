@@ -0,0 +1,268 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.util;
+
+import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+import android.util.LruCache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Bounded cache of {@link Drawable.ConstantState ConstantStates} of drawables obtained via
+ * {@link FragmentUtils#getCachedDrawable(Context, int)} and {@link FragmentUtils#getCachedVectorDrawable(Context, int)}.
+ * States are cached by resource id and theme (or resources if there is no theme) with which
+ * have been theirs drawables obtained, so drawables obtained for the same resource id and theme
+ * are created via {@link Drawable.ConstantState#newDrawable(Resources, Resources.Theme)} without
+ * parsing and inflating of the drawable resource again.
+ * <p>
+ * Each obtained drawable, including the one obtained when its state is cached, is a new instance
+ * created from the cached state, so the drawable which owns the cached state is never handed out
+ * and its mutations can not leak into other drawables. Entries of which theme (or resources) has
+ * been garbage collected are purged whenever the cache is accessed.
+ * <p>
+ * The cache is cleared whenever configuration of the application changes or the system requests
+ * to trim memory.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+final class DrawableCache implements ComponentCallbacks2 {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "DrawableCache";
+
+	/**
+	 * Maximum number of states that may be cached.
+	 */
+	@VisibleForTesting static final int MAX_SIZE = 32;
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Cache with constant states of drawables mapped to theirs keys.
+	 */
+	private final LruCache<Key, Drawable.ConstantState> states = new LruCache<>(MAX_SIZE);
+
+	/**
+	 * Queue with keys of cached states of which owners have been garbage collected.
+	 */
+	private final ReferenceQueue<Object> collectedOwners = new ReferenceQueue<>();
+
+	/**
+	 * Boolean flag indicating whether this cache has been already registered for callbacks of
+	 * the application.
+	 */
+	private final AtomicBoolean callbacksRegistered = new AtomicBoolean(false);
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains drawable with the specified <var>resId</var> using resources and theme of the given
+	 * <var>context</var>. If the drawable has been already obtained for the same theme, it is
+	 * created from its cached constant state.
+	 *
+	 * @param context Context of which resources and theme to use to obtain the drawable.
+	 * @param resId   Resource id of the desired drawable.
+	 * @param vector  {@code True} if the drawable is a vector drawable, {@code false} otherwise.
+	 * @return Instance of the requested drawable or {@code null} if the specified resource id is {@code 0}.
+	 * @throws Resources.NotFoundException If there is no drawable with the specified resource id.
+	 */
+	@Nullable Drawable get(@NonNull final Context context, @DrawableRes final int resId, final boolean vector) {
+		if (resId == 0) {
+			return null;
+		}
+		ensureCallbacksRegistered(context);
+		purgeCollectedKeys();
+		final Resources resources = context.getResources();
+		final Resources.Theme theme = context.getTheme();
+		final Object owner = theme == null ? resources : theme;
+		final Drawable.ConstantState state = states.get(new Key(resId, vector, owner, null));
+		if (state != null) {
+			return newDrawable(state, resources, theme);
+		}
+		final Drawable drawable = vector ?
+				FragmentUtils.getVectorDrawable(resources, resId, theme) :
+				FragmentUtils.getDrawable(resources, resId, theme);
+		final Drawable.ConstantState drawableState = drawable == null ? null : drawable.getConstantState();
+		if (drawableState == null) {
+			return drawable;
+		}
+		states.put(new Key(resId, vector, owner, collectedOwners), drawableState);
+		// The loaded drawable owns the cached state, so it is not handed out.
+		return newDrawable(drawableState, resources, theme);
+	}
+
+	/**
+	 * Creates a new drawable from the given <var>state</var> for the specified <var>resources</var>
+	 * and <var>theme</var>.
+	 *
+	 * @param state     The state from which to create the drawable.
+	 * @param resources Resources for which to create the drawable.
+	 * @param theme     Theme for which to create the drawable. May be {@code null}.
+	 * @return New drawable instance.
+	 */
+	@SuppressLint("NewApi")
+	private static Drawable newDrawable(final Drawable.ConstantState state, final Resources resources, final Resources.Theme theme) {
+		return FragmentUtils.ACCESS_LOLLIPOP ? state.newDrawable(resources, theme) : state.newDrawable(resources);
+	}
+
+	/**
+	 * Removes all cached states of which keys have been enqueued into {@link #collectedOwners}
+	 * because theirs owners have been garbage collected.
+	 */
+	private void purgeCollectedKeys() {
+		Reference<?> key;
+		while ((key = collectedOwners.poll()) != null) {
+			states.remove((Key) key);
+		}
+	}
+
+	/**
+	 * Registers this cache for callbacks of the application of the given <var>context</var> if it
+	 * has not been registered yet.
+	 *
+	 * @param context Context used to access the application context.
+	 */
+	private void ensureCallbacksRegistered(final Context context) {
+		if (callbacksRegistered.compareAndSet(false, true)) {
+			final Context applicationContext = context.getApplicationContext();
+			(applicationContext == null ? context : applicationContext).registerComponentCallbacks(this);
+		}
+	}
+
+	/**
+	 * Returns the number of states currently cached.
+	 *
+	 * @return Size of this cache.
+	 */
+	@VisibleForTesting int size() {
+		return states.size();
+	}
+
+	/**
+	 * Clears all cached states.
+	 */
+	void clear() {
+		states.evictAll();
+	}
+
+	/**
+	 */
+	@Override public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+		// Drawables may have configuration specific variants.
+		clear();
+	}
+
+	/**
+	 */
+	@Override public void onTrimMemory(final int level) {
+		if (level >= TRIM_MEMORY_RUNNING_LOW) {
+			clear();
+		}
+	}
+
+	/**
+	 */
+	@Override public void onLowMemory() {
+		clear();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Key of a cached state. Owner of the key (theme or resources) is compared by its identity and
+	 * it is referenced only weakly, so the cache does not retain any resources of destroyed contexts.
+	 */
+	private static final class Key extends WeakReference<Object> {
+
+		/**
+		 * Resource id of the drawable.
+		 */
+		final int resId;
+
+		/**
+		 * Boolean flag indicating whether the drawable is a vector drawable.
+		 */
+		final boolean vector;
+
+		/**
+		 * Precomputed hash code of this key.
+		 */
+		final int hashCode;
+
+		/**
+		 * Creates a new instance of Key with the specified parameters.
+		 *
+		 * @param resId  Resource id of the drawable.
+		 * @param vector {@code True} if the drawable is a vector drawable, {@code false} otherwise.
+		 * @param owner  Theme or resources for which is the drawable obtained.
+		 * @param queue  Queue into which to enqueue the key when its owner is garbage collected.
+		 *               May be {@code null} for keys used only for look up.
+		 */
+		Key(final int resId, final boolean vector, final Object owner, final ReferenceQueue<Object> queue) {
+			super(owner, queue);
+			this.resId = resId;
+			this.vector = vector;
+			this.hashCode = 31 * (31 * resId + (vector ? 1 : 0)) + System.identityHashCode(owner);
+		}
+
+		/**
+		 */
+		@Override public int hashCode() {
+			return hashCode;
+		}
+
+		/**
+		 */
+		@Override public boolean equals(@Nullable final Object other) {
+			if (other == this) return true;
+			if (other instanceof Key) {
+				final Key key = (Key) other;
+				final Object owner = get();
+				return resId == key.resId && vector == key.vector && owner != null && owner == key.get();
+			}
+			return false;
+		}
+	}
+}
@@ -69,6 +69,12 @@ public final class FragmentUtils {
 	 * Static members ==============================================================================
 	 */
 
+	/**
+	 * Cache with constant states of drawables obtained via {@link #getCachedDrawable(Context, int)}
+	 * and {@link #getCachedVectorDrawable(Context, int)}.
+	 */
+	private static final DrawableCache drawableCache = new DrawableCache();
+
 	/*
 	 * Members =====================================================================================
 	 */
@@ -243,6 +249,64 @@ public final class FragmentUtils {
 		else return ACCESS_LOLLIPOP ? resources.getDrawable(resId, theme) : resources.getDrawable(resId);
 	}
 
+	/**
+	 * Same as {@link #getVectorDrawable(Resources, int, Resources.Theme)} for resources and theme
+	 * of the given <var>context</var> except that the vector drawable is created from a cached
+	 * {@link Drawable.ConstantState} if it has been already obtained for the same theme before.
+	 * <p>
+	 * The returned drawable shares its constant state with other drawables obtained for the same
+	 * resource id and theme, so it needs to be {@link Drawable#mutate() mutated} before its state
+	 * is changed.
+	 *
+	 * @param context Context of which resources and theme to use to obtain the vector drawable.
+	 * @param resId   Resource id of the desired vector drawable to obtain.
+	 * @return Instance of the requested vector drawable or {@code null} if the specified resource
+	 * id is {@code 0}.
+	 *
+	 * @see #getCachedDrawable(Context, int)
+	 * @see #clearDrawableCache()
+	 */
+	@Nullable public static Drawable getCachedVectorDrawable(
+			@NonNull final Context context,
+			@DrawableRes final int resId
+	) throws Resources.NotFoundException {
+		return drawableCache.get(context, resId, true);
+	}
+
+	/**
+	 * Same as {@link #getDrawable(Resources, int, Resources.Theme)} for resources and theme of the
+	 * given <var>context</var> except that the drawable is created from a cached {@link Drawable.ConstantState}
+	 * if it has been already obtained for the same theme before.
+	 * <p>
+	 * The returned drawable shares its constant state with other drawables obtained for the same
+	 * resource id and theme, so it needs to be {@link Drawable#mutate() mutated} before its state
+	 * is changed.
+	 *
+	 * @param context Context of which resources and theme to use to obtain the drawable.
+	 * @param resId   Resource id of the desired drawable to obtain.
+	 * @return Instance of the requested drawable or {@code null} if the specified resource id is {@code 0}.
+	 *
+	 * @see #getCachedVectorDrawable(Context, int)
+	 * @see #clearDrawableCache()
+	 */
+	@Nullable public static Drawable getCachedDrawable(
+			@NonNull final Context context,
+			@DrawableRes final int resId
+	) throws Resources.NotFoundException {
+		return drawableCache.get(context, resId, false);
+	}
+
+	/**
+	 * Clears all constant states of drawables cached via {@link #getCachedDrawable(Context, int)}
+	 * and {@link #getCachedVectorDrawable(Context, int)}.
+	 * <p>
+	 * <b>Note</b>, that the cache is cleared automatically whenever configuration of the application
+	 * changes or the system requests to trim memory.
+	 */
+	public static void clearDrawableCache() {
+		drawableCache.clear();
+	}
+
 	/*
 	 * Inner classes ===============================================================================
 	 */
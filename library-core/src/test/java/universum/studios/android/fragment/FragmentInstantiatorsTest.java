@@ -0,0 +1,159 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.annotation.SuppressLint;
+
+import org.junit.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import androidx.annotation.NonNull;
+import androidx.fragment.app.Fragment;
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class FragmentInstantiatorsTest extends AndroidTestCase {
+
+	@Override public void afterTest() {
+		super.afterTest();
+		FragmentInstantiators.clear();
+	}
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInstantiationWithAccessibleConstructor() throws Exception {
+		// Arrange:
+		final Constructor<FragmentInstantiators> constructor = FragmentInstantiators.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		// Act:
+		constructor.newInstance();
+	}
+
+	@Test public void testInstantiate() {
+		// Act:
+		final TestFragment first = FragmentInstantiators.instantiate(TestFragment.class);
+		final TestFragment second = FragmentInstantiators.instantiate(TestFragment.class);
+		// Assert:
+		assertThat(first, is(instanceOf(TestFragment.class)));
+		assertThat(second, is(instanceOf(TestFragment.class)));
+		assertThat(second, is(not(sameInstance(first))));
+	}
+
+	@Test public void testInstantiateViaIndex() {
+		// Arrange:
+		final TestFragment fragment = new TestFragment();
+		final TestFragment namedFragment = new TestFragment();
+		FragmentInstantiators.registerIndex(new TestIndex(fragment, namedFragment));
+		// Act + Assert:
+		assertThat(FragmentInstantiators.instantiate(TestFragment.class), is(fragment));
+		assertThat(FragmentInstantiators.instantiate(getClass().getClassLoader(), TestFragment.class.getName()), is((Fragment) namedFragment));
+	}
+
+	@Test public void testInstantiateByClassName() {
+		// Act + Assert:
+		assertThat(
+				FragmentInstantiators.instantiate(getClass().getClassLoader(), TestFragment.class.getName()),
+				is(instanceOf(TestFragment.class))
+		);
+	}
+
+	@Test(expected = Fragment.InstantiationException.class)
+	public void testInstantiateByUnknownClassName() {
+		// Act:
+		FragmentInstantiators.instantiate(getClass().getClassLoader(), "universum.studios.android.fragment.UnknownFragment");
+	}
+
+	@Test(expected = Fragment.InstantiationException.class)
+	public void testInstantiateAbstractFragment() {
+		// Act:
+		FragmentInstantiators.instantiate(TestAbstractFragment.class);
+	}
+
+	@Test(expected = Fragment.InstantiationException.class)
+	public void testInstantiateNotPublicFragment() {
+		// Act:
+		FragmentInstantiators.instantiate(TestNotPublicFragment.class);
+	}
+
+	@Test(expected = Fragment.InstantiationException.class)
+	public void testInstantiateFragmentWithPrivateConstructor() {
+		// Act:
+		FragmentInstantiators.instantiate(TestFragmentWithPrivateConstructor.class);
+	}
+
+	@Test(expected = Fragment.InstantiationException.class)
+	public void testInstantiateFragmentWithFailingConstructor() {
+		// Act:
+		FragmentInstantiators.instantiate(TestFragmentWithFailingConstructor.class);
+	}
+
+	@Test public void testFactory() {
+		// Arrange:
+		final FragmentInstantiators.Factory factory = new FragmentInstantiators.Factory();
+		// Act + Assert:
+		assertThat(factory.instantiate(getClass().getClassLoader(), TestFragment.class.getName()), is(instanceOf(TestFragment.class)));
+	}
+
+	private static final class TestIndex implements FragmentInstantiatorsIndex {
+
+		private final Fragment fragment;
+		private final Fragment namedFragment;
+
+		TestIndex(final Fragment fragment, final Fragment namedFragment) {
+			this.fragment = fragment;
+			this.namedFragment = namedFragment;
+		}
+
+		@Override public Fragment instantiate(@NonNull final Class<?> fragmentClass) {
+			return fragmentClass == TestFragment.class ? fragment : null;
+		}
+
+		@Override public Fragment instantiate(@NonNull final String className) {
+			return TestFragment.class.getName().equals(className) ? namedFragment : null;
+		}
+	}
+
+	public static class TestFragment extends Fragment {}
+
+	public static abstract class TestAbstractFragment extends Fragment {}
+
+	static class TestNotPublicFragment extends Fragment {}
+
+	public static class TestFragmentWithPrivateConstructor extends Fragment {
+
+		@SuppressLint("ValidFragment")
+		private TestFragmentWithPrivateConstructor() {}
+	}
+
+	public static class TestFragmentWithFailingConstructor extends Fragment {
+
+		public TestFragmentWithFailingConstructor() {
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.os.Bundle;
+import android.view.View;
+import android.widget.TextView;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.fragment.app.Fragment;
+import androidx.fragment.app.FragmentManager;
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class SavedStateBudgetTest extends AndroidTestCase {
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override public void execute(@NonNull final Runnable command) {
+			command.run();
+		}
+	};
+
+	private static final int BUDGET = 1024;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInstantiationWithInvalidBudget() {
+		// Act:
+		new SavedStateBudget(0, null);
+	}
+
+	@Test public void testRegister() {
+		// Arrange:
+		final FragmentManager mockManager = mock(FragmentManager.class);
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, null);
+		// Act:
+		budget.register(mockManager);
+		budget.unregister(mockManager);
+		// Assert:
+		verify(mockManager).registerFragmentLifecycleCallbacks(budget, true);
+		verify(mockManager).unregisterFragmentLifecycleCallbacks(budget);
+		verifyNoMoreInteractions(mockManager);
+	}
+
+	@Test public void testGetBudget() {
+		// Act + Assert:
+		assertThat(new SavedStateBudget(BUDGET, null).getBudget(), is(BUDGET));
+	}
+
+	@Test public void testMeasureSize() {
+		// Arrange:
+		final Bundle bundle = new Bundle();
+		final int emptySize = SavedStateBudget.measureSize(bundle);
+		bundle.putByteArray("data", new byte[BUDGET]);
+		// Act + Assert:
+		assertThat(SavedStateBudget.measureSize(bundle) > emptySize + BUDGET, is(true));
+	}
+
+	@Test public void testSaveStateWithinBudget() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), DIRECT_EXECUTOR);
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, store);
+		final SavedStateBudget.Reporter mockReporter = mock(SavedStateBudget.Reporter.class);
+		budget.setReporter(mockReporter);
+		final Bundle outState = new Bundle();
+		outState.putString("title", "Title");
+		final int size = SavedStateBudget.measureSize(outState);
+		// Act:
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), new Fragment(), outState);
+		// Assert:
+		assertThat(outState.getString("title"), is("Title"));
+		assertThat(outState.containsKey(SavedStateBudget.BUNDLE_STORE_KEY), is(false));
+		verify(mockReporter).onStateSaved(Fragment.class, size, 0);
+		verifyNoMoreInteractions(mockReporter);
+	}
+
+	@Test public void testSaveStateIncludesViewState() {
+		// Arrange:
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, null);
+		final int[] reportedSize = new int[1];
+		budget.setReporter((fragmentClass, size, movedSize) -> reportedSize[0] = size);
+		final TextView view = new TextView(context());
+		view.setId(android.R.id.text1);
+		view.setFreezesText(true);
+		view.setText("Text of the view");
+		final Fragment fragment = new Fragment() {
+
+			@Override public View getView() {
+				return view;
+			}
+		};
+		final Bundle outState = new Bundle();
+		outState.putString("title", "Title");
+		final int size = SavedStateBudget.measureSize(outState);
+		// Act:
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), fragment, outState);
+		// Assert:
+		assertThat(reportedSize[0] > size, is(true));
+	}
+
+	@Test public void testSaveStateExceedingBudget() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), DIRECT_EXECUTOR);
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, store);
+		final Bundle outState = new Bundle();
+		outState.putString("title", "Title");
+		outState.putByteArray("content", new byte[BUDGET * 4]);
+		outState.putByteArray("android:view_state", new byte[BUDGET / 2]);
+		// Act:
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), new Fragment(), outState);
+		// Assert:
+		assertThat(outState.getString("title"), is("Title"));
+		assertThat(outState.containsKey("content"), is(false));
+		assertThat(outState.containsKey("android:view_state"), is(true));
+		final String key = outState.getString(SavedStateBudget.BUNDLE_STORE_KEY);
+		assertThat(key, is(notNullValue()));
+		final Bundle storedEntries = store.restore(key, null);
+		assertThat(storedEntries, is(notNullValue()));
+		assertThat(storedEntries.keySet().size(), is(1));
+		assertThat(storedEntries.getByteArray("content").length, is(BUDGET * 4));
+	}
+
+	@Test public void testSaveStateExceedingBudgetWithoutStore() {
+		// Arrange:
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, null);
+		final SavedStateBudget.Reporter mockReporter = mock(SavedStateBudget.Reporter.class);
+		budget.setReporter(mockReporter);
+		final Bundle outState = new Bundle();
+		outState.putByteArray("content", new byte[BUDGET * 4]);
+		final int size = SavedStateBudget.measureSize(outState);
+		// Act:
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), new Fragment(), outState);
+		// Assert:
+		assertThat(outState.containsKey("content"), is(true));
+		assertThat(outState.containsKey(SavedStateBudget.BUNDLE_STORE_KEY), is(false));
+		verify(mockReporter).onStateSaved(Fragment.class, size, 0);
+	}
+
+	@Test public void testRestoreMovedEntriesWhenFragmentIsCreated() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), DIRECT_EXECUTOR);
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, store);
+		final byte[] content = new byte[BUDGET * 4];
+		Arrays.fill(content, (byte) 7);
+		final Bundle outState = new Bundle();
+		outState.putString("title", "Title");
+		outState.putByteArray("content", content);
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), new Fragment(), outState);
+		// Act:
+		budget.onFragmentPreCreated(mock(FragmentManager.class), new Fragment(), outState);
+		// Assert:
+		assertThat(outState.containsKey(SavedStateBudget.BUNDLE_STORE_KEY), is(false));
+		assertThat(outState.getString("title"), is("Title"));
+		assertThat(outState.getByteArray("content"), is(content));
+	}
+
+	@Test public void testRestoreWhenStoredEntriesAreNoLongerAvailable() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), DIRECT_EXECUTOR);
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, store);
+		final Bundle savedState = new Bundle();
+		savedState.putString("title", "Title");
+		savedState.putString(SavedStateBudget.BUNDLE_STORE_KEY, "unknown");
+		// Act:
+		budget.onFragmentPreCreated(mock(FragmentManager.class), new Fragment(), savedState);
+		// Assert:
+		assertThat(savedState.containsKey(SavedStateBudget.BUNDLE_STORE_KEY), is(false));
+		assertThat(savedState.getString("title"), is("Title"));
+	}
+
+	@Test public void testSaveStateAgainDiscardsPreviouslyStoredEntries() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), DIRECT_EXECUTOR);
+		final SavedStateBudget budget = new SavedStateBudget(BUDGET, store);
+		final Fragment fragment = new Fragment();
+		final Bundle firstState = new Bundle();
+		firstState.putByteArray("content", new byte[BUDGET * 4]);
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), fragment, firstState);
+		final String firstKey = firstState.getString(SavedStateBudget.BUNDLE_STORE_KEY);
+		// Act:
+		budget.onFragmentSaveInstanceState(mock(FragmentManager.class), fragment, new Bundle());
+		// Assert:
+		assertThat(store.restore(firstKey, null), is(nullValue()));
+	}
+}
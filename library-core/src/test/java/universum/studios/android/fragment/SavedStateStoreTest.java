@@ -0,0 +1,171 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.os.Bundle;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class SavedStateStoreTest extends AndroidTestCase {
+
+	private QueueExecutor executor;
+	private File directory;
+
+	@Override public void beforeTest() {
+		super.beforeTest();
+		this.executor = new QueueExecutor();
+		this.directory = new File(context().getFilesDir(), SavedStateStore.DIRECTORY_NAME);
+		deleteDirectory();
+	}
+
+	@Override public void afterTest() {
+		super.afterTest();
+		deleteDirectory();
+	}
+
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void deleteDirectory() {
+		final File[] files = directory.listFiles();
+		if (files != null) {
+			for (final File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	@Test public void testStoreAndRestoreBeforeWritten() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		final Bundle entries = new Bundle();
+		entries.putString("content", "<html></html>");
+		// Act:
+		final String key = store.store(entries);
+		final Bundle restored = store.restore(key, getClass().getClassLoader());
+		// Assert:
+		assertThat(restored, is(notNullValue()));
+		assertThat(restored.getString("content"), is("<html></html>"));
+		assertThat(new File(directory, key).exists(), is(false));
+	}
+
+	@Test public void testStoreAndRestoreAfterWritten() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		final Bundle entries = new Bundle();
+		entries.putString("content", "<html></html>");
+		entries.putInt("position", 12);
+		// Act:
+		final String key = store.store(entries);
+		executor.runAll();
+		final Bundle restored = SavedStateStore.create(context(), executor).restore(key, getClass().getClassLoader());
+		// Assert:
+		assertThat(new File(directory, key).exists(), is(true));
+		assertThat(restored, is(notNullValue()));
+		assertThat(restored.getString("content"), is("<html></html>"));
+		assertThat(restored.getInt("position"), is(12));
+	}
+
+	@Test public void testStoreUsesUniqueKeys() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.store(new Bundle()), is(not(store.store(new Bundle()))));
+	}
+
+	@Test public void testRestoreUnknownKey() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.restore("unknown", null), is(nullValue()));
+	}
+
+	@Test public void testDiscardBeforeWritten() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		final String key = store.store(new Bundle());
+		// Act:
+		store.discard(key);
+		executor.runAll();
+		// Assert:
+		assertThat(store.restore(key, null), is(nullValue()));
+		assertThat(new File(directory, key).exists(), is(false));
+	}
+
+	@Test public void testDiscardAfterWritten() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		final String key = store.store(new Bundle());
+		executor.runAll();
+		// Act:
+		store.discard(key);
+		executor.runAll();
+		// Assert:
+		assertThat(store.restore(key, null), is(nullValue()));
+		assertThat(new File(directory, key).exists(), is(false));
+	}
+
+	@Test public void testDeleteStaleEntries() {
+		// Arrange:
+		final SavedStateStore store = SavedStateStore.create(context(), executor);
+		final String staleKey = store.store(new Bundle());
+		final String key = store.store(new Bundle());
+		executor.runAll();
+		final File staleFile = new File(directory, staleKey);
+		assertThat(staleFile.setLastModified(System.currentTimeMillis() - SavedStateStore.STALE_AGE - 60000), is(true));
+		// Act:
+		SavedStateStore.create(context(), executor);
+		executor.runAll();
+		// Assert:
+		assertThat(staleFile.exists(), is(false));
+		assertThat(new File(directory, key).exists(), is(true));
+	}
+
+	private static final class QueueExecutor implements Executor {
+
+		final Queue<Runnable> commands = new LinkedList<>();
+
+		@Override public void execute(@NonNull final Runnable command) {
+			commands.add(command);
+		}
+
+		void runAll() {
+			Runnable command;
+			while ((command = commands.poll()) != null) {
+				command.run();
+			}
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import universum.studios.android.test.AndroidTestCase;
+
+import static junit.framework.Assert.assertSame;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class AnnotatedClassCacheTest extends AndroidTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		// Assert:
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getCapacity(), is(AnnotatedClassCache.UNBOUNDED));
+		assertThat(cache.getHitCount(), is(0L));
+		assertThat(cache.getMissCount(), is(0L));
+		assertThat(cache.getEvictionCount(), is(0L));
+	}
+
+	@Test public void testObtain() {
+		// Arrange:
+		final CountingFactory factory = new CountingFactory();
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, factory);
+		// Act:
+		final Object value = cache.obtain(String.class, FirstComponent.class);
+		// Assert:
+		assertSame(value, cache.obtain(String.class, FirstComponent.class));
+		assertThat(factory.createdCount.get(), is(1));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getHitCount(), is(1L));
+		assertThat(cache.getMissCount(), is(1L));
+	}
+
+	@Test public void testObtainOfDifferentKeyTypes() {
+		// Arrange:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		// Act:
+		final Object value = cache.obtain(String.class, FirstComponent.class);
+		final Object secondValue = cache.obtain(Integer.class, FirstComponent.class);
+		// Assert:
+		assertThat(value, is(not(secondValue)));
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getMissCount(), is(2L));
+	}
+
+	@Test public void testObtainWithCapacityEvictsLeastRecentlyUsed() {
+		// Arrange:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		cache.setCapacity(2);
+		final Object firstValue = cache.obtain(String.class, FirstComponent.class);
+		final Object secondValue = cache.obtain(String.class, SecondComponent.class);
+		cache.obtain(String.class, FirstComponent.class);
+		// Act:
+		cache.obtain(String.class, ThirdComponent.class);
+		// Assert:
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getEvictionCount(), is(1L));
+		assertSame(firstValue, cache.obtain(String.class, FirstComponent.class));
+		assertThat(cache.obtain(String.class, SecondComponent.class) == secondValue, is(false));
+	}
+
+	@Test public void testObtainWithFailingFactory() {
+		// Arrange:
+		final FailingFactory factory = new FailingFactory();
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, factory);
+		cache.setCapacity(1);
+		// Act:
+		for (int i = 0; i < 2; i++) {
+			try {
+				cache.obtain(String.class, FirstComponent.class);
+			} catch (IllegalStateException e) {
+				// Expected.
+			}
+		}
+		// Assert:
+		assertThat(factory.createdCount.get(), is(2));
+		assertThat(cache.size(), is(0));
+		cache.obtain(String.class, SecondComponent.class);
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getEvictionCount(), is(0L));
+	}
+
+	@Test public void testSetCapacity() {
+		// Arrange:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		cache.obtain(String.class, FirstComponent.class);
+		cache.obtain(String.class, SecondComponent.class);
+		cache.obtain(String.class, ThirdComponent.class);
+		// Act:
+		cache.setCapacity(1);
+		// Assert:
+		assertThat(cache.getCapacity(), is(1));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getEvictionCount(), is(2L));
+	}
+
+	@Test public void testSetCapacityUnbounded() {
+		// Arrange:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		cache.setCapacity(1);
+		// Act:
+		cache.setCapacity(AnnotatedClassCache.UNBOUNDED);
+		cache.obtain(String.class, FirstComponent.class);
+		cache.obtain(String.class, SecondComponent.class);
+		// Assert:
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getEvictionCount(), is(0L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetCapacityNegative() {
+		// Act:
+		new AnnotatedClassCache<>(4, new CountingFactory()).setCapacity(-1);
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		cache.setCapacity(1);
+		final Object value = cache.obtain(String.class, FirstComponent.class);
+		cache.obtain(String.class, FirstComponent.class);
+		cache.obtain(String.class, SecondComponent.class);
+		// Act:
+		cache.clear();
+		// Assert:
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getCapacity(), is(1));
+		assertThat(cache.getHitCount(), is(0L));
+		assertThat(cache.getMissCount(), is(0L));
+		assertThat(cache.getEvictionCount(), is(0L));
+		assertThat(cache.obtain(String.class, FirstComponent.class) == value, is(false));
+	}
+
+	@Test public void testReleaseOfCollectedClassLoader() throws Exception {
+		// Arrange:
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new CountingFactory());
+		final WeakReference<ClassLoader> loaderReference = obtainForIsolatedClass(cache);
+		// Act:
+		awaitCollected(loaderReference);
+		// Assert:
+		assertThat(loaderReference.get() == null, is(true));
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getEvictionCount(), is(1L));
+	}
+
+	@Test public void testReleaseOfClassLoaderReferencedByValueAfterEviction() throws Exception {
+		// Arrange:
+		// Value referencing its annotated class, like handler of a fragment factory referencing
+		// classes of its fragments, keeps the class loader reachable until it is evicted.
+		final AnnotatedClassCache<Object> cache = new AnnotatedClassCache<>(4, new ReferencingFactory());
+		cache.setCapacity(1);
+		final WeakReference<ClassLoader> loaderReference = obtainForIsolatedClass(cache);
+		awaitCollected(loaderReference);
+		assertThat(loaderReference.get() == null, is(false));
+		assertThat(cache.size(), is(1));
+		// Act:
+		cache.obtain(String.class, FirstComponent.class);
+		awaitCollected(loaderReference);
+		// Assert:
+		assertThat(loaderReference.get() == null, is(true));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getEvictionCount(), is(1L));
+	}
+
+	private static WeakReference<ClassLoader> obtainForIsolatedClass(final AnnotatedClassCache<Object> cache) throws Exception {
+		final ClassLoader loader = new IsolatedClassLoader(AnnotatedClassCacheTest.class.getClassLoader());
+		final Class<?> isolatedClass = loader.loadClass(IsolatedComponent.class.getName());
+		assertThat(isolatedClass == IsolatedComponent.class, is(false));
+		cache.obtain(String.class, isolatedClass);
+		return new WeakReference<>(loader);
+	}
+
+	private static void awaitCollected(final WeakReference<?> reference) throws InterruptedException {
+		for (int i = 0; i < 10 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+	}
+
+	private static final class CountingFactory implements AnnotatedClassCache.ValueFactory<Object> {
+
+		final AtomicInteger createdCount = new AtomicInteger();
+
+		@Override @NonNull public Object createValue(@NonNull final Class<?> keyType, @NonNull final Class<?> annotatedClass) {
+			createdCount.incrementAndGet();
+			return new Object();
+		}
+	}
+
+	private static final class FailingFactory implements AnnotatedClassCache.ValueFactory<Object> {
+
+		final AtomicInteger createdCount = new AtomicInteger();
+
+		@Override @NonNull public Object createValue(@NonNull final Class<?> keyType, @NonNull final Class<?> annotatedClass) {
+			createdCount.incrementAndGet();
+			if (annotatedClass == FirstComponent.class) {
+				throw new IllegalStateException();
+			}
+			return new Object();
+		}
+	}
+
+	private static final class ReferencingFactory implements AnnotatedClassCache.ValueFactory<Object> {
+
+		@Override @NonNull public Object createValue(@NonNull final Class<?> keyType, @NonNull final Class<?> annotatedClass) {
+			return new Object[]{annotatedClass};
+		}
+	}
+
+	private static final class IsolatedClassLoader extends ClassLoader {
+
+		IsolatedClassLoader(final ClassLoader parent) {
+			super(parent);
+		}
+
+		@Override protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+			if (!IsolatedComponent.class.getName().equals(name)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				final Class<?> loadedClass = findLoadedClass(name);
+				return loadedClass == null ? defineIsolatedClass(name) : loadedClass;
+			}
+		}
+
+		private Class<?> defineIsolatedClass(final String name) throws ClassNotFoundException {
+			try (InputStream input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+				final ByteArrayOutputStream output = new ByteArrayOutputStream();
+				final byte[] buffer = new byte[1024];
+				int read;
+				while ((read = input.read(buffer)) != -1) {
+					output.write(buffer, 0, read);
+				}
+				final byte[] bytes = output.toByteArray();
+				return defineClass(name, bytes, 0, bytes.length);
+			} catch (IOException e) {
+				throw new ClassNotFoundException(name, e);
+			}
+		}
+	}
+
+	public static final class IsolatedComponent {}
+
+	private static final class FirstComponent {}
+
+	private static final class SecondComponent {}
+
+	private static final class ThirdComponent {}
+}
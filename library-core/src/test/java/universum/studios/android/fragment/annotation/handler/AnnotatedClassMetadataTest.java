@@ -0,0 +1,121 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2016 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import org.junit.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import universum.studios.android.test.AndroidTestCase;
+
+import static junit.framework.Assert.assertSame;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class AnnotatedClassMetadataTest extends AndroidTestCase {
+
+	@Override public void beforeTest() {
+		super.beforeTest();
+		// Ensure that we have a clean slate before each test.
+		AnnotatedClassMetadata.clear();
+	}
+
+	@Test public void testObtainFor() {
+		// Act:
+		final AnnotatedClassMetadata metadata = AnnotatedClassMetadata.obtainFor(AnnotatedComponent.class);
+		// Assert:
+		assertThat(metadata, is(notNullValue()));
+		assertThat(metadata.size(), is(2));
+		assertThat(metadata.get(InheritedAnnotation.class).value(), is(1));
+		assertThat(metadata.get(ComponentAnnotation.class), is(notNullValue()));
+	}
+
+	@Test public void testObtainForAlreadyObtained() {
+		// Arrange:
+		final AnnotatedClassMetadata metadata = AnnotatedClassMetadata.obtainFor(AnnotatedComponent.class);
+		// Act + Assert:
+		assertSame(metadata, AnnotatedClassMetadata.obtainFor(AnnotatedComponent.class));
+	}
+
+	@Test public void testObtainForClassWithInheritedAnnotations() {
+		// Act:
+		final AnnotatedClassMetadata metadata = AnnotatedClassMetadata.obtainFor(ChildComponent.class);
+		// Assert:
+		assertThat(metadata.size(), is(1));
+		assertThat(metadata.get(InheritedAnnotation.class).value(), is(1));
+		assertThat(metadata.get(ComponentAnnotation.class), is(nullValue()));
+	}
+
+	@Test public void testObtainForClassWithOverriddenInheritedAnnotation() {
+		// Act:
+		final AnnotatedClassMetadata metadata = AnnotatedClassMetadata.obtainFor(OverridingChildComponent.class);
+		// Assert:
+		assertThat(metadata.size(), is(1));
+		assertThat(metadata.get(InheritedAnnotation.class).value(), is(2));
+	}
+
+	@Test public void testObtainForClassWithoutAnnotations() {
+		// Act:
+		final AnnotatedClassMetadata metadata = AnnotatedClassMetadata.obtainFor(Component.class);
+		// Assert:
+		assertThat(metadata.size(), is(0));
+		assertThat(metadata.get(InheritedAnnotation.class), is(nullValue()));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final AnnotatedClassMetadata metadata = AnnotatedClassMetadata.obtainFor(AnnotatedComponent.class);
+		// Act:
+		AnnotatedClassMetadata.clear();
+		// Assert:
+		assertThat(AnnotatedClassMetadata.obtainFor(AnnotatedComponent.class) == metadata, is(false));
+	}
+
+	@Inherited
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	private @interface InheritedAnnotation {
+
+		int value();
+	}
+
+	@Target(ElementType.TYPE)
+	@Retention(RetentionPolicy.RUNTIME)
+	private @interface ComponentAnnotation {}
+
+	private static final class Component {}
+
+	@InheritedAnnotation(1)
+	@ComponentAnnotation
+	private static class AnnotatedComponent {}
+
+	private static class ChildComponent extends AnnotatedComponent {}
+
+	@InheritedAnnotation(2)
+	private static final class OverridingChildComponent extends AnnotatedComponent {}
+}
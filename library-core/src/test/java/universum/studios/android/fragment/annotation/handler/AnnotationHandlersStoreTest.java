@@ -0,0 +1,206 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2016 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.annotation.handler;
+
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.NonNull;
+import universum.studios.android.fragment.annotation.FragmentAnnotations;
+import universum.studios.android.test.AndroidTestCase;
+
+import static junit.framework.Assert.assertSame;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class AnnotationHandlersStoreTest extends AndroidTestCase {
+
+	private static final Executor DIRECT_EXECUTOR = new Executor() {
+
+		@Override public void execute(@NonNull final Runnable command) {
+			command.run();
+		}
+	};
+
+	private File file;
+
+	@Override public void beforeTest() {
+		super.beforeTest();
+		FragmentAnnotations.setEnabled(true);
+		AnnotationHandlers.clearHandlers();
+		AnnotationHandlersStore.registerCodec(TestHandler.class, new TestHandlerCodec());
+		TestHandlerCodec.READS_COUNT.set(0);
+		this.file = new File(context().getCacheDir(), AnnotationHandlersStore.FILE_NAME);
+		// Ensure that we have a clean slate before each test.
+		file.delete();
+	}
+
+	@Override public void afterTest() {
+		super.afterTest();
+		AnnotationHandlers.setStore(null);
+		AnnotationHandlers.clearHandlers();
+		file.delete();
+	}
+
+	@Test public void testCreate() {
+		// Act:
+		final AnnotationHandlersStore store = AnnotationHandlersStore.create(context(), DIRECT_EXECUTOR);
+		// Assert:
+		assertThat(store, is(notNullValue()));
+		assertThat(store.readHandler(TestHandler.class, TestComponent.class), is(nullValue()));
+	}
+
+	@Test public void testReadHandlerWhenNothingIsStored() {
+		// Arrange:
+		final AnnotationHandlersStore store = new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR);
+		// Act + Assert:
+		assertThat(store.readHandler(TestHandler.class, TestComponent.class), is(nullValue()));
+	}
+
+	@Test public void testRecordAndReadHandler() {
+		// Arrange:
+		new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR).recordHandler(TestHandler.class, TestComponent.class, new TestHandler(TestComponent.class, 12));
+		// Act:
+		final TestHandler handler = new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR).readHandler(TestHandler.class, TestComponent.class);
+		// Assert:
+		assertThat(handler, is(notNullValue()));
+		assertSame(handler.getAnnotatedClass(), TestComponent.class);
+		assertThat(handler.value, is(12));
+	}
+
+	@Test public void testRecordHandlerKeepsPreviouslyStoredHandlers() {
+		// Arrange:
+		new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR).recordHandler(TestHandler.class, TestComponent.class, new TestHandler(TestComponent.class, 1));
+		final AnnotationHandlersStore store = new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR);
+		store.readHandler(TestHandler.class, TestComponent.class);
+		// Act:
+		store.recordHandler(TestHandler.class, SecondTestComponent.class, new TestHandler(SecondTestComponent.class, 2));
+		// Assert:
+		final AnnotationHandlersStore reloadedStore = new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR);
+		assertThat(reloadedStore.readHandler(TestHandler.class, TestComponent.class).value, is(1));
+		assertThat(reloadedStore.readHandler(TestHandler.class, SecondTestComponent.class).value, is(2));
+	}
+
+	@Test public void testReadHandlerStoredForDifferentVersion() {
+		// Arrange:
+		new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR).recordHandler(TestHandler.class, TestComponent.class, new TestHandler(TestComponent.class, 1));
+		// Act + Assert:
+		assertThat(new AnnotationHandlersStore(file, 2, 1, DIRECT_EXECUTOR).readHandler(TestHandler.class, TestComponent.class), is(nullValue()));
+		assertThat(new AnnotationHandlersStore(file, 1, 2, DIRECT_EXECUTOR).readHandler(TestHandler.class, TestComponent.class), is(nullValue()));
+	}
+
+	@Test public void testReadHandlerFromCorruptedFile() throws Exception {
+		// Arrange:
+		try (FileOutputStream output = new FileOutputStream(file)) {
+			output.write(new byte[]{1, 2, 3});
+		}
+		// Act + Assert:
+		assertThat(new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR).readHandler(TestHandler.class, TestComponent.class), is(nullValue()));
+	}
+
+	@Test public void testReadHandlerWithoutCodec() {
+		// Arrange:
+		final AnnotationHandlersStore store = new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR);
+		// Act:
+		store.recordHandler(HandlerWithoutCodec.class, TestComponent.class, new HandlerWithoutCodec(TestComponent.class));
+		// Assert:
+		assertThat(file.exists(), is(false));
+		assertThat(store.readHandler(HandlerWithoutCodec.class, TestComponent.class), is(nullValue()));
+	}
+
+	@Test public void testObtainHandlerFromStore() {
+		// Arrange:
+		AnnotationHandlers.setStore(new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR));
+		final TestHandler instantiatedHandler = AnnotationHandlers.obtainHandler(TestHandler.class, TestComponent.class);
+		AnnotationHandlers.clearHandlers();
+		AnnotationHandlers.setStore(new AnnotationHandlersStore(file, 1, 1, DIRECT_EXECUTOR));
+		// Act:
+		final TestHandler handler = AnnotationHandlers.obtainHandler(TestHandler.class, TestComponent.class);
+		// Assert:
+		assertThat(handler, is(notNullValue()));
+		assertThat(handler, is(not(instantiatedHandler)));
+		assertThat(handler.value, is(TestHandler.RESOLVED_VALUE));
+		assertThat(TestHandlerCodec.READS_COUNT.get(), is(1));
+	}
+
+	private static final class TestHandler implements AnnotationHandler {
+
+		static final int RESOLVED_VALUE = 99;
+
+		private final Class<?> annotatedClass;
+		final int value;
+
+		public TestHandler(final Class<?> annotatedClass) {
+			this(annotatedClass, RESOLVED_VALUE);
+		}
+
+		TestHandler(final Class<?> annotatedClass, final int value) {
+			this.annotatedClass = annotatedClass;
+			this.value = value;
+		}
+
+		@Override @NonNull public Class<?> getAnnotatedClass() {
+			return annotatedClass;
+		}
+	}
+
+	private static final class TestHandlerCodec implements AnnotationHandlersStore.HandlerCodec<TestHandler> {
+
+		static final AtomicInteger READS_COUNT = new AtomicInteger();
+
+		@Override public void write(@NonNull final TestHandler handler, @NonNull final DataOutput output) throws IOException {
+			output.writeInt(handler.value);
+		}
+
+		@Override @NonNull public TestHandler read(@NonNull final Class<?> annotatedClass, @NonNull final DataInput input) throws IOException {
+			READS_COUNT.incrementAndGet();
+			return new TestHandler(annotatedClass, input.readInt());
+		}
+	}
+
+	private static final class HandlerWithoutCodec implements AnnotationHandler {
+
+		private final Class<?> annotatedClass;
+
+		public HandlerWithoutCodec(final Class<?> annotatedClass) {
+			this.annotatedClass = annotatedClass;
+		}
+
+		@Override @NonNull public Class<?> getAnnotatedClass() {
+			return annotatedClass;
+		}
+	}
+
+	private static final class TestComponent {}
+
+	private static final class SecondTestComponent {}
+}
@@ -20,12 +20,24 @@ package universum.studios.android.fragment.annotation.handler;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.test.AndroidTestCase;
 
 import static junit.framework.Assert.assertSame;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -41,6 +53,8 @@ public final class AnnotationHandlersTest extends AndroidTestCase {
 		FragmentAnnotations.setEnabled(true);
 		// Ensure that we have a clean slate before each test.
 		AnnotationHandlers.clearHandlers();
+		AnnotationHandlers.clearIndexes();
+		AnnotationHandlers.setCacheCapacity(0);
 	}
 
 	@Test(expected = InstantiationException.class)
@@ -82,12 +96,81 @@ public final class AnnotationHandlersTest extends AndroidTestCase {
 		assertThat(handler, is(AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class)));
 	}
 
-	@Test(expected = ClassCastException.class)
-	public void testObtainHandlerOfDifferentType() {
+	@Test public void testObtainHandlerOfDifferentType() {
 		// Arrange:
-		AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		final Handler handler = AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
 		// Act:
-		AnnotationHandlers.obtainHandler(SecondHandler.class, AnnotatedComponent.class);
+		final SecondHandler secondHandler = AnnotationHandlers.obtainHandler(SecondHandler.class, AnnotatedComponent.class);
+		// Assert:
+		assertThat(secondHandler, is(notNullValue()));
+		assertThat(secondHandler, is(not(instanceOf(Handler.class))));
+		assertSame(secondHandler.getAnnotatedClass(), AnnotatedComponent.class);
+		assertSame(handler, AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class));
+		assertSame(secondHandler, AnnotationHandlers.obtainHandler(SecondHandler.class, AnnotatedComponent.class));
+	}
+
+	@Test public void testObtainHandlerConcurrently() throws Exception {
+		// Arrange:
+		final int threadsCount = 8;
+		final CountDownLatch startLatch = new CountDownLatch(1);
+		final CountDownLatch finishLatch = new CountDownLatch(threadsCount);
+		final AtomicReferenceArray<CountingHandler> handlers = new AtomicReferenceArray<>(threadsCount);
+		CountingHandler.INSTANCES_COUNT.set(0);
+		for (int i = 0; i < threadsCount; i++) {
+			final int index = i;
+			new Thread(new Runnable() {
+
+				@Override public void run() {
+					try {
+						startLatch.await();
+						handlers.set(index, AnnotationHandlers.obtainHandler(CountingHandler.class, AnnotatedComponent.class));
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						finishLatch.countDown();
+					}
+				}
+			}).start();
+		}
+		// Act:
+		startLatch.countDown();
+		// Assert:
+		assertThat(finishLatch.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(CountingHandler.INSTANCES_COUNT.get(), is(1));
+		for (int i = 0; i < threadsCount; i++) {
+			assertThat(handlers.get(i), is(notNullValue()));
+			assertSame(handlers.get(0), handlers.get(i));
+		}
+	}
+
+	@Test public void testObtainHandlerFromRegisteredIndex() {
+		// Arrange:
+		final Handler indexedHandler = new Handler(AnnotatedComponent.class);
+		AnnotationHandlers.registerIndex(new AnnotationHandlersIndex() {
+
+			@Override @Nullable public AnnotationHandler createHandler(@NonNull final Class<? extends AnnotationHandler> classOfHandler, @NonNull final Class<?> annotatedClass) {
+				return classOfHandler == Handler.class ? indexedHandler : null;
+			}
+		});
+		// Act:
+		final Handler handler = AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		// Assert:
+		assertSame(indexedHandler, handler);
+	}
+
+	@Test public void testObtainHandlerNotProvidedByRegisteredIndex() {
+		// Arrange:
+		AnnotationHandlers.registerIndex(new AnnotationHandlersIndex() {
+
+			@Override @Nullable public AnnotationHandler createHandler(@NonNull final Class<? extends AnnotationHandler> classOfHandler, @NonNull final Class<?> annotatedClass) {
+				return null;
+			}
+		});
+		// Act:
+		final Handler handler = AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		// Assert:
+		assertThat(handler, is(notNullValue()));
+		assertSame(handler.getAnnotatedClass(), AnnotatedComponent.class);
 	}
 
 	@Test public void testObtainHandlerWhenAnnotationsAreDisabled() {
@@ -98,6 +181,117 @@ public final class AnnotationHandlersTest extends AndroidTestCase {
 		FragmentAnnotations.setEnabled(true);
 	}
 
+	@Test public void testPrewarm() throws Exception {
+		// Arrange:
+		AnnotationHandlers.registerHandlerType(PrewarmedComponent.class, Handler.class);
+		final AtomicInteger callbackHandlersCount = new AtomicInteger(-1);
+		// Act:
+		final Future<Integer> future = AnnotationHandlers.prewarm(
+				new DirectExecutor(),
+				Arrays.<Class<?>>asList(PrewarmedComponent.class, ChildPrewarmedComponent.class, AnnotatedComponent.class),
+				new AnnotationHandlers.PrewarmCallback() {
+
+					@Override public void onPrewarmFinished(final int handlersCount) {
+						callbackHandlersCount.set(handlersCount);
+					}
+				}
+		);
+		// Assert:
+		assertThat(future.isDone(), is(true));
+		assertThat(future.get(), is(2));
+		assertThat(callbackHandlersCount.get(), is(2));
+		final Handler handler = AnnotationHandlers.obtainHandler(Handler.class, ChildPrewarmedComponent.class);
+		assertThat(handler, is(notNullValue()));
+		assertSame(handler.getAnnotatedClass(), ChildPrewarmedComponent.class);
+	}
+
+	@Test public void testPrewarmUsesMostSpecificHandlerType() throws Exception {
+		// Arrange:
+		AnnotationHandlers.registerHandlerType(PrewarmedComponent.class, Handler.class);
+		AnnotationHandlers.registerHandlerType(ChildPrewarmedComponent.class, CountingHandler.class);
+		CountingHandler.INSTANCES_COUNT.set(0);
+		// Act:
+		final Future<Integer> future = AnnotationHandlers.prewarm(
+				new DirectExecutor(),
+				Collections.<Class<?>>singletonList(ChildPrewarmedComponent.class)
+		);
+		// Assert:
+		assertThat(future.get(), is(1));
+		assertThat(CountingHandler.INSTANCES_COUNT.get(), is(1));
+	}
+
+	@Test public void testPrewarmWithHandlerThatFailsToBeInstantiated() throws Exception {
+		// Arrange:
+		AnnotationHandlers.registerHandlerType(FailingComponent.class, PrivateHandler.class);
+		// Act:
+		final Future<Integer> future = AnnotationHandlers.prewarm(
+				new DirectExecutor(),
+				Collections.<Class<?>>singletonList(FailingComponent.class)
+		);
+		// Assert:
+		assertThat(future.get(), is(0));
+	}
+
+	@Test public void testGetCacheStats() {
+		// Arrange:
+		AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		AnnotationHandlers.obtainHandler(SecondHandler.class, AnnotatedComponent.class);
+		// Act:
+		final AnnotationHandlers.CacheStats stats = AnnotationHandlers.getCacheStats();
+		// Assert:
+		assertThat(stats.hitCount, is(2L));
+		assertThat(stats.missCount, is(2L));
+		assertThat(stats.evictionCount, is(0L));
+		assertThat(stats.size, is(2));
+		assertThat(stats.capacity, is(0));
+		assertThat(stats.hitRate(), is(0.5));
+	}
+
+	@Test public void testGetCacheStatsWithoutRequests() {
+		// Act:
+		final AnnotationHandlers.CacheStats stats = AnnotationHandlers.getCacheStats();
+		// Assert:
+		assertThat(stats.hitCount, is(0L));
+		assertThat(stats.missCount, is(0L));
+		assertThat(stats.size, is(0));
+		assertThat(stats.hitRate(), is(1.0));
+	}
+
+	@Test public void testSetCacheCapacity() {
+		// Arrange:
+		AnnotationHandlers.setCacheCapacity(1);
+		final Handler handler = AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		// Act:
+		final Handler secondHandler = AnnotationHandlers.obtainHandler(Handler.class, PrewarmedComponent.class);
+		// Assert:
+		final AnnotationHandlers.CacheStats stats = AnnotationHandlers.getCacheStats();
+		assertThat(stats.size, is(1));
+		assertThat(stats.capacity, is(1));
+		assertThat(stats.evictionCount, is(1L));
+		assertSame(secondHandler, AnnotationHandlers.obtainHandler(Handler.class, PrewarmedComponent.class));
+		assertThat(AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class) == handler, is(false));
+	}
+
+	@Test public void testSetCacheCapacityWhenExceeded() {
+		// Arrange:
+		AnnotationHandlers.obtainHandler(Handler.class, AnnotatedComponent.class);
+		AnnotationHandlers.obtainHandler(SecondHandler.class, AnnotatedComponent.class);
+		AnnotationHandlers.obtainHandler(Handler.class, PrewarmedComponent.class);
+		// Act:
+		AnnotationHandlers.setCacheCapacity(2);
+		// Assert:
+		assertThat(AnnotationHandlers.getCacheStats().size, is(2));
+		assertThat(AnnotationHandlers.getCacheStats().evictionCount, is(1L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetCacheCapacityNegative() {
+		// Act:
+		AnnotationHandlers.setCacheCapacity(-1);
+	}
+
 	@Test public void testClearHandlersWhenAlreadyCleared() {
 		// Act:
 		AnnotationHandlers.clearHandlers();
@@ -130,6 +324,22 @@ public final class AnnotationHandlersTest extends AndroidTestCase {
 		}
 	}
 
+	private static final class CountingHandler implements AnnotationHandler {
+
+		static final AtomicInteger INSTANCES_COUNT = new AtomicInteger();
+
+		private final Class<?> annotatedClass;
+
+		public CountingHandler(final Class<?> annotatedClass) {
+			this.annotatedClass = annotatedClass;
+			INSTANCES_COUNT.incrementAndGet();
+		}
+
+		@Override @NonNull public Class<?> getAnnotatedClass() {
+			return annotatedClass;
+		}
+	}
+
 	private static abstract class AbstractHandler implements AnnotationHandler {}
 
 	private static abstract class PrivateHandler implements AnnotationHandler {
@@ -137,8 +347,21 @@ public final class AnnotationHandlersTest extends AndroidTestCase {
 		private PrivateHandler() {}
 	}
 
+	private static final class DirectExecutor implements Executor {
+
+		@Override public void execute(@NonNull final Runnable command) {
+			command.run();
+		}
+	}
+
 	private @interface ComponentAnnotation {}
 
 	@ComponentAnnotation
 	private static final class AnnotatedComponent {}
-}
\ No newline at end of file
+
+	private static class PrewarmedComponent {}
+
+	private static class ChildPrewarmedComponent extends PrewarmedComponent {}
+
+	private static final class FailingComponent {}
+}
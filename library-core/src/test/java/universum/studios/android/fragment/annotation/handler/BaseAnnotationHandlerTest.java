@@ -51,8 +51,8 @@ public final class BaseAnnotationHandlerTest extends AndroidTestCase {
 		// Act:
 		final TestHandler handler = new TestHandler(Fragment.class);
 		// Assert:
-		assertThat(handler.annotatedClass, is(not(nullValue())));
-		assertSame(handler.annotatedClass, Fragment.class);
+		assertThat(handler.annotatedClassReference.get(), is(not(nullValue())));
+		assertSame(handler.annotatedClassReference.get(), Fragment.class);
 	}
 
     @Test public void testGetAnnotatedClass() {
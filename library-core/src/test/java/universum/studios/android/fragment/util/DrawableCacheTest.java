@@ -0,0 +1,115 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment.util;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.graphics.drawable.Drawable;
+import android.view.ContextThemeWrapper;
+
+import org.junit.Test;
+
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class DrawableCacheTest extends AndroidTestCase {
+
+	@Test public void testGetForZeroResource() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		// Act + Assert:
+		assertThat(cache.get(context(), 0, false), is(nullValue()));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testGetCachesConstantState() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		// Act:
+		final Drawable first = cache.get(context(), android.R.drawable.ic_delete, false);
+		final Drawable second = cache.get(context(), android.R.drawable.ic_delete, false);
+		// Assert:
+		assertThat(first, is(notNullValue()));
+		assertThat(second, is(notNullValue()));
+		assertThat(second, is(not(sameInstance(first))));
+		assertThat(second.getConstantState(), is(sameInstance(first.getConstantState())));
+		assertThat(cache.size(), is(1));
+	}
+
+	@Test public void testGetForDifferentThemes() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		final ContextThemeWrapper themedContext = new ContextThemeWrapper(context(), android.R.style.Theme_Black);
+		// Act:
+		cache.get(context(), android.R.drawable.ic_delete, false);
+		cache.get(themedContext, android.R.drawable.ic_delete, false);
+		// Assert:
+		assertThat(cache.size(), is(2));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		cache.get(context(), android.R.drawable.ic_delete, false);
+		// Act:
+		cache.clear();
+		// Assert:
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testOnConfigurationChanged() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		cache.get(context(), android.R.drawable.ic_delete, false);
+		// Act:
+		cache.onConfigurationChanged(new Configuration());
+		// Assert:
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testOnTrimMemory() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		cache.get(context(), android.R.drawable.ic_delete, false);
+		// Act + Assert:
+		cache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+		assertThat(cache.size(), is(1));
+		cache.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testOnLowMemory() {
+		// Arrange:
+		final DrawableCache cache = new DrawableCache();
+		cache.get(context(), android.R.drawable.ic_delete, false);
+		// Act:
+		cache.onLowMemory();
+		// Assert:
+		assertThat(cache.size(), is(0));
+	}
+}
@@ -19,6 +19,7 @@
 package universum.studios.android.fragment.util;
 
 import android.content.Context;
+import android.graphics.drawable.Drawable;
 import android.os.Build;
 import android.transition.Fade;
 import android.transition.Transition;
@@ -35,6 +36,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -102,4 +104,23 @@ public final class FragmentUtilsTest extends AndroidTestCase {
 		// Act + Assert:
 		assertThat(FragmentUtils.inflateTransition(mockContext, android.R.anim.fade_in), is(nullValue()));
 	}
+
+	@Test public void testGetCachedDrawable() {
+		// Arrange:
+		FragmentUtils.clearDrawableCache();
+		// Act:
+		final Drawable first = FragmentUtils.getCachedDrawable(context(), android.R.drawable.ic_delete);
+		final Drawable second = FragmentUtils.getCachedDrawable(context(), android.R.drawable.ic_delete);
+		// Assert:
+		assertThat(first, is(notNullValue()));
+		assertThat(second, is(notNullValue()));
+		assertThat(second.getConstantState(), is(sameInstance(first.getConstantState())));
+		FragmentUtils.clearDrawableCache();
+	}
+
+	@Test public void testGetCachedDrawableForZeroResource() {
+		// Act + Assert:
+		assertThat(FragmentUtils.getCachedDrawable(context(), 0), is(nullValue()));
+		assertThat(FragmentUtils.getCachedVectorDrawable(context(), 0), is(nullValue()));
+	}
 }
\ No newline at end of file
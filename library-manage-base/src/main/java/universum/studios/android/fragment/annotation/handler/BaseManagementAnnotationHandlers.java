@@ -22,7 +22,16 @@ import android.text.TextUtils;
 import android.util.Log;
 import android.util.SparseArray;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -42,6 +51,16 @@ import universum.studios.android.fragment.manage.FragmentItem;
  */
 public final class BaseManagementAnnotationHandlers extends AnnotationHandlers {
 
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	static {
+		// Register handler type for pre-warming and codec for persisting of handlers of all BaseFragmentFactory classes.
+		registerHandlerType(BaseFragmentFactory.class, FragmentFactoryHandler.class);
+		AnnotationHandlersStore.registerCodec(FragmentFactoryHandler.class, new FragmentFactoryHandlerCodec());
+	}
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -61,12 +80,70 @@ public final class BaseManagementAnnotationHandlers extends AnnotationHandlers {
 		return obtainHandler(FragmentFactoryHandler.class, classOfFactory);
 	}
 
+	/**
+	 * Same as {@link #prewarm(Executor, Class, PrewarmCallback)} for class of the given <var>factory</var>.
+	 */
+	@NonNull public static Future<Integer> prewarm(
+			@NonNull final Executor executor,
+			@NonNull final BaseFragmentFactory factory,
+			@Nullable final PrewarmCallback callback
+	) {
+		return prewarm(executor, factory.getClass(), callback);
+	}
+
+	/**
+	 * Instantiates and caches annotation handler for the specified <var>classOfFactory</var> along
+	 * with annotation handlers for all fragment classes specified for that factory via
+	 * {@link FactoryFragment @FactoryFragment} annotation. The handlers are instantiated via the
+	 * specified <var>executor</var>.
+	 *
+	 * @param executor       Executor used to execute the pre-warming. Should execute on a background thread.
+	 * @param classOfFactory Class of the factory for which to instantiate the annotation handlers.
+	 * @param callback       Callback to be invoked when the pre-warming finishes. May be {@code null}.
+	 * @return Future that may be used to wait for the pre-warming to finish. Its result is count of
+	 * the annotation handlers that are cached for the factory and its fragments.
+	 *
+	 * @see AnnotationHandlers#prewarm(Executor, Collection, PrewarmCallback)
+	 */
+	@NonNull public static Future<Integer> prewarm(
+			@NonNull final Executor executor,
+			@NonNull final Class<? extends BaseFragmentFactory> classOfFactory,
+			@Nullable final PrewarmCallback callback
+	) {
+		return executePrewarm(executor, new Callable<Integer>() {
+
+			/**
+			 */
+			@Override public Integer call() {
+				final FragmentFactoryAnnotationHandler factoryHandler = obtainFactoryHandler(classOfFactory);
+				if (factoryHandler == null) {
+					return 0;
+				}
+				final SparseArray<FragmentItem> items = factoryHandler.getFragmentItems();
+				final int itemsCount = items == null ? 0 : items.size();
+				final List<Class<?>> classesOfFragments = new ArrayList<>(itemsCount);
+				for (int i = 0; i < itemsCount; i++) {
+					final Class<? extends Fragment> classOfFragment = items.valueAt(i).type;
+					if (!classOfFragment.equals(Fragment.class) && !classesOfFragments.contains(classOfFragment)) {
+						classesOfFragments.add(classOfFragment);
+					}
+				}
+				return 1 + prewarmHandlers(classesOfFragments);
+			}
+		}, callback);
+	}
+
 	/*
 	 * Inner classes ===============================================================================
 	 */
 
 	/**
 	 * A {@link FragmentFactoryAnnotationHandler} implementation for {@link BaseFragmentFactory} class.
+	 * <p>
+	 * <b>Note</b>, that fragment items of this handler reference classes of theirs fragments strongly
+	 * and those classes are usually loaded by the same class loader as the factory class. Cached
+	 * handler of a factory from a discarded class loader thus keeps that class loader reachable until
+	 * the handler is evicted from the cache due to its {@link AnnotationHandlers#setCacheCapacity(int) capacity}.
 	 */
 	static final class FragmentFactoryHandler extends BaseAnnotationHandler implements FragmentFactoryAnnotationHandler {
 
@@ -132,10 +209,73 @@ public final class BaseManagementAnnotationHandlers extends AnnotationHandlers {
 			this.items = items.size() > 0 ? items : null;
 		}
 
+		/**
+		 * Creates a new instance of FragmentFactoryHandler for the given <var>annotatedClass</var>
+		 * with already resolved fragment <var>items</var>.
+		 * <p>
+		 * This constructor is used by handlers index generated by the Fragments annotation processor.
+		 *
+		 * @param annotatedClass The class of which annotations processing should the new handler handle.
+		 * @param items          Fragment items resolved from the {@link FactoryFragments @FactoryFragments}
+		 *                       and {@link FactoryFragment @FactoryFragment} annotations. May be
+		 *                       {@code null} if there are no such items.
+		 */
+		FragmentFactoryHandler(@NonNull final Class<?> annotatedClass, @Nullable final SparseArray<FragmentItem> items) {
+			super(annotatedClass);
+			this.items = items == null || items.size() == 0 ? null : items;
+		}
+
 		/**
 		 */
 		@Override @Nullable public SparseArray<FragmentItem> getFragmentItems() {
 			return items;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * A {@link AnnotationHandlersStore.HandlerCodec} implementation for {@link FragmentFactoryHandler}.
+	 */
+	static final class FragmentFactoryHandlerCodec implements AnnotationHandlersStore.HandlerCodec<FragmentFactoryHandler> {
+
+		/**
+		 */
+		@Override public void write(@NonNull final FragmentFactoryHandler handler, @NonNull final DataOutput output) throws IOException {
+			final SparseArray<FragmentItem> items = handler.items;
+			final int itemsCount = items == null ? 0 : items.size();
+			output.writeInt(itemsCount);
+			for (int i = 0; i < itemsCount; i++) {
+				final FragmentItem item = items.valueAt(i);
+				output.writeInt(item.id);
+				output.writeUTF(item.type.getName());
+				output.writeBoolean(item.tag != null);
+				if (item.tag != null) {
+					output.writeUTF(item.tag);
+				}
+			}
+		}
+
+		/**
+		 */
+		@SuppressWarnings("unchecked")
+		@Override @NonNull public FragmentFactoryHandler read(@NonNull final Class<?> annotatedClass, @NonNull final DataInput input) throws IOException {
+			final int itemsCount = input.readInt();
+			final SparseArray<FragmentItem> items = new SparseArray<>(itemsCount);
+			for (int i = 0; i < itemsCount; i++) {
+				final int id = input.readInt();
+				final String typeName = input.readUTF();
+				final String tag = input.readBoolean() ? input.readUTF() : null;
+				final Class<?> type;
+				try {
+					type = Class.forName(typeName, false, annotatedClass.getClassLoader());
+				} catch (ClassNotFoundException e) {
+					throw new IOException("Stored fragment class(" + typeName + ") no longer exists.", e);
+				}
+				if (!Fragment.class.isAssignableFrom(type)) {
+					throw new IOException("Stored fragment class(" + typeName + ") is not a fragment.");
+				}
+				items.put(id, new FragmentItem(id, (Class<? extends Fragment>) type, tag));
+			}
+			return new FragmentFactoryHandler(annotatedClass, items);
+		}
+	}
+}
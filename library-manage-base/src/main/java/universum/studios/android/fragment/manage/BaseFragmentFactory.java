@@ -58,6 +58,10 @@ import universum.studios.android.fragment.annotation.handler.FragmentFactoryAnno
  * using its id but may be also specified via {@link FactoryFragment#taggedName()} attribute.
  * </li>
  * </ul>
+ * <p>
+ * If the Fragments annotation processor is applied to the application, fragment items along with
+ * theirs tags are generated at compile time for all processed factories and fragments are created
+ * via direct constructor calls instead of reflection. Such generated items are used automatically.
  *
  * @author Martin Albedinsky
  * @since 1.0
@@ -208,16 +212,33 @@ public abstract class BaseFragmentFactory implements FragmentFactory {
 	 * via {@link FactoryFragment @FactoryFragment}. If instantiation fails an exception is thrown.
 	 */
 	@NonNull protected Fragment onCreateFragment(final int fragmentId) {
-		if (items.indexOfKey(fragmentId) < 0) {
+		final FragmentItem item = items == null ? null : items.get(fragmentId);
+		if (item == null) {
 			throw new IllegalArgumentException("Factory does not provide fragment instance for id(" + fragmentId + ")!");
 		}
-		final Fragment fragment = items.get(fragmentId).newFragmentInstance(null);
+		final Fragment fragment = item.newFragmentInstance(null);
 		if (fragment == null) {
 			throw new IllegalArgumentException("Failed to instantiate fragment for the requested id(" + fragmentId + ")!");
 		}
 		return fragment;
 	}
 
+	/**
+	 * Returns class of the fragment that this factory provides for the specified <var>fragmentId</var>
+	 * as specified via {@link FactoryFragment @FactoryFragment}.
+	 * <p>
+	 * This may be used for example to prepare content views of fragments that are likely to be
+	 * shown next before they are actually created.
+	 *
+	 * @param fragmentId Id of the desired fragment for which to return its class.
+	 * @return Class of the fragment or {@code null} if this factory does not provide fragment for
+	 * the requested id via annotations.
+	 */
+	@Nullable public Class<? extends Fragment> getFragmentClass(final int fragmentId) {
+		final FragmentItem item = items == null ? null : items.get(fragmentId);
+		return item == null ? null : item.type;
+	}
+
 	/**
 	 */
 	@Override @Nullable public String createFragmentTag(final int fragmentId) {
@@ -234,7 +255,8 @@ public abstract class BaseFragmentFactory implements FragmentFactory {
 	 * with the fragment id as <var>fragmentName</var>.
 	 */
 	@Nullable protected String onCreateFragmentTag(final int fragmentId) {
-		return items.indexOfKey(fragmentId) >= 0 ? items.get(fragmentId).tag : createFragmentTag(getClass(), Integer.toString(fragmentId));
+		final FragmentItem item = items == null ? null : items.get(fragmentId);
+		return item == null ? createFragmentTag(getClass(), Integer.toString(fragmentId)) : item.tag;
 	}
 
 	/*
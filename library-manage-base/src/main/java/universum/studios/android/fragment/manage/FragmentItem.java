@@ -24,6 +24,7 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import universum.studios.android.fragment.FragmentInstantiators;
 import universum.studios.android.fragment.annotation.FactoryFragment;
 
 /**
@@ -48,6 +49,28 @@ public final class FragmentItem {
 	 * Interface ===================================================================================
 	 */
 
+	/**
+	 * Interface for instantiators that may be used to create fragment instances for fragment items
+	 * directly, without use of reflection.
+	 * <p>
+	 * Instantiators are primarily generated by the Fragments annotation processor for factories
+	 * with fragments specified via {@link FactoryFragment @FactoryFragment} annotation.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Instantiator {
+
+		/**
+		 * Creates a new instance of fragment for the specified <var>fragmentId</var>.
+		 *
+		 * @param fragmentId Id of the fragment to instantiate.
+		 * @return New fragment instance or {@code null} if this instantiator does not provide
+		 * fragment for the id. In such case the fragment is instantiated via reflection.
+		 */
+		@Nullable Fragment instantiate(int fragmentId);
+	}
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -71,6 +94,12 @@ public final class FragmentItem {
 	 */
 	public final String tag;
 
+	/**
+	 * Instantiator used to create new fragment instances for this item. May be {@code null} in
+	 * which case the fragments are instantiated via reflection.
+	 */
+	private final Instantiator instantiator;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -90,9 +119,23 @@ public final class FragmentItem {
 	 * @param tag  Tag of the fragment for the new item.
 	 */
 	public FragmentItem(final int id, @NonNull final Class<? extends Fragment> type, @Nullable final String tag) {
+		this(id, type, tag, null);
+	}
+
+	/**
+	 * Creates a new instance of FragmentItem with the given parameters.
+	 *
+	 * @param id           Id of the fragment for the new item.
+	 * @param type         Class of the fragment for the new item.
+	 * @param tag          Tag of the fragment for the new item.
+	 * @param instantiator Instantiator used to create new fragment instances for the new item.
+	 *                     May be {@code null} to instantiate fragments via reflection.
+	 */
+	public FragmentItem(final int id, @NonNull final Class<? extends Fragment> type, @Nullable final String tag, @Nullable final Instantiator instantiator) {
 		this.id = id;
 		this.tag = tag;
 		this.type = type;
+		this.instantiator = instantiator;
 	}
 
 	/*
@@ -101,39 +144,37 @@ public final class FragmentItem {
 
 	/**
 	 * Creates a new instance of Fragment type of specified for this item.
+	 * <p>
+	 * If this item has an {@link Instantiator} attached, the fragment is created via that instantiator,
+	 * otherwise via {@link FragmentInstantiators}.
 	 *
 	 * @param arguments Arguments to be attached to the new Fragment instance via {@link Fragment#setArguments(Bundle)}.
 	 * @return New fragment instance or {@code null} if fragment type specified for this item is
 	 * {@link Fragment Fragment.class} which is a default type and such type cannot be instantiated
 	 * or some instantiation error occurs.
 	 */
-	@SuppressWarnings("TryWithIdenticalCatches")
 	@Nullable public Fragment newFragmentInstance(@Nullable final Bundle arguments) {
 		if (type.equals(Fragment.class)) {
 			return null;
 		}
-		try {
-			final Fragment fragment = type.newInstance();
-			if (arguments != null) {
-				fragment.setArguments(arguments);
+		Fragment fragment = instantiator == null ? null : instantiator.instantiate(id);
+		if (fragment == null) {
+			try {
+				fragment = FragmentInstantiators.instantiate(type);
+			} catch (Fragment.InstantiationException e) {
+				Log.e(
+						TAG,
+						"Failed to instantiate a new fragment instance class of(" + type + "). " +
+								"Make sure that this fragment class is accessible and has public empty constructor.",
+						e
+				);
+				return null;
 			}
-			return fragment;
-		} catch (InstantiationException e) {
-			Log.e(
-					TAG,
-					"Failed to instantiate a new fragment instance class of(" + type + "). " +
-							"Make sure that this fragment class is accessible and has public empty constructor.",
-					e
-			);
-		} catch (IllegalAccessException e) {
-			Log.e(
-					TAG,
-					"Failed to instantiate a new fragment instance class of(" + type + "). " +
-							"Make sure that this fragment class is accessible and has public empty constructor.",
-					e
-			);
 		}
-		return null;
+		if (arguments != null) {
+			fragment.setArguments(arguments);
+		}
+		return fragment;
 	}
 
 	/*
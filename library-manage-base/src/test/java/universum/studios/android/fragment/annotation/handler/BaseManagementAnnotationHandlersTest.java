@@ -22,7 +22,11 @@ import org.junit.Test;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
 
+import androidx.annotation.NonNull;
+import androidx.fragment.app.Fragment;
+import universum.studios.android.fragment.annotation.FactoryFragment;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.fragment.manage.BaseFragmentFactory;
 import universum.studios.android.test.AndroidTestCase;
@@ -66,5 +70,34 @@ public final class BaseManagementAnnotationHandlersTest extends AndroidTestCase
 		assertThat(handler, instanceOf(BaseManagementAnnotationHandlers.FragmentFactoryHandler.class));
 	}
 
-	private static final class TestFactory extends BaseFragmentFactory {}
+	@Test public void testPrewarmFactory() throws Exception {
+		// Act:
+		final int handlersCount = BaseManagementAnnotationHandlers.prewarm(new DirectExecutor(), TestFactory.class, null).get();
+		// Assert:
+		assertThat(handlersCount, is(1));
+		assertThat(BaseManagementAnnotationHandlers.obtainFactoryHandler(TestFactory.class).getFragmentItems().size(), is(1));
+	}
+
+	@Test public void testPrewarmFactoryInstance() throws Exception {
+		// Arrange:
+		final TestFactory factory = new TestFactory();
+		// Act:
+		final int handlersCount = BaseManagementAnnotationHandlers.prewarm(new DirectExecutor(), factory, null).get();
+		// Assert:
+		assertThat(handlersCount, is(1));
+	}
+
+	private static final class DirectExecutor implements Executor {
+
+		@Override public void execute(@NonNull final Runnable command) {
+			command.run();
+		}
+	}
+
+	public static final class TestFragment extends Fragment {}
+
+	private static final class TestFactory extends BaseFragmentFactory {
+
+		@FactoryFragment(TestFragment.class) static final int TEST = 1;
+	}
 }
\ No newline at end of file
@@ -22,6 +22,12 @@ import android.util.SparseArray;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
 import androidx.fragment.app.Fragment;
 import universum.studios.android.fragment.annotation.FactoryFragment;
 import universum.studios.android.fragment.annotation.FactoryFragments;
@@ -94,6 +100,43 @@ public final class FragmentFactoryAnnotationHandlerTest extends AndroidTestCase
 		assertThat(handler.getFragmentItems(), is(nullValue()));
 	}
 
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testCodec() throws Exception {
+		// Arrange:
+		final BaseManagementAnnotationHandlers.FragmentFactoryHandlerCodec codec = new BaseManagementAnnotationHandlers.FragmentFactoryHandlerCodec();
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		codec.write(new BaseManagementAnnotationHandlers.FragmentFactoryHandler(TestFactory.class), new DataOutputStream(values));
+		// Act:
+		final FragmentFactoryAnnotationHandler handler = codec.read(
+				TestFactory.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+		// Assert:
+		final SparseArray<FragmentItem> items = handler.getFragmentItems();
+		assertThat(items.size(), is(4));
+		assertSame(items.get(TestFactory.FRAGMENT_1).type, Fragment.class);
+		assertThat(items.get(TestFactory.FRAGMENT_1).tag, is(BaseFragmentFactory.createFragmentTag(TestFactory.class, Integer.toString(TestFactory.FRAGMENT_1))));
+		assertSame(items.get(TestFactory.FRAGMENT_3).type, TestFragment3.class);
+		assertSame(items.get(TestFactory.FRAGMENT_4).type, TestFragment4.class);
+		assertThat(items.get(TestFactory.FRAGMENT_4).tag, is(BaseFragmentFactory.createFragmentTag(TestFactory.class, "Test4")));
+	}
+
+	@Test(expected = IOException.class)
+	public void testCodecWithMissingFragmentClass() throws Exception {
+		// Arrange:
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		final DataOutputStream output = new DataOutputStream(values);
+		output.writeInt(1);
+		output.writeInt(TestFactory.FRAGMENT_1);
+		output.writeUTF("com.example.MissingFragment");
+		output.writeBoolean(false);
+		// Act:
+		new BaseManagementAnnotationHandlers.FragmentFactoryHandlerCodec().read(
+				TestFactory.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+	}
+
 	@FactoryFragments({
 			TestFactory.FRAGMENT_1,
 			TestFactory.FRAGMENT_2
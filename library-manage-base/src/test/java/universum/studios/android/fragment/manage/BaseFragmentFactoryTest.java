@@ -142,6 +142,23 @@ public final class BaseFragmentFactoryTest extends AndroidTestCase {
 		factory.onCreateFragment(TestFactory.FRAGMENT_NOT_PROVIDED);
 	}
 
+	@Test public void testGetFragmentClass() {
+		// Arrange:
+		final BaseFragmentFactory factory = new TestFactory();
+		// Act + Assert:
+		assertThat(factory.getFragmentClass(TestFactory.FRAGMENT_NOT_PROVIDED), is(nullValue()));
+		assertThat(factory.getFragmentClass(TestFactory.FRAGMENT_1), is((Object) Fragment.class));
+		assertThat(factory.getFragmentClass(TestFactory.FRAGMENT_3), is((Object) TestFragment3.class));
+		assertThat(factory.getFragmentClass(TestFactory.FRAGMENT_4), is((Object) TestFragment4.class));
+	}
+
+	@Test public void testGetFragmentClassOnFactoryWithoutFragments() {
+		// Arrange:
+		final BaseFragmentFactory factory = new TestFactoryWithoutFragments();
+		// Act + Assert:
+		assertThat(factory.getFragmentClass(0), is(nullValue()));
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	@Test public void testCreateFragmentTag() {
 		// Arrange:
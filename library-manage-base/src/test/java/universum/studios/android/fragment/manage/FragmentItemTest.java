@@ -23,10 +23,12 @@ import android.os.Bundle;
 
 import org.junit.Test;
 
+import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import universum.studios.android.test.AndroidTestCase;
 
 import static junit.framework.Assert.assertSame;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -76,6 +78,38 @@ public final class FragmentItemTest extends AndroidTestCase {
 		assertThat(fragment.getArguments(), is(nullValue()));
 	}
 
+	@Test public void testNewFragmentInstanceViaInstantiator() {
+		// Arrange:
+		final Bundle args = new Bundle();
+		final TestFragment instantiatedFragment = new TestFragment();
+		final FragmentItem item = new FragmentItem(1, TestFragment.class, null, new FragmentItem.Instantiator() {
+
+			@Override @Nullable public Fragment instantiate(final int fragmentId) {
+				return fragmentId == 1 ? instantiatedFragment : null;
+			}
+		});
+		// Act:
+		final Fragment fragment = item.newFragmentInstance(args);
+		// Assert:
+		assertSame(instantiatedFragment, fragment);
+		assertThat(fragment.getArguments(), is(args));
+	}
+
+	@Test public void testNewFragmentInstanceNotProvidedByInstantiator() {
+		// Arrange:
+		final FragmentItem item = new FragmentItem(1, TestFragment.class, null, new FragmentItem.Instantiator() {
+
+			@Override @Nullable public Fragment instantiate(final int fragmentId) {
+				return null;
+			}
+		});
+		// Act:
+		final Fragment fragment = item.newFragmentInstance(null);
+		// Assert:
+		assertThat(fragment, is(notNullValue()));
+		assertThat(fragment, is(instanceOf(TestFragment.class)));
+	}
+
 	@Test public void testNewFragmentInstanceForFragmentClass() {
 		// Arrange:
 		final FragmentItem item = new FragmentItem(1, Fragment.class);
@@ -18,10 +18,13 @@
  */
 package universum.studios.android.fragment.manage;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.os.Bundle;
 import android.view.View;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import androidx.annotation.IdRes;
@@ -36,6 +39,7 @@ import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentTransaction;
 import androidx.lifecycle.Lifecycle;
 import universum.studios.android.fragment.FragmentsLogging;
+import universum.studios.android.fragment.ViewReleasable;
 import universum.studios.android.fragment.util.FragmentUtils;
 
 /**
@@ -68,6 +72,16 @@ import universum.studios.android.fragment.util.FragmentUtils;
  * {@link #findFragmentByFactoryId(int)} (when already displayed) by theirs corresponding id defined
  * in the related factory.
  *
+ * <h3>Views of hidden fragments</h3>
+ * Views of hidden fragments which implement {@link ViewReleasable} and allow theirs views to be
+ * released may be released via {@link #releaseHiddenViews()}, which is also performed whenever
+ * memory is running low as signaled via {@link #dispatchTrimMemory(int)}. A budget for count of
+ * views retained by hidden fragments may be also specified via {@link #setHiddenViewsBudget(int)}.
+ * Released views are re-created whenever theirs fragments are shown again via {@link FragmentRequest#SHOW}
+ * request or due to popped back stack entry. In order to re-create released views also after the
+ * activity has been re-created, state of the controller should be saved via {@link #saveState(Bundle)}
+ * and restored via {@link #restoreState(Bundle)}.
+ *
  * <h3>Callbacks</h3>
  * If you want to listen for fragment request executions, a desired {@link OnRequestListener} may
  * be attached to the FragmentController via {@link #registerOnRequestListener(OnRequestListener)}.
@@ -104,6 +118,19 @@ public class FragmentController {
 	 */
 	public static final int NO_CONTAINER_ID = -1;
 
+	/**
+	 * Constant used to determine that there is no budget specified for count of views retained by
+	 * hidden fragments.
+	 *
+	 * @see #setHiddenViewsBudget(int)
+	 */
+	public static final int NO_BUDGET = -1;
+
+	/**
+	 * Bundle key used to store fragments of which views have been released by the controller.
+	 */
+	@VisibleForTesting static final String BUNDLE_RELEASED_FRAGMENTS = FragmentController.class.getName() + ".BUNDLE.ReleasedFragments";
+
 	/*
 	 * Interface ===================================================================================
 	 */
@@ -221,6 +248,17 @@ public class FragmentController {
 	 */
 	private FragmentManager.BackStackEntry topBackStackEntry;
 
+	/**
+	 * Maximum count of views which may be retained by hidden releasable fragments.
+	 */
+	private int hiddenViewsBudget = NO_BUDGET;
+
+	/**
+	 * List of fragments of which views have been released by this controller and have not been
+	 * re-created yet.
+	 */
+	private List<Fragment> releasedFragments;
+
 	/**
 	 * Boolean flag indicating whether this controller has been destroyed or not.
 	 */
@@ -757,6 +795,9 @@ public class FragmentController {
 		if (fragment == null) {
 			fragment = onExecuteRequest(request);
 		}
+		if (request.transaction == FragmentRequest.HIDE && hiddenViewsBudget != NO_BUDGET) {
+			releaseHiddenViewsOverBudget(request.fragment);
+		}
 		notifyRequestExecuted(request);
 		return fragment;
 	}
@@ -883,6 +924,10 @@ public class FragmentController {
 				transaction.remove(fragment);
 				break;
 			case FragmentRequest.SHOW:
+				if (fragment instanceof ViewReleasable && ((ViewReleasable) fragment).isViewReleased()) {
+					// View of the fragment has been released while it was hidden, so re-create it.
+					transaction.attach(fragment);
+				}
 				transaction.show(fragment);
 				break;
 			case FragmentRequest.HIDE:
@@ -1059,6 +1104,232 @@ public class FragmentController {
 		return popped;
 	}
 
+	/**
+	 * Specifies a budget for count of views which may be retained by hidden fragments that allow
+	 * theirs views to be released. Whenever a fragment is hidden via {@link FragmentRequest#HIDE}
+	 * request and the budget is exceeded, views of hidden fragments are released, starting with
+	 * fragments that have been added first, until the budget is satisfied.
+	 * <p>
+	 * Default value: {@link #NO_BUDGET}
+	 *
+	 * @param budget The desired budget. May be {@code 0} to release views of all such fragments
+	 *               whenever they are hidden, or {@link #NO_BUDGET} to retain all views.
+	 *
+	 * @see ViewReleasable
+	 * @see #getHiddenViewsBudget()
+	 */
+	public void setHiddenViewsBudget(final int budget) {
+		this.hiddenViewsBudget = Math.max(NO_BUDGET, budget);
+	}
+
+	/**
+	 * Returns the budget for count of views retained by hidden fragments.
+	 *
+	 * @return Budget for views of hidden fragments or {@link #NO_BUDGET} if there is no budget specified.
+	 *
+	 * @see #setHiddenViewsBudget(int)
+	 */
+	public int getHiddenViewsBudget() {
+		return hiddenViewsBudget;
+	}
+
+	/**
+	 * Dispatches the given memory trim <var>level</var> to this controller. Activity or fragment
+	 * which uses this controller should call this method from its {@code onTrimMemory(int)} callback.
+	 * <p>
+	 * If the level indicates that memory is running low, views of all hidden fragments that allow
+	 * theirs views to be released are released via {@link #releaseHiddenViews()}.
+	 *
+	 * @param level The memory trim level as received in {@link ComponentCallbacks2#onTrimMemory(int)}.
+	 * @return {@code True} if some views have been released, {@code false} otherwise.
+	 */
+	public boolean dispatchTrimMemory(final int level) {
+		return level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW && releaseHiddenViews() > 0;
+	}
+
+	/**
+	 * Releases views of all hidden fragments which implement {@link ViewReleasable} and allow theirs
+	 * views to be released. The views are released by detaching of theirs fragments, so state of the
+	 * view hierarchies is preserved and the views are re-created whenever the fragments are shown
+	 * again via {@link FragmentRequest#SHOW} request.
+	 *
+	 * @return Count of fragments of which views have been released.
+	 *
+	 * @see #setHiddenViewsBudget(int)
+	 */
+	public int releaseHiddenViews() {
+		this.assertNotDestroyed("RELEASE HIDDEN VIEWS");
+		return releaseViews(collectReleasableHiddenFragments(null), true);
+	}
+
+	/**
+	 * Releases views of hidden fragments which exceed the current {@link #hiddenViewsBudget}.
+	 *
+	 * @param hiddenFragment The fragment that has been just requested to be hidden.
+	 */
+	private void releaseHiddenViewsOverBudget(final Fragment hiddenFragment) {
+		final List<Fragment> fragments = collectReleasableHiddenFragments(hiddenFragment);
+		final int excess = fragments.size() - hiddenViewsBudget;
+		if (excess > 0) {
+			// Transaction for the hide request may not be executed yet, so release asynchronously after it.
+			releaseViews(fragments.subList(0, excess), false);
+		}
+	}
+
+	/**
+	 * Collects all hidden fragments of which views may be released at this time.
+	 *
+	 * @param hiddenFragment The fragment that has been just requested to be hidden, if any. This
+	 *                       fragment is collected as the last one.
+	 * @return List of fragments in order in which should be theirs views released.
+	 */
+	private List<Fragment> collectReleasableHiddenFragments(final Fragment hiddenFragment) {
+		final List<Fragment> fragments = new ArrayList<>();
+		for (final Fragment fragment : manager.getFragments()) {
+			if (fragment != hiddenFragment && fragment.isHidden() && isViewReleasable(fragment)) {
+				fragments.add(fragment);
+			}
+		}
+		if (hiddenFragment != null && isViewReleasable(hiddenFragment)) {
+			fragments.add(hiddenFragment);
+		}
+		return fragments;
+	}
+
+	/**
+	 * Checks whether view of the given <var>fragment</var> may be released at this time.
+	 *
+	 * @param fragment The fragment to check.
+	 * @return {@code True} if the fragment has its view created and allows it to be released,
+	 * {@code false} otherwise.
+	 */
+	private static boolean isViewReleasable(final Fragment fragment) {
+		return fragment instanceof ViewReleasable &&
+				((ViewReleasable) fragment).isViewReleasable() &&
+				fragment.isAdded() &&
+				!fragment.isDetached() &&
+				fragment.getView() != null;
+	}
+
+	/**
+	 * Releases views of the given <var>fragments</var> by detaching them within a single transaction.
+	 *
+	 * @param fragments The fragments of which views to release.
+	 * @param now       {@code True} to commit the transaction immediately, {@code false} to commit
+	 *                  it asynchronously.
+	 * @return Count of fragments of which views have been released.
+	 */
+	private int releaseViews(final List<Fragment> fragments, final boolean now) {
+		if (fragments.isEmpty() || manager.isDestroyed()) {
+			return 0;
+		}
+		if (releasedFragments == null) {
+			this.releasedFragments = new ArrayList<>(fragments.size());
+		}
+		final FragmentTransaction transaction = manager.beginTransaction();
+		for (final Fragment fragment : fragments) {
+			((ViewReleasable) fragment).setViewReleased(true);
+			transaction.detach(fragment);
+			if (!releasedFragments.contains(fragment)) {
+				this.releasedFragments.add(fragment);
+			}
+		}
+		// Released views are only an optimization which may be lost without any consequences.
+		if (now) transaction.commitNowAllowingStateLoss();
+		else transaction.commitAllowingStateLoss();
+		return fragments.size();
+	}
+
+	/**
+	 * Re-creates views of fragments released by this controller which are no longer hidden, like
+	 * fragments shown due to popped back stack entry.
+	 */
+	private void restoreReleasedViews() {
+		if (releasedFragments == null || releasedFragments.isEmpty() || manager.isDestroyed()) {
+			return;
+		}
+		FragmentTransaction transaction = null;
+		final Iterator<Fragment> iterator = releasedFragments.iterator();
+		while (iterator.hasNext()) {
+			final Fragment fragment = iterator.next();
+			if (!((ViewReleasable) fragment).isViewReleased() || fragment.getHost() == null) {
+				// View has been already re-created or the fragment has been removed.
+				iterator.remove();
+			} else if (fragment.isDetached() && !fragment.isHidden()) {
+				if (transaction == null) {
+					transaction = manager.beginTransaction();
+				}
+				transaction.attach(fragment);
+				iterator.remove();
+			}
+		}
+		if (transaction != null) {
+			// Back stack changes are dispatched while transactions are being executed.
+			transaction.commitAllowingStateLoss();
+		}
+	}
+
+	/**
+	 * Saves state of this controller into the given <var>outState</var>, that is references to
+	 * fragments of which views have been released by this controller and have not been re-created
+	 * yet. Activity or fragment which uses this controller should call this method from its
+	 * {@code onSaveInstanceState(Bundle)} callback.
+	 *
+	 * @param outState Bundle where to save the state.
+	 *
+	 * @see #restoreState(Bundle)
+	 */
+	public void saveState(@NonNull final Bundle outState) {
+		if (releasedFragments == null || releasedFragments.isEmpty()) {
+			return;
+		}
+		final Bundle fragmentsState = new Bundle();
+		for (final Fragment fragment : releasedFragments) {
+			if (((ViewReleasable) fragment).isViewReleased() && fragment.isDetached() && fragment.getHost() != null) {
+				manager.putFragment(fragmentsState, Integer.toString(fragmentsState.size()), fragment);
+			}
+		}
+		if (!fragmentsState.isEmpty()) {
+			outState.putBundle(BUNDLE_RELEASED_FRAGMENTS, fragmentsState);
+		}
+	}
+
+	/**
+	 * Restores state of this controller from the given <var>savedState</var> previously saved via
+	 * {@link #saveState(Bundle)}, so views of fragments released before this controller has been
+	 * re-created are re-created whenever those fragments are shown again. Activity or fragment
+	 * which uses this controller should call this method from its {@code onCreate(Bundle)} callback,
+	 * after the fragment manager has restored its fragments.
+	 *
+	 * @param savedState Bundle with the saved state. May be {@code null}.
+	 */
+	public void restoreState(@Nullable final Bundle savedState) {
+		this.assertNotDestroyed("RESTORE STATE");
+		final Bundle fragmentsState = savedState == null ? null : savedState.getBundle(BUNDLE_RELEASED_FRAGMENTS);
+		if (fragmentsState == null) {
+			return;
+		}
+		for (final String key : fragmentsState.keySet()) {
+			final Fragment fragment;
+			try {
+				fragment = manager.getFragment(fragmentsState, key);
+			} catch (IllegalStateException e) {
+				// Fragment has been removed in the meantime.
+				continue;
+			}
+			if (fragment instanceof ViewReleasable && fragment.isDetached()) {
+				((ViewReleasable) fragment).setViewReleased(true);
+				if (releasedFragments == null) {
+					this.releasedFragments = new ArrayList<>(fragmentsState.size());
+				}
+				if (!releasedFragments.contains(fragment)) {
+					this.releasedFragments.add(fragment);
+				}
+			}
+		}
+		this.restoreReleasedViews();
+	}
+
 	/**
 	 * Destroys this fragment controller instance, mainly un-registering its internal <b>back-stack</b>
 	 * listener from the attached {@link FragmentManager}.
@@ -1075,6 +1346,7 @@ public class FragmentController {
 			this.manager.removeOnBackStackChangedListener(backStackChangeListener);
 			this.requestListeners = null;
 			this.backStackChangeListeners = null;
+			this.releasedFragments = null;
 			this.lifecycle = null;
 			this.context = null;
 		}
@@ -1115,6 +1387,7 @@ public class FragmentController {
 				this.topBackStackEntry = backStackSize > 0 ? manager.getBackStackEntryAt(backStackSize - 1) : null;
 				break;
 		}
+		this.restoreReleasedViews();
 	}
 
 	/*
@@ -19,6 +19,7 @@
 package universum.studios.android.fragment.manage;
 
 import android.annotation.SuppressLint;
+import android.content.ComponentCallbacks2;
 import android.os.Build;
 import android.os.Bundle;
 import android.os.Parcel;
@@ -32,6 +33,7 @@ import android.widget.FrameLayout;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.robolectric.Robolectric;
+import org.robolectric.android.controller.ActivityController;
 import org.robolectric.annotation.Config;
 
 import java.lang.annotation.Retention;
@@ -46,6 +48,7 @@ import androidx.fragment.app.FragmentActivity;
 import androidx.fragment.app.FragmentManager;
 import androidx.fragment.app.FragmentTransaction;
 import androidx.lifecycle.Lifecycle;
+import universum.studios.android.fragment.ViewReleasable;
 import universum.studios.android.test.AndroidTestCase;
 import universum.studios.android.test.TestActivity;
 
@@ -74,6 +77,7 @@ public final class FragmentControllerTest extends AndroidTestCase {
 		// Assert:
 		assertThat(FragmentController.FRAGMENT_TAG, is("universum.studios.android.fragment.TAG.Fragment"));
 		assertThat(FragmentController.NO_CONTAINER_ID, is(-1));
+		assertThat(FragmentController.NO_BUDGET, is(-1));
 	}
 
 	@Test public void testInstantiationForActivity() {
@@ -1438,6 +1442,195 @@ public final class FragmentControllerTest extends AndroidTestCase {
 		createDestroyedController().destroy();
 	}
 
+	@Test public void testHiddenViewsBudget() {
+		// Arrange:
+		final FragmentController controller = new FragmentController(mock(FragmentManager.class));
+		// Act + Assert:
+		assertThat(controller.getHiddenViewsBudget(), is(FragmentController.NO_BUDGET));
+		controller.setHiddenViewsBudget(2);
+		assertThat(controller.getHiddenViewsBudget(), is(2));
+		controller.setHiddenViewsBudget(-10);
+		assertThat(controller.getHiddenViewsBudget(), is(FragmentController.NO_BUDGET));
+	}
+
+	@Test public void testReleaseHiddenViews() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		final TestReleasableFragment hiddenFragment = new TestReleasableFragment();
+		final TestReleasableFragment visibleFragment = new TestReleasableFragment();
+		fragmentManager.beginTransaction()
+				.add(TestActivity.CONTENT_VIEW_ID, hiddenFragment)
+				.add(TestActivity.CONTENT_VIEW_ID, visibleFragment)
+				.hide(hiddenFragment)
+				.commitNow();
+		// Act:
+		final int releasedCount = controller.releaseHiddenViews();
+		// Assert:
+		assertThat(releasedCount, is(1));
+		assertThat(hiddenFragment.isDetached(), is(true));
+		assertThat(hiddenFragment.getView(), is(nullValue()));
+		assertThat(hiddenFragment.isViewReleased(), is(true));
+		assertThat(visibleFragment.getView(), is(notNullValue()));
+		assertThat(visibleFragment.isViewReleased(), is(false));
+	}
+
+	@Test public void testReleaseHiddenViewsOfFragmentsThatDoNotAllowIt() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		final TestReleasableFragment releasableFragment = new TestReleasableFragment();
+		releasableFragment.viewReleasable = false;
+		final Fragment fragment = new TestFragment();
+		fragmentManager.beginTransaction()
+				.add(TestActivity.CONTENT_VIEW_ID, releasableFragment)
+				.add(TestActivity.CONTENT_VIEW_ID, fragment)
+				.hide(releasableFragment)
+				.hide(fragment)
+				.commitNow();
+		// Act + Assert:
+		assertThat(controller.releaseHiddenViews(), is(0));
+		assertThat(releasableFragment.getView(), is(notNullValue()));
+		assertThat(fragment.getView(), is(notNullValue()));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testReleaseHiddenViewsWhenDestroyed() {
+		// Arrange:
+		final FragmentController controller = createDestroyedController();
+		// Act:
+		controller.releaseHiddenViews();
+	}
+
+	@Test public void testDispatchTrimMemory() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		final TestReleasableFragment fragment = new TestReleasableFragment();
+		fragmentManager.beginTransaction().add(TestActivity.CONTENT_VIEW_ID, fragment).hide(fragment).commitNow();
+		// Act + Assert:
+		assertThat(controller.dispatchTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE), is(false));
+		assertThat(fragment.getView(), is(notNullValue()));
+		assertThat(controller.dispatchTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW), is(true));
+		assertThat(fragment.getView(), is(nullValue()));
+		assertThat(controller.dispatchTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE), is(false));
+	}
+
+	@Test public void testExecuteShowRequestForFragmentWithReleasedView() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		final TestReleasableFragment fragment = new TestReleasableFragment();
+		fragmentManager.beginTransaction().add(TestActivity.CONTENT_VIEW_ID, fragment).hide(fragment).commitNow();
+		controller.releaseHiddenViews();
+		// Act:
+		controller.newRequest(fragment).transaction(FragmentRequest.SHOW).immediate(true).execute();
+		// Assert:
+		assertThat(fragment.isDetached(), is(false));
+		assertThat(fragment.isHidden(), is(false));
+		assertThat(fragment.getView(), is(notNullValue()));
+		assertThat(fragment.isViewReleased(), is(false));
+	}
+
+	@Test public void testExecuteHideRequestWhenHiddenViewsBudgetIsExceeded() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		controller.setHiddenViewsBudget(1);
+		final TestReleasableFragment firstFragment = new TestReleasableFragment();
+		final TestReleasableFragment secondFragment = new TestReleasableFragment();
+		fragmentManager.beginTransaction()
+				.add(TestActivity.CONTENT_VIEW_ID, firstFragment)
+				.add(TestActivity.CONTENT_VIEW_ID, secondFragment)
+				.commitNow();
+		// Act + Assert:
+		controller.newRequest(firstFragment).transaction(FragmentRequest.HIDE).immediate(true).execute();
+		fragmentManager.executePendingTransactions();
+		assertThat(firstFragment.getView(), is(notNullValue()));
+		controller.newRequest(secondFragment).transaction(FragmentRequest.HIDE).execute();
+		fragmentManager.executePendingTransactions();
+		assertThat(firstFragment.isDetached(), is(true));
+		assertThat(firstFragment.getView(), is(nullValue()));
+		assertThat(secondFragment.isHidden(), is(true));
+		assertThat(secondFragment.getView(), is(notNullValue()));
+	}
+
+	@Test public void testReleasedViewRestoredWhenShownDueToBackStackChange() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		final TestReleasableFragment fragment = new TestReleasableFragment();
+		fragmentManager.beginTransaction().add(TestActivity.CONTENT_VIEW_ID, fragment).commitNow();
+		fragmentManager.beginTransaction().hide(fragment).addToBackStack(null).commit();
+		fragmentManager.executePendingTransactions();
+		controller.releaseHiddenViews();
+		// Act:
+		fragmentManager.popBackStackImmediate();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		assertThat(fragment.isDetached(), is(false));
+		assertThat(fragment.isHidden(), is(false));
+		assertThat(fragment.getView(), is(notNullValue()));
+		assertThat(fragment.isViewReleased(), is(false));
+	}
+
+	@Test public void testReleasedViewRestoredWhenShownDueToBackStackChangeAfterRecreation() {
+		// Arrange:
+		final ActivityController<TestActivity> activityController = Robolectric.buildActivity(TestActivity.class).create().start().resume();
+		final FragmentManager fragmentManager = activityController.get().getSupportFragmentManager();
+		final FragmentController controller = new FragmentController(fragmentManager);
+		final TestReleasableFragment fragment = new TestReleasableFragment();
+		fragmentManager.beginTransaction().add(TestActivity.CONTENT_VIEW_ID, fragment, "released").commitNow();
+		fragmentManager.beginTransaction().hide(fragment).addToBackStack(null).commit();
+		fragmentManager.executePendingTransactions();
+		controller.releaseHiddenViews();
+		final Bundle controllerState = new Bundle();
+		controller.saveState(controllerState);
+		final Bundle activityState = new Bundle();
+		activityController.pause().saveInstanceState(activityState).stop();
+		final FragmentManager recreatedFragmentManager = Robolectric.buildActivity(TestActivity.class).create(activityState).start().resume().get().getSupportFragmentManager();
+		final FragmentController recreatedController = new FragmentController(recreatedFragmentManager);
+		// Act:
+		recreatedController.restoreState(controllerState);
+		recreatedFragmentManager.popBackStackImmediate();
+		recreatedFragmentManager.executePendingTransactions();
+		// Assert:
+		final TestReleasableFragment recreatedFragment = (TestReleasableFragment) recreatedFragmentManager.findFragmentByTag("released");
+		assertThat(recreatedFragment, is(notNullValue()));
+		assertThat(recreatedFragment.isDetached(), is(false));
+		assertThat(recreatedFragment.isHidden(), is(false));
+		assertThat(recreatedFragment.getView(), is(notNullValue()));
+		assertThat(recreatedFragment.isViewReleased(), is(false));
+	}
+
+	@Test public void testSaveStateWithoutReleasedViews() {
+		// Arrange:
+		final FragmentController controller = new FragmentController(mock(FragmentManager.class));
+		final Bundle state = new Bundle();
+		// Act:
+		controller.saveState(state);
+		// Assert:
+		assertThat(state.isEmpty(), is(true));
+	}
+
+	@Test public void testRestoreStateWithoutState() {
+		// Arrange:
+		final FragmentManager mockManager = mock(FragmentManager.class);
+		final FragmentController controller = new FragmentController(mockManager);
+		clearInvocations(mockManager);
+		// Act:
+		controller.restoreState(null);
+		controller.restoreState(new Bundle());
+		// Assert:
+		verifyNoInteractions(mockManager);
+	}
+
 	@Test public void testHandleBackStackChangeDueToAddition() {
 		// Arrange:
 		final FragmentManager mockManager = mock(FragmentManager.class);
@@ -1544,6 +1737,29 @@ public final class FragmentControllerTest extends AndroidTestCase {
 		}
 	}
 
+	public static class TestReleasableFragment extends TestFragment implements ViewReleasable {
+
+		boolean viewReleasable = true;
+		boolean viewReleased;
+
+		@Override public void onViewCreated(@NonNull final View view, @Nullable final Bundle savedInstanceState) {
+			super.onViewCreated(view, savedInstanceState);
+			this.viewReleased = false;
+		}
+
+		@Override public boolean isViewReleasable() {
+			return viewReleasable;
+		}
+
+		@Override public void setViewReleased(final boolean released) {
+			this.viewReleased = released;
+		}
+
+		@Override public boolean isViewReleased() {
+			return viewReleased;
+		}
+	}
+
 	public static final class TestFragmentWithAlInterfaces extends TestFragment
 			implements
 			FragmentRequestInterceptor,
@@ -0,0 +1,538 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Store for large HTML contents of {@link WebFragment WebFragments}. Each content is written only
+ * once as a separate file in an app-private directory under a unique key and it is served to the
+ * {@link WebView} as a stream via {@link #interceptRequest(String)} whenever the web view loads
+ * {@link #getContentUrl(String) url} of that content. So the content does not need to be passed
+ * to the web view as data and only its small key needs to be saved in the state of the fragment,
+ * which also survives death of the application process.
+ * <p>
+ * Contents are encoded on the calling thread and written asynchronously via executor specified
+ * for the store. Until they are written, the contents are held in memory, so they may be loaded
+ * immediately. Files which have not been accessed for {@link #STALE_AGE} are considered stale and
+ * are deleted whenever a new store is created.
+ * <p>
+ * WebFragment looks up the store via its context. That context, any of its base contexts or the
+ * application context needs to implement {@link Provider}:
+ * <pre>
+ * public class SampleApplication extends Application implements WebContentStore.Provider {
+ *
+ *     private WebContentStore webContentStore;
+ *
+ *     &#64;Override public void onCreate() {
+ *         super.onCreate();
+ *         this.webContentStore = WebContentStore.create(this, backgroundExecutor);
+ *     }
+ *
+ *     &#64;Override public WebContentStore getWebContentStore() {
+ *         return webContentStore;
+ *     }
+ * }
+ * </pre>
+ * Only HTML contents with length of at least {@link #setThreshold(int) threshold} are stored and
+ * only by fragments which have the store enabled via {@link WebFragment.WebOptions#contentStoreEnabled(boolean)}.
+ *
+ * <h3>Origin of stored contents</h3>
+ * HTML contents which are not stored are loaded as data with an empty base url. Stored contents
+ * are loaded via theirs url, which is built from {@link #setContentBaseUrl(String) content base url}
+ * of this store. Such content runs under origin of that url, so:
+ * <ul>
+ * <li>relative urls in the content are resolved against the content base url,</li>
+ * <li>Java-Script, cookies and local storage of the content are scoped to origin of that url,</li>
+ * <li>{@link WebViewClient}, listeners and history of the web view receive url of the content.</li>
+ * </ul>
+ * By default the contents are served under {@link #DEFAULT_CONTENT_BASE_URL} which is never
+ * resolved to any real server. Contents which reference resources relatively or which require
+ * origin of a particular site should be stored in a store with content base url of that site.
+ * <p>
+ * <b>Note</b>, that the executor should execute the submitted tasks serially.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ *
+ * @see #create(Context, Executor)
+ */
+public final class WebContentStore {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "WebContentStore";
+
+	/**
+	 * Default minimum length of HTML contents that are stored.
+	 */
+	public static final int DEFAULT_THRESHOLD = 64 * 1024;
+
+	/**
+	 * Name of the directory in which are the contents stored.
+	 */
+	@VisibleForTesting static final String DIRECTORY_NAME = "universum.studios.fragments.web_contents";
+
+	/**
+	 * Default base url of the stored contents. The host uses reserved top level domain, so it is
+	 * never resolved to any real server.
+	 */
+	public static final String DEFAULT_CONTENT_BASE_URL = "https://web-content.fragments.invalid/";
+
+	/**
+	 * Suffix of a temporary file into which is the content written before the file is renamed.
+	 */
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * Age (in milliseconds) after which are the stored contents considered stale.
+	 */
+	@VisibleForTesting static final long STALE_AGE = TimeUnit.DAYS.toMillis(7);
+
+	/**
+	 * Length of the keys of the stored contents.
+	 */
+	private static final int KEY_LENGTH = 36;
+
+	/**
+	 * Encoding of the stored contents.
+	 */
+	private static final String DATA_ENCODING = "UTF-8";
+
+	/**
+	 * Mime type of the stored contents.
+	 */
+	private static final String DATA_MIME_TYPE = "text/html";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Interface for contexts, usually the application, which provide a store of contents for web
+	 * fragments that are created in theirs context.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Provider {
+
+		/**
+		 * Returns the store of contents for web fragments created in context of this provider.
+		 *
+		 * @return The content store or {@code null} if there is no store available.
+		 */
+		@Nullable WebContentStore getWebContentStore();
+	}
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Directory in which are the contents stored.
+	 */
+	private final File directory;
+
+	/**
+	 * Executor used to write and delete files of the contents.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Map with encoded contents that have not been written yet mapped to theirs keys.
+	 */
+	private final Map<String, byte[]> pendingContents = new ConcurrentHashMap<>(2);
+
+	/**
+	 * Minimum length of HTML contents that are stored.
+	 */
+	private int threshold = DEFAULT_THRESHOLD;
+
+	/**
+	 * Base url under which are the stored contents served.
+	 */
+	private volatile String contentBaseUrl = DEFAULT_CONTENT_BASE_URL;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of WebContentStore with the specified <var>directory</var> and <var>executor</var>.
+	 *
+	 * @param directory Directory in which to store the contents.
+	 * @param executor  Executor used to write and delete files of the contents.
+	 */
+	private WebContentStore(final File directory, final Executor executor) {
+		this.directory = directory;
+		this.executor = executor;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates a new WebContentStore which stores contents in the files directory of the given
+	 * <var>context</var>. Stale contents are deleted via the specified <var>executor</var>.
+	 *
+	 * @param context  Context used to resolve directory for the contents.
+	 * @param executor Executor used to write and delete files of the contents.
+	 * @return New store ready to be used.
+	 */
+	@NonNull public static WebContentStore create(@NonNull final Context context, @NonNull final Executor executor) {
+		final WebContentStore store = new WebContentStore(new File(context.getFilesDir(), DIRECTORY_NAME), executor);
+		executor.execute(new Runnable() {
+
+			@Override public void run() {
+				store.deleteStaleContents(System.currentTimeMillis() - STALE_AGE);
+			}
+		});
+		return store;
+	}
+
+	/**
+	 * Returns the content store provided by the given <var>context</var>, any of its base contexts
+	 * or by the application context.
+	 *
+	 * @param context The context from which to obtain the store.
+	 * @return The store or {@code null} if there is no {@link Provider} with store available.
+	 */
+	@Nullable public static WebContentStore from(@NonNull final Context context) {
+		Context currentContext = context;
+		while (currentContext != null) {
+			if (currentContext instanceof Provider) {
+				return ((Provider) currentContext).getWebContentStore();
+			}
+			currentContext = currentContext instanceof ContextWrapper ? ((ContextWrapper) currentContext).getBaseContext() : null;
+		}
+		final Context applicationContext = context.getApplicationContext();
+		return applicationContext instanceof Provider ? ((Provider) applicationContext).getWebContentStore() : null;
+	}
+
+	/**
+	 * Sets the minimum length of HTML contents which should be stored by this store. Shorter
+	 * contents are loaded by web fragments directly.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_THRESHOLD}</b>
+	 *
+	 * @param threshold The desired threshold. May be {@code 0} to store all HTML contents.
+	 * @throws IllegalArgumentException If the specified threshold is negative.
+	 *
+	 * @see #getThreshold()
+	 */
+	public void setThreshold(final int threshold) {
+		if (threshold < 0) {
+			throw new IllegalArgumentException("Threshold must not be negative, specified(" + threshold + ").");
+		}
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Returns the minimum length of HTML contents which should be stored by this store.
+	 *
+	 * @return Threshold for the stored contents.
+	 *
+	 * @see #setThreshold(int)
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Sets the base url under which should be the stored contents served. Url of each stored
+	 * content consists of this base url followed by key of that content, so the base url also
+	 * specifies origin of the contents and url against which are resolved relative urls in the
+	 * contents. Requests for other urls under the base url are not intercepted by this store.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_CONTENT_BASE_URL}</b>
+	 *
+	 * @param baseUrl The desired base url. Must be an {@code http://} or {@code https://} url
+	 *                ending with {@code /}.
+	 * @throws IllegalArgumentException If the specified base url is not a valid base url.
+	 *
+	 * @see #getContentBaseUrl()
+	 * @see #getContentUrl(String)
+	 */
+	public void setContentBaseUrl(@NonNull final String baseUrl) {
+		if (!(baseUrl.startsWith("http://") || baseUrl.startsWith("https://")) || !baseUrl.endsWith("/")) {
+			throw new IllegalArgumentException("Content base url must be http(s) url ending with '/', specified(" + baseUrl + ").");
+		}
+		this.contentBaseUrl = baseUrl;
+	}
+
+	/**
+	 * Returns the base url under which are the stored contents served.
+	 *
+	 * @return Base url of the stored contents.
+	 *
+	 * @see #setContentBaseUrl(String)
+	 */
+	@NonNull public String getContentBaseUrl() {
+		return contentBaseUrl;
+	}
+
+	/**
+	 * Stores the given HTML <var>content</var> under a new unique key.
+	 *
+	 * @param content The content to be stored.
+	 * @return Key which may be used to load the content via {@link #getContentUrl(String)}.
+	 */
+	@NonNull public String store(@NonNull final String content) {
+		final byte[] data = content.getBytes(Charset.forName(DATA_ENCODING));
+		final String key = UUID.randomUUID().toString();
+		this.pendingContents.put(key, data);
+		this.executor.execute(new Runnable() {
+
+			@Override public void run() {
+				// Content may have been already discarded.
+				if (pendingContents.containsKey(key)) {
+					writeContent(key, data);
+					pendingContents.remove(key);
+				}
+			}
+		});
+		return key;
+	}
+
+	/**
+	 * Writes the given encoded <var>data</var> into file for the specified <var>key</var>.
+	 *
+	 * @param key  Key of the content.
+	 * @param data The encoded content.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void writeContent(final String key, final byte[] data) {
+		if (!directory.exists() && !directory.mkdirs()) {
+			FragmentsLogging.w(TAG, "Failed to create directory for web contents.");
+			return;
+		}
+		final File file = new File(directory, key);
+		final File temporaryFile = new File(directory, key + TEMPORARY_FILE_SUFFIX);
+		try (FileOutputStream output = new FileOutputStream(temporaryFile)) {
+			output.write(data);
+			output.getFD().sync();
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to write web content.", e);
+			temporaryFile.delete();
+			return;
+		}
+		if (!temporaryFile.renameTo(file)) {
+			FragmentsLogging.w(TAG, "Failed to rename file with web content.");
+			temporaryFile.delete();
+		}
+	}
+
+	/**
+	 * Returns the url which may be loaded into {@link WebView} in order to load content stored
+	 * under the specified <var>key</var>.
+	 *
+	 * @param key Key of the content.
+	 * @return Url of the content.
+	 *
+	 * @see #getContentBaseUrl()
+	 * @see #interceptRequest(String)
+	 */
+	@NonNull public String getContentUrl(@NonNull final String key) {
+		return contentBaseUrl + key;
+	}
+
+	/**
+	 * Intercepts request for the specified <var>url</var> if it is url of a content of this store.
+	 * This should be called from {@link WebViewClient#shouldInterceptRequest(WebView, String)}
+	 * of any client set to the web view into which are the contents of this store loaded.
+	 * <p>
+	 * This method may be called from any thread.
+	 *
+	 * @param url The requested url.
+	 * @return Response streaming the requested content (empty if there is no such content stored)
+	 * or {@code null} if the url is not url of a content of this store.
+	 *
+	 * @see #getContentUrl(String)
+	 */
+	@Nullable public WebResourceResponse interceptRequest(@NonNull final String url) {
+		final String baseUrl = contentBaseUrl;
+		if (!url.startsWith(baseUrl)) {
+			return null;
+		}
+		int keyEnd = url.length();
+		for (int i = baseUrl.length(); i < url.length(); i++) {
+			final char c = url.charAt(i);
+			if (c == '?' || c == '#') {
+				keyEnd = i;
+				break;
+			}
+		}
+		final String key = url.substring(baseUrl.length(), keyEnd);
+		if (!isValidKey(key)) {
+			return null;
+		}
+		InputStream stream = open(key);
+		if (stream == null) {
+			FragmentsLogging.w(TAG, "No web content stored under key(" + key + ").");
+			stream = new ByteArrayInputStream(new byte[0]);
+		}
+		return new WebResourceResponse(DATA_MIME_TYPE, DATA_ENCODING, stream);
+	}
+
+	/**
+	 * Checks whether the given <var>key</var> may be key of a content of this store, so it does
+	 * not refer to any file outside of the directory of this store.
+	 *
+	 * @param key The key to check.
+	 * @return {@code True} if the key has format of the generated keys, {@code false} otherwise.
+	 */
+	private static boolean isValidKey(final String key) {
+		if (key.length() != KEY_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < KEY_LENGTH; i++) {
+			final char c = key.charAt(i);
+			if (c != '-' && (c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Opens stream of the encoded content stored under the specified <var>key</var>.
+	 *
+	 * @param key Key of the content to open.
+	 * @return Stream with the encoded content or {@code null} if there is no content stored under
+	 * the key.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	@VisibleForTesting @Nullable InputStream open(@NonNull final String key) {
+		final byte[] data = pendingContents.get(key);
+		if (data != null) {
+			return new ByteArrayInputStream(data);
+		}
+		final File file = new File(directory, key);
+		try {
+			final InputStream stream = new FileInputStream(file);
+			// Mark the file as recently used, so it is not deleted as stale.
+			file.setLastModified(System.currentTimeMillis());
+			return stream;
+		} catch (FileNotFoundException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the content stored under the specified <var>key</var>.
+	 * <p>
+	 * <b>Note</b>, that the content is read from file if it has been already written, so this
+	 * should be called only if the content is really needed in memory.
+	 *
+	 * @param key Key of the content to read.
+	 * @return The content or {@code null} if there is no content stored under the key (or it could
+	 * not be read).
+	 */
+	@Nullable public String read(@NonNull final String key) {
+		if (!isValidKey(key)) {
+			return null;
+		}
+		final InputStream stream = open(key);
+		if (stream == null) {
+			return null;
+		}
+		try (InputStream input = stream) {
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			final byte[] buffer = new byte[8192];
+			int count;
+			while ((count = input.read(buffer)) != -1) {
+				output.write(buffer, 0, count);
+			}
+			return output.toString(DATA_ENCODING);
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to read web content.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Discards content stored under the specified <var>key</var>. Does nothing if there is no such
+	 * content.
+	 *
+	 * @param key Key of the content to discard.
+	 */
+	public void discard(@NonNull final String key) {
+		if (!isValidKey(key)) {
+			return;
+		}
+		// If the content has not been written yet, it will be not.
+		this.pendingContents.remove(key);
+		this.executor.execute(new Runnable() {
+
+			@SuppressWarnings("ResultOfMethodCallIgnored")
+			@Override public void run() {
+				new File(directory, key).delete();
+			}
+		});
+	}
+
+	/**
+	 * Deletes files of all contents which have not been modified since the specified <var>time</var>.
+	 *
+	 * @param time Time in milliseconds before which are the contents considered stale.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	@VisibleForTesting void deleteStaleContents(final long time) {
+		final File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		for (final File file : files) {
+			if (file.lastModified() < time || file.getName().endsWith(TEMPORARY_FILE_SUFFIX)) {
+				file.delete();
+			}
+		}
+	}
+
+}
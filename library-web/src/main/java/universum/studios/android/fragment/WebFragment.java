@@ -18,7 +18,9 @@
  */
 package universum.studios.android.fragment;
 
+import android.app.Activity;
 import android.graphics.Bitmap;
+import android.os.Build;
 import android.os.Bundle;
 import android.os.Parcel;
 import android.os.Parcelable;
@@ -28,18 +30,20 @@ import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.webkit.WebChromeClient;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 import android.webkit.WebViewClient;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
 import universum.studios.android.fragment.annotation.handler.WebAnnotationHandlers;
 import universum.studios.android.fragment.annotation.handler.WebFragmentAnnotationHandler;
@@ -52,6 +56,22 @@ import universum.studios.android.fragment.annotation.handler.WebFragmentAnnotati
  * The desired web content may be specified through {@link WebOptions} when creating new instance of
  * WebFragment via {@link #newInstance(WebOptions)} or when you have access to already
  * visible and showing web fragment via {@link #loadContent(String)}.
+ * <p>
+ * If there is {@link WebViewPool} available in context of this fragment, the WebView is obtained
+ * from that pool instead of being created and it is returned back into the pool when the view of
+ * this fragment is destroyed, so {@link #getWebView()} returns {@code null} after that.
+ * <p>
+ * If there is {@link WebContentStore} available in context of this fragment and the store is
+ * enabled via {@link WebOptions#contentStoreEnabled(boolean)}, HTML contents which are not shorter
+ * than {@link WebContentStore#getThreshold() threshold} of that store are written into that store
+ * and loaded into the WebView via url of the stored content, so only key of the content is saved
+ * in the state of this fragment. The content is discarded from the store once this fragment is
+ * removed or its activity is finishing. <b>Note</b>, that unlike HTML contents loaded as data,
+ * the stored contents run under origin of {@link WebContentStore#getContentBaseUrl() content base url}
+ * of the store (see {@link WebContentStore} for details).
+ * <p>
+ * If there is {@link WebResourceCache} available in context of this fragment, resources requested
+ * by the WebView are served via that cache.
  *
  * <h3>Web content types</h3>
  * Following content types are supported as content that may be loaded into WebView:
@@ -114,6 +134,16 @@ public class WebFragment extends ActionBarFragment {
 	 */
 	@VisibleForTesting static final String BUNDLE_CONTENT = WebFragment.class.getName() + ".BUNDLE.Content";
 
+	/**
+	 * Key used to store {@link #contentKey} in {@link Bundle}.
+	 */
+	@VisibleForTesting static final String BUNDLE_CONTENT_KEY = WebFragment.class.getName() + ".BUNDLE.ContentKey";
+
+	/**
+	 * Key used to store {@link #contentType} in {@link Bundle}.
+	 */
+	@VisibleForTesting static final String BUNDLE_CONTENT_TYPE = WebFragment.class.getName() + ".BUNDLE.ContentType";
+
 	/**
 	 * Key used to store {@link #privateFlags} in {@link Bundle}.
 	 */
@@ -122,31 +152,62 @@ public class WebFragment extends ActionBarFragment {
 	/**
 	 * Flag indicating no content to load.
 	 */
-	protected static final int CONTENT_EMPTY = 0x00;
+	public static final int CONTENT_EMPTY = 0x00;
 
 	/**
 	 * Flag indicating that {@link #content} should be loaded as HTML.
 	 */
-	protected static final int CONTENT_HTML = 0x01;
+	public static final int CONTENT_HTML = 0x01;
 
 	/**
 	 * Flag indicating that {@link #content} should be loaded as URL.
 	 */
-	protected static final int CONTENT_URL = 0x02;
+	public static final int CONTENT_URL = 0x02;
 
 	/**
 	 * Flag indicating that {@link #content} should be loaded as FILE.
 	 */
-	protected static final int CONTENT_FILE = 0x03;
+	public static final int CONTENT_FILE = 0x03;
 
 	/**
 	 * Defines an annotation for determining set of allowed content type flags for
 	 * {@link #onLoadContent(String, int)} method.
+	 * <p>
+	 * Since 1.6 the content type flags are public (previously protected), so the content type may
+	 * be specified via {@link #loadContent(String, int)} or {@link WebOptions#content(String, int)}
+	 * also outside of WebFragment subclasses.
 	 */
 	@Retention(RetentionPolicy.SOURCE)
 	@IntDef({CONTENT_EMPTY, CONTENT_URL, CONTENT_HTML, CONTENT_FILE})
 	public @interface ContentType {}
 
+	/**
+	 * Flag indicating that type of a content has not been specified and should be resolved.
+	 */
+	private static final int CONTENT_UNSPECIFIED = -1;
+
+	/**
+	 * Maximum length of a content that is matched against the URL pattern as a whole. Only scheme
+	 * and authority of longer contents are matched, so resolving of long URLs does not run the
+	 * pattern over theirs whole length.
+	 */
+	@VisibleForTesting static final int URL_MATCH_MAX_LENGTH = 2048;
+
+	/**
+	 * Prefix of a content that may be resolved as HTTP URL.
+	 */
+	private static final String HTTP_URL_PREFIX = "http://";
+
+	/**
+	 * Prefix of a content that may be resolved as HTTPS URL.
+	 */
+	private static final String HTTPS_URL_PREFIX = "https://";
+
+	/**
+	 * Prefix of a content that may be resolved as FILE.
+	 */
+	private static final String FILE_URL_PREFIX = "file://";
+
 	/**
 	 * Content data encoding.
 	 */
@@ -201,16 +262,6 @@ public class WebFragment extends ActionBarFragment {
 	 * Static members ==============================================================================
 	 */
 
-	/**
-	 * Matcher used to validate web urls.
-	 */
-	private static final Matcher WEB_URL_MATCHER = Patterns.WEB_URL.matcher("");
-
-	/**
-	 * Matcher for the {@code file://PATH_TO_FILE} pattern.
-	 */
-	private static final Matcher FILE_URL_MATCHER = Pattern.compile("file://(.*)").matcher("");
-
 	/*
 	 * Members =====================================================================================
 	 */
@@ -225,6 +276,12 @@ public class WebFragment extends ActionBarFragment {
 	 */
 	private WebView webView;
 
+	/**
+	 * Pool from which has been the current web view obtained. May be {@code null} if the web view
+	 * has been created by this fragment.
+	 */
+	private WebViewPool webViewPool;
+
 	/**
 	 * Content to load into the web view.
 	 */
@@ -235,6 +292,24 @@ public class WebFragment extends ActionBarFragment {
 	 */
 	private int contentType = CONTENT_EMPTY;
 
+	/**
+	 * Store into which are written large HTML contents. May be {@code null} if there is no store
+	 * available.
+	 */
+	private WebContentStore contentStore;
+
+	/**
+	 * Key under which is the current content stored in the {@link #contentStore}. May be {@code null}
+	 * if the content has not been stored.
+	 */
+	private String contentKey;
+
+	/**
+	 * Cache via which are served resources requested by the web view. May be {@code null} if there
+	 * is no cache available.
+	 */
+	private WebResourceCache resourceCache;
+
 	/**
 	 * Content loading listener.
 	 */
@@ -255,12 +330,15 @@ public class WebFragment extends ActionBarFragment {
 
 	/**
 	 * Checks whether the given <var>url</var> is valid and can be loaded into web view.
+	 * <p>
+	 * This method may be called from any thread. Since 1.6 this method returns {@code false} for
+	 * {@code null} <var>url</var> instead of throwing a {@link NullPointerException}.
 	 *
-	 * @param url Url to check.
+	 * @param url Url to check. May be {@code null}.
 	 * @return {@code True} if url matches valid web URL format, {@code false} otherwise.
 	 */
 	public static boolean isValidWebUrl(@Nullable final String url) {
-		return WEB_URL_MATCHER.reset(url).matches();
+		return url != null && Patterns.WEB_URL.matcher(url).matches();
 	}
 
 	/**
@@ -312,6 +390,8 @@ public class WebFragment extends ActionBarFragment {
 	 */
 	@Override public void onCreate(@Nullable final Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
+		this.contentStore = WebContentStore.from(requireContext());
+		this.resourceCache = WebResourceCache.from(requireContext());
 		if (annotationHandler != null) {
 			final WebFragmentAnnotationHandler annotationHandler = (WebFragmentAnnotationHandler) this.annotationHandler;
 			final int contentResId = annotationHandler.getWebContentResId(-1);
@@ -321,14 +401,22 @@ public class WebFragment extends ActionBarFragment {
 				this.content = getString(contentResId);
 			}
 		}
+		int contentType = CONTENT_UNSPECIFIED;
 		if (savedInstanceState != null) {
 			this.options = savedInstanceState.getParcelable(BUNDLE_OPTIONS);
 			this.privateFlags = savedInstanceState.getInt(BUNDLE_PRIVATE_FLAGS);
 			this.content = savedInstanceState.getString(BUNDLE_CONTENT);
+			this.contentKey = savedInstanceState.getString(BUNDLE_CONTENT_KEY);
+			contentType = savedInstanceState.getInt(BUNDLE_CONTENT_TYPE, CONTENT_UNSPECIFIED);
+		} else if (options != null && options.contentKey != null) {
+			this.content = null;
+			this.contentKey = options.contentKey;
+			contentType = CONTENT_HTML;
 		} else if (options != null && !TextUtils.isEmpty(options.content)) {
 			this.content = options.content;
+			contentType = options.contentType;
 		}
-		this.contentType = resolveContentType(content);
+		this.contentType = contentType == CONTENT_UNSPECIFIED ? resolveContentType(content) : contentType;
 	}
 
 	/**
@@ -379,7 +467,8 @@ public class WebFragment extends ActionBarFragment {
 	/**
 	 */
 	@Override public View onCreateView(@NonNull final LayoutInflater inflater, @Nullable final ViewGroup container, @Nullable final Bundle savedInstanceState) {
-		this.webView = new WebView(inflater.getContext());
+		this.webViewPool = WebViewPool.from(inflater.getContext());
+		this.webView = webViewPool == null ? new WebView(inflater.getContext()) : webViewPool.obtain(inflater.getContext());
 		this.webView.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
 		this.webView.setScrollBarStyle(View.SCROLLBARS_INSIDE_OVERLAY);
 		// Set custom WebViewClient and WebChromeClient.
@@ -419,9 +508,72 @@ public class WebFragment extends ActionBarFragment {
 				super.onPageStarted(view, url, favicon);
 				notifyLoadingStarted(url);
 			}
+
+			/**
+			 */
+			@SuppressWarnings("deprecation")
+			@Override public WebResourceResponse shouldInterceptRequest(final WebView view, final String url) {
+				final WebResourceResponse response = interceptContentRequest(url);
+				return response == null ? super.shouldInterceptRequest(view, url) : response;
+			}
+
+			/**
+			 */
+			@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+			@Override public WebResourceResponse shouldInterceptRequest(final WebView view, final WebResourceRequest request) {
+				// Not delegated to super implementation, which would intercept the request again via its url.
+				return interceptContentRequest(request);
+			}
 		};
 	}
 
+	/**
+	 * Intercepts request for the specified <var>url</var> if it is url of a content stored in
+	 * {@link WebContentStore} used by this fragment or if it may be served via {@link WebResourceCache}
+	 * used by this fragment. Custom clients created via {@link #onCreateWebViewClient()} should call
+	 * this method from {@link WebViewClient#shouldInterceptRequest(WebView, String)} and
+	 * {@link #interceptContentRequest(WebResourceRequest)} from
+	 * {@link WebViewClient#shouldInterceptRequest(WebView, WebResourceRequest)}, otherwise the
+	 * stored contents will not be loaded and the resources will not be cached.
+	 * <p>
+	 * This method accesses disk and network, so it should not be called on the main thread.
+	 *
+	 * @param url The requested url.
+	 * @return Response streaming the stored content or the cached resource or {@code null} if the
+	 * request should be handled by the web view.
+	 */
+	@WorkerThread @Nullable protected final WebResourceResponse interceptContentRequest(@NonNull final String url) {
+		final WebContentStore store = contentStore;
+		final WebResourceResponse response = store == null ? null : store.interceptRequest(url);
+		if (response != null) {
+			return response;
+		}
+		final WebResourceCache cache = resourceCache;
+		return cache == null ? null : cache.interceptRequest(url);
+	}
+
+	/**
+	 * Same as {@link #interceptContentRequest(String)} but the resources are served via
+	 * {@link WebResourceCache} only for {@code GET} requests, with headers of the specified
+	 * <var>request</var> and for requests of main frames only in offline mode of the cache.
+	 * <p>
+	 * This method accesses disk and network, so it should not be called on the main thread.
+	 *
+	 * @param request The intercepted request.
+	 * @return Response streaming the stored content or the cached resource or {@code null} if the
+	 * request should be handled by the web view.
+	 */
+	@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+	@WorkerThread @Nullable protected final WebResourceResponse interceptContentRequest(@NonNull final WebResourceRequest request) {
+		final WebContentStore store = contentStore;
+		final WebResourceResponse response = store == null ? null : store.interceptRequest(request.getUrl().toString());
+		if (response != null) {
+			return response;
+		}
+		final WebResourceCache cache = resourceCache;
+		return cache == null ? null : cache.interceptRequest(request);
+	}
+
 	/**
 	 * Invoked during web view's initialization process. You can create here your custom implementation
 	 * of WebChromeClient to manage specific callbacks for such a client.
@@ -448,10 +600,10 @@ public class WebFragment extends ActionBarFragment {
 	@Override public void onActivityCreated(@Nullable final Bundle savedInstanceState) {
 		super.onActivityCreated(savedInstanceState);
 		this.updatePrivateFlags(PFLAG_READY_TO_LOAD_CONTENT, true);
-		if (savedInstanceState == null || webView == null || contentType == CONTENT_EMPTY || contentType == CONTENT_HTML) {
+		// State of the web view may not be saved if it has been already returned into the pool.
+		if (savedInstanceState == null || webView == null || contentType == CONTENT_EMPTY || contentType == CONTENT_HTML ||
+				webView.restoreState(savedInstanceState) == null) {
 			onLoadContent(content, contentType);
-		} else {
-			this.webView.restoreState(savedInstanceState);
 		}
 	}
 
@@ -463,11 +615,32 @@ public class WebFragment extends ActionBarFragment {
 	 * @return {@code True} if content was loaded, {@code false} if it was prepared for loading and
 	 * will be loaded in the feature when WebView is ready.
 	 *
+	 * @see #loadContent(String, int)
 	 * @see #getContent()
 	 */
 	public boolean loadContent(@Nullable final String content) {
+		return loadContent(content, resolveContentType(content));
+	}
+
+	/**
+	 * Same as {@link #loadContent(String)} but the type of the given content is specified explicitly,
+	 * so it does not need to be resolved. This is preferred for large contents of already known type.
+	 *
+	 * @param content Content to load.
+	 * @param type    Type of the specified <var>content</var>. One of types defined by
+	 *                {@link ContentType @ContentType} annotation.
+	 * @return {@code True} if content was loaded, {@code false} if it was prepared for loading and
+	 * will be loaded in the feature when WebView is ready.
+	 */
+	public boolean loadContent(@Nullable final String content, @ContentType final int type) {
+		if (contentKey != null) {
+			if (contentStore != null) {
+				this.contentStore.discard(contentKey);
+			}
+			this.contentKey = null;
+		}
 		this.content = content;
-		this.contentType = resolveContentType(this.content);
+		this.contentType = type;
 		if ((privateFlags & PFLAG_READY_TO_LOAD_CONTENT) != 0) {
 			onLoadContent(this.content, contentType);
 			return true;
@@ -478,15 +651,39 @@ public class WebFragment extends ActionBarFragment {
 	/**
 	 * Returns the current content that is loaded or prepared to be loaded into the web view of this
 	 * web fragment instance.
+	 * <p>
+	 * <b>Note</b>, that if the content has been stored in {@link WebContentStore} and this fragment
+	 * has been restored from its saved state, the content is read from that store.
 	 *
 	 * @return Current content. This can be a raw HTML or web URL or a FILE path.
 	 *
 	 * @see #loadContent(String)
 	 */
 	@Nullable public String getContent() {
+		if (content == null && contentKey != null && contentStore != null) {
+			this.content = contentStore.read(contentKey);
+		}
 		return content;
 	}
 
+	/**
+	 * Stores the current content into {@link #contentStore} if the store is enabled by the current
+	 * options and the content is HTML content that is not shorter than threshold of the store and
+	 * it has not been stored yet.
+	 *
+	 * @return {@code True} if the current content is stored and may be loaded via its url,
+	 * {@code false} otherwise.
+	 */
+	private boolean storeContentIfNeeded() {
+		if (contentStore == null) {
+			return false;
+		}
+		if (contentKey == null && options != null && options.contentStoreEnabled && contentType == CONTENT_HTML && content != null && content.length() >= contentStore.getThreshold()) {
+			this.contentKey = contentStore.store(content);
+		}
+		return contentKey != null;
+	}
+
 	/**
 	 * Returns the type of the current content that is loaded or prepared to be loaded into the web
 	 * view of this web fragment instance.
@@ -502,6 +699,12 @@ public class WebFragment extends ActionBarFragment {
 
 	/**
 	 * Runs resolving process of the current content.
+	 * <p>
+	 * Contents which cannot be URL (containing whitespace or markup characters) are not matched
+	 * against the URL pattern, and FILE is resolved only from a {@code file://} prefix. Contents
+	 * longer than {@link #URL_MATCH_MAX_LENGTH} are resolved as URL if theirs {@code http://} or
+	 * {@code https://} scheme and authority match the URL pattern, so the pattern never runs over
+	 * large contents. This method may be called from any thread.
 	 *
 	 * @return One of the flags {@link #CONTENT_EMPTY}, {@link #CONTENT_HTML}, {@link #CONTENT_URL}
 	 * or {@link #CONTENT_FILE}.
@@ -511,9 +714,9 @@ public class WebFragment extends ActionBarFragment {
 		if (TextUtils.isEmpty(content)) {
 			contentType = CONTENT_EMPTY;
 		} else {
-			if (WEB_URL_MATCHER.reset(content).matches()) {
+			if (mayBeWebUrl(content) && matchesWebUrl(content)) {
 				contentType = CONTENT_URL;
-			} else if (FILE_URL_MATCHER.reset(content).matches()) {
+			} else if (content.startsWith(FILE_URL_PREFIX) && !containsLineTerminator(content, FILE_URL_PREFIX.length())) {
 				contentType = CONTENT_FILE;
 			} else {
 				contentType = CONTENT_HTML;
@@ -522,6 +725,83 @@ public class WebFragment extends ActionBarFragment {
 		return contentType;
 	}
 
+	/**
+	 * Checks whether the given <var>content</var> may be a web URL. Characters rejected by this
+	 * check are not allowed by {@link Patterns#WEB_URL} anywhere in the URL.
+	 *
+	 * @param content The content to check.
+	 * @return {@code True} if the content may be matched against the URL pattern, {@code false}
+	 * if it is surely not a web URL.
+	 */
+	private static boolean mayBeWebUrl(final String content) {
+		final int length = content.length();
+		for (int i = 0; i < length; i++) {
+			final char c = content.charAt(i);
+			if (c <= ' ' || c == '<' || c == '>' || c == '"') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Matches the given <var>content</var> against the URL pattern. Contents longer than
+	 * {@link #URL_MATCH_MAX_LENGTH} are matched only up to the end of theirs authority and only
+	 * if they start with {@code http://} or {@code https://}.
+	 *
+	 * @param content The content to match. Should be already checked via {@link #mayBeWebUrl(String)}.
+	 * @return {@code True} if the content is a web URL, {@code false} otherwise.
+	 */
+	private static boolean matchesWebUrl(final String content) {
+		final int length = content.length();
+		if (length <= URL_MATCH_MAX_LENGTH) {
+			return Patterns.WEB_URL.matcher(content).matches();
+		}
+		final int schemeLength;
+		if (content.regionMatches(true, 0, HTTP_URL_PREFIX, 0, HTTP_URL_PREFIX.length())) {
+			schemeLength = HTTP_URL_PREFIX.length();
+		} else if (content.regionMatches(true, 0, HTTPS_URL_PREFIX, 0, HTTPS_URL_PREFIX.length())) {
+			schemeLength = HTTPS_URL_PREFIX.length();
+		} else {
+			return false;
+		}
+		for (int i = schemeLength; i < URL_MATCH_MAX_LENGTH; i++) {
+			switch (content.charAt(i)) {
+				case '/':
+				case '?':
+				case '#':
+					return i > schemeLength && Patterns.WEB_URL.matcher(content.substring(0, i)).matches();
+				default:
+					break;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the given <var>content</var> contains a line terminator (as recognized by
+	 * regular expressions) starting from the specified <var>index</var>.
+	 *
+	 * @param content The content to check.
+	 * @param index   Index from which to start the check.
+	 * @return {@code True} if there is a line terminator, {@code false} otherwise.
+	 */
+	private static boolean containsLineTerminator(final String content, final int index) {
+		for (int i = index; i < content.length(); i++) {
+			switch (content.charAt(i)) {
+				case '\n':
+				case '\r':
+				case '\u0085':
+				case '\u2028':
+				case '\u2029':
+					return true;
+				default:
+					break;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Invoked whenever {@link #loadContent(String)} is called and this fragment is ready (READY means
 	 * after {@link #onActivityCreated(Bundle)} was called) to load that specific content
@@ -551,7 +831,11 @@ public class WebFragment extends ActionBarFragment {
 					break;
 				case CONTENT_HTML:
 				default:
-					this.webView.loadDataWithBaseURL("", content, DATA_MIME_TYPE, DATA_ENCODING, "");
+					if (TextUtils.equals(content, this.content) && storeContentIfNeeded()) {
+						this.webView.loadUrl(contentStore.getContentUrl(contentKey));
+					} else {
+						this.webView.loadDataWithBaseURL("", content, DATA_MIME_TYPE, DATA_ENCODING, "");
+					}
 					break;
 			}
 		}
@@ -564,8 +848,16 @@ public class WebFragment extends ActionBarFragment {
 		if (webView != null) {
 			this.webView.saveState(state);
 		}
-		state.putParcelable(BUNDLE_OPTIONS, options);
-		state.putString(BUNDLE_CONTENT, content);
+		final boolean contentStored = storeContentIfNeeded();
+		// Do not keep the stored content also in the saved options, the options specified for this
+		// fragment are left untouched.
+		state.putParcelable(BUNDLE_OPTIONS, contentStored && options != null && TextUtils.equals(content, options.content) ?
+				options.copyWithContentKey(contentKey) :
+				options
+		);
+		state.putString(BUNDLE_CONTENT, contentStored ? null : content);
+		state.putString(BUNDLE_CONTENT_KEY, contentKey);
+		state.putInt(BUNDLE_CONTENT_TYPE, contentType);
 		state.putInt(BUNDLE_PRIVATE_FLAGS, privateFlags);
 	}
 
@@ -584,6 +876,24 @@ public class WebFragment extends ActionBarFragment {
 	@Override public void onDestroyView() {
 		super.onDestroyView();
 		this.updatePrivateFlags(PFLAG_READY_TO_LOAD_CONTENT, false);
+		if (webViewPool != null) {
+			if (webView != null) {
+				this.webViewPool.release(webView);
+				this.webView = null;
+			}
+			this.webViewPool = null;
+		}
+	}
+
+	/**
+	 */
+	@Override public void onDestroy() {
+		super.onDestroy();
+		final Activity activity = getActivity();
+		if (contentKey != null && contentStore != null && (isRemoving() || (activity != null && activity.isFinishing()))) {
+			this.contentStore.discard(contentKey);
+			this.contentKey = null;
+		}
 	}
 
 	/*
@@ -622,6 +932,23 @@ public class WebFragment extends ActionBarFragment {
 		 */
 		String content;
 
+		/**
+		 * Type of the content. May be {@code -1} if the type should be resolved from the content.
+		 */
+		int contentType;
+
+		/**
+		 * Key of HTML content stored in {@link WebContentStore}. May be {@code null} if the content
+		 * has not been stored.
+		 */
+		String contentKey;
+
+		/**
+		 * Flag indicating whether large HTML contents should be stored in {@link WebContentStore}
+		 * or not.
+		 */
+		boolean contentStoreEnabled;
+
 		/**
 		 * Flag indicating whether Java-Script should be enabled or not.
 		 */
@@ -632,6 +959,7 @@ public class WebFragment extends ActionBarFragment {
 		 */
 		public WebOptions() {
 			this.content = "";
+			this.contentType = CONTENT_UNSPECIFIED;
 			this.javaScriptEnabled = true;
 		}
 
@@ -644,6 +972,9 @@ public class WebFragment extends ActionBarFragment {
 		protected WebOptions(@NonNull final Parcel source) {
 			this.content = source.readString();
 			this.javaScriptEnabled = source.readInt() != 0;
+			this.contentType = source.readInt();
+			this.contentKey = source.readString();
+			this.contentStoreEnabled = source.readInt() != 0;
 		}
 
 		/**
@@ -651,6 +982,9 @@ public class WebFragment extends ActionBarFragment {
 		@Override public void writeToParcel(@NonNull final Parcel dest, final int flags) {
 			dest.writeString(content);
 			dest.writeInt(javaScriptEnabled ? 1 : 0);
+			dest.writeInt(contentType);
+			dest.writeString(contentKey);
+			dest.writeInt(contentStoreEnabled ? 1 : 0);
 		}
 
 		/**
@@ -670,9 +1004,72 @@ public class WebFragment extends ActionBarFragment {
 		 */
 		public WebOptions content(@NonNull final String content) {
 			this.content = content;
+			this.contentType = CONTENT_UNSPECIFIED;
+			this.contentKey = null;
+			return this;
+		}
+
+		/**
+		 * Same as {@link #content(String)} but the type of the given content is specified explicitly,
+		 * so it does not need to be resolved by the fragment.
+		 *
+		 * @param content Content to load.
+		 * @param type    Type of the specified <var>content</var>. One of types defined by
+		 *                {@link ContentType @ContentType} annotation.
+		 * @return These options to allow methods chaining.
+		 *
+		 * @see #contentType()
+		 */
+		public WebOptions content(@NonNull final String content, @ContentType final int type) {
+			this.content = content;
+			this.contentType = type;
+			this.contentKey = null;
 			return this;
 		}
 
+		/**
+		 * Sets a key of HTML content which has been already stored in {@link WebContentStore} that
+		 * is available to the fragment, so the content itself does not need to be passed to the
+		 * fragment. The fragment takes over the stored content and discards it once the fragment
+		 * is removed.
+		 *
+		 * @param key Key of the stored content as returned by {@link WebContentStore#store(String)}.
+		 * @return These options to allow methods chaining.
+		 *
+		 * @see #contentKey()
+		 */
+		public WebOptions contentKey(@NonNull final String key) {
+			this.content = "";
+			this.contentType = CONTENT_HTML;
+			this.contentKey = key;
+			return this;
+		}
+
+		/**
+		 * Creates a copy of these options which references content stored in {@link WebContentStore}
+		 * under the specified <var>key</var> instead of holding the content itself.
+		 *
+		 * @param key Key of the stored content.
+		 * @return New options with the stored content.
+		 */
+		WebOptions copyWithContentKey(final String key) {
+			final WebOptions options = new WebOptions().contentKey(key);
+			options.contentStoreEnabled = contentStoreEnabled;
+			options.javaScriptEnabled = javaScriptEnabled;
+			return options;
+		}
+
+		/**
+		 * Returns the key of HTML content stored in {@link WebContentStore}.
+		 *
+		 * @return Key of the stored content or {@code null} if the content has not been stored.
+		 *
+		 * @see #contentKey(String)
+		 */
+		@Nullable public String contentKey() {
+			return contentKey;
+		}
+
 		/**
 		 * Returns the content to load into {@link WebView}
 		 *
@@ -684,6 +1081,50 @@ public class WebFragment extends ActionBarFragment {
 			return content;
 		}
 
+		/**
+		 * Returns the type of the content to load into {@link WebView}.
+		 *
+		 * @return Type of the content specified via {@link #content(String, int)} or {@code -1} if
+		 * the type should be resolved from the content.
+		 */
+		public int contentType() {
+			return contentType;
+		}
+
+		/**
+		 * Sets a boolean flag indicating whether HTML contents which are not shorter than threshold
+		 * of {@link WebContentStore} available to the fragment should be stored in that store and
+		 * loaded via url of the stored content.
+		 * <p>
+		 * <b>Note</b>, that the stored contents run under origin of content base url of the store
+		 * instead of an empty base url, so relative urls, Java-Script origin, cookies and local
+		 * storage of the contents as well as urls reported to clients and listeners of the web view
+		 * differ from contents loaded as data. See {@link WebContentStore} for details.
+		 * <p>
+		 * Default value: <b>false</b>
+		 *
+		 * @param enabled {@code True} to enable storing of large contents, {@code false} otherwise.
+		 * @return These options to allow methods chaining.
+		 *
+		 * @see #contentStoreEnabled()
+		 * @see WebContentStore#setContentBaseUrl(String)
+		 */
+		public WebOptions contentStoreEnabled(final boolean enabled) {
+			this.contentStoreEnabled = enabled;
+			return this;
+		}
+
+		/**
+		 * Returns boolean flag indicating whether to store large HTML contents in {@link WebContentStore}.
+		 *
+		 * @return {@code True} if enabled, {@code false} otherwise.
+		 *
+		 * @see #contentStoreEnabled(boolean)
+		 */
+		public boolean contentStoreEnabled() {
+			return contentStoreEnabled;
+		}
+
 		/**
 		 * Sets a boolean flag indicating whether to enable Java-Script or not.
 		 *
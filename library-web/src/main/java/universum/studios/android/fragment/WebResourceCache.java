@@ -0,0 +1,922 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Build;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import androidx.annotation.WorkerThread;
+
+/**
+ * Cache of web resources, like style sheets, scripts or images, which are loaded by {@link WebView WebViews}
+ * of {@link WebFragment WebFragments}, so the same resources do not need to be fetched from the network
+ * whenever the fragments are shown. Requests of the web views are intercepted via {@link #interceptRequest(String)}
+ * or {@link #interceptRequest(WebResourceRequest)} which are called by the default {@link WebViewClient}
+ * of WebFragment. Only {@code GET} requests for sub-resources are intercepted, requests of main
+ * frames are left to the web view unless the cache is in offline mode.
+ * <p>
+ * Only resources with urls matching one of the rules added via {@link #addRule(Pattern, long)} are
+ * cached. Each rule also specifies for how long are the matching resources considered fresh. Fresh
+ * resources are served from the cache, stale ones are fetched again and served from the cache only
+ * if they cannot be fetched. Resources are fetched via {@link HttpURLConnection} as {@code GET} requests
+ * with headers of the intercepted request and with cookies of the {@link CookieManager}. Cookies
+ * set by the server are passed to the cookie manager. Cached resources are keyed only by theirs urls,
+ * so resources which the server marks as not shareable are served without being cached. These are
+ * resources with response headers:
+ * <ul>
+ * <li>{@code Cache-Control: no-store} or {@code Cache-Control: private},</li>
+ * <li>{@code Set-Cookie},</li>
+ * <li>{@code Vary} with other value than {@code Accept-Encoding} (resources are cached decoded).</li>
+ * </ul>
+ * <p>
+ * Cached resources are stored as separate files in the cache directory of the application and theirs
+ * total size is limited via {@link #setMaxSize(long)}. When the limit is exceeded, the least recently
+ * used resources are deleted.
+ * <p>
+ * In {@link #setOfflineMode(boolean) offline mode}, the network is not accessed by the cache. All
+ * cached resources are served regardless of theirs freshness and all other {@code GET} requests,
+ * including requests of main frames, are answered with an empty response with status
+ * {@code 504 Gateway Timeout}. Other requests are left to the web view. Below
+ * {@link Build.VERSION_CODES#LOLLIPOP LOLLIPOP}, where method of the intercepted requests is not
+ * known, only requests matching one of the rules are answered with the empty response.
+ * <p>
+ * WebFragment looks up the cache via its context. That context, any of its base contexts or the
+ * application context needs to implement {@link Provider}:
+ * <pre>
+ * public class SampleApplication extends Application implements WebResourceCache.Provider {
+ *
+ *     private WebResourceCache webResourceCache;
+ *
+ *     &#64;Override public void onCreate() {
+ *         super.onCreate();
+ *         this.webResourceCache = new WebResourceCache(this);
+ *         webResourceCache.addRule(WebResourceCache.STATIC_RESOURCES, TimeUnit.DAYS.toMillis(1));
+ *     }
+ *
+ *     &#64;Override public WebResourceCache getWebResourceCache() {
+ *         return webResourceCache;
+ *     }
+ * }
+ * </pre>
+ * Requests are intercepted on background threads of the web views, so the cache may be accessed
+ * from any thread.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class WebResourceCache {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "WebResourceCache";
+
+	/**
+	 * Default maximum size (in bytes) of the cached resources.
+	 */
+	public static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+
+	/**
+	 * Pattern matching urls of commonly used static resources, like style sheets, scripts, images
+	 * and fonts.
+	 */
+	public static final Pattern STATIC_RESOURCES = Pattern.compile(
+			"^https?://[^?#]+\\.(css|js|png|jpe?g|gif|webp|svg|ico|woff2?|ttf|otf)([?#].*)?$",
+			Pattern.CASE_INSENSITIVE
+	);
+
+	/**
+	 * Name of the directory in which are the resources cached.
+	 */
+	@VisibleForTesting static final String DIRECTORY_NAME = "universum.studios.fragments.web_resources";
+
+	/**
+	 * Suffix of a temporary file into which is the resource written before the file is renamed.
+	 */
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+	/**
+	 * Version of format of the files with cached resources.
+	 */
+	private static final int ENTRY_VERSION = 1;
+
+	/**
+	 * Timeout (in milliseconds) for connecting to and reading from the server.
+	 */
+	private static final int TIMEOUT = (int) TimeUnit.SECONDS.toMillis(15);
+
+	/**
+	 * Size of the buffer used to copy the fetched resources.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * Mime type of resources for which the server does not specify any.
+	 */
+	private static final String DEFAULT_MIME_TYPE = "application/octet-stream";
+
+	/**
+	 * Status code of the responses for requests which cannot be served in offline mode.
+	 */
+	@VisibleForTesting static final int OFFLINE_STATUS_CODE = HttpURLConnection.HTTP_GATEWAY_TIMEOUT;
+
+	/**
+	 * Name of the response header which is forwarded along with the cached resources.
+	 */
+	private static final String HEADER_ALLOW_ORIGIN = "Access-Control-Allow-Origin";
+
+	/**
+	 * Name of the request header which is not forwarded, so the fetched resources are decoded by
+	 * the connection.
+	 */
+	private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+
+	/**
+	 * Name of the request header with cookies.
+	 */
+	private static final String HEADER_COOKIE = "Cookie";
+
+	/**
+	 * Name of the response header with cookies to be set.
+	 */
+	private static final String HEADER_SET_COOKIE = "Set-Cookie";
+
+	/**
+	 * Name of the response header with caching directives.
+	 */
+	private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+
+	/**
+	 * Name of the response header listing request headers which affect the response.
+	 */
+	private static final String HEADER_VARY = "Vary";
+
+	/**
+	 * Method of the intercepted requests.
+	 */
+	private static final String METHOD_GET = "GET";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Interface for contexts, usually the application, which provide a cache of web resources for
+	 * web fragments that are created in theirs context.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Provider {
+
+		/**
+		 * Returns the cache of web resources for web fragments created in context of this provider.
+		 *
+		 * @return The resource cache or {@code null} if there is no cache available.
+		 */
+		@Nullable WebResourceCache getWebResourceCache();
+	}
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Directory in which are the resources cached.
+	 */
+	private final File directory;
+
+	/**
+	 * Rules determining which resources are cached and for how long.
+	 */
+	private final List<Rule> rules = new ArrayList<>(2);
+
+	/**
+	 * Map with entries of the cached resources mapped to theirs keys in access order, so the least
+	 * recently used entry is the first one.
+	 */
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Boolean flag indicating whether the {@link #entries} have been loaded from the directory.
+	 */
+	private boolean entriesLoaded;
+
+	/**
+	 * Total size (in bytes) of the cached resources.
+	 */
+	private long size;
+
+	/**
+	 * Maximum size (in bytes) of the cached resources.
+	 */
+	private long maxSize = DEFAULT_MAX_SIZE;
+
+	/**
+	 * Boolean flag indicating whether the cache is in offline mode.
+	 */
+	private volatile boolean offlineMode;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of WebResourceCache which caches resources in the cache directory of
+	 * the given <var>context</var>.
+	 *
+	 * @param context Context used to resolve directory for the resources.
+	 */
+	public WebResourceCache(@NonNull final Context context) {
+		this.directory = new File(context.getCacheDir(), DIRECTORY_NAME);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the resource cache provided by the given <var>context</var>, any of its base contexts
+	 * or by the application context.
+	 *
+	 * @param context The context from which to obtain the cache.
+	 * @return The cache or {@code null} if there is no {@link Provider} with cache available.
+	 */
+	@Nullable public static WebResourceCache from(@NonNull final Context context) {
+		Context currentContext = context;
+		while (currentContext != null) {
+			if (currentContext instanceof Provider) {
+				return ((Provider) currentContext).getWebResourceCache();
+			}
+			currentContext = currentContext instanceof ContextWrapper ? ((ContextWrapper) currentContext).getBaseContext() : null;
+		}
+		final Context applicationContext = context.getApplicationContext();
+		return applicationContext instanceof Provider ? ((Provider) applicationContext).getWebResourceCache() : null;
+	}
+
+	/**
+	 * Adds a rule specifying that resources with urls matching the given <var>urlPattern</var> should
+	 * be cached and served from the cache for the specified <var>maxAge</var>. The rules are matched
+	 * in order in which have been added.
+	 *
+	 * @param urlPattern Pattern matching whole urls of the resources to be cached.
+	 * @param maxAge     Time in milliseconds for which are the cached resources considered fresh.
+	 *                   May be {@code 0} to fetch the resources always, so they are served from
+	 *                   the cache only if they cannot be fetched.
+	 * @throws IllegalArgumentException If the specified max age is negative.
+	 *
+	 * @see #STATIC_RESOURCES
+	 * @see #clearRules()
+	 */
+	public void addRule(@NonNull final Pattern urlPattern, final long maxAge) {
+		if (maxAge < 0) {
+			throw new IllegalArgumentException("Max age must not be negative, specified(" + maxAge + ").");
+		}
+		synchronized (rules) {
+			this.rules.add(new Rule(urlPattern, maxAge));
+		}
+	}
+
+	/**
+	 * Clears all rules added via {@link #addRule(Pattern, long)}, so no more resources are cached.
+	 * Already cached resources are still served in offline mode.
+	 */
+	public void clearRules() {
+		synchronized (rules) {
+			this.rules.clear();
+		}
+	}
+
+	/**
+	 * Resolves max age of the resource with the specified <var>url</var>.
+	 *
+	 * @param url Url of the resource.
+	 * @return Max age specified by the first rule matching the url or {@code -1} if there is no
+	 * such rule.
+	 */
+	private long resolveMaxAge(final String url) {
+		synchronized (rules) {
+			for (final Rule rule : rules) {
+				if (rule.urlPattern.matcher(url).matches()) {
+					return rule.maxAge;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Sets the maximum size of the cached resources. If the cached resources are larger, the least
+	 * recently used ones are deleted.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_MAX_SIZE}</b>
+	 *
+	 * @param maxSize The desired maximum size in bytes.
+	 * @throws IllegalArgumentException If the specified size is negative.
+	 *
+	 * @see #getMaxSize()
+	 */
+	public void setMaxSize(final long maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Max size must not be negative, specified(" + maxSize + ").");
+		}
+		synchronized (entries) {
+			this.maxSize = maxSize;
+			// Not loaded entries are trimmed once they are loaded.
+			if (entriesLoaded) {
+				trimToSize(maxSize);
+			}
+		}
+	}
+
+	/**
+	 * Returns the maximum size of the cached resources.
+	 *
+	 * @return Maximum size in bytes.
+	 *
+	 * @see #setMaxSize(long)
+	 */
+	public long getMaxSize() {
+		synchronized (entries) {
+			return maxSize;
+		}
+	}
+
+	/**
+	 * Sets a boolean flag indicating whether this cache should be in offline mode, in which the
+	 * network is not accessed at all.
+	 *
+	 * @param offlineMode {@code True} to serve only the cached resources, {@code false} to fetch
+	 *                    the stale or not cached resources.
+	 *
+	 * @see #isOfflineMode()
+	 */
+	public void setOfflineMode(final boolean offlineMode) {
+		this.offlineMode = offlineMode;
+	}
+
+	/**
+	 * Returns boolean flag indicating whether this cache is in offline mode.
+	 *
+	 * @return {@code True} if the network is not accessed, {@code false} otherwise.
+	 *
+	 * @see #setOfflineMode(boolean)
+	 */
+	public boolean isOfflineMode() {
+		return offlineMode;
+	}
+
+	/**
+	 * Intercepts request for the specified <var>url</var>. This should be called from
+	 * {@link WebViewClient#shouldInterceptRequest(WebView, String)} of any client set to the web
+	 * view of which resources should be cached. Since method of the request is not known, the
+	 * request is treated as {@code GET} request for a sub-resource and in offline mode it is
+	 * answered with an empty response only if it matches one of the rules.
+	 * <p>
+	 * This method accesses disk and network, so it should not be called on the main thread.
+	 *
+	 * @param url The requested url.
+	 * @return Response with the cached or fetched resource or {@code null} if the request should
+	 * be handled by the web view.
+	 *
+	 * @see #interceptRequest(WebResourceRequest)
+	 */
+	@WorkerThread @Nullable public WebResourceResponse interceptRequest(@NonNull final String url) {
+		return interceptRequest(url, Collections.<String, String>emptyMap(), false);
+	}
+
+	/**
+	 * Intercepts the specified <var>request</var>. This should be called from
+	 * {@link WebViewClient#shouldInterceptRequest(WebView, WebResourceRequest)} of any client set
+	 * to the web view of which resources should be cached. Only {@code GET} requests are intercepted
+	 * and requests of main frames only in offline mode.
+	 * <p>
+	 * This method accesses disk and network, so it should not be called on the main thread.
+	 *
+	 * @param request The intercepted request.
+	 * @return Response with the cached or fetched resource or {@code null} if the request should
+	 * be handled by the web view.
+	 *
+	 * @see #interceptRequest(String)
+	 */
+	@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+	@WorkerThread @Nullable public WebResourceResponse interceptRequest(@NonNull final WebResourceRequest request) {
+		if (!METHOD_GET.equalsIgnoreCase(request.getMethod()) || (request.isForMainFrame() && !offlineMode)) {
+			return null;
+		}
+		final Map<String, String> headers = request.getRequestHeaders();
+		return interceptRequest(request.getUrl().toString(), headers == null ? Collections.<String, String>emptyMap() : headers, true);
+	}
+
+	/**
+	 * Intercepts {@code GET} request for the specified <var>url</var>.
+	 *
+	 * @param url                  The requested url.
+	 * @param headers              Headers of the request to be forwarded when fetching the resource.
+	 * @param answerAllWhenOffline {@code True} to answer all requests in offline mode, {@code false}
+	 *                              to answer only requests matching one of the rules.
+	 * @return Response with the cached or fetched resource or {@code null} if the request should
+	 * be handled by the web view.
+	 */
+	private WebResourceResponse interceptRequest(final String url, final Map<String, String> headers, final boolean answerAllWhenOffline) {
+		if (!url.regionMatches(true, 0, "http://", 0, 7) && !url.regionMatches(true, 0, "https://", 0, 8)) {
+			return null;
+		}
+		if (offlineMode) {
+			final WebResourceResponse response = openEntry(url, Long.MAX_VALUE);
+			if (response != null) {
+				return response;
+			}
+			return answerAllWhenOffline || resolveMaxAge(url) >= 0 ? createOfflineResponse() : null;
+		}
+		final long maxAge = resolveMaxAge(url);
+		if (maxAge < 0) {
+			return null;
+		}
+		WebResourceResponse response = openEntry(url, maxAge);
+		if (response == null) {
+			response = fetch(url, headers);
+		}
+		if (response == null) {
+			// Stale resource is better than none.
+			response = openEntry(url, Long.MAX_VALUE);
+		}
+		return response;
+	}
+
+	/**
+	 * Opens entry of the cached resource with the specified <var>url</var> if it is not older than
+	 * the specified <var>maxAge</var>.
+	 *
+	 * @param url    Url of the resource.
+	 * @param maxAge Max age of the resource in milliseconds.
+	 * @return Response streaming the cached resource or {@code null} if there is no such resource
+	 * cached or it is stale.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private WebResourceResponse openEntry(final String url, final long maxAge) {
+		final String key = createKey(url);
+		final Entry entry;
+		synchronized (entries) {
+			loadEntriesIfNeeded();
+			entry = entries.get(key);
+		}
+		if (entry == null) {
+			return null;
+		}
+		DataInputStream input = null;
+		try {
+			input = new DataInputStream(new BufferedInputStream(new FileInputStream(entry.file)));
+			if (input.readInt() != ENTRY_VERSION || !url.equals(input.readUTF())) {
+				input.close();
+				removeEntry(key);
+				return null;
+			}
+			final String mimeType = input.readUTF();
+			final String encoding = input.readUTF();
+			final String allowOrigin = input.readUTF();
+			final long fetchedAt = input.readLong();
+			if (System.currentTimeMillis() - fetchedAt >= maxAge) {
+				input.close();
+				return null;
+			}
+			// Mark the file as recently used, so it is not deleted before the others when loaded again.
+			entry.file.setLastModified(System.currentTimeMillis());
+			return createResponse(mimeType, encoding.isEmpty() ? null : encoding, allowOrigin, input);
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to read cached web resource.", e);
+			if (input != null) {
+				try {
+					input.close();
+				} catch (IOException ignored) {
+					// Nothing to do.
+				}
+			}
+			removeEntry(key);
+			return null;
+		}
+	}
+
+	/**
+	 * Fetches resource with the specified <var>url</var> from the network and caches it if the
+	 * server allows it to be shared.
+	 *
+	 * @param url     Url of the resource.
+	 * @param headers Headers of the request to be forwarded.
+	 * @return Response streaming the fetched resource or {@code null} if the resource could not
+	 * be fetched.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private WebResourceResponse fetch(final String url, final Map<String, String> headers) {
+		HttpURLConnection connection = null;
+		File temporaryFile = null;
+		try {
+			connection = (HttpURLConnection) new URL(url).openConnection();
+			connection.setConnectTimeout(TIMEOUT);
+			connection.setReadTimeout(TIMEOUT);
+			for (final Map.Entry<String, String> header : headers.entrySet()) {
+				if (!HEADER_ACCEPT_ENCODING.equalsIgnoreCase(header.getKey())) {
+					connection.setRequestProperty(header.getKey(), header.getValue());
+				}
+			}
+			final CookieManager cookieManager = CookieManager.getInstance();
+			final String cookie = cookieManager.getCookie(url);
+			if (cookie != null && !cookie.isEmpty()) {
+				connection.setRequestProperty(HEADER_COOKIE, cookie);
+			}
+			final int responseCode = connection.getResponseCode();
+			final boolean setsCookies = passCookies(connection, cookieManager, url);
+			if (responseCode != HttpURLConnection.HTTP_OK) {
+				return null;
+			}
+			String mimeType = DEFAULT_MIME_TYPE;
+			String encoding = null;
+			final String contentType = connection.getContentType();
+			if (contentType == null) {
+				final String guessedMimeType = URLConnection.guessContentTypeFromName(connection.getURL().getPath());
+				if (guessedMimeType != null) {
+					mimeType = guessedMimeType;
+				}
+			} else {
+				final String[] contentTypeParts = contentType.split(";");
+				mimeType = contentTypeParts[0].trim();
+				for (int i = 1; i < contentTypeParts.length; i++) {
+					final String parameter = contentTypeParts[i].trim();
+					if (parameter.toLowerCase(Locale.US).startsWith("charset=")) {
+						encoding = parameter.substring(8).replace("\"", "").trim();
+					}
+				}
+			}
+			final String allowOrigin = connection.getHeaderField(HEADER_ALLOW_ORIGIN);
+			final long maxSize = getMaxSize();
+			if (setsCookies || !isShareable(connection) || connection.getContentLength() > maxSize) {
+				final WebResourceResponse response = createResponse(mimeType, encoding, allowOrigin, connection.getInputStream());
+				// The response is responsible for the connection from now on.
+				connection = null;
+				return response;
+			}
+			if (!directory.exists() && !directory.mkdirs()) {
+				FragmentsLogging.w(TAG, "Failed to create directory for web resources.");
+				return null;
+			}
+			final String key = createKey(url);
+			temporaryFile = File.createTempFile(key, TEMPORARY_FILE_SUFFIX, directory);
+			long length = 0;
+			try (InputStream input = connection.getInputStream();
+				 DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)))) {
+				output.writeInt(ENTRY_VERSION);
+				output.writeUTF(url);
+				output.writeUTF(mimeType);
+				output.writeUTF(encoding == null ? "" : encoding);
+				output.writeUTF(allowOrigin == null ? "" : allowOrigin);
+				output.writeLong(System.currentTimeMillis());
+				final byte[] buffer = new byte[BUFFER_SIZE];
+				int count;
+				while ((count = input.read(buffer)) != -1) {
+					length += count;
+					if (length > maxSize) {
+						FragmentsLogging.w(TAG, "Web resource(" + url + ") is larger than max size of the cache.");
+						return null;
+					}
+					output.write(buffer, 0, count);
+				}
+			}
+			final File file = new File(directory, key);
+			if (!temporaryFile.renameTo(file)) {
+				FragmentsLogging.w(TAG, "Failed to rename file with web resource.");
+				return null;
+			}
+			temporaryFile = null;
+			synchronized (entries) {
+				loadEntriesIfNeeded();
+				final Entry previousEntry = entries.put(key, new Entry(file, file.length()));
+				if (previousEntry != null) {
+					this.size -= previousEntry.size;
+				}
+				this.size += file.length();
+				trimToSize(this.maxSize);
+			}
+			return openEntry(url, Long.MAX_VALUE);
+		} catch (IOException e) {
+			FragmentsLogging.w(TAG, "Failed to fetch web resource(" + url + ").", e);
+			return null;
+		} finally {
+			if (temporaryFile != null) {
+				temporaryFile.delete();
+			}
+			if (connection != null) {
+				connection.disconnect();
+			}
+		}
+	}
+
+	/**
+	 * Passes cookies set by response of the given <var>connection</var> to the specified <var>cookieManager</var>.
+	 *
+	 * @param connection    The connection with received response.
+	 * @param cookieManager Cookie manager of the web views.
+	 * @param url           Url of the resource.
+	 * @return {@code True} if the response sets any cookies, {@code false} otherwise.
+	 */
+	private static boolean passCookies(final HttpURLConnection connection, final CookieManager cookieManager, final String url) {
+		boolean setsCookies = false;
+		for (final Map.Entry<String, List<String>> header : connection.getHeaderFields().entrySet()) {
+			if (HEADER_SET_COOKIE.equalsIgnoreCase(header.getKey())) {
+				for (final String cookie : header.getValue()) {
+					cookieManager.setCookie(url, cookie);
+					setsCookies = true;
+				}
+			}
+		}
+		return setsCookies;
+	}
+
+	/**
+	 * Checks whether the response of the given <var>connection</var> may be cached and served to
+	 * any request for the same url.
+	 *
+	 * @param connection The connection with received response.
+	 * @return {@code True} if the response is not marked as private or not storable and it does
+	 * not vary by other request headers than {@code Accept-Encoding}, {@code false} otherwise.
+	 */
+	private static boolean isShareable(final HttpURLConnection connection) {
+		final String cacheControl = connection.getHeaderField(HEADER_CACHE_CONTROL);
+		if (cacheControl != null) {
+			final String directives = cacheControl.toLowerCase(Locale.US);
+			if (directives.contains("no-store") || directives.contains("private")) {
+				return false;
+			}
+		}
+		final String vary = connection.getHeaderField(HEADER_VARY);
+		return vary == null || vary.trim().equalsIgnoreCase(HEADER_ACCEPT_ENCODING);
+	}
+
+	/**
+	 * Creates a new response for the specified resource data.
+	 *
+	 * @param mimeType    Mime type of the resource.
+	 * @param encoding    Encoding of the resource. May be {@code null}.
+	 * @param allowOrigin Value of the {@code Access-Control-Allow-Origin} header of the resource.
+	 *                    May be {@code null} or empty.
+	 * @param data        Stream with the resource data.
+	 * @return Response ready to be passed to the web view.
+	 */
+	private static WebResourceResponse createResponse(final String mimeType, final String encoding, final String allowOrigin, final InputStream data) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && allowOrigin != null && !allowOrigin.isEmpty()) {
+			return new WebResourceResponse(
+					mimeType,
+					encoding,
+					HttpURLConnection.HTTP_OK,
+					"OK",
+					Collections.singletonMap(HEADER_ALLOW_ORIGIN, allowOrigin),
+					data
+			);
+		}
+		return new WebResourceResponse(mimeType, encoding, data);
+	}
+
+	/**
+	 * Creates a new response for request which cannot be served in offline mode.
+	 *
+	 * @return Empty response ready to be passed to the web view.
+	 */
+	private static WebResourceResponse createOfflineResponse() {
+		final InputStream data = new ByteArrayInputStream(new byte[0]);
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+			return new WebResourceResponse(
+					"text/plain",
+					null,
+					OFFLINE_STATUS_CODE,
+					"Offline",
+					Collections.<String, String>emptyMap(),
+					data
+			);
+		}
+		return new WebResourceResponse("text/plain", null, data);
+	}
+
+	/**
+	 * Creates a key of the resource with the specified <var>url</var> which may be used as file name.
+	 *
+	 * @param url Url of the resource.
+	 * @return Hexadecimal SHA-1 hash of the url.
+	 */
+	private static String createKey(final String url) {
+		final byte[] hash;
+		try {
+			hash = MessageDigest.getInstance("SHA-1").digest(url.getBytes(Charset.forName("UTF-8")));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-1 algorithm is not available.", e);
+		}
+		final StringBuilder key = new StringBuilder(hash.length * 2);
+		for (final byte value : hash) {
+			key.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Loads entries of the resources cached in the directory if they have not been loaded yet.
+	 * Must be called while holding lock of the {@link #entries}.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void loadEntriesIfNeeded() {
+		if (entriesLoaded) {
+			return;
+		}
+		this.entriesLoaded = true;
+		final File[] files = directory.listFiles();
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files, new Comparator<File>() {
+
+			@Override public int compare(final File first, final File second) {
+				final long firstModified = first.lastModified();
+				final long secondModified = second.lastModified();
+				return firstModified < secondModified ? -1 : (firstModified == secondModified ? 0 : 1);
+			}
+		});
+		for (final File file : files) {
+			if (file.getName().endsWith(TEMPORARY_FILE_SUFFIX)) {
+				file.delete();
+			} else {
+				final long length = file.length();
+				this.entries.put(file.getName(), new Entry(file, length));
+				this.size += length;
+			}
+		}
+		trimToSize(maxSize);
+	}
+
+	/**
+	 * Deletes the least recently used resources until theirs total size is not larger than the
+	 * specified <var>maxSize</var>. Must be called while holding lock of the {@link #entries}.
+	 *
+	 * @param maxSize The desired maximum size in bytes.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void trimToSize(final long maxSize) {
+		final Iterator<Entry> iterator = entries.values().iterator();
+		while (size > maxSize && iterator.hasNext()) {
+			final Entry entry = iterator.next();
+			iterator.remove();
+			entry.file.delete();
+			this.size -= entry.size;
+		}
+	}
+
+	/**
+	 * Removes entry with the specified <var>key</var> along with its file.
+	 *
+	 * @param key Key of the entry to remove.
+	 */
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void removeEntry(final String key) {
+		synchronized (entries) {
+			final Entry entry = entries.remove(key);
+			if (entry != null) {
+				entry.file.delete();
+				this.size -= entry.size;
+			}
+		}
+	}
+
+	/**
+	 * Returns the total size of the cached resources.
+	 *
+	 * @return Size in bytes.
+	 */
+	@WorkerThread public long size() {
+		synchronized (entries) {
+			loadEntriesIfNeeded();
+			return size;
+		}
+	}
+
+	/**
+	 * Deletes all cached resources.
+	 */
+	@WorkerThread public void clear() {
+		synchronized (entries) {
+			loadEntriesIfNeeded();
+			trimToSize(0);
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Rule determining which resources are cached and for how long.
+	 */
+	private static final class Rule {
+
+		/**
+		 * Pattern matching urls of the cached resources.
+		 */
+		final Pattern urlPattern;
+
+		/**
+		 * Time in milliseconds for which are the cached resources considered fresh.
+		 */
+		final long maxAge;
+
+		/**
+		 * Creates a new instance of Rule with the specified <var>urlPattern</var> and <var>maxAge</var>.
+		 *
+		 * @param urlPattern Pattern matching urls of the cached resources.
+		 * @param maxAge     Time in milliseconds for which are the cached resources considered fresh.
+		 */
+		Rule(final Pattern urlPattern, final long maxAge) {
+			this.urlPattern = urlPattern;
+			this.maxAge = maxAge;
+		}
+	}
+
+	/**
+	 * Entry of a cached resource.
+	 */
+	private static final class Entry {
+
+		/**
+		 * File in which is the resource cached.
+		 */
+		final File file;
+
+		/**
+		 * Size of the file in bytes.
+		 */
+		final long size;
+
+		/**
+		 * Creates a new instance of Entry with the specified <var>file</var> and <var>size</var>.
+		 *
+		 * @param file File in which is the resource cached.
+		 * @param size Size of the file in bytes.
+		 */
+		Entry(final File file, final long size) {
+			this.file = file;
+			this.size = size;
+		}
+	}
+}
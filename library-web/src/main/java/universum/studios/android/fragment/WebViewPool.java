@@ -0,0 +1,643 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.MutableContextWrapper;
+import android.content.res.Configuration;
+import android.os.Build;
+import android.os.Bundle;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.webkit.WebBackForwardList;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Pool of {@link WebView WebViews} which are created ahead of time, so {@link WebFragment} does not
+ * need to create its web view whenever its view is being created. Creation of the first web view
+ * within a process is especially expensive as it also initializes the web engine.
+ * <p>
+ * Web views requested via {@link #prewarm(int)} are created one by one on the main thread whenever
+ * its message queue becomes idle. The web views are created in context of the application wrapped
+ * into {@link MutableContextWrapper}, which is switched to context of the fragment when the web
+ * view is obtained via {@link #obtain(Context)} and back to the application context when it is
+ * returned via {@link #release(WebView)}, so the pooled web views never hold a reference to an
+ * activity. Returned web views are reset before they are pooled again. Theirs clients, download
+ * listener and Java-Script interfaces are removed, theirs settings are restored to the values the
+ * web views have had when they were created and blank page is loaded. Once the blank page is loaded,
+ * theirs history is cleared and they may be obtained again.
+ * <p>
+ * WebFragment looks up the pool via context of its inflater. That context, any of its base contexts
+ * or the application context needs to implement {@link Provider}. As the web views are not bound
+ * to any activity, it is usually the application:
+ * <pre>
+ * public class SampleApplication extends Application implements WebViewPool.Provider {
+ *
+ *     private WebViewPool webViewPool;
+ *
+ *     &#64;Override public void onCreate() {
+ *         super.onCreate();
+ *         this.webViewPool = new WebViewPool(this);
+ *         registerComponentCallbacks(webViewPool);
+ *         webViewPool.prewarm(1);
+ *     }
+ *
+ *     &#64;Override public WebViewPool getWebViewPool() {
+ *         return webViewPool;
+ *     }
+ * }
+ * </pre>
+ * Count of pooled web views is limited via {@link #setMaxSize(int)}. The pool also implements
+ * {@link ComponentCallbacks2}, so when registered, it destroys all pooled web views whenever the
+ * system runs low on memory.
+ *
+ * @author Martin Albedinsky
+ * @since 1.6
+ */
+public final class WebViewPool implements ComponentCallbacks2 {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	private static final String TAG = "WebViewPool";
+
+	/**
+	 * Default maximum count of web views that may be pooled.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 2;
+
+	/**
+	 * Url of the blank page loaded into the web views when they are being reset.
+	 */
+	@VisibleForTesting static final String BLANK_URL = "about:blank";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Interface for contexts, usually the application, which provide a pool of web views for web
+	 * fragments that are created in theirs context.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.6
+	 */
+	public interface Provider {
+
+		/**
+		 * Returns the pool of web views for web fragments created in context of this provider.
+		 *
+		 * @return The web view pool or {@code null} if there is no pool available.
+		 */
+		@Nullable WebViewPool getWebViewPool();
+	}
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Application context in which are the pooled web views created.
+	 */
+	private final Context context;
+
+	/**
+	 * List of web views which are ready to be obtained.
+	 */
+	private final List<PooledWebView> webViews = new ArrayList<>(DEFAULT_MAX_SIZE);
+
+	/**
+	 * List of web views which are waiting for the blank page to be loaded.
+	 */
+	private final List<PooledWebView> resettingWebViews = new ArrayList<>(DEFAULT_MAX_SIZE);
+
+	/**
+	 * Client set to the web views which are being reset. Moves the reset web views into the pool
+	 * once the blank page is loaded.
+	 */
+	private final WebViewClient resetClient = new WebViewClient() {
+
+		/**
+		 */
+		@Override public void onPageFinished(final WebView view, final String url) {
+			if (BLANK_URL.equals(url)) {
+				onWebViewReset(view);
+			}
+		}
+	};
+
+	/**
+	 * Handler which creates requested web views whenever the main message queue becomes idle.
+	 */
+	private final MessageQueue.IdleHandler idleHandler = new MessageQueue.IdleHandler() {
+
+		/**
+		 */
+		@Override public boolean queueIdle() {
+			final boolean hasPendingWebViews = createNext();
+			idleHandlerRegistered = hasPendingWebViews;
+			return hasPendingWebViews;
+		}
+	};
+
+	/**
+	 * Boolean flag indicating whether the {@link #idleHandler} is registered.
+	 */
+	private boolean idleHandlerRegistered;
+
+	/**
+	 * Count of web views waiting to be created.
+	 */
+	private int pendingCount;
+
+	/**
+	 * Maximum count of web views that may be pooled.
+	 */
+	private int maxSize = DEFAULT_MAX_SIZE;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of WebViewPool which creates web views in context of the application
+	 * of the given <var>context</var>.
+	 *
+	 * @param context Context of which application context to use to create pooled web views.
+	 */
+	public WebViewPool(@NonNull final Context context) {
+		this.context = context.getApplicationContext();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the web view pool provided by the given <var>context</var>, by any of its base contexts
+	 * or by its application context.
+	 *
+	 * @param context The context in which to find the pool.
+	 * @return The pool or {@code null} if there is no {@link Provider} with pool available.
+	 */
+	@Nullable public static WebViewPool from(@NonNull final Context context) {
+		Context currentContext = context;
+		while (currentContext != null) {
+			if (currentContext instanceof Provider) {
+				return ((Provider) currentContext).getWebViewPool();
+			}
+			currentContext = currentContext instanceof ContextWrapper ? ((ContextWrapper) currentContext).getBaseContext() : null;
+		}
+		final Context applicationContext = context.getApplicationContext();
+		return applicationContext instanceof Provider ? ((Provider) applicationContext).getWebViewPool() : null;
+	}
+
+	/**
+	 * Sets the maximum count of web views that may be pooled. If there is more web views pooled,
+	 * the oldest ones are destroyed.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_MAX_SIZE}</b>
+	 *
+	 * @param maxSize The desired maximum size. May be {@code 0} to not pool any web views.
+	 * @throws IllegalArgumentException If the specified size is negative.
+	 */
+	@MainThread public void setMaxSize(final int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("Max size must not be negative, specified(" + maxSize + ").");
+		}
+		this.maxSize = maxSize;
+		while (webViews.size() > maxSize) {
+			webViews.remove(0).destroy();
+		}
+		this.pendingCount = Math.min(pendingCount, Math.max(0, maxSize - webViews.size() - resettingWebViews.size()));
+	}
+
+	/**
+	 * Returns the maximum count of web views that may be pooled.
+	 *
+	 * @return Maximum size of this pool.
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * Requests the specified <var>count</var> of web views to be created ahead of time. The web
+	 * views are created once the main message queue becomes idle.
+	 *
+	 * @param count The desired count of web views to be pooled. Count of the requested web views
+	 *              is limited by the maximum size of this pool.
+	 * @return {@code True} if at least one web view has been requested to be created, {@code false}
+	 * if the pool is full.
+	 */
+	@MainThread public boolean prewarm(final int count) {
+		this.pendingCount = Math.min(Math.max(pendingCount, count), Math.max(0, maxSize - webViews.size() - resettingWebViews.size()));
+		if (pendingCount == 0) {
+			return false;
+		}
+		if (!idleHandlerRegistered) {
+			Looper.myQueue().addIdleHandler(idleHandler);
+			this.idleHandlerRegistered = true;
+		}
+		return true;
+	}
+
+	/**
+	 * Creates the next requested web view, if there is any.
+	 *
+	 * @return {@code True} if there are still some web views to be created, {@code false} otherwise.
+	 */
+	@VisibleForTesting boolean createNext() {
+		if (pendingCount == 0) {
+			return false;
+		}
+		this.pendingCount--;
+		if (webViews.size() + resettingWebViews.size() < maxSize) {
+			try {
+				webViews.add(new PooledWebView(new MutableContextWrapper(context)));
+			} catch (RuntimeException e) {
+				// Web view may not be available at all, for example when its package is being updated.
+				FragmentsLogging.w(TAG, "Failed to create web view.", e);
+				this.pendingCount = 0;
+			}
+		}
+		return pendingCount > 0;
+	}
+
+	/**
+	 * Takes a web view out of this pool or creates a new one if there is no pooled web view available.
+	 * Web views obtained via this method should be returned back via {@link #release(WebView)}
+	 * once they are no longer needed.
+	 *
+	 * @param context Context in which will be the web view used, usually the activity.
+	 * @return Web view using the specified context.
+	 */
+	@MainThread @NonNull public WebView obtain(@NonNull final Context context) {
+		final PooledWebView webView = webViews.isEmpty() ?
+				new PooledWebView(new MutableContextWrapper(this.context)) :
+				webViews.remove(webViews.size() - 1);
+		((MutableContextWrapper) webView.getContext()).setBaseContext(context);
+		return webView;
+	}
+
+	/**
+	 * Returns the given <var>webView</var> back into this pool. The web view is reset as soon as
+	 * it is detached from its window and it may be obtained again once its reset is finished.
+	 * If the pool is full, the web view is destroyed.
+	 *
+	 * @param webView The web view obtained via {@link #obtain(Context)} to be returned. Other web
+	 *                views are ignored.
+	 */
+	@MainThread public void release(@NonNull final WebView webView) {
+		if (!(webView instanceof PooledWebView)) {
+			return;
+		}
+		if (webView.getWindowToken() == null) {
+			reset((PooledWebView) webView);
+			return;
+		}
+		// The web view may be still animated out of its container, so reset it once it is detached.
+		webView.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+
+			/**
+			 */
+			@Override public void onViewAttachedToWindow(final View view) {}
+
+			/**
+			 */
+			@Override public void onViewDetachedFromWindow(final View view) {
+				view.removeOnAttachStateChangeListener(this);
+				reset((PooledWebView) view);
+			}
+		});
+	}
+
+	/**
+	 * Resets the given <var>webView</var> so it may be pooled again or destroys it if this pool
+	 * is full.
+	 *
+	 * @param webView The web view to be reset.
+	 */
+	private void reset(final PooledWebView webView) {
+		final ViewParent parent = webView.getParent();
+		if (parent instanceof ViewGroup) {
+			((ViewGroup) parent).removeView(webView);
+		}
+		((MutableContextWrapper) webView.getContext()).setBaseContext(context);
+		if (webViews.size() + resettingWebViews.size() >= maxSize) {
+			webView.destroy();
+			return;
+		}
+		webView.stopLoading();
+		webView.setWebChromeClient(null);
+		webView.setDownloadListener(null);
+		webView.removeJavascriptInterfaces();
+		webView.defaultSettings.restore(webView.getSettings());
+		webView.setWebViewClient(resetClient);
+		webView.loadUrl(BLANK_URL);
+		resettingWebViews.add(webView);
+	}
+
+	/**
+	 * Invoked whenever the blank page has been loaded into the given <var>webView</var> which is
+	 * being reset.
+	 *
+	 * @param webView The web view with blank page loaded.
+	 */
+	@VisibleForTesting void onWebViewReset(final WebView webView) {
+		if (resettingWebViews.remove(webView)) {
+			final PooledWebView pooledWebView = (PooledWebView) webView;
+			pooledWebView.clearHistory();
+			pooledWebView.blankHistoryRoot = true;
+			webViews.add(pooledWebView);
+		}
+	}
+
+	/**
+	 * Returns the count of web views which are currently pooled and ready to be obtained.
+	 *
+	 * @return Count of pooled web views.
+	 */
+	public int size() {
+		return webViews.size();
+	}
+
+	/**
+	 * Destroys all pooled web views and cancels all pending requests.
+	 */
+	@MainThread public void clear() {
+		for (final WebView webView : webViews) {
+			webView.destroy();
+		}
+		webViews.clear();
+		for (final WebView webView : resettingWebViews) {
+			webView.destroy();
+		}
+		resettingWebViews.clear();
+		this.pendingCount = 0;
+		if (idleHandlerRegistered) {
+			Looper.myQueue().removeIdleHandler(idleHandler);
+			this.idleHandlerRegistered = false;
+		}
+	}
+
+	/**
+	 * Destroys all pooled web views whenever the specified <var>level</var> indicates that the
+	 * application is running low on memory or that its UI is no longer visible.
+	 */
+	@Override public void onTrimMemory(final int level) {
+		if (level >= TRIM_MEMORY_RUNNING_LOW) {
+			clear();
+		}
+	}
+
+	/**
+	 */
+	@Override public void onLowMemory() {
+		clear();
+	}
+
+	/**
+	 * Pooled web views use the application context, which is updated for the new configuration,
+	 * so they are kept pooled.
+	 */
+	@Override public void onConfigurationChanged(@NonNull final Configuration newConfig) {
+		// Nothing to release.
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * A {@link WebView} implementation which may be pooled by {@link WebViewPool}.
+	 */
+	@VisibleForTesting static final class PooledWebView extends WebView {
+
+		/**
+		 * Names of Java-Script interfaces added to this web view.
+		 */
+		private final List<String> javascriptInterfaces = new ArrayList<>(1);
+
+		/**
+		 * Settings of this web view as they were when this web view has been created.
+		 */
+		final DefaultSettings defaultSettings;
+
+		/**
+		 * Boolean flag indicating whether the first entry of history of this web view is the blank
+		 * page loaded when this web view has been reset.
+		 */
+		boolean blankHistoryRoot;
+
+		/**
+		 * Creates a new instance of PooledWebView with the given <var>context</var>.
+		 *
+		 * @param context Mutable context in which is the web view used.
+		 */
+		PooledWebView(final MutableContextWrapper context) {
+			super(context);
+			this.defaultSettings = new DefaultSettings(getSettings());
+		}
+
+		/**
+		 */
+		@Override public void addJavascriptInterface(@NonNull final Object object, @NonNull final String name) {
+			super.addJavascriptInterface(object, name);
+			if (!javascriptInterfaces.contains(name)) {
+				javascriptInterfaces.add(name);
+			}
+		}
+
+		/**
+		 */
+		@Override public void removeJavascriptInterface(@NonNull final String name) {
+			super.removeJavascriptInterface(name);
+			javascriptInterfaces.remove(name);
+		}
+
+		/**
+		 * Removes all Java-Script interfaces added to this web view.
+		 */
+		void removeJavascriptInterfaces() {
+			for (final String name : javascriptInterfaces) {
+				super.removeJavascriptInterface(name);
+			}
+			javascriptInterfaces.clear();
+		}
+
+		/**
+		 * Excludes the blank page loaded when this web view has been reset from its history, so
+		 * the blank page is never navigated to.
+		 */
+		@Override public boolean canGoBack() {
+			return blankHistoryRoot ? canGoBackOrForward(-2) : super.canGoBack();
+		}
+
+		/**
+		 */
+		@Override public void clearHistory() {
+			super.clearHistory();
+			this.blankHistoryRoot = false;
+		}
+
+		/**
+		 */
+		@Override @Nullable public WebBackForwardList restoreState(@NonNull final Bundle inState) {
+			this.blankHistoryRoot = false;
+			return super.restoreState(inState);
+		}
+	}
+
+	/**
+	 * Snapshot of {@link WebSettings} of a web view taken when the web view has been created, used
+	 * to restore settings customized by a user of the web view before it is pooled again.
+	 */
+	@VisibleForTesting static final class DefaultSettings {
+
+		/**
+		 * Snapshot values of the respective settings.
+		 */
+		private final boolean javaScriptEnabled;
+		private final boolean javaScriptCanOpenWindowsAutomatically;
+		private final boolean domStorageEnabled;
+		private final boolean databaseEnabled;
+		private final int cacheMode;
+		private final boolean loadsImagesAutomatically;
+		private final boolean blockNetworkImage;
+		private final boolean blockNetworkLoads;
+		private final boolean allowFileAccess;
+		private final boolean allowContentAccess;
+		private final boolean allowFileAccessFromFileURLs;
+		private final boolean allowUniversalAccessFromFileURLs;
+		private final boolean supportZoom;
+		private final boolean builtInZoomControls;
+		private final boolean displayZoomControls;
+		private final boolean useWideViewPort;
+		private final boolean loadWithOverviewMode;
+		private final boolean supportMultipleWindows;
+		private final WebSettings.LayoutAlgorithm layoutAlgorithm;
+		private final int textZoom;
+		private final int defaultFontSize;
+		private final int defaultFixedFontSize;
+		private final int minimumFontSize;
+		private final int minimumLogicalFontSize;
+		private final String defaultTextEncodingName;
+		private final String userAgentString;
+		private final boolean mediaPlaybackRequiresUserGesture;
+		private final int mixedContentMode;
+
+		/**
+		 * Creates a new instance of DefaultSettings with snapshot of the given <var>settings</var>.
+		 *
+		 * @param settings The settings of which snapshot to take.
+		 */
+		DefaultSettings(final WebSettings settings) {
+			this.javaScriptEnabled = settings.getJavaScriptEnabled();
+			this.javaScriptCanOpenWindowsAutomatically = settings.getJavaScriptCanOpenWindowsAutomatically();
+			this.domStorageEnabled = settings.getDomStorageEnabled();
+			this.databaseEnabled = settings.getDatabaseEnabled();
+			this.cacheMode = settings.getCacheMode();
+			this.loadsImagesAutomatically = settings.getLoadsImagesAutomatically();
+			this.blockNetworkImage = settings.getBlockNetworkImage();
+			this.blockNetworkLoads = settings.getBlockNetworkLoads();
+			this.allowFileAccess = settings.getAllowFileAccess();
+			this.allowContentAccess = settings.getAllowContentAccess();
+			this.allowFileAccessFromFileURLs = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN && settings.getAllowFileAccessFromFileURLs();
+			this.allowUniversalAccessFromFileURLs = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN && settings.getAllowUniversalAccessFromFileURLs();
+			this.supportZoom = settings.supportZoom();
+			this.builtInZoomControls = settings.getBuiltInZoomControls();
+			this.displayZoomControls = settings.getDisplayZoomControls();
+			this.useWideViewPort = settings.getUseWideViewPort();
+			this.loadWithOverviewMode = settings.getLoadWithOverviewMode();
+			this.supportMultipleWindows = settings.supportMultipleWindows();
+			this.layoutAlgorithm = settings.getLayoutAlgorithm();
+			this.textZoom = settings.getTextZoom();
+			this.defaultFontSize = settings.getDefaultFontSize();
+			this.defaultFixedFontSize = settings.getDefaultFixedFontSize();
+			this.minimumFontSize = settings.getMinimumFontSize();
+			this.minimumLogicalFontSize = settings.getMinimumLogicalFontSize();
+			this.defaultTextEncodingName = settings.getDefaultTextEncodingName();
+			this.userAgentString = settings.getUserAgentString();
+			this.mediaPlaybackRequiresUserGesture = Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1 || settings.getMediaPlaybackRequiresUserGesture();
+			this.mixedContentMode = Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP ? settings.getMixedContentMode() : 0;
+		}
+
+		/**
+		 * Restores the given <var>settings</var> to values of this snapshot.
+		 *
+		 * @param settings The settings to restore.
+		 */
+		void restore(final WebSettings settings) {
+			settings.setJavaScriptEnabled(javaScriptEnabled);
+			settings.setJavaScriptCanOpenWindowsAutomatically(javaScriptCanOpenWindowsAutomatically);
+			settings.setDomStorageEnabled(domStorageEnabled);
+			settings.setDatabaseEnabled(databaseEnabled);
+			settings.setCacheMode(cacheMode);
+			settings.setLoadsImagesAutomatically(loadsImagesAutomatically);
+			settings.setBlockNetworkImage(blockNetworkImage);
+			settings.setBlockNetworkLoads(blockNetworkLoads);
+			settings.setAllowFileAccess(allowFileAccess);
+			settings.setAllowContentAccess(allowContentAccess);
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+				settings.setAllowFileAccessFromFileURLs(allowFileAccessFromFileURLs);
+				settings.setAllowUniversalAccessFromFileURLs(allowUniversalAccessFromFileURLs);
+			}
+			settings.setSupportZoom(supportZoom);
+			settings.setBuiltInZoomControls(builtInZoomControls);
+			settings.setDisplayZoomControls(displayZoomControls);
+			settings.setUseWideViewPort(useWideViewPort);
+			settings.setLoadWithOverviewMode(loadWithOverviewMode);
+			settings.setSupportMultipleWindows(supportMultipleWindows);
+			settings.setLayoutAlgorithm(layoutAlgorithm);
+			settings.setTextZoom(textZoom);
+			settings.setDefaultFontSize(defaultFontSize);
+			settings.setDefaultFixedFontSize(defaultFixedFontSize);
+			settings.setMinimumFontSize(minimumFontSize);
+			settings.setMinimumLogicalFontSize(minimumLogicalFontSize);
+			settings.setDefaultTextEncodingName(defaultTextEncodingName);
+			settings.setUserAgentString(userAgentString);
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+				settings.setMediaPlaybackRequiresUserGesture(mediaPlaybackRequiresUserGesture);
+			}
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+				settings.setMixedContentMode(mixedContentMode);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -20,6 +20,10 @@ package universum.studios.android.fragment.annotation.handler;
 
 import android.text.TextUtils;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.StringRes;
@@ -35,6 +39,16 @@ import universum.studios.android.fragment.annotation.WebContent;
  */
 public final class WebAnnotationHandlers extends AnnotationHandlers {
 
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	static {
+		// Register handler type for pre-warming and codec for persisting of handlers of all WebFragment classes.
+		registerHandlerType(WebFragment.class, WebFragmentHandler.class);
+		AnnotationHandlersStore.registerCodec(WebFragmentHandler.class, new WebFragmentHandlerCodec());
+	}
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -90,6 +104,67 @@ public final class WebAnnotationHandlers extends AnnotationHandlers {
 			this.webContent = webContent == null ? null : webContent.value();
 		}
 
+		/**
+		 * Creates a new instance of WebFragmentHandler for the given <var>annotatedClass</var> with
+		 * already resolved values of {@link WebContent @WebContent} annotation.
+		 * <p>
+		 * This constructor is used by handlers index generated by the Fragments annotation processor.
+		 *
+		 * @see ActionBarAnnotationHandlers.ActionBarFragmentHandler#ActionBarFragmentHandler(Class, int, boolean, int, boolean, boolean, int, int, int, int, int, boolean, boolean, int, int, int)
+		 */
+		WebFragmentHandler(
+				@NonNull final Class<?> annotatedClass,
+				final int contentViewResource,
+				final boolean attachContentViewToContainer,
+				final int contentViewBackgroundResId,
+				final boolean inflateContentViewAsync,
+				final boolean createContentViewLazily,
+				final int homeAsUp,
+				final int homeAsUpVectorIndicator,
+				final int homeAsUpIndicator,
+				final int icon,
+				final int title,
+				final boolean hasOptionsMenu,
+				final boolean clearOptionsMenu,
+				final int optionsMenuResource,
+				final int optionsMenuFlags,
+				final int actionModeMenuResource,
+				final int webContentResId,
+				@Nullable final String webContent
+		) {
+			super(
+					annotatedClass,
+					contentViewResource,
+					attachContentViewToContainer,
+					contentViewBackgroundResId,
+					inflateContentViewAsync,
+					createContentViewLazily,
+					homeAsUp,
+					homeAsUpVectorIndicator,
+					homeAsUpIndicator,
+					icon,
+					title,
+					hasOptionsMenu,
+					clearOptionsMenu,
+					optionsMenuResource,
+					optionsMenuFlags,
+					actionModeMenuResource
+			);
+			this.webContentResId = webContentResId;
+			this.webContent = webContent;
+		}
+
+		/**
+		 */
+		@Override void writeValues(@NonNull final DataOutput output) throws IOException {
+			super.writeValues(output);
+			output.writeInt(webContentResId);
+			output.writeBoolean(webContent != null);
+			if (webContent != null) {
+				output.writeUTF(webContent);
+			}
+		}
+
 		/**
 		 */
 		@Override @StringRes public int getWebContentResId(@StringRes final int defaultResId) {
@@ -102,4 +177,41 @@ public final class WebAnnotationHandlers extends AnnotationHandlers {
 			return TextUtils.isEmpty(webContent) ? defaultContent : webContent;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * A {@link AnnotationHandlersStore.HandlerCodec} implementation for {@link WebFragmentHandler}.
+	 */
+	static final class WebFragmentHandlerCodec implements AnnotationHandlersStore.HandlerCodec<WebFragmentHandler> {
+
+		/**
+		 */
+		@Override public void write(@NonNull final WebFragmentHandler handler, @NonNull final DataOutput output) throws IOException {
+			handler.writeValues(output);
+		}
+
+		/**
+		 */
+		@Override @NonNull public WebFragmentHandler read(@NonNull final Class<?> annotatedClass, @NonNull final DataInput input) throws IOException {
+			return new WebFragmentHandler(
+					annotatedClass,
+					input.readInt(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readBoolean(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readBoolean(),
+					input.readBoolean(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readInt(),
+					input.readBoolean() ? input.readUTF() : null
+			);
+		}
+	}
+}
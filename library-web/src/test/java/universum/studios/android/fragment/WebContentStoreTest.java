@@ -0,0 +1,288 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.ContextWrapper;
+import android.webkit.WebResourceResponse;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class WebContentStoreTest extends AndroidTestCase {
+
+	private static final String CONTENT = "<html><body><p>Stored content</p></body></html>";
+
+	private QueueExecutor executor;
+	private File directory;
+
+	@Override public void beforeTest() {
+		super.beforeTest();
+		this.executor = new QueueExecutor();
+		this.directory = new File(context().getFilesDir(), WebContentStore.DIRECTORY_NAME);
+		deleteDirectory();
+	}
+
+	@Override public void afterTest() {
+		super.afterTest();
+		deleteDirectory();
+	}
+
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void deleteDirectory() {
+		final File[] files = directory.listFiles();
+		if (files != null) {
+			for (final File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	private static String readResponse(final WebResourceResponse response) throws IOException {
+		try (InputStream input = response.getData()) {
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			int data;
+			while ((data = input.read()) != -1) {
+				output.write(data);
+			}
+			return output.toString("UTF-8");
+		}
+	}
+
+	@Test public void testFrom() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(WebContentStore.from(new ContextWrapper(new TestProviderContext(store))), is(sameInstance(store)));
+		assertThat(WebContentStore.from(context()), is(nullValue()));
+	}
+
+	@Test public void testThreshold() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.getThreshold(), is(WebContentStore.DEFAULT_THRESHOLD));
+		store.setThreshold(0);
+		assertThat(store.getThreshold(), is(0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testThresholdNegative() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act:
+		store.setThreshold(-1);
+	}
+
+	@Test public void testContentBaseUrl() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.getContentBaseUrl(), is(WebContentStore.DEFAULT_CONTENT_BASE_URL));
+		store.setContentBaseUrl("https://www.example.com/contents/");
+		assertThat(store.getContentBaseUrl(), is("https://www.example.com/contents/"));
+		assertThat(store.getContentUrl("key"), is("https://www.example.com/contents/key"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testContentBaseUrlWithoutTrailingSlash() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act:
+		store.setContentBaseUrl("https://www.example.com");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testContentBaseUrlWithUnsupportedScheme() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act:
+		store.setContentBaseUrl("file:///android_asset/");
+	}
+
+	@Test public void testStoreAndReadBeforeWritten() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act:
+		final String key = store.store(CONTENT);
+		// Assert:
+		assertThat(store.read(key), is(CONTENT));
+		assertThat(new File(directory, key).exists(), is(false));
+	}
+
+	@Test public void testStoreAndReadAfterWritten() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act:
+		final String key = store.store(CONTENT);
+		executor.runAll();
+		// Assert:
+		assertThat(new File(directory, key).exists(), is(true));
+		assertThat(WebContentStore.create(context(), executor).read(key), is(CONTENT));
+	}
+
+	@Test public void testStoreUsesUniqueKeys() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.store(CONTENT), is(not(store.store(CONTENT))));
+	}
+
+	@Test public void testReadUnknownKey() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.read("00000000-0000-0000-0000-000000000000"), is(nullValue()));
+		assertThat(store.read("../unknown"), is(nullValue()));
+	}
+
+	@Test public void testGetContentUrl() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.getContentUrl("key"), is(WebContentStore.DEFAULT_CONTENT_BASE_URL + "key"));
+	}
+
+	@Test public void testInterceptRequest() throws IOException {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		final String key = store.store(CONTENT);
+		executor.runAll();
+		// Act:
+		final WebResourceResponse response = store.interceptRequest(store.getContentUrl(key) + "#section");
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(response.getMimeType(), is("text/html"));
+		assertThat(response.getEncoding(), is("UTF-8"));
+		assertThat(readResponse(response), is(CONTENT));
+	}
+
+	@Test public void testInterceptRequestWithContentBaseUrl() throws IOException {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		store.setContentBaseUrl("https://www.example.com/contents/");
+		final String key = store.store(CONTENT);
+		// Act + Assert:
+		assertThat(readResponse(store.interceptRequest("https://www.example.com/contents/" + key)), is(CONTENT));
+		assertThat(store.interceptRequest("https://www.example.com/contents/image.png"), is(nullValue()));
+		assertThat(store.interceptRequest(WebContentStore.DEFAULT_CONTENT_BASE_URL + key), is(nullValue()));
+	}
+
+	@Test public void testInterceptRequestForDiscardedContent() throws IOException {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		final String key = store.store(CONTENT);
+		store.discard(key);
+		executor.runAll();
+		// Act:
+		final WebResourceResponse response = store.interceptRequest(store.getContentUrl(key));
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(readResponse(response), is(""));
+	}
+
+	@Test public void testInterceptRequestForOtherUrls() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		// Act + Assert:
+		assertThat(store.interceptRequest("https://www.google.com"), is(nullValue()));
+		assertThat(store.interceptRequest(WebContentStore.DEFAULT_CONTENT_BASE_URL + "image.png"), is(nullValue()));
+		assertThat(store.interceptRequest(WebContentStore.DEFAULT_CONTENT_BASE_URL + "../../shared_prefs/preferences.xml"), is(nullValue()));
+	}
+
+	@Test public void testDiscardAfterWritten() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		final String key = store.store(CONTENT);
+		executor.runAll();
+		// Act:
+		store.discard(key);
+		executor.runAll();
+		// Assert:
+		assertThat(store.read(key), is(nullValue()));
+		assertThat(new File(directory, key).exists(), is(false));
+	}
+
+	@Test public void testDeleteStaleContents() {
+		// Arrange:
+		final WebContentStore store = WebContentStore.create(context(), executor);
+		final String staleKey = store.store(CONTENT);
+		final String key = store.store(CONTENT);
+		executor.runAll();
+		final File staleFile = new File(directory, staleKey);
+		assertThat(staleFile.setLastModified(System.currentTimeMillis() - WebContentStore.STALE_AGE - 60000), is(true));
+		// Act:
+		WebContentStore.create(context(), executor);
+		executor.runAll();
+		// Assert:
+		assertThat(staleFile.exists(), is(false));
+		assertThat(new File(directory, key).exists(), is(true));
+	}
+
+	private final class TestProviderContext extends ContextWrapper implements WebContentStore.Provider {
+
+		private final WebContentStore store;
+
+		TestProviderContext(final WebContentStore store) {
+			super(context());
+			this.store = store;
+		}
+
+		@Override @Nullable public WebContentStore getWebContentStore() {
+			return store;
+		}
+	}
+
+	static final class QueueExecutor implements Executor {
+
+		final Queue<Runnable> commands = new LinkedList<>();
+
+		@Override public void execute(@NonNull final Runnable command) {
+			commands.add(command);
+		}
+
+		void runAll() {
+			Runnable command;
+			while ((command = commands.poll()) != null) {
+				command.run();
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -18,15 +18,24 @@
  */
 package universum.studios.android.fragment;
 
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.net.Uri;
 import android.os.Bundle;
 import android.os.Parcel;
 import android.view.LayoutInflater;
 import android.view.View;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
 import android.webkit.WebView;
 
 import org.junit.Test;
 import org.robolectric.Robolectric;
 
+import java.util.concurrent.Executor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.fragment.app.FragmentActivity;
 import androidx.fragment.app.FragmentManager;
 import universum.studios.android.fragment.annotation.FragmentAnnotations;
@@ -37,12 +46,16 @@ import universum.studios.android.test.TestActivity;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.robolectric.Shadows.shadowOf;
 
 /**
  * @author Martin Albedinsky
@@ -61,6 +74,7 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(WebFragment.isValidWebUrl("www.google.com"), is(true));
 		assertThat(WebFragment.isValidWebUrl("google.com"), is(true));
 		assertThat(WebFragment.isValidWebUrl("google"), is(false));
+		assertThat(WebFragment.isValidWebUrl(null), is(false));
 	}
 
 	@Test public void testNewInstance() {
@@ -160,6 +174,35 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(fragment.getContent(), is("http://www.google.com"));
 	}
 
+	@Test public void testOnCreateWithOptionsWithContentType() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().content("google.com", WebFragment.CONTENT_HTML));
+		// Act:
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		assertThat(fragment.getContent(), is("google.com"));
+		assertThat(fragment.getContentType(), is(WebFragment.CONTENT_HTML));
+	}
+
+	@Test public void testOnCreateWithOptionsWithContentKey() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final WebContentStore store = ((TestStoreActivity) activity).getWebContentStore();
+		final String key = store.store("<p>Stored content</p>");
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().contentKey(key));
+		// Act:
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		assertThat(fragment.getContentType(), is(WebFragment.CONTENT_HTML));
+		assertThat(fragment.getContent(), is("<p>Stored content</p>"));
+		assertThat(fragment.getWebView().getUrl(), is(store.getContentUrl(key)));
+	}
+
 	@Test public void testNotifyLoadingStarted() {
 		// Arrange:
 		final WebFragment.OnWebContentLoadingListener mockListener = mock(WebFragment.OnWebContentLoadingListener.class);
@@ -211,6 +254,41 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(fragment.getWebView(), is(view));
 	}
 
+	@Test public void testOnCreateViewWithWebViewPool() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final Context context = new TestProviderContext(context(), pool);
+		final WebFragment fragment = new WebFragment();
+		// Act:
+		final View view = fragment.onCreateView(LayoutInflater.from(context()).cloneInContext(context), null, null);
+		// Assert:
+		assertThat(view, instanceOf(WebViewPool.PooledWebView.class));
+		assertThat(fragment.getWebView(), is(view));
+	}
+
+	@Test public void testOnDestroyViewWithWebViewPool() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final Context context = new TestProviderContext(context(), pool);
+		final WebFragment fragment = new WebFragment();
+		final WebView webView = (WebView) fragment.onCreateView(LayoutInflater.from(context()).cloneInContext(context), null, null);
+		// Act:
+		fragment.onDestroyView();
+		// Assert:
+		assertThat(fragment.getWebView(), is(nullValue()));
+		assertThat(shadowOf(webView).getLastLoadedUrl(), is(WebViewPool.BLANK_URL));
+	}
+
+	@Test public void testOnDestroyViewWithoutWebViewPool() {
+		// Arrange:
+		final WebFragment fragment = new WebFragment();
+		final View view = fragment.onCreateView(LayoutInflater.from(context()), null, null);
+		// Act:
+		fragment.onDestroyView();
+		// Assert:
+		assertThat(fragment.getWebView(), is(view));
+	}
+
 	@Test public void testOnCreateWebViewClient() {
 		// Arrange:
 		final WebFragment fragment = new WebFragment();
@@ -225,6 +303,54 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(fragment.onCreateWebChromeClient(), is(notNullValue()));
 	}
 
+	@Test public void testInterceptContentRequest() {
+		// Arrange:
+		final WebFragment fragment = new WebFragment();
+		// Act + Assert:
+		assertThat(fragment.interceptContentRequest("https://www.google.com/style.css"), is(nullValue()));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testInterceptContentRequestWithResourceCache() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestCacheActivity.class).create().start().resume().get();
+		((TestCacheActivity) activity).getWebResourceCache().addRule(WebResourceCache.STATIC_RESOURCES, 0);
+		((TestCacheActivity) activity).getWebResourceCache().setOfflineMode(true);
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = new WebFragment();
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		// Act:
+		final WebResourceResponse response = fragment.interceptContentRequest("https://www.google.com/style.css");
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(response.getStatusCode(), is(WebResourceCache.OFFLINE_STATUS_CODE));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testInterceptContentRequestWithRequest() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestCacheActivity.class).create().start().resume().get();
+		((TestCacheActivity) activity).getWebResourceCache().setOfflineMode(true);
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = new WebFragment();
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		final WebResourceRequest getRequest = mock(WebResourceRequest.class);
+		when(getRequest.getMethod()).thenReturn("GET");
+		when(getRequest.getUrl()).thenReturn(Uri.parse("https://www.google.com/index.html"));
+		final WebResourceRequest postRequest = mock(WebResourceRequest.class);
+		when(postRequest.getMethod()).thenReturn("POST");
+		when(postRequest.getUrl()).thenReturn(Uri.parse("https://www.google.com/form"));
+		// Act:
+		final WebResourceResponse getResponse = fragment.interceptContentRequest(getRequest);
+		final WebResourceResponse postResponse = fragment.interceptContentRequest(postRequest);
+		// Assert:
+		assertThat(getResponse, is(notNullValue()));
+		assertThat(getResponse.getStatusCode(), is(WebResourceCache.OFFLINE_STATUS_CODE));
+		assertThat(postResponse, is(nullValue()));
+	}
+
 	@Test public void testLoadContent() {
 		// Arrange:
 		final WebFragment fragment = new WebFragment();
@@ -234,6 +360,15 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(fragment.getContentType(), is(WebFragment.CONTENT_URL));
 	}
 
+	@Test public void testLoadContentWithContentType() {
+		// Arrange:
+		final WebFragment fragment = new WebFragment();
+		// Act + Assert:
+		assertThat(fragment.loadContent("google.com", WebFragment.CONTENT_HTML), is(false));
+		assertThat(fragment.getContent(), is("google.com"));
+		assertThat(fragment.getContentType(), is(WebFragment.CONTENT_HTML));
+	}
+
 	@Test public void testResolveContentType() {
 		// Act + Assert:
 		assertThat(WebFragment.resolveContentType(null), is(WebFragment.CONTENT_EMPTY));
@@ -244,6 +379,37 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(WebFragment.resolveContentType("file://content.html"), is(WebFragment.CONTENT_FILE));
 	}
 
+	@Test public void testResolveContentTypeForContentsWhichCannotBeUrl() {
+		// Act + Assert:
+		assertThat(WebFragment.resolveContentType(" http://www.google.com"), is(WebFragment.CONTENT_HTML));
+		assertThat(WebFragment.resolveContentType("http://www.google.com\n"), is(WebFragment.CONTENT_HTML));
+		assertThat(WebFragment.resolveContentType("<a>google.com</a>"), is(WebFragment.CONTENT_HTML));
+		assertThat(WebFragment.resolveContentType("file://content.html\n<p>Content</p>"), is(WebFragment.CONTENT_HTML));
+	}
+
+	@Test public void testResolveContentTypeForLongContents() {
+		// Arrange:
+		final StringBuilder urlBuilder = new StringBuilder("http://www.google.com/");
+		while (urlBuilder.length() <= WebFragment.URL_MATCH_MAX_LENGTH) {
+			urlBuilder.append('a');
+		}
+		final StringBuilder hostBuilder = new StringBuilder("http://www.");
+		while (hostBuilder.length() <= WebFragment.URL_MATCH_MAX_LENGTH) {
+			hostBuilder.append('a');
+		}
+		final StringBuilder htmlBuilder = new StringBuilder("<html><body>");
+		while (htmlBuilder.length() < 1024 * 1024) {
+			htmlBuilder.append("<p>Content paragraph.</p>");
+		}
+		// Act + Assert:
+		assertThat(WebFragment.resolveContentType(urlBuilder.toString()), is(WebFragment.CONTENT_URL));
+		assertThat(WebFragment.resolveContentType("https" + urlBuilder.substring(4)), is(WebFragment.CONTENT_URL));
+		assertThat(WebFragment.resolveContentType(urlBuilder.substring(7) + "aaaaaaa"), is(WebFragment.CONTENT_HTML));
+		assertThat(WebFragment.resolveContentType(urlBuilder.append(' ').toString()), is(WebFragment.CONTENT_HTML));
+		assertThat(WebFragment.resolveContentType(hostBuilder.toString()), is(WebFragment.CONTENT_HTML));
+		assertThat(WebFragment.resolveContentType(htmlBuilder.toString()), is(WebFragment.CONTENT_HTML));
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	@Test public void testOnLoadContent() {
 		// Arrange:
@@ -258,6 +424,87 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(fragment.getWebView().getUrl(), is("http://www.google.com"));
 	}
 
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testOnLoadContentWithContentStore() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final WebContentStore store = ((TestStoreActivity) activity).getWebContentStore();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment.WebOptions options = new WebFragment.WebOptions().content("<p>Content</p>", WebFragment.CONTENT_HTML).contentStoreEnabled(true);
+		final WebFragment fragment = WebFragment.newInstance(options);
+		// Act:
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		final String key = storedContentKey(fragment);
+		assertThat(key, is(notNullValue()));
+		assertThat(options.contentKey(), is(nullValue()));
+		assertThat(options.content(), is("<p>Content</p>"));
+		assertThat(fragment.getContent(), is("<p>Content</p>"));
+		assertThat(fragment.getWebView().getUrl(), is(store.getContentUrl(key)));
+		assertThat(store.read(key), is("<p>Content</p>"));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testOnLoadContentWithContentStoreBelowThreshold() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		((TestStoreActivity) activity).getWebContentStore().setThreshold(1024);
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().content("<p>Content</p>", WebFragment.CONTENT_HTML).contentStoreEnabled(true));
+		// Act:
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		assertThat(fragment.getOptions().contentKey(), is(nullValue()));
+		assertThat(fragment.getOptions().content(), is("<p>Content</p>"));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testOnLoadContentWithContentStoreNotEnabled() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().content("<p>Content</p>", WebFragment.CONTENT_HTML));
+		// Act:
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		assertThat(fragment.getOptions().contentKey(), is(nullValue()));
+		assertThat(fragment.getOptions().content(), is("<p>Content</p>"));
+	}
+
+	@Test public void testLoadContentDiscardsStoredContent() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final WebContentStore store = ((TestStoreActivity) activity).getWebContentStore();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().content("<p>Content</p>", WebFragment.CONTENT_HTML).contentStoreEnabled(true));
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		final String key = storedContentKey(fragment);
+		// Act:
+		fragment.loadContent("http://www.google.com");
+		// Assert:
+		assertThat(store.read(key), is(nullValue()));
+	}
+
+	@Test public void testOnDestroyDiscardsStoredContent() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final WebContentStore store = ((TestStoreActivity) activity).getWebContentStore();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().content("<p>Content</p>", WebFragment.CONTENT_HTML).contentStoreEnabled(true));
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		final String key = storedContentKey(fragment);
+		// Act:
+		fragmentManager.beginTransaction().remove(fragment).commit();
+		fragmentManager.executePendingTransactions();
+		// Assert:
+		assertThat(store.read(key), is(nullValue()));
+	}
+
 	@Test public void testOnLoadContentWithoutWebView() {
 		// Arrange:
 		final WebFragment fragment = new WebFragment();
@@ -278,9 +525,55 @@ public final class WebFragmentTest extends AndroidTestCase {
 		// Assert:
 		assertThat(state.containsKey(WebFragment.BUNDLE_OPTIONS), is(true));
 		assertThat(state.containsKey(WebFragment.BUNDLE_CONTENT), is(true));
+		assertThat(state.containsKey(WebFragment.BUNDLE_CONTENT_TYPE), is(true));
 		assertThat(state.containsKey(WebFragment.BUNDLE_PRIVATE_FLAGS), is(true));
 	}
 
+	@Test public void testOnSaveInstanceStateWithContentStore() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final WebContentStore store = ((TestStoreActivity) activity).getWebContentStore();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment fragment = WebFragment.newInstance(new WebFragment.WebOptions().contentStoreEnabled(true));
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		fragment.loadContent("<p>Content</p>");
+		final Bundle state = new Bundle();
+		// Act:
+		fragment.onSaveInstanceState(state);
+		// Assert:
+		assertThat(state.getString(WebFragment.BUNDLE_CONTENT), is(nullValue()));
+		assertThat(state.getString(WebFragment.BUNDLE_CONTENT_KEY), is(notNullValue()));
+		assertThat(store.read(state.getString(WebFragment.BUNDLE_CONTENT_KEY)), is("<p>Content</p>"));
+	}
+
+	@SuppressWarnings("ConstantConditions")
+	@Test public void testOnSaveInstanceStateWithContentStoreAndContentFromOptions() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestStoreActivity.class).create().start().resume().get();
+		final FragmentManager fragmentManager = activity.getSupportFragmentManager();
+		final WebFragment.WebOptions options = new WebFragment.WebOptions()
+				.content("<p>Content</p>", WebFragment.CONTENT_HTML)
+				.contentStoreEnabled(true)
+				.javaScriptEnabled(false);
+		final WebFragment fragment = WebFragment.newInstance(options);
+		fragmentManager.beginTransaction().add(fragment, null).commit();
+		fragmentManager.executePendingTransactions();
+		final Bundle state = new Bundle();
+		// Act:
+		fragment.onSaveInstanceState(state);
+		// Assert:
+		final WebFragment.WebOptions savedOptions = state.getParcelable(WebFragment.BUNDLE_OPTIONS);
+		assertThat(savedOptions, is(not(sameInstance(options))));
+		assertThat(savedOptions.content(), is(""));
+		assertThat(savedOptions.contentKey(), is(state.getString(WebFragment.BUNDLE_CONTENT_KEY)));
+		assertThat(savedOptions.contentStoreEnabled(), is(true));
+		assertThat(savedOptions.javaScriptEnabled(), is(false));
+		assertThat(fragment.getOptions(), is(sameInstance(options)));
+		assertThat(options.content(), is("<p>Content</p>"));
+		assertThat(options.contentKey(), is(nullValue()));
+	}
+
 	@Test public void testOnSaveInstanceStateWithoutWebView() {
 		// Arrange:
 		final WebFragment fragment = new WebFragment();
@@ -319,6 +612,9 @@ public final class WebFragmentTest extends AndroidTestCase {
 		final Parcel parcel = Parcel.obtain();
 		parcel.writeString("http://www.google.com");
 		parcel.writeInt(1);
+		parcel.writeInt(WebFragment.CONTENT_URL);
+		parcel.writeString(null);
+		parcel.writeInt(1);
 		parcel.setDataPosition(0);
 		// Act:
 		final WebFragment.WebOptions options = WebFragment.WebOptions.CREATOR.createFromParcel(parcel);
@@ -326,6 +622,9 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(options, is(notNullValue()));
 		assertThat(options.content, is("http://www.google.com"));
 		assertThat(options.javaScriptEnabled, is(true));
+		assertThat(options.contentType, is(WebFragment.CONTENT_URL));
+		assertThat(options.contentKey, is(nullValue()));
+		assertThat(options.contentStoreEnabled, is(true));
 		parcel.recycle();
 	}
 
@@ -345,12 +644,18 @@ public final class WebFragmentTest extends AndroidTestCase {
 		final WebFragment.WebOptions savedState = new WebFragment.WebOptions();
 		savedState.content = "http://www.google.com";
 		savedState.javaScriptEnabled = true;
+		savedState.contentType = WebFragment.CONTENT_URL;
+		savedState.contentKey = "key";
+		savedState.contentStoreEnabled = true;
 		// Act:
 		savedState.writeToParcel(parcel, 0);
 		// Assert:
 		parcel.setDataPosition(0);
 		assertThat(parcel.readString(), is("http://www.google.com"));
 		assertThat(parcel.readInt(), is(1));
+		assertThat(parcel.readInt(), is(WebFragment.CONTENT_URL));
+		assertThat(parcel.readString(), is("key"));
+		assertThat(parcel.readInt(), is(1));
 		parcel.recycle();
 	}
 
@@ -360,7 +665,9 @@ public final class WebFragmentTest extends AndroidTestCase {
 		// Assert:
 		assertThat(options.describeContents(), is(0));
 		assertThat(options.content, is(""));
+		assertThat(options.contentType(), is(-1));
 		assertThat(options.javaScriptEnabled, is(true));
+		assertThat(options.contentStoreEnabled, is(false));
 	}
 
 	@Test public void testWebOptionsContent() {
@@ -369,6 +676,31 @@ public final class WebFragmentTest extends AndroidTestCase {
 		// Act + Assert:
 		assertThat(options.content("www.google.com"), is(options));
 		assertThat(options.content(), is("www.google.com"));
+		assertThat(options.contentType(), is(-1));
+	}
+
+	@Test public void testWebOptionsContentWithContentType() {
+		// Arrange:
+		final WebFragment.WebOptions options = new WebFragment.WebOptions();
+		// Act + Assert:
+		assertThat(options.content("www.google.com", WebFragment.CONTENT_URL), is(options));
+		assertThat(options.content(), is("www.google.com"));
+		assertThat(options.contentType(), is(WebFragment.CONTENT_URL));
+		options.content("<p>Content</p>");
+		assertThat(options.contentType(), is(-1));
+	}
+
+	@Test public void testWebOptionsContentKey() {
+		// Arrange:
+		final WebFragment.WebOptions options = new WebFragment.WebOptions();
+		// Act + Assert:
+		assertThat(options.contentKey(), is(nullValue()));
+		assertThat(options.contentKey("key"), is(options));
+		assertThat(options.contentKey(), is("key"));
+		assertThat(options.content(), is(""));
+		assertThat(options.contentType(), is(WebFragment.CONTENT_HTML));
+		options.content("<p>Content</p>");
+		assertThat(options.contentKey(), is(nullValue()));
 	}
 
 	@Test public void testWebOptionsJavaScriptEnabled() {
@@ -381,6 +713,12 @@ public final class WebFragmentTest extends AndroidTestCase {
 		assertThat(options.javaScriptEnabled, is(false));
 	}
 
+	private static String storedContentKey(final WebFragment fragment) {
+		final Bundle state = new Bundle();
+		fragment.onSaveInstanceState(state);
+		return state.getString(WebFragment.BUNDLE_CONTENT_KEY);
+	}
+
 	public static class TestFragment extends WebFragment {}
 
 	@WebContent(TestFragmentWithWebContent.CONTENT)
@@ -394,4 +732,48 @@ public final class WebFragmentTest extends AndroidTestCase {
 
 		static final int CONTENT_RES = android.R.string.ok;
 	}
+
+	public static class TestStoreActivity extends TestActivity implements WebContentStore.Provider {
+
+		WebContentStore store;
+
+		@Override public WebContentStore getWebContentStore() {
+			if (store == null) {
+				this.store = WebContentStore.create(this, new Executor() {
+
+					@Override public void execute(@NonNull final Runnable command) {
+						command.run();
+					}
+				});
+				this.store.setThreshold(0);
+			}
+			return store;
+		}
+	}
+
+	public static class TestCacheActivity extends TestActivity implements WebResourceCache.Provider {
+
+		WebResourceCache cache;
+
+		@Override public WebResourceCache getWebResourceCache() {
+			if (cache == null) {
+				this.cache = new WebResourceCache(this);
+			}
+			return cache;
+		}
+	}
+
+	private static final class TestProviderContext extends ContextWrapper implements WebViewPool.Provider {
+
+		private final WebViewPool pool;
+
+		TestProviderContext(final Context context, final WebViewPool pool) {
+			super(context);
+			this.pool = pool;
+		}
+
+		@Override @Nullable public WebViewPool getWebViewPool() {
+			return pool;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,489 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.ContextWrapper;
+import android.net.Uri;
+import android.webkit.CookieManager;
+import android.webkit.WebResourceRequest;
+import android.webkit.WebResourceResponse;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import androidx.annotation.Nullable;
+import universum.studios.android.test.AndroidTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class WebResourceCacheTest extends AndroidTestCase {
+
+	private static final long MAX_AGE = TimeUnit.HOURS.toMillis(1);
+
+	private File directory;
+	private HttpServer server;
+	private AtomicInteger requestsCount;
+	private volatile Headers lastRequestHeaders;
+	private String baseUrl;
+
+	@Override public void beforeTest() {
+		super.beforeTest();
+		this.directory = new File(context().getCacheDir(), WebResourceCache.DIRECTORY_NAME);
+		deleteDirectory();
+		this.requestsCount = new AtomicInteger();
+		try {
+			this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		this.server.createContext("/", new TestHandler());
+		this.server.start();
+		this.baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@Override public void afterTest() {
+		super.afterTest();
+		this.server.stop(0);
+		deleteDirectory();
+	}
+
+	@SuppressWarnings("ResultOfMethodCallIgnored")
+	private void deleteDirectory() {
+		final File[] files = directory.listFiles();
+		if (files != null) {
+			for (final File file : files) {
+				file.delete();
+			}
+		}
+		directory.delete();
+	}
+
+	private static String readResponse(final WebResourceResponse response) throws IOException {
+		try (InputStream input = response.getData()) {
+			final ByteArrayOutputStream output = new ByteArrayOutputStream();
+			int data;
+			while ((data = input.read()) != -1) {
+				output.write(data);
+			}
+			return output.toString("UTF-8");
+		}
+	}
+
+	private static WebResourceRequest createRequest(final String method, final String url, final boolean forMainFrame, final Map<String, String> headers) {
+		final WebResourceRequest request = mock(WebResourceRequest.class);
+		when(request.getMethod()).thenReturn(method);
+		when(request.getUrl()).thenReturn(Uri.parse(url));
+		when(request.isForMainFrame()).thenReturn(forMainFrame);
+		when(request.getRequestHeaders()).thenReturn(headers);
+		return request;
+	}
+
+	@Test public void testFrom() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		// Act + Assert:
+		assertThat(WebResourceCache.from(new ContextWrapper(new TestProviderContext(cache))), is(sameInstance(cache)));
+		assertThat(WebResourceCache.from(context()), is(nullValue()));
+	}
+
+	@Test public void testStaticResourcesPattern() {
+		// Act + Assert:
+		assertThat(WebResourceCache.STATIC_RESOURCES.matcher("https://www.google.com/style.css").matches(), is(true));
+		assertThat(WebResourceCache.STATIC_RESOURCES.matcher("http://www.google.com/scripts/main.js?v=2").matches(), is(true));
+		assertThat(WebResourceCache.STATIC_RESOURCES.matcher("https://www.google.com/images/logo.PNG").matches(), is(true));
+		assertThat(WebResourceCache.STATIC_RESOURCES.matcher("https://www.google.com/index.html").matches(), is(false));
+		assertThat(WebResourceCache.STATIC_RESOURCES.matcher("https://www.google.com/search?q=style.css").matches(), is(false));
+		assertThat(WebResourceCache.STATIC_RESOURCES.matcher("file:///android_asset/style.css").matches(), is(false));
+	}
+
+	@Test public void testMaxSize() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		// Act + Assert:
+		assertThat(cache.getMaxSize(), is(WebResourceCache.DEFAULT_MAX_SIZE));
+		cache.setMaxSize(1024);
+		assertThat(cache.getMaxSize(), is(1024L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMaxSizeNegative() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		// Act:
+		cache.setMaxSize(-1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddRuleWithNegativeMaxAge() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		// Act:
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, -1);
+	}
+
+	@Test public void testOfflineMode() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		// Act + Assert:
+		assertThat(cache.isOfflineMode(), is(false));
+		cache.setOfflineMode(true);
+		assertThat(cache.isOfflineMode(), is(true));
+	}
+
+	@Test public void testInterceptRequestWithoutMatchingRule() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(Pattern.compile(".*\\.js"), MAX_AGE);
+		// Act + Assert:
+		assertThat(cache.interceptRequest(baseUrl + "/style.css"), is(nullValue()));
+		assertThat(cache.interceptRequest("about:blank"), is(nullValue()));
+		assertThat(requestsCount.get(), is(0));
+	}
+
+	@Test public void testInterceptRequestFetchesAndCachesResource() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(baseUrl + "/style.css");
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(response.getMimeType(), is("text/css"));
+		assertThat(response.getEncoding(), is("utf-8"));
+		assertThat(readResponse(response), is("/style.css"));
+		assertThat(requestsCount.get(), is(1));
+		assertThat(cache.size() > 0, is(true));
+	}
+
+	@Test public void testInterceptRequestServesFreshResourceFromCache() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(baseUrl + "/style.css");
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(response.getMimeType(), is("text/css"));
+		assertThat(readResponse(response), is("/style.css"));
+		assertThat(requestsCount.get(), is(1));
+	}
+
+	@Test public void testInterceptRequestFetchesStaleResource() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, 0);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(baseUrl + "/style.css");
+		// Assert:
+		assertThat(readResponse(response), is("/style.css"));
+		assertThat(requestsCount.get(), is(2));
+	}
+
+	@Test public void testInterceptRequestServesStaleResourceWhenFetchFails() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, 0);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		server.stop(0);
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(baseUrl + "/style.css");
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(readResponse(response), is("/style.css"));
+	}
+
+	@Test public void testInterceptRequestForNotFoundResource() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act + Assert:
+		assertThat(cache.interceptRequest(baseUrl + "/missing.css"), is(nullValue()));
+		assertThat(cache.size(), is(0L));
+	}
+
+	@Test public void testInterceptRequestDoesNotCacheNotStorableResource() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(baseUrl + "/no-store.css");
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(readResponse(response), is("/no-store.css"));
+		assertThat(cache.size(), is(0L));
+	}
+
+	@Test public void testInterceptRequestInOfflineMode() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, 0);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		cache.setOfflineMode(true);
+		// Act:
+		final WebResourceResponse cachedResponse = cache.interceptRequest(baseUrl + "/style.css");
+		final WebResourceResponse missingResponse = cache.interceptRequest(baseUrl + "/missing.css");
+		final WebResourceResponse notMatchingResponse = cache.interceptRequest(baseUrl + "/index.html");
+		// Assert:
+		assertThat(readResponse(cachedResponse), is("/style.css"));
+		assertThat(missingResponse, is(notNullValue()));
+		assertThat(missingResponse.getStatusCode(), is(WebResourceCache.OFFLINE_STATUS_CODE));
+		assertThat(readResponse(missingResponse), is(""));
+		assertThat(notMatchingResponse, is(nullValue()));
+		assertThat(requestsCount.get(), is(1));
+	}
+
+	@Test public void testInterceptRequestWithRequestForwardsHeadersAndCookies() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		CookieManager.getInstance().setCookie(baseUrl + "/style.css", "session=test");
+		final WebResourceRequest request = createRequest("GET", baseUrl + "/style.css", false, Collections.singletonMap("X-Requested-With", "test"));
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(request);
+		// Assert:
+		assertThat(readResponse(response), is("/style.css"));
+		assertThat(lastRequestHeaders.getFirst("X-Requested-With"), is("test"));
+		assertThat(lastRequestHeaders.getFirst("Cookie"), is("session=test"));
+		CookieManager.getInstance().removeAllCookies(null);
+	}
+
+	@Test public void testInterceptRequestWithRequestIgnoresNotGetRequests() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		final WebResourceRequest request = createRequest("POST", baseUrl + "/style.css", false, Collections.<String, String>emptyMap());
+		// Act + Assert:
+		assertThat(cache.interceptRequest(request), is(nullValue()));
+		cache.setOfflineMode(true);
+		assertThat(cache.interceptRequest(request), is(nullValue()));
+		assertThat(requestsCount.get(), is(0));
+	}
+
+	@Test public void testInterceptRequestWithRequestForMainFrame() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(Pattern.compile(".*"), MAX_AGE);
+		final WebResourceRequest request = createRequest("GET", baseUrl + "/index.html", true, Collections.<String, String>emptyMap());
+		// Act + Assert:
+		assertThat(cache.interceptRequest(request), is(nullValue()));
+		assertThat(requestsCount.get(), is(0));
+		cache.setOfflineMode(true);
+		final WebResourceResponse response = cache.interceptRequest(request);
+		assertThat(response, is(notNullValue()));
+		assertThat(response.getStatusCode(), is(WebResourceCache.OFFLINE_STATUS_CODE));
+		assertThat(readResponse(response), is(""));
+	}
+
+	@Test public void testInterceptRequestWithRequestInOfflineMode() {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.setOfflineMode(true);
+		final WebResourceRequest request = createRequest("GET", baseUrl + "/index.html", false, Collections.<String, String>emptyMap());
+		// Act:
+		final WebResourceResponse response = cache.interceptRequest(request);
+		// Assert:
+		assertThat(response, is(notNullValue()));
+		assertThat(response.getStatusCode(), is(WebResourceCache.OFFLINE_STATUS_CODE));
+		assertThat(requestsCount.get(), is(0));
+	}
+
+	@Test public void testInterceptRequestDoesNotCacheNotShareableResources() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act + Assert:
+		assertThat(readResponse(cache.interceptRequest(baseUrl + "/private.css")), is("/private.css"));
+		assertThat(readResponse(cache.interceptRequest(baseUrl + "/set-cookie.css")), is("/set-cookie.css"));
+		assertThat(readResponse(cache.interceptRequest(baseUrl + "/vary.css")), is("/vary.css"));
+		assertThat(cache.size(), is(0L));
+		CookieManager.getInstance().removeAllCookies(null);
+	}
+
+	@Test public void testInterceptRequestCachesResourceVaryingByEncoding() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act:
+		readResponse(cache.interceptRequest(baseUrl + "/vary-encoding.css"));
+		// Assert:
+		assertThat(cache.size() > 0, is(true));
+	}
+
+	@Test public void testInterceptRequestPassesSetCookiesToCookieManager() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act:
+		readResponse(cache.interceptRequest(baseUrl + "/set-cookie.css"));
+		// Assert:
+		assertThat(CookieManager.getInstance().getCookie(baseUrl + "/set-cookie.css"), is("session=server"));
+		CookieManager.getInstance().removeAllCookies(null);
+	}
+
+	@Test public void testCachedResourcesSurviveNewInstance() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		final WebResourceCache newCache = new WebResourceCache(context());
+		newCache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		// Act:
+		final WebResourceResponse response = newCache.interceptRequest(baseUrl + "/style.css");
+		// Assert:
+		assertThat(readResponse(response), is("/style.css"));
+		assertThat(requestsCount.get(), is(1));
+		assertThat(newCache.size(), is(cache.size()));
+	}
+
+	@Test public void testLeastRecentlyUsedResourcesAreDeleted() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		readResponse(cache.interceptRequest(baseUrl + "/first.css?size=1000"));
+		final long entrySize = cache.size();
+		cache.setMaxSize(entrySize * 2 + entrySize / 2);
+		readResponse(cache.interceptRequest(baseUrl + "/second.css?size=1000"));
+		readResponse(cache.interceptRequest(baseUrl + "/first.css?size=1000"));
+		// Act:
+		readResponse(cache.interceptRequest(baseUrl + "/third.css?size=1000"));
+		// Assert:
+		assertThat(requestsCount.get(), is(3));
+		cache.setOfflineMode(true);
+		assertThat(cache.interceptRequest(baseUrl + "/second.css?size=1000").getStatusCode(), is(WebResourceCache.OFFLINE_STATUS_CODE));
+		assertThat(readResponse(cache.interceptRequest(baseUrl + "/first.css?size=1000")).length(), is(1000));
+		assertThat(readResponse(cache.interceptRequest(baseUrl + "/third.css?size=1000")).length(), is(1000));
+	}
+
+	@Test public void testSetMaxSizeDeletesResources() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		// Act:
+		cache.setMaxSize(0);
+		// Assert:
+		assertThat(cache.size(), is(0L));
+	}
+
+	@Test public void testClearRules() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		// Act:
+		cache.clearRules();
+		// Assert:
+		assertThat(cache.interceptRequest(baseUrl + "/style.css"), is(nullValue()));
+		cache.setOfflineMode(true);
+		assertThat(readResponse(cache.interceptRequest(baseUrl + "/style.css")), is("/style.css"));
+	}
+
+	@Test public void testClear() throws IOException {
+		// Arrange:
+		final WebResourceCache cache = new WebResourceCache(context());
+		cache.addRule(WebResourceCache.STATIC_RESOURCES, MAX_AGE);
+		readResponse(cache.interceptRequest(baseUrl + "/style.css"));
+		// Act:
+		cache.clear();
+		// Assert:
+		assertThat(cache.size(), is(0L));
+		assertThat(directory.list().length, is(0));
+	}
+
+	private final class TestHandler implements HttpHandler {
+
+		@Override public void handle(final HttpExchange exchange) throws IOException {
+			requestsCount.incrementAndGet();
+			lastRequestHeaders = exchange.getRequestHeaders();
+			final String path = exchange.getRequestURI().getPath();
+			final String query = exchange.getRequestURI().getQuery();
+			if (path.startsWith("/missing")) {
+				exchange.sendResponseHeaders(404, -1);
+				exchange.close();
+				return;
+			}
+			final byte[] body;
+			if (query != null && query.startsWith("size=")) {
+				body = new byte[Integer.parseInt(query.substring(5))];
+				Arrays.fill(body, (byte) 'a');
+			} else {
+				body = path.getBytes("UTF-8");
+			}
+			exchange.getResponseHeaders().add("Content-Type", "text/css; charset=utf-8");
+			if (path.startsWith("/no-store")) {
+				exchange.getResponseHeaders().add("Cache-Control", "no-store");
+			} else if (path.startsWith("/private")) {
+				exchange.getResponseHeaders().add("Cache-Control", "private, max-age=3600");
+			} else if (path.startsWith("/set-cookie")) {
+				exchange.getResponseHeaders().add("Set-Cookie", "session=server");
+			} else if (path.startsWith("/vary-encoding")) {
+				exchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+			} else if (path.startsWith("/vary")) {
+				exchange.getResponseHeaders().add("Vary", "User-Agent");
+			}
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream output = exchange.getResponseBody()) {
+				output.write(body);
+			}
+			exchange.close();
+		}
+	}
+
+	private final class TestProviderContext extends ContextWrapper implements WebResourceCache.Provider {
+
+		private final WebResourceCache cache;
+
+		TestProviderContext(final WebResourceCache cache) {
+			super(context());
+			this.cache = cache;
+		}
+
+		@Override @Nullable public WebResourceCache getWebResourceCache() {
+			return cache;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,278 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2026 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.fragment;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.MutableContextWrapper;
+import android.view.ViewGroup;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+
+import org.junit.Test;
+import org.robolectric.Robolectric;
+import org.robolectric.shadows.ShadowWebView;
+
+import androidx.annotation.Nullable;
+import androidx.fragment.app.FragmentActivity;
+import universum.studios.android.test.AndroidTestCase;
+import universum.studios.android.test.TestActivity;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.robolectric.Shadows.shadowOf;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class WebViewPoolTest extends AndroidTestCase {
+
+	@Test public void testFrom() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final Context context = new ContextWrapper(new TestProviderContext(context(), pool));
+		// Act + Assert:
+		assertThat(WebViewPool.from(context), is(pool));
+	}
+
+	@Test public void testFromWithoutProvider() {
+		// Act + Assert:
+		assertThat(WebViewPool.from(new ContextWrapper(context())), is(nullValue()));
+	}
+
+	@Test public void testMaxSize() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		// Act:
+		pool.setMaxSize(1);
+		// Assert:
+		assertThat(pool.getMaxSize(), is(1));
+	}
+
+	@Test public void testMaxSizeDefault() {
+		// Act + Assert:
+		assertThat(new WebViewPool(context()).getMaxSize(), is(WebViewPool.DEFAULT_MAX_SIZE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMaxSizeNegative() {
+		// Act:
+		new WebViewPool(context()).setMaxSize(-1);
+	}
+
+	@Test public void testMaxSizeDestroysExcessiveWebViews() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		pool.prewarm(2);
+		pool.createNext();
+		pool.createNext();
+		final WebView webView = pool.obtain(context());
+		pool.prewarm(2);
+		pool.createNext();
+		// Act:
+		pool.setMaxSize(0);
+		// Assert:
+		assertThat(pool.size(), is(0));
+		assertThat(shadowOf(webView).wasDestroyCalled(), is(false));
+	}
+
+	@Test public void testPrewarm() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		// Act + Assert:
+		assertThat(pool.prewarm(3), is(true));
+		assertThat(pool.createNext(), is(true));
+		assertThat(pool.createNext(), is(false));
+		assertThat(pool.size(), is(WebViewPool.DEFAULT_MAX_SIZE));
+		assertThat(pool.prewarm(1), is(false));
+		pool.clear();
+	}
+
+	@Test public void testObtain() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final Context context = new ContextWrapper(context());
+		// Act:
+		final WebView webView = pool.obtain(context);
+		// Assert:
+		assertThat(webView, instanceOf(WebViewPool.PooledWebView.class));
+		assertThat(webView.getContext(), instanceOf(MutableContextWrapper.class));
+		assertThat(((MutableContextWrapper) webView.getContext()).getBaseContext(), is(context));
+	}
+
+	@Test public void testObtainPrewarmedWebView() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		pool.prewarm(1);
+		pool.createNext();
+		// Act:
+		pool.obtain(context());
+		// Assert:
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testRelease() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final WebView webView = pool.obtain(new ContextWrapper(context()));
+		webView.getSettings().setJavaScriptEnabled(true);
+		webView.addJavascriptInterface(new Object(), "bridge");
+		webView.loadUrl("http://www.google.com");
+		// Act:
+		pool.release(webView);
+		// Assert:
+		final ShadowWebView shadowWebView = shadowOf(webView);
+		assertThat(shadowWebView.getLastLoadedUrl(), is(WebViewPool.BLANK_URL));
+		assertThat(shadowWebView.getJavascriptInterface("bridge"), is(nullValue()));
+		assertThat(shadowWebView.getWebChromeClient(), is(nullValue()));
+		assertThat(webView.getSettings().getJavaScriptEnabled(), is(false));
+		assertThat(((MutableContextWrapper) webView.getContext()).getBaseContext(), is(context().getApplicationContext()));
+		assertThat(pool.size(), is(0));
+		shadowWebView.getWebViewClient().onPageFinished(webView, WebViewPool.BLANK_URL);
+		assertThat(pool.size(), is(1));
+		assertThat(pool.obtain(context()), is(sameInstance(webView)));
+	}
+
+	@Test public void testReleaseRestoresDefaultSettings() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final WebView webView = pool.obtain(context());
+		final WebSettings settings = webView.getSettings();
+		final boolean domStorageEnabled = settings.getDomStorageEnabled();
+		final int cacheMode = settings.getCacheMode();
+		final int textZoom = settings.getTextZoom();
+		final String userAgentString = settings.getUserAgentString();
+		settings.setDomStorageEnabled(!domStorageEnabled);
+		settings.setCacheMode(WebSettings.LOAD_CACHE_ONLY);
+		settings.setTextZoom(textZoom * 2);
+		settings.setUserAgentString("Custom");
+		// Act:
+		pool.release(webView);
+		// Assert:
+		assertThat(settings.getDomStorageEnabled(), is(domStorageEnabled));
+		assertThat(settings.getCacheMode(), is(cacheMode));
+		assertThat(settings.getTextZoom(), is(textZoom));
+		assertThat(settings.getUserAgentString(), is(userAgentString));
+	}
+
+	@Test public void testReleaseWhenPoolIsFull() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final WebView webView = pool.obtain(context());
+		pool.setMaxSize(0);
+		// Act:
+		pool.release(webView);
+		// Assert:
+		assertThat(shadowOf(webView).wasDestroyCalled(), is(true));
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testReleaseAttachedWebView() {
+		// Arrange:
+		final FragmentActivity activity = Robolectric.buildActivity(TestActivity.class).create().start().resume().visible().get();
+		final ViewGroup container = activity.findViewById(android.R.id.content);
+		final WebViewPool pool = new WebViewPool(context());
+		final WebView webView = pool.obtain(activity);
+		container.addView(webView);
+		// Act:
+		pool.release(webView);
+		// Assert:
+		assertThat(shadowOf(webView).getLastLoadedUrl(), is(nullValue()));
+		container.removeView(webView);
+		assertThat(shadowOf(webView).getLastLoadedUrl(), is(WebViewPool.BLANK_URL));
+	}
+
+	@Test public void testReleaseNotPooledWebView() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		final WebView webView = new WebView(context());
+		// Act:
+		pool.release(webView);
+		// Assert:
+		assertThat(shadowOf(webView).wasDestroyCalled(), is(false));
+		assertThat(shadowOf(webView).getLastLoadedUrl(), is(nullValue()));
+	}
+
+	@Test public void testOnWebViewResetForUnknownWebView() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		// Act:
+		pool.onWebViewReset(pool.obtain(context()));
+		// Assert:
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testOnTrimMemory() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		pool.prewarm(1);
+		pool.createNext();
+		// Act:
+		pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+		// Assert:
+		assertThat(pool.size(), is(1));
+		pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testOnLowMemory() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		pool.prewarm(1);
+		pool.createNext();
+		final WebView webView = pool.obtain(context());
+		pool.release(webView);
+		// Act:
+		pool.onLowMemory();
+		// Assert:
+		assertThat(shadowOf(webView).wasDestroyCalled(), is(true));
+		shadowOf(webView).getWebViewClient().onPageFinished(webView, WebViewPool.BLANK_URL);
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final WebViewPool pool = new WebViewPool(context());
+		pool.prewarm(2);
+		pool.createNext();
+		// Act:
+		pool.clear();
+		// Assert:
+		assertThat(pool.size(), is(0));
+		assertThat(pool.createNext(), is(false));
+	}
+
+	private static final class TestProviderContext extends ContextWrapper implements WebViewPool.Provider {
+
+		private final WebViewPool pool;
+
+		TestProviderContext(final Context context, final WebViewPool pool) {
+			super(context);
+			this.pool = pool;
+		}
+
+		@Override @Nullable public WebViewPool getWebViewPool() {
+			return pool;
+		}
+	}
+}
\ No newline at end of file
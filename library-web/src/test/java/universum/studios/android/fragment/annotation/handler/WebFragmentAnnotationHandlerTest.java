@@ -20,6 +20,11 @@ package universum.studios.android.fragment.annotation.handler;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
 import universum.studios.android.fragment.WebFragment;
 import universum.studios.android.fragment.annotation.WebContent;
 import universum.studios.android.test.AndroidTestCase;
@@ -56,6 +61,38 @@ public final class WebFragmentAnnotationHandlerTest extends AndroidTestCase {
 		assertThat(annotationHandler.getWebContent("default"), is("default"));
 	}
 
+	@Test public void testCodec() throws Exception {
+		// Arrange:
+		final WebAnnotationHandlers.WebFragmentHandlerCodec codec = new WebAnnotationHandlers.WebFragmentHandlerCodec();
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		codec.write(new WebAnnotationHandlers.WebFragmentHandler(TestFragmentWithContent.class), new DataOutputStream(values));
+		// Act:
+		final WebFragmentAnnotationHandler annotationHandler = codec.read(
+				TestFragmentWithContent.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+		// Assert:
+		assertThat(annotationHandler.getWebContentResId(-1), is(-1));
+		assertThat(annotationHandler.getWebContent("default"), is(TestFragmentWithContent.CONTENT));
+		assertThat(annotationHandler.hasOptionsMenu(), is(false));
+		assertThat(annotationHandler.getContentViewResource(-1), is(-1));
+	}
+
+	@Test public void testCodecWithoutWebContent() throws Exception {
+		// Arrange:
+		final WebAnnotationHandlers.WebFragmentHandlerCodec codec = new WebAnnotationHandlers.WebFragmentHandlerCodec();
+		final ByteArrayOutputStream values = new ByteArrayOutputStream();
+		codec.write(new WebAnnotationHandlers.WebFragmentHandler(TestFragmentWithContentResource.class), new DataOutputStream(values));
+		// Act:
+		final WebFragmentAnnotationHandler annotationHandler = codec.read(
+				TestFragmentWithContentResource.class,
+				new DataInputStream(new ByteArrayInputStream(values.toByteArray()))
+		);
+		// Assert:
+		assertThat(annotationHandler.getWebContentResId(-1), is(TestFragmentWithContentResource.CONTENT_RES));
+		assertThat(annotationHandler.getWebContent("default"), is("default"));
+	}
+
 	@WebContent(valueRes = TestFragmentWithContentResource.CONTENT_RES)
 	public static class TestFragmentWithContentResource extends WebFragment {
 
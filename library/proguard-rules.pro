@@ -17,4 +17,30 @@
 # - constructor taking Class parameter [always]
 -keepclassmembers class * extends universum.studios.android.fragment.annotation.handler.BaseAnnotationHandler {
     public <init>(java.lang.Class);
-}
\ No newline at end of file
+}
+# Keep annotation handlers index generated by the annotation processor so it may be loaded by its
+# default name.
+-keep class universum.studios.android.fragment.annotation.handler.GeneratedAnnotationHandlersIndex {
+    public <init>();
+}
+# Keep content view builders index generated by the annotation processor so it may be loaded by its
+# default name.
+-keep class universum.studios.android.fragment.GeneratedContentViewBuildersIndex {
+    public <init>();
+}
+# Keep methods with @OnViewClick annotation within fragments which are invoked via reflection when
+# there is no view click dispatcher generated for theirs class.
+-keepclassmembers class * extends universum.studios.android.fragment.BaseFragment {
+    @universum.studios.android.fragment.annotation.OnViewClick <methods>;
+}
+# Keep view click dispatchers index generated by the annotation processor so it may be loaded by its
+# default name. Index generated under a custom name is registered via ViewClickDispatchers.registerIndex(...)
+# which references it directly, so it does not need any rule.
+-keep class universum.studios.android.fragment.GeneratedViewClickDispatchersIndex {
+    public <init>();
+}
+# Keep fragment instantiators index generated by the annotation processor so it may be loaded by its
+# default name.
+-keep class universum.studios.android.fragment.GeneratedFragmentInstantiatorsIndex {
+    public <init>();
+}